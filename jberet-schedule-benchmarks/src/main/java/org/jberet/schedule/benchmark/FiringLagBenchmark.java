@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule.benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.schedule.ExecutorSchedulerImpl;
+import org.jberet.schedule.JobScheduleConfig;
+import org.jberet.schedule.JobScheduleConfigBuilder;
+import org.jberet.schedule.StageStatistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes for a burst of job schedules, all due immediately, to
+ * be launched through {@link StubJobOperator}, which optionally simulates a slow
+ * job repository.
+ * <p>
+ * Each measured operation submits the whole burst and waits for the last job
+ * execution to start. The distribution of this drain time is reported by JMH
+ * over all iterations. The lag of individual job schedules in the tick and launch
+ * stages, taken from the statistics of the job scheduler, which is created anew for
+ * every iteration, is reported as secondary results by {@link LagCounters}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 30)
+@Fork(1)
+public class FiringLagBenchmark {
+    @Param({"1000", "10000"})
+    public int burst;
+
+    @Param({"0", "200"})
+    public long startLatencyMicros;
+
+    @Param({"EXECUTOR", "PLATFORM_THREAD", "VIRTUAL_THREAD", "TIMING_WHEEL"})
+    public SchedulerType schedulerType;
+
+    private SchedulerType.Scheduler scheduler;
+    private ExecutorSchedulerImpl jobScheduler;
+    private JobScheduleConfig config;
+    private CountDownLatch latch;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        scheduler = schedulerType.create();
+        jobScheduler = scheduler.get();
+        config = JobScheduleConfigBuilder.newInstance()
+                .jobName(StubJobExecution.JOB_NAME)
+                .initialDelay(0)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .build();
+        latch = StubJobOperator.expect(burst, startLatencyMicros, TimeUnit.MICROSECONDS);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        scheduler.close();
+    }
+
+    @Benchmark
+    public CountDownLatch fireBurst(final LagCounters lagCounters) throws InterruptedException {
+        for (int i = 0; i < burst; i++) {
+            jobScheduler.schedule(config);
+        }
+        latch.await();
+        lagCounters.record(jobScheduler.getTickStageStatistics(), jobScheduler.getLaunchStageStatistics());
+        return latch;
+    }
+
+    /**
+     * Lag of the job schedules in each stage, reported by JMH along with the drain time
+     * of the bursts. JMH sums these counters over all iterations, so they hold the number
+     * of job schedules passing through each stage, and their total lag in microseconds;
+     * the mean lag of a stage is its total lag divided by its count.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LagCounters {
+        public long tickCount;
+        public long tickLagMicros;
+        public long launchCount;
+        public long launchLagMicros;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            tickCount = 0;
+            tickLagMicros = 0;
+            launchCount = 0;
+            launchLagMicros = 0;
+        }
+
+        void record(final StageStatistics tick, final StageStatistics launch) {
+            tickCount = tick.getCount();
+            tickLagMicros = tick.getCount() * tick.getMeanLag(TimeUnit.MICROSECONDS);
+            launchCount = launch.getCount();
+            launchLagMicros = launch.getCount() * launch.getMeanLag(TimeUnit.MICROSECONDS);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.ejb.ScheduleExpression;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.jakarta.xmlbind.JakartaXmlBindAnnotationModule;
+import org.jberet.schedule.JobScheduleConfig;
+import org.jberet.schedule.JobScheduleConfigBuilder;
+import org.jberet.schedule._private.JaxbScheduleExpression;
+import org.jberet.schedule._private.ScheduleExpressionAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of listing calendar-based job schedule configs with start and
+ * end dates, as a REST endpoint would, by all available threads at once: marshalling
+ * the whole list with Jackson and JAXB annotations, and a round trip of one schedule
+ * expression through the shared {@link ScheduleExpressionAdapter}.
+ * <p>
+ * Run with {@code -t <threads>} to compare throughput at other levels of parallelism.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class ScheduleListingBenchmark {
+    /**
+     * Number of job schedule configs in the list.
+     */
+    @Param({"1000", "5000"})
+    public int schedules;
+
+    private List<JobScheduleConfig> configs;
+    private ObjectMapper objectMapper;
+    private ScheduleExpressionAdapter adapter;
+    private ScheduleExpression expression;
+
+    @Setup
+    public void setUp() {
+        final long now = System.currentTimeMillis();
+        configs = new ArrayList<JobScheduleConfig>(schedules);
+        for (int i = 0; i < schedules; i++) {
+            configs.add(JobScheduleConfigBuilder.newInstance()
+                    .jobName(StubJobExecution.JOB_NAME)
+                    .scheduleExpression(new ScheduleExpression()
+                            .dayOfWeek("Mon-Fri").hour(String.valueOf(i % 24)).minute("*/15")
+                            .start(new Date(now + i * 60000L)).end(new Date(now + i * 60000L + 86400000L)))
+                    .build());
+        }
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JakartaXmlBindAnnotationModule());
+        adapter = new ScheduleExpressionAdapter();
+        expression = configs.get(0).getScheduleExpression();
+    }
+
+    @Benchmark
+    public byte[] listSchedules() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(configs);
+    }
+
+    @Benchmark
+    public ScheduleExpression adapterRoundTrip() throws Exception {
+        final JaxbScheduleExpression jaxb = adapter.marshal(expression);
+        return adapter.unmarshal(jaxb);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.schedule.ExecutorSchedulerImpl;
+import org.jberet.schedule.JobSchedule;
+import org.jberet.schedule.JobScheduleConfig;
+import org.jberet.schedule.JobScheduleConfigBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@code schedule}, {@code cancel}, {@code getJobSchedule} and
+ * {@code getJobSchedules} against a job scheduler that already holds a given number
+ * of pending job schedules. All job schedules are delayed by one day, so none of
+ * them matures during a trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ScheduleOperationsBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int schedules;
+
+    @Param({"EXECUTOR", "TIMING_WHEEL"})
+    public SchedulerType schedulerType;
+
+    private SchedulerType.Scheduler scheduler;
+    private ExecutorSchedulerImpl jobScheduler;
+    private JobScheduleConfig config;
+    private String[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduler = schedulerType.create();
+        jobScheduler = scheduler.get();
+        config = JobScheduleConfigBuilder.newInstance()
+                .jobName(StubJobExecution.JOB_NAME)
+                .initialDelay(1)
+                .timeUnit(TimeUnit.DAYS)
+                .build();
+        ids = new String[schedules];
+        for (int i = 0; i < schedules; i++) {
+            ids[i] = jobScheduler.schedule(config).getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.close();
+    }
+
+    /**
+     * Schedules a new job schedule, and then cancels and deletes it, so that the
+     * number of pending job schedules stays the same.
+     *
+     * @return the new job schedule
+     */
+    @Benchmark
+    public JobSchedule scheduleAndDelete() {
+        final JobSchedule jobSchedule = jobScheduler.schedule(config);
+        jobScheduler.delete(jobSchedule.getId());
+        return jobSchedule;
+    }
+
+    /**
+     * Schedules a new job schedule, and cancels it. Cancelled job schedules are
+     * retained by the job scheduler, so the number of job schedules grows during a trial.
+     *
+     * @return whether the job schedule was cancelled
+     */
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        return jobScheduler.cancel(jobScheduler.schedule(config).getId());
+    }
+
+    @Benchmark
+    public JobSchedule getJobSchedule() {
+        return jobScheduler.getJobSchedule(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<JobSchedule> getJobSchedules() {
+        return jobScheduler.getJobSchedules();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.schedule.ExecutorSchedulerImpl;
+import org.jberet.schedule.JobSchedule;
+import org.jberet.schedule.JobScheduleConfig;
+import org.jberet.schedule.JobScheduleConfigBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@code schedule}, {@code cancel} and {@code getJobSchedule}
+ * by all available threads at once, against a job scheduler that already holds a given
+ * number of pending job schedules, to show how job schedule id generation and lookups
+ * scale with the number of cores.
+ * <p>
+ * Run with {@code -t <threads>}, e.g., 1, 2, 4, 8, 16, 32 and 64, to compare throughput
+ * at each level of parallelism.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(Threads.MAX)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ScheduleScalingBenchmark {
+    @Param({"100000"})
+    public int schedules;
+
+    @Param({"EXECUTOR", "TIMING_WHEEL"})
+    public SchedulerType schedulerType;
+
+    private SchedulerType.Scheduler scheduler;
+    private ExecutorSchedulerImpl jobScheduler;
+    private JobScheduleConfig config;
+    private char[][] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduler = schedulerType.create();
+        jobScheduler = scheduler.get();
+        config = JobScheduleConfigBuilder.newInstance()
+                .jobName(StubJobExecution.JOB_NAME)
+                .initialDelay(1)
+                .timeUnit(TimeUnit.DAYS)
+                .build();
+        ids = new char[schedules][];
+        for (int i = 0; i < schedules; i++) {
+            ids[i] = jobScheduler.schedule(config).getId().toCharArray();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.close();
+    }
+
+    /**
+     * Schedules a new job schedule, and then cancels and deletes it, so that the
+     * number of pending job schedules stays the same.
+     *
+     * @return the new job schedule
+     */
+    @Benchmark
+    public JobSchedule scheduleAndDelete() {
+        final JobSchedule jobSchedule = jobScheduler.schedule(config);
+        jobScheduler.delete(jobSchedule.getId());
+        return jobSchedule;
+    }
+
+    /**
+     * Looks up a random pending job schedule by a new string of its id, as parsed
+     * from a request of a client.
+     *
+     * @return the job schedule
+     */
+    @Benchmark
+    public JobSchedule getJobSchedule() {
+        return jobScheduler.getJobSchedule(new String(ids[ThreadLocalRandom.current().nextInt(ids.length)]));
+    }
+}
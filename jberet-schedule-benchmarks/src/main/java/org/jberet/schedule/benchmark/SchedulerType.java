@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule.benchmark;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.jberet.schedule.ExecutorSchedulerImpl;
+import org.jberet.schedule.LaunchMode;
+import org.jberet.schedule.TimingWheelSchedulerImpl;
+
+/**
+ * The job scheduler configurations compared by the benchmarks, used as the
+ * value of a JMH {@code @Param}.
+ */
+public enum SchedulerType {
+    /**
+     * {@link ExecutorSchedulerImpl} backed by a single-threaded {@code ScheduledThreadPoolExecutor},
+     * launching job executions on the scheduler thread.
+     */
+    EXECUTOR,
+
+    /**
+     * {@link ExecutorSchedulerImpl} launching job executions on a bounded platform thread pool.
+     *
+     * @see LaunchMode#PLATFORM_THREAD
+     */
+    PLATFORM_THREAD,
+
+    /**
+     * {@link ExecutorSchedulerImpl} launching each job execution on its own virtual thread.
+     *
+     * @see LaunchMode#VIRTUAL_THREAD
+     */
+    VIRTUAL_THREAD,
+
+    /**
+     * {@link TimingWheelSchedulerImpl} with the default tick duration.
+     */
+    TIMING_WHEEL;
+
+    /**
+     * Creates a new job scheduler of this type. The scheduled executor of the
+     * {@code EXECUTOR}, {@code PLATFORM_THREAD} and {@code VIRTUAL_THREAD} types removes
+     * cancelled tasks immediately, so that repeatedly scheduling and cancelling
+     * long-delayed schedules does not accumulate garbage during a measurement.
+     *
+     * @return a new job scheduler, which should be closed after use
+     */
+    Scheduler create() {
+        if (this == TIMING_WHEEL) {
+            return new TimingWheelScheduler();
+        }
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        final ExecutorService launchExecutor;
+        switch (this) {
+            case PLATFORM_THREAD:
+                launchExecutor = ExecutorSchedulerImpl.newLaunchExecutor(
+                        Runtime.getRuntime().availableProcessors() * 2, 1024);
+                break;
+            case VIRTUAL_THREAD:
+                launchExecutor = ExecutorSchedulerImpl.newVirtualThreadLaunchExecutor();
+                break;
+            default:
+                launchExecutor = null;
+        }
+        return new ExecutorScheduler(executor, launchExecutor);
+    }
+
+    /**
+     * A job scheduler whose threads can be stopped at the end of a benchmark trial.
+     */
+    interface Scheduler extends AutoCloseable {
+        ExecutorSchedulerImpl get();
+
+        @Override
+        void close();
+    }
+
+    private static final class ExecutorScheduler extends ExecutorSchedulerImpl implements Scheduler {
+        ExecutorScheduler(final ScheduledThreadPoolExecutor executor, final ExecutorService launchExecutor) {
+            super(null, executor, launchExecutor);
+        }
+
+        @Override
+        public ExecutorSchedulerImpl get() {
+            return this;
+        }
+
+        @Override
+        public void close() {
+            executorService.shutdownNow();
+            if (launchExecutor != null) {
+                launchExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private static final class TimingWheelScheduler extends TimingWheelSchedulerImpl implements Scheduler {
+        @Override
+        public ExecutorSchedulerImpl get() {
+            return this;
+        }
+
+        @Override
+        public void close() {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule.benchmark;
+
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.context.JobContext;
+
+import org.jberet.schedule.JobScheduleConfigBuilder;
+import org.jberet.schedule.JobScheduler;
+import org.jberet.schedule.SchedulingJobListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead that {@link SchedulingJobListener#afterJob()} adds to the end
+ * of every job execution, against {@link StubJobOperator} and {@link StubJobScheduler},
+ * either submitting a new job schedule, or in chain mode, re-arming the job schedule
+ * that launched the job execution.
+ * <p>
+ * The info message logged for every scheduled job execution is suppressed, so that
+ * the result is not dominated by console output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulingJobListenerBenchmark {
+    /**
+     * Max number of schedules configured in the listener, or 0 for no limit.
+     */
+    @Param({"0", "1000000"})
+    public int maxSchedules;
+
+    /**
+     * Number of job parameters carried over to the next job execution.
+     */
+    @Param({"0", "10"})
+    public int jobParameters;
+
+    /**
+     * Whether the listener is in chain mode.
+     */
+    @Param({"false", "true"})
+    public boolean chain;
+
+    private final Logger logger = Logger.getLogger("org.jberet.schedule-executor");
+
+    private SchedulingJobListener listener;
+
+    @Setup
+    public void setUp() {
+        logger.setLevel(Level.WARNING);
+        final JobScheduler scheduler = JobScheduler.getJobScheduler(StubJobScheduler.class, null, null);
+
+        final Properties params = new Properties();
+        for (int i = 0; i < jobParameters; i++) {
+            params.setProperty("param" + i, "value" + i);
+        }
+        params.setProperty(SchedulingJobListener.class.getName() + ".numOfSchedules", "1");
+        if (chain) {
+            // the job schedule of the chain, which carries its id in the job parameters
+            scheduler.schedule(JobScheduleConfigBuilder.newInstance().jobName(StubJobExecution.JOB_NAME)
+                    .jobParameters(params).build(), SchedulingJobListener.class.getName() + ".scheduleId");
+        }
+        StubJobOperator.jobParameters = params;
+
+        listener = new Listener(maxSchedules > 0 ? maxSchedules : null, chain);
+    }
+
+    @Benchmark
+    public SchedulingJobListener afterJob() {
+        listener.afterJob();
+        return listener;
+    }
+
+    private static final class Listener extends SchedulingJobListener {
+        Listener(final Integer maxSchedules, final boolean chain) {
+            this.jobContext = new StubJobContext();
+            this.maxSchedules = maxSchedules;
+            this.chain = chain;
+            this.onBatchStatus = Arrays.asList(BatchStatus.COMPLETED, BatchStatus.FAILED);
+        }
+    }
+
+    private static final class StubJobContext implements JobContext {
+        private Object transientUserData;
+        private String exitStatus;
+
+        @Override
+        public String getJobName() {
+            return StubJobExecution.JOB_NAME;
+        }
+
+        @Override
+        public Object getTransientUserData() {
+            return transientUserData;
+        }
+
+        @Override
+        public void setTransientUserData(final Object data) {
+            transientUserData = data;
+        }
+
+        @Override
+        public long getInstanceId() {
+            return 1;
+        }
+
+        @Override
+        public long getExecutionId() {
+            return 1;
+        }
+
+        @Override
+        public Properties getProperties() {
+            return new Properties();
+        }
+
+        @Override
+        public BatchStatus getBatchStatus() {
+            return BatchStatus.COMPLETED;
+        }
+
+        @Override
+        public String getExitStatus() {
+            return exitStatus;
+        }
+
+        @Override
+        public void setExitStatus(final String status) {
+            exitStatus = status;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Date;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import javax.ejb.ScheduleExpression;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.jakarta.xmlbind.JakartaXmlBindAnnotationModule;
+import org.jberet.schedule.JobSchedule;
+import org.jberet.schedule.JobScheduleConfig;
+import org.jberet.schedule.JobScheduleConfigBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures round trips of a calendar-based {@link JobScheduleConfig} through JAXB,
+ * Jackson with JAXB annotations, and Java serialization, and of a {@link JobSchedule}
+ * with 100 job execution ids through Java serialization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+    private JobScheduleConfig config;
+    private JobSchedule jobSchedule;
+    private JAXBContext jaxbContext;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() throws JAXBException {
+        final Properties jobParameters = new Properties();
+        jobParameters.setProperty("input", "/data/in.csv");
+        jobParameters.setProperty("output", "/data/out.csv");
+        jobParameters.setProperty("chunkSize", "100");
+
+        config = JobScheduleConfigBuilder.newInstance()
+                .jobName(StubJobExecution.JOB_NAME)
+                .jobParameters(jobParameters)
+                .scheduleExpression(new ScheduleExpression()
+                        .dayOfWeek("Mon-Fri").hour("8-17").minute("*/15")
+                        .timezone("UTC").start(new Date()))
+                .timeUnit(TimeUnit.SECONDS)
+                .jobExecutionIdRetention(100)
+                .build();
+        jobSchedule = new JobSchedule("1", config);
+        for (long id = 1000; id < 1100; id++) {
+            jobSchedule.addJobExecutionIds(id);
+        }
+
+        jaxbContext = JAXBContext.newInstance(JobScheduleConfig.class);
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JakartaXmlBindAnnotationModule());
+    }
+
+    @Benchmark
+    public JobScheduleConfig jaxb() throws JAXBException {
+        final StringWriter writer = new StringWriter();
+        jaxbContext.createMarshaller().marshal(config, writer);
+        return (JobScheduleConfig) jaxbContext.createUnmarshaller().unmarshal(new StringReader(writer.toString()));
+    }
+
+    @Benchmark
+    public JobScheduleConfig jackson() throws IOException {
+        return objectMapper.readValue(objectMapper.writeValueAsString(config), JobScheduleConfig.class);
+    }
+
+    @Benchmark
+    public JobScheduleConfig javaSerialization() throws IOException, ClassNotFoundException {
+        return (JobScheduleConfig) roundTrip(config);
+    }
+
+    @Benchmark
+    public JobSchedule jobScheduleJavaSerialization() throws IOException, ClassNotFoundException {
+        return (JobSchedule) roundTrip(jobSchedule);
+    }
+
+    private static Object roundTrip(final Object object) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule.benchmark;
+
+import java.util.Date;
+import java.util.Properties;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+
+/**
+ * An immutable {@code JobExecution} returned by {@link StubJobOperator}.
+ */
+final class StubJobExecution implements JobExecution {
+    static final String JOB_NAME = "benchmark-job";
+
+    private final long executionId;
+    private final BatchStatus batchStatus;
+    private final Properties jobParameters;
+    private final Date time = new Date();
+
+    StubJobExecution(final long executionId, final BatchStatus batchStatus, final Properties jobParameters) {
+        this.executionId = executionId;
+        this.batchStatus = batchStatus;
+        this.jobParameters = jobParameters;
+    }
+
+    @Override
+    public long getExecutionId() {
+        return executionId;
+    }
+
+    @Override
+    public String getJobName() {
+        return JOB_NAME;
+    }
+
+    @Override
+    public BatchStatus getBatchStatus() {
+        return batchStatus;
+    }
+
+    @Override
+    public Date getStartTime() {
+        return time;
+    }
+
+    @Override
+    public Date getEndTime() {
+        return time;
+    }
+
+    @Override
+    public String getExitStatus() {
+        return batchStatus.name();
+    }
+
+    @Override
+    public Date getCreateTime() {
+        return time;
+    }
+
+    @Override
+    public Date getLastUpdatedTime() {
+        return time;
+    }
+
+    @Override
+    public Properties getJobParameters() {
+        return jobParameters;
+    }
+}
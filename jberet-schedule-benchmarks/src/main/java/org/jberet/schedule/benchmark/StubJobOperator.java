@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+import jakarta.batch.runtime.JobInstance;
+import jakarta.batch.runtime.StepExecution;
+
+/**
+ * A {@code JobOperator} that does not run any job, so that benchmarks measure the
+ * overhead of the scheduler alone. It is registered as a service provider, and
+ * is therefore returned by {@code BatchRuntime.getJobOperator()}.
+ * <p>
+ * Starting or restarting a job only allocates a new job execution id, optionally
+ * spins for {@link #startLatencyNanos} to simulate a slow job repository, and
+ * counts down {@link #latch}.
+ */
+public class StubJobOperator implements JobOperator {
+    /**
+     * Time spent in each call to {@code start} or {@code restart}, in nanoseconds.
+     */
+    static volatile long startLatencyNanos;
+
+    /**
+     * Latch counted down once for every started or restarted job execution.
+     */
+    static volatile CountDownLatch latch = new CountDownLatch(0);
+
+    /**
+     * Job parameters returned by {@link #getJobExecution(long)}.
+     */
+    static volatile Properties jobParameters;
+
+    private static final AtomicLong executionIds = new AtomicLong();
+
+    /**
+     * Resets the simulated start latency, and the latch to count down for the next
+     * {@code count} job executions.
+     *
+     * @param count number of job executions to expect
+     * @param startLatency simulated start latency
+     * @param unit time unit of {@code startLatency}
+     * @return the new latch
+     */
+    static CountDownLatch expect(final int count, final long startLatency, final TimeUnit unit) {
+        startLatencyNanos = unit.toNanos(startLatency);
+        return latch = new CountDownLatch(count);
+    }
+
+    @Override
+    public long start(final String jobXMLName, final Properties jobParameters) {
+        return launch();
+    }
+
+    @Override
+    public long restart(final long executionId, final Properties restartParameters) {
+        return launch();
+    }
+
+    @Override
+    public JobExecution getJobExecution(final long executionId) {
+        return new StubJobExecution(executionId, BatchStatus.COMPLETED, jobParameters);
+    }
+
+    @Override
+    public Set<String> getJobNames() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public int getJobInstanceCount(final String jobName) {
+        return 0;
+    }
+
+    @Override
+    public List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Long> getRunningExecutions(final String jobName) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Properties getParameters(final long executionId) {
+        return jobParameters;
+    }
+
+    @Override
+    public void stop(final long executionId) {
+    }
+
+    @Override
+    public void abandon(final long executionId) {
+    }
+
+    @Override
+    public JobInstance getJobInstance(final long executionId) {
+        return null;
+    }
+
+    @Override
+    public List<JobExecution> getJobExecutions(final JobInstance instance) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<StepExecution> getStepExecutions(final long jobExecutionId) {
+        return Collections.emptyList();
+    }
+
+    private static long launch() {
+        final long latency = startLatencyNanos;
+        if (latency > 0) {
+            final long end = System.nanoTime() + latency;
+            while (System.nanoTime() - end < 0) {
+                Thread.onSpinWait();
+            }
+        }
+        latch.countDown();
+        return executionIds.incrementAndGet();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jberet.schedule.JobSchedule;
+import org.jberet.schedule.JobScheduleConfig;
+import org.jberet.schedule.JobScheduler;
+
+/**
+ * A {@code JobScheduler} that accepts job schedules without running them, and keeps only
+ * the last one submitted with its id in the job parameters, so that benchmarks of
+ * {@code SchedulingJobListener} exclude the cost of the underlying job scheduler.
+ */
+public class StubJobScheduler extends JobScheduler {
+    private final AtomicLong ids = new AtomicLong();
+
+    private volatile JobSchedule chained;
+
+    @Override
+    public JobSchedule schedule(final JobScheduleConfig scheduleConfig) {
+        return new JobSchedule(String.valueOf(ids.incrementAndGet()), scheduleConfig);
+    }
+
+    @Override
+    public JobSchedule schedule(final JobScheduleConfig scheduleConfig, final String scheduleIdParameter) {
+        final JobSchedule jobSchedule = schedule(scheduleConfig);
+        scheduleConfig.getJobParameters().setProperty(scheduleIdParameter, jobSchedule.getId());
+        chained = jobSchedule;
+        return jobSchedule;
+    }
+
+    @Override
+    public JobSchedule reschedule(final String scheduleId, final long jobExecutionId) {
+        return getJobSchedule(scheduleId);
+    }
+
+    @Override
+    public String[] getFeatures() {
+        return new String[]{RESCHEDULE};
+    }
+
+    @Override
+    public List<JobSchedule> getJobSchedules() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean cancel(final String scheduleId) {
+        return false;
+    }
+
+    @Override
+    public JobSchedule getJobSchedule(final String scheduleId) {
+        final JobSchedule jobSchedule = chained;
+        return jobSchedule != null && jobSchedule.getId().equals(scheduleId) ? jobSchedule : null;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures the admission control of a job scheduler, i.e., how many job executions
+ * started by its job schedules may run at the same time, and is typically created with
+ * {@link AdmissionConfigBuilder}.
+ * <p>
+ * A firing is admitted only if it is within all of the limits that apply to it:
+ * the max concurrent executions of its job schedule
+ * ({@link JobScheduleConfig#getMaxConcurrentExecutions()}), of its job name,
+ * and of the job scheduler. Otherwise, the {@link Policy} decides what happens to it.
+ *
+ * @see JobScheduler#setAdmissionConfig(AdmissionConfig)
+ * @see AdmissionController
+ * @since 2.1.1
+ */
+public final class AdmissionConfig {
+    /**
+     * What happens to a firing that is not admitted.
+     */
+    public enum Policy {
+        /**
+         * The firing is held, and tried again after the retry interval until it is admitted.
+         * At most one firing of a job schedule is held, and further firings of the same
+         * job schedule are skipped while it is held. This is the default.
+         */
+        QUEUE,
+
+        /**
+         * The firing is skipped, and the job schedule fires again at its next fire time.
+         */
+        SKIP,
+
+        /**
+         * The firing is skipped as with {@link #SKIP}, and a warning is logged.
+         */
+        DROP
+    }
+
+    /**
+     * The default configuration, without any limits.
+     */
+    static final AdmissionConfig DEFAULT = AdmissionConfigBuilder.newInstance().build();
+
+    /**
+     * The max number of concurrent executions of all job schedules, or 0 if unlimited.
+     */
+    final int maxConcurrentExecutions;
+
+    /**
+     * The max number of concurrent executions by job name.
+     */
+    final Map<String, Integer> maxConcurrentExecutionsByJobName;
+
+    /**
+     * What happens to a firing that is not admitted.
+     */
+    final Policy policy;
+
+    /**
+     * How long a queued firing waits before it is tried again, in nanoseconds.
+     */
+    final long retryIntervalNanos;
+
+    AdmissionConfig(final int maxConcurrentExecutions,
+                    final Map<String, Integer> maxConcurrentExecutionsByJobName,
+                    final Policy policy,
+                    final long retryIntervalNanos) {
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        this.maxConcurrentExecutionsByJobName = maxConcurrentExecutionsByJobName;
+        this.policy = policy;
+        this.retryIntervalNanos = retryIntervalNanos;
+    }
+
+    /**
+     * Checks whether this configuration has any limits, other than those of job schedules.
+     *
+     * @return true if there is a limit for all job schedules or for any job name
+     */
+    boolean isLimited() {
+        return maxConcurrentExecutions > 0 || !maxConcurrentExecutionsByJobName.isEmpty();
+    }
+
+    /**
+     * Gets the max number of concurrent executions of all job schedules.
+     *
+     * @return the max number of concurrent executions, {@code Integer.MAX_VALUE} if unlimited
+     */
+    public int getMaxConcurrentExecutions() {
+        return maxConcurrentExecutions > 0 ? maxConcurrentExecutions : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the max number of concurrent executions of a job.
+     *
+     * @param jobName the job XML name
+     * @return the max number of concurrent executions of the job, {@code Integer.MAX_VALUE} if unlimited
+     */
+    public int getMaxConcurrentExecutions(final String jobName) {
+        final Integer max = jobName == null ? null : maxConcurrentExecutionsByJobName.get(jobName);
+        return max != null ? max : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the max number of concurrent executions of all jobs with a limit.
+     *
+     * @return an unmodifiable map of job XML names to their max number of concurrent executions
+     */
+    public Map<String, Integer> getMaxConcurrentExecutionsByJobName() {
+        return Collections.unmodifiableMap(maxConcurrentExecutionsByJobName);
+    }
+
+    /**
+     * Gets what happens to a firing that is not admitted.
+     *
+     * @return the admission policy
+     */
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Gets how long a queued firing waits before it is tried again.
+     *
+     * @param unit the time unit of the returned value
+     * @return the retry interval in the specified time unit
+     */
+    public long getRetryInterval(final TimeUnit unit) {
+        return unit.convert(retryIntervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "AdmissionConfig{" +
+                "maxConcurrentExecutions=" + maxConcurrentExecutions +
+                ", maxConcurrentExecutionsByJobName=" + maxConcurrentExecutionsByJobName +
+                ", policy=" + policy +
+                ", retryIntervalNanos=" + retryIntervalNanos +
+                '}';
+    }
+}
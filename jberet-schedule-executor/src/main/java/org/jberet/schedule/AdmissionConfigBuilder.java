@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder class for {@link AdmissionConfig}.
+ *
+ * @see AdmissionConfig
+ * @since 2.1.1
+ */
+public final class AdmissionConfigBuilder {
+    private int maxConcurrentExecutions;
+    private final Map<String, Integer> maxConcurrentExecutionsByJobName = new HashMap<String, Integer>();
+    private AdmissionConfig.Policy policy = AdmissionConfig.Policy.QUEUE;
+    private long retryIntervalNanos = TimeUnit.SECONDS.toNanos(1);
+
+    private AdmissionConfigBuilder() {
+    }
+
+    /**
+     * Creates a new instance of this builder.
+     * @return a new instance of {@code AdmissionConfigBuilder}
+     */
+    public static AdmissionConfigBuilder newInstance() {
+        return new AdmissionConfigBuilder();
+    }
+
+    /**
+     * Builds a new instance of {@link AdmissionConfig} from this builder instance.
+     * @return a new instance of {@code AdmissionConfig}
+     */
+    public AdmissionConfig build() {
+        return new AdmissionConfig(maxConcurrentExecutions,
+                new HashMap<String, Integer>(maxConcurrentExecutionsByJobName), policy, retryIntervalNanos);
+    }
+
+    /**
+     * Sets the max number of concurrent executions of all job schedules of the job scheduler.
+     * @param maxConcurrentExecutions the max number of concurrent executions, unlimited by default
+     * @return this builder
+     *
+     * @see AdmissionConfig#getMaxConcurrentExecutions()
+     */
+    public AdmissionConfigBuilder maxConcurrentExecutions(final int maxConcurrentExecutions) {
+        if (maxConcurrentExecutions <= 0) {
+            throw new IllegalArgumentException("maxConcurrentExecutions: " + maxConcurrentExecutions);
+        }
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        return this;
+    }
+
+    /**
+     * Sets the max number of concurrent executions of a job, started by any job schedule.
+     * @param jobName the job XML name
+     * @param maxConcurrentExecutions the max number of concurrent executions of the job, unlimited by default
+     * @return this builder
+     *
+     * @see AdmissionConfig#getMaxConcurrentExecutions(String)
+     */
+    public AdmissionConfigBuilder maxConcurrentExecutions(final String jobName, final int maxConcurrentExecutions) {
+        if (maxConcurrentExecutions <= 0) {
+            throw new IllegalArgumentException("maxConcurrentExecutions: " + maxConcurrentExecutions);
+        }
+        maxConcurrentExecutionsByJobName.put(jobName, maxConcurrentExecutions);
+        return this;
+    }
+
+    /**
+     * Sets what happens to a firing that is not admitted.
+     * @param policy the admission policy, defaults to {@link AdmissionConfig.Policy#QUEUE}
+     * @return this builder
+     *
+     * @see AdmissionConfig#getPolicy()
+     */
+    public AdmissionConfigBuilder policy(final AdmissionConfig.Policy policy) {
+        this.policy = policy;
+        return this;
+    }
+
+    /**
+     * Sets how long a queued firing waits before it is tried again.
+     * @param retryInterval the retry interval, defaults to 1 second
+     * @param unit the time unit of {@code retryInterval}
+     * @return this builder
+     *
+     * @see AdmissionConfig#getRetryInterval(TimeUnit)
+     */
+    public AdmissionConfigBuilder retryInterval(final long retryInterval, final TimeUnit unit) {
+        if (retryInterval <= 0) {
+            throw new IllegalArgumentException("retryInterval: " + retryInterval);
+        }
+        this.retryIntervalNanos = unit.toNanos(retryInterval);
+        return this;
+    }
+}
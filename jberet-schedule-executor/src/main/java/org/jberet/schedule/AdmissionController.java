@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import jakarta.batch.runtime.BatchStatus;
+
+/**
+ * Decides whether the firings of job schedules are admitted, according to an
+ * {@link AdmissionConfig} and the max concurrent executions of each job schedule.
+ * Job scheduler implementations call {@link #tryAcquire(JobSchedule)} before they
+ * start or restart a job execution, and report the outcome to the returned {@link Permit}.
+ * <p>
+ * The controller counts the job executions that may still be running, in total, by job
+ * schedule and by job name, so that admitting a firing does not go through them. The
+ * permit of a job execution is released when it finishes, as reported by
+ * {@link #completed(long)}, e.g., by {@link SchedulingJobListener}. The batch status of
+ * the job executions that hold the slots of an exceeded limit is checked in the job
+ * repository, outside the lock of the controller, to release those not reported.
+ * The most recent job execution ids recorded in a job schedule, e.g., of a job schedule
+ * recovered after a restart, are included the first time the job schedule fires.
+ *
+ * @see JobScheduler#getAdmissionController()
+ * @since 2.1.1
+ */
+public final class AdmissionController {
+    /**
+     * The permit of firings that no limit applies to.
+     */
+    private static final Permit UNLIMITED = new Permit(null, null, null, 0);
+
+    private volatile AdmissionConfig config;
+
+    /**
+     * Number of permits held, guarded by {@code this}.
+     */
+    private int total;
+
+    /**
+     * Number of permits held by job schedule id, without zero counts, guarded by {@code this}.
+     */
+    private final Map<String, Integer> bySchedule = new HashMap<String, Integer>();
+
+    /**
+     * Number of permits held by job name, without zero counts, guarded by {@code this}.
+     */
+    private final Map<String, Integer> byJobName = new HashMap<String, Integer>();
+
+    /**
+     * Permits of started job executions, by job execution id.
+     */
+    private final ConcurrentMap<Long, Permit> started = new ConcurrentHashMap<Long, Permit>();
+
+    /**
+     * Ids of job schedules whose recorded job execution ids have been counted, guarded by {@code this}.
+     */
+    private final Set<String> seeded = new HashSet<String>();
+
+    /**
+     * Ids of job schedules with a queued firing.
+     */
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates {@code AdmissionController} with the admission configuration.
+     *
+     * @param config the admission configuration
+     */
+    public AdmissionController(final AdmissionConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Gets the admission configuration.
+     *
+     * @return the admission configuration
+     */
+    public AdmissionConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Sets the admission configuration. Permits held and queued firings are kept,
+     * and count against the new limits.
+     *
+     * @param config the admission configuration
+     */
+    void setConfig(final AdmissionConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Tries to admit a firing of a job schedule. If admitted, the returned permit holds
+     * a slot in the limits, until the job execution is started and finishes, or until
+     * the permit is released.
+     *
+     * @param jobSchedule the job schedule that has fired
+     * @return the permit, or null if the firing is not admitted
+     */
+    public Permit tryAcquire(final JobSchedule jobSchedule) {
+        final AdmissionConfig config = this.config;
+        final JobScheduleConfig scheduleConfig = jobSchedule.getJobScheduleConfig();
+        final int scheduleMax = scheduleConfig.getMaxConcurrentExecutions();
+        if (scheduleMax == Integer.MAX_VALUE && !config.isLimited()) {
+            return UNLIMITED;
+        }
+        final String scheduleId = jobSchedule.getId();
+        final String jobName = scheduleConfig.getJobName();
+        final int jobMax = config.getMaxConcurrentExecutions(jobName);
+        final List<Permit> candidates;
+        synchronized (this) {
+            if (seeded.add(scheduleId)) {
+                final List<Long> ids = jobSchedule.getJobExecutionIds();
+                final int n = Math.min(ids.size(), scheduleMax == Integer.MAX_VALUE ? 1 : scheduleMax);
+                for (final Long id : ids.subList(ids.size() - n, ids.size())) {
+                    if (!started.containsKey(id)) {
+                        acquire(new Permit(this, scheduleId, jobName, id));
+                    }
+                }
+            }
+            if (isWithinLimits(config, scheduleId, jobName, scheduleMax, jobMax)) {
+                return acquire(new Permit(this, scheduleId, jobName, 0));
+            }
+            candidates = getCandidates(config, scheduleId, jobName, scheduleMax, jobMax);
+        }
+
+        // checks the job repository without holding the lock
+        boolean released = false;
+        for (final Permit p : candidates) {
+            if (!isRunning(p.jobExecutionId)) {
+                released |= p.releaseIfHeld();
+            }
+        }
+        if (!released) {
+            return null;
+        }
+        synchronized (this) {
+            return isWithinLimits(config, scheduleId, jobName, scheduleMax, jobMax) ?
+                    acquire(new Permit(this, scheduleId, jobName, 0)) : null;
+        }
+    }
+
+    /**
+     * Releases the permit of a job execution that has finished.
+     *
+     * @param jobExecutionId the id of the job execution
+     */
+    public void completed(final long jobExecutionId) {
+        final Permit permit = started.get(jobExecutionId);
+        if (permit != null) {
+            permit.release();
+        }
+    }
+
+    /**
+     * Marks a job schedule as having a queued firing.
+     *
+     * @param scheduleId the job schedule id
+     * @return true if the firing is queued; false if the job schedule already has a queued firing
+     */
+    public boolean enqueue(final String scheduleId) {
+        return queued.add(scheduleId);
+    }
+
+    /**
+     * Clears the queued firing of a job schedule, before it is tried again.
+     *
+     * @param scheduleId the job schedule id
+     */
+    public void dequeue(final String scheduleId) {
+        queued.remove(scheduleId);
+    }
+
+    /**
+     * Forgets a job schedule that has been deleted or evicted. Permits of its job
+     * executions that may still be running keep their slots.
+     *
+     * @param scheduleId the job schedule id
+     */
+    public void forget(final String scheduleId) {
+        queued.remove(scheduleId);
+        synchronized (this) {
+            seeded.remove(scheduleId);
+        }
+    }
+
+    /**
+     * Checks whether one more job execution is within the limits, guarded by {@code this}.
+     */
+    private boolean isWithinLimits(final AdmissionConfig config, final String scheduleId, final String jobName,
+                                   final int scheduleMax, final int jobMax) {
+        return total < config.getMaxConcurrentExecutions()
+                && count(bySchedule, scheduleId) < scheduleMax
+                && (jobName == null || count(byJobName, jobName) < jobMax);
+    }
+
+    /**
+     * Gets the permits of started job executions that hold the slots of the exceeded
+     * limits, guarded by {@code this}.
+     */
+    private List<Permit> getCandidates(final AdmissionConfig config, final String scheduleId, final String jobName,
+                                       final int scheduleMax, final int jobMax) {
+        final boolean all = total >= config.getMaxConcurrentExecutions();
+        final boolean ofSchedule = count(bySchedule, scheduleId) >= scheduleMax;
+        final boolean ofJob = jobName != null && count(byJobName, jobName) >= jobMax;
+        final List<Permit> result = new ArrayList<Permit>();
+        for (final Permit p : started.values()) {
+            if (all || ofSchedule && scheduleId.equals(p.scheduleId) || ofJob && jobName.equals(p.jobName)) {
+                result.add(p);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts a permit in the limits, guarded by {@code this}.
+     */
+    private Permit acquire(final Permit permit) {
+        total++;
+        bySchedule.merge(permit.scheduleId, 1, Integer::sum);
+        if (permit.jobName != null) {
+            byJobName.merge(permit.jobName, 1, Integer::sum);
+        }
+        if (permit.jobExecutionId > 0) {
+            started.put(permit.jobExecutionId, permit);
+        }
+        return permit;
+    }
+
+    /**
+     * Removes a permit from the limits, guarded by {@code this}.
+     */
+    private void remove(final Permit permit) {
+        total--;
+        bySchedule.computeIfPresent(permit.scheduleId, (k, n) -> n == 1 ? null : n - 1);
+        if (permit.jobName != null) {
+            byJobName.computeIfPresent(permit.jobName, (k, n) -> n == 1 ? null : n - 1);
+        }
+        if (permit.jobExecutionId > 0) {
+            started.remove(permit.jobExecutionId, permit);
+        }
+    }
+
+    private static int count(final Map<String, Integer> counts, final String key) {
+        final Integer n = counts.get(key);
+        return n == null ? 0 : n;
+    }
+
+    /**
+     * Checks whether a job execution may still be running, in the job repository.
+     *
+     * @param jobExecutionId the id of the job execution
+     * @return true if the job execution is starting, started or stopping; false otherwise
+     */
+    static boolean isRunning(final long jobExecutionId) {
+        final BatchStatus status;
+        try {
+            status = JobScheduler.getJobOperator().getJobExecution(jobExecutionId).getBatchStatus();
+        } catch (final RuntimeException e) {
+            // e.g., the job execution has been removed from the job repository
+            return false;
+        }
+        return status == BatchStatus.STARTING || status == BatchStatus.STARTED || status == BatchStatus.STOPPING;
+    }
+
+    /**
+     * A slot in the limits of an {@link AdmissionController}, held by an admitted firing.
+     */
+    public static final class Permit {
+        private final AdmissionController controller;
+        private final String scheduleId;
+        private final String jobName;
+
+        /**
+         * The id of the started job execution, or 0 if not yet started, guarded by the controller.
+         */
+        private long jobExecutionId;
+
+        /**
+         * Whether this permit has been released, guarded by the controller.
+         */
+        private boolean released;
+
+        Permit(final AdmissionController controller, final String scheduleId,
+               final String jobName, final long jobExecutionId) {
+            this.controller = controller;
+            this.scheduleId = scheduleId;
+            this.jobName = jobName;
+            this.jobExecutionId = jobExecutionId;
+        }
+
+        /**
+         * Records the job execution started or restarted with this permit, which then
+         * holds its slot until the job execution finishes.
+         *
+         * @param jobExecutionId the id of the job execution
+         */
+        public void started(final long jobExecutionId) {
+            if (controller != null) {
+                synchronized (controller) {
+                    this.jobExecutionId = jobExecutionId;
+                    if (!released) {
+                        controller.started.put(jobExecutionId, this);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Releases the slot of this permit, e.g., if the job execution failed to start.
+         * Releasing a permit more than once has no further effect.
+         */
+        public void release() {
+            if (controller != null) {
+                releaseIfHeld();
+            }
+        }
+
+        private boolean releaseIfHeld() {
+            synchronized (controller) {
+                if (released) {
+                    return false;
+                }
+                released = true;
+                controller.remove(this);
+                return true;
+            }
+        }
+    }
+}
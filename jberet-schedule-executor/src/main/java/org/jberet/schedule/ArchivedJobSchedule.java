@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.io.Serializable;
+
+/**
+ * A compact record of a finished job schedule that has been evicted by the retention
+ * policy of a job scheduler. It keeps a summary of the job schedule, without its
+ * job schedule config and job execution id history.
+ *
+ * @see RetentionConfig
+ * @see ExecutorSchedulerImpl#getArchivedJobSchedules()
+ * @since 2.1.1
+ */
+public final class ArchivedJobSchedule implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String id;
+    private final String jobName;
+    private final JobSchedule.Status status;
+    private final long createTime;
+    private final long finishTime;
+    private final long jobExecutionCount;
+    private final long lastJobExecutionId;
+
+    /**
+     * Creates {@code ArchivedJobSchedule} from a finished job schedule.
+     *
+     * @param jobSchedule the finished job schedule
+     */
+    ArchivedJobSchedule(final JobSchedule jobSchedule) {
+        this.id = jobSchedule.getId();
+        this.jobName = jobSchedule.getJobScheduleConfig().getJobName();
+        this.status = jobSchedule.getStatus();
+        this.createTime = jobSchedule.getCreateTime().getTime();
+        this.finishTime = jobSchedule.getFinishTime();
+        this.jobExecutionCount = jobSchedule.getJobExecutionCount();
+        this.lastJobExecutionId = jobSchedule.getLastJobExecutionId();
+    }
+
+    /**
+     * Gets the job schedule id.
+     *
+     * @return the job schedule id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the job XML name of the job schedule, or null if it restarted a job execution.
+     *
+     * @return the job XML name
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Gets the final status of the job schedule.
+     *
+     * @return {@link JobSchedule.Status#CANCELLED} or {@link JobSchedule.Status#DONE}
+     */
+    public JobSchedule.Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets the time the job schedule was created.
+     *
+     * @return the create time in milliseconds since the epoch
+     */
+    public long getCreateTime() {
+        return createTime;
+    }
+
+    /**
+     * Gets the time the job schedule was cancelled or done.
+     *
+     * @return the finish time in milliseconds since the epoch
+     */
+    public long getFinishTime() {
+        return finishTime;
+    }
+
+    /**
+     * Gets the number of job executions that have realized from the job schedule.
+     *
+     * @return the number of job executions
+     */
+    public long getJobExecutionCount() {
+        return jobExecutionCount;
+    }
+
+    /**
+     * Gets the id of the last job execution that has realized from the job schedule.
+     *
+     * @return the last job execution id, or 0 if none
+     */
+    public long getLastJobExecutionId() {
+        return lastJobExecutionId;
+    }
+
+    @Override
+    public String toString() {
+        return "ArchivedJobSchedule{" +
+                "id='" + id + '\'' +
+                ", jobName='" + jobName + '\'' +
+                ", status=" + status +
+                ", createTime=" + createTime +
+                ", finishTime=" + finishTime +
+                ", jobExecutionCount=" + jobExecutionCount +
+                ", lastJobExecutionId=" + lastJobExecutionId +
+                '}';
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs a calendar-based job schedule with a scheduled executor service, which
+ * only supports fixed delays. After each run, this task computes the next fire
+ * time from the compiled schedule expression, and schedules itself again.
+ * <p>
+ * This class is also the {@code Future} of the job schedule, which stays the
+ * same across all runs, and is done when the schedule expression has no
+ * more fire times.
+ *
+ * @see CompiledScheduleExpression
+ * @since 2.1.1
+ */
+final class CalendarScheduleTask implements Runnable, ScheduledFuture<Void> {
+    private final ScheduledExecutorService executorService;
+    private final CompiledScheduleExpression expression;
+    private final JobScheduleTask task;
+
+    /**
+     * The future of the current run, guarded by {@code this}.
+     */
+    private ScheduledFuture<?> current;
+
+    /**
+     * The planned time of the current run, in milliseconds since the epoch.
+     */
+    private volatile long nextFireMillis;
+
+    private volatile boolean cancelled;
+    private volatile boolean done;
+
+    CalendarScheduleTask(final ScheduledExecutorService executorService,
+                         final CompiledScheduleExpression expression,
+                         final JobScheduleTask task) {
+        this.executorService = executorService;
+        this.expression = expression;
+        this.task = task;
+    }
+
+    /**
+     * Schedules the first run after the current time.
+     *
+     * @return this task
+     */
+    CalendarScheduleTask start() {
+        arm(System.currentTimeMillis());
+        return this;
+    }
+
+    /**
+     * Gets the planned time of the next run.
+     *
+     * @return the next fire time in milliseconds since the epoch, or -1 if there is none
+     */
+    long getNextFireMillis() {
+        return done ? -1 : nextFireMillis;
+    }
+
+    @Override
+    public void run() {
+        final long planned = nextFireMillis;
+        final long now = System.currentTimeMillis();
+        try {
+            task.fire(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(now - planned), planned);
+        } catch (final Throwable e) {
+            synchronized (this) {
+                done = true;
+                notifyAll();
+            }
+            task.done();
+            throw e;
+        }
+
+        // fire times missed while this run was late are not caught up
+        arm(Math.max(planned, System.currentTimeMillis()));
+    }
+
+    private synchronized void arm(final long afterMillis) {
+        if (cancelled) {
+            return;
+        }
+        final long next = expression.next(afterMillis);
+        if (next < 0) {
+            done = true;
+            notifyAll();
+            task.done();
+            return;
+        }
+        nextFireMillis = next;
+        current = executorService.schedule(this, next - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized boolean cancel(final boolean mayInterruptIfRunning) {
+        if (cancelled || done) {
+            return false;
+        }
+        cancelled = true;
+        if (current != null) {
+            current.cancel(mayInterruptIfRunning);
+        }
+        notifyAll();
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public boolean isDone() {
+        return cancelled || done;
+    }
+
+    @Override
+    public synchronized Void get() throws InterruptedException, ExecutionException {
+        while (!isDone()) {
+            wait();
+        }
+        if (cancelled) {
+            throw new CancellationException();
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized Void get(final long timeout, final TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isDone()) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        if (cancelled) {
+            throw new CancellationException();
+        }
+        return null;
+    }
+
+    @Override
+    public long getDelay(final TimeUnit unit) {
+        return unit.convert(nextFireMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(final Delayed o) {
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+    }
+}
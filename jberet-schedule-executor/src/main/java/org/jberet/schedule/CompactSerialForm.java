@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import javax.ejb.ScheduleExpression;
+
+/**
+ * The serialized form of {@link JobSchedule} and {@link JobScheduleConfig}, which replace
+ * themselves with this class when serialized, e.g., as the info of persistent EJB timers,
+ * or by {@link ScheduleStore} implementations. It is a versioned compact binary encoding:
+ * <ul>
+ *   <li>numbers are written as variable-length integers, and negative ones with zig-zag encoding;
+ *   <li>job execution ids are written as differences from the previous id;
+ *   <li>strings are written once per object in UTF-8, and repeated strings as references;
+ *   <li>enums are written as ordinals, since their constants are only ever appended.
+ * </ul>
+ * When deserialized, job names and job parameter keys are interned, so that job schedules
+ * loaded in bulk share them. Forms written by earlier versions with default Java serialization
+ * are still read as before, since both classes keep their serializable fields.
+ *
+ * @since 2.1.1
+ */
+final class CompactSerialForm implements Externalizable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The version of the encoding written by this class.
+     */
+    private static final int VERSION = 1;
+
+    private static final int JOB_SCHEDULE = 1;
+
+    private static final int JOB_SCHEDULE_CONFIG = 2;
+
+    private static final JobSchedule.Status[] STATUSES = JobSchedule.Status.values();
+
+    private static final TimeUnit[] TIME_UNITS = TimeUnit.values();
+
+    private static final MisfirePolicy[] MISFIRE_POLICIES = MisfirePolicy.values();
+
+    private static final Jitter[] JITTERS = Jitter.values();
+
+    /**
+     * The job schedule or job schedule config to write, or that was read.
+     */
+    private Object value;
+
+    /**
+     * Creates {@code CompactSerialForm} for deserialization.
+     */
+    public CompactSerialForm() {
+    }
+
+    CompactSerialForm(final Object value) {
+        this.value = value;
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        final Writer writer = new Writer(out);
+        writer.writeVarInt(VERSION);
+        if (value instanceof JobSchedule) {
+            writer.writeVarInt(JOB_SCHEDULE);
+            writer.writeJobSchedule((JobSchedule) value);
+        } else {
+            writer.writeVarInt(JOB_SCHEDULE_CONFIG);
+            writer.writeConfig((JobScheduleConfig) value);
+        }
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException {
+        final Reader reader = new Reader(in);
+        final int version = reader.readVarInt();
+        if (version != VERSION) {
+            throw new InvalidObjectException("Unsupported version of JobSchedule serialized form: " + version);
+        }
+        final int kind = reader.readVarInt();
+        if (kind == JOB_SCHEDULE) {
+            value = reader.readJobSchedule();
+        } else if (kind == JOB_SCHEDULE_CONFIG) {
+            value = reader.readConfig();
+        } else {
+            throw new InvalidObjectException("Unknown kind of JobSchedule serialized form: " + kind);
+        }
+    }
+
+    private Object readResolve() throws ObjectStreamException {
+        return value;
+    }
+
+    /**
+     * Writes job schedules and job schedule configs, with a string table for one object.
+     */
+    private static final class Writer {
+        private final ObjectOutput out;
+        private final Map<String, Integer> strings = new HashMap<String, Integer>();
+
+        Writer(final ObjectOutput out) {
+            this.out = out;
+        }
+
+        void writeJobSchedule(final JobSchedule jobSchedule) throws IOException {
+            synchronized (jobSchedule) {
+                writeString(jobSchedule.getId());
+                writeVarLong(jobSchedule.getCreateTime().getTime());
+                final JobSchedule.Status status = jobSchedule.getStatus();
+                writeVarInt(status.ordinal());
+                writeVarLong(status == JobSchedule.Status.SCHEDULED ? 0 : jobSchedule.getFinishTime());
+                writeVarLong(jobSchedule.getLastFireTime());
+                writeSignedVarLong(jobSchedule.getNextJobExecutionId());
+                writeVarLong(jobSchedule.getJobExecutionCount());
+                writeVarLong(jobSchedule.getFirstJobExecutionId());
+                writeVarLong(jobSchedule.getLastJobExecutionId());
+
+                final int[] size = {0};
+                jobSchedule.forEachJobExecutionId(id -> size[0]++);
+                final long[] ids = new long[size[0]];
+                jobSchedule.forEachJobExecutionId(id -> ids[--size[0]] = id);
+                writeVarInt(ids.length);
+                long previous = 0;
+                for (int i = ids.length - 1; i >= 0; i--) {
+                    writeSignedVarLong(ids[i] - previous);
+                    previous = ids[i];
+                }
+                writeNullableConfig(jobSchedule.getJobScheduleConfig());
+            }
+        }
+
+        void writeNullableConfig(final JobScheduleConfig config) throws IOException {
+            out.writeBoolean(config != null);
+            if (config != null) {
+                writeConfig(config);
+            }
+        }
+
+        void writeConfig(final JobScheduleConfig config) throws IOException {
+            writeString(config.jobName);
+            writeSignedVarLong(config.jobExecutionId);
+
+            final Properties jobParameters = config.jobParameters;
+            if (jobParameters == null) {
+                writeVarInt(0);
+            } else {
+                final List<String> names = new ArrayList<String>(jobParameters.stringPropertyNames());
+                writeVarInt(names.size() + 1);
+                for (final String name : names) {
+                    writeString(name);
+                    writeString(jobParameters.getProperty(name));
+                }
+            }
+
+            final ScheduleExpression expression = config.scheduleExpression;
+            out.writeBoolean(expression != null);
+            if (expression != null) {
+                writeString(expression.getSecond());
+                writeString(expression.getMinute());
+                writeString(expression.getHour());
+                writeString(expression.getDayOfMonth());
+                writeString(expression.getMonth());
+                writeString(expression.getDayOfWeek());
+                writeString(expression.getYear());
+                writeString(expression.getTimezone());
+                writeDate(expression.getStart());
+                writeDate(expression.getEnd());
+            }
+
+            writeSignedVarLong(config.initialDelay);
+            writeSignedVarLong(config.afterDelay);
+            writeSignedVarLong(config.interval);
+            out.writeBoolean(config.persistent);
+            writeEnum(config.timeUnit);
+            writeVarInt(config.jobExecutionIdRetention);
+            writeEnum(config.misfirePolicy);
+            writeVarInt(config.maxCatchUpFirings);
+            writeEnum(config.jitter);
+            writeSignedVarLong(config.jitterWindow);
+            writeVarInt(config.maxConcurrentExecutions);
+        }
+
+        /**
+         * Writes a string: 0 for null, 1 followed by its UTF-8 bytes if it is new,
+         * or its index in the string table plus 2 if it has been written before.
+         */
+        void writeString(final String s) throws IOException {
+            if (s == null) {
+                writeVarInt(0);
+                return;
+            }
+            final Integer index = strings.get(s);
+            if (index != null) {
+                writeVarInt(index + 2);
+                return;
+            }
+            strings.put(s, strings.size());
+            final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(1);
+            writeVarInt(bytes.length);
+            out.write(bytes);
+        }
+
+        void writeDate(final Date date) throws IOException {
+            writeSignedVarLong(date == null ? Long.MIN_VALUE : date.getTime());
+        }
+
+        void writeEnum(final Enum<?> e) throws IOException {
+            writeVarInt(e == null ? 0 : e.ordinal() + 1);
+        }
+
+        void writeSignedVarLong(final long v) throws IOException {
+            writeVarLong((v << 1) ^ (v >> 63));
+        }
+
+        void writeVarInt(final int v) throws IOException {
+            writeVarLong(v & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long v) throws IOException {
+            while ((v & ~0x7FL) != 0) {
+                out.writeByte((int) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            out.writeByte((int) v);
+        }
+    }
+
+    /**
+     * Reads job schedules and job schedule configs written by {@link Writer}.
+     */
+    private static final class Reader {
+        private final ObjectInput in;
+        private final List<String> strings = new ArrayList<String>();
+
+        Reader(final ObjectInput in) {
+            this.in = in;
+        }
+
+        JobSchedule readJobSchedule() throws IOException {
+            final String id = readString();
+            final long createTime = readVarLong();
+            final JobSchedule.Status status = readEnum(STATUSES, readVarInt() + 1);
+            final long finishTime = readVarLong();
+            final long lastFireTime = readVarLong();
+            final long nextJobExecutionId = readSignedVarLong();
+            final long count = readVarLong();
+            final long first = readVarLong();
+            final long last = readVarLong();
+
+            final long[] ids = new long[readVarInt()];
+            long previous = 0;
+            for (int i = 0; i < ids.length; i++) {
+                previous += readSignedVarLong();
+                ids[i] = previous;
+            }
+            final JobScheduleConfig config = in.readBoolean() ? readConfig() : null;
+
+            final JobSchedule jobSchedule = new JobSchedule(id, config, createTime);
+            jobSchedule.restore(status, finishTime, lastFireTime, nextJobExecutionId, count, first, last, ids);
+            return jobSchedule;
+        }
+
+        JobScheduleConfig readConfig() throws IOException {
+            final String jobName = intern(readString());
+            final long jobExecutionId = readSignedVarLong();
+
+            final int parameters = readVarInt();
+            final Properties jobParameters = parameters == 0 ? null : new Properties();
+            for (int i = 1; i < parameters; i++) {
+                final String name = intern(readString());
+                jobParameters.setProperty(name, readString());
+            }
+
+            ScheduleExpression expression = null;
+            if (in.readBoolean()) {
+                expression = new ScheduleExpression();
+                final String second = readString();
+                final String minute = readString();
+                final String hour = readString();
+                final String dayOfMonth = readString();
+                final String month = readString();
+                final String dayOfWeek = readString();
+                final String year = readString();
+                final String timezone = readString();
+                final Date start = readDate();
+                final Date end = readDate();
+                if (second != null) {
+                    expression.second(second);
+                }
+                if (minute != null) {
+                    expression.minute(minute);
+                }
+                if (hour != null) {
+                    expression.hour(hour);
+                }
+                if (dayOfMonth != null) {
+                    expression.dayOfMonth(dayOfMonth);
+                }
+                if (month != null) {
+                    expression.month(month);
+                }
+                if (dayOfWeek != null) {
+                    expression.dayOfWeek(dayOfWeek);
+                }
+                if (year != null) {
+                    expression.year(year);
+                }
+                if (timezone != null) {
+                    expression.timezone(timezone);
+                }
+                if (start != null) {
+                    expression.start(start);
+                }
+                if (end != null) {
+                    expression.end(end);
+                }
+            }
+
+            final long initialDelay = readSignedVarLong();
+            final long afterDelay = readSignedVarLong();
+            final long interval = readSignedVarLong();
+            final boolean persistent = in.readBoolean();
+            final TimeUnit timeUnit = readEnum(TIME_UNITS, readVarInt());
+            final int jobExecutionIdRetention = readVarInt();
+            final MisfirePolicy misfirePolicy = readEnum(MISFIRE_POLICIES, readVarInt());
+            final int maxCatchUpFirings = readVarInt();
+            final Jitter jitter = readEnum(JITTERS, readVarInt());
+            final long jitterWindow = readSignedVarLong();
+            final int maxConcurrentExecutions = readVarInt();
+            return new JobScheduleConfig(jobName, jobExecutionId, jobParameters, expression,
+                    initialDelay, afterDelay, interval, persistent, timeUnit, jobExecutionIdRetention,
+                    misfirePolicy, maxCatchUpFirings, jitter, jitterWindow, maxConcurrentExecutions);
+        }
+
+        String readString() throws IOException {
+            final int tag = readVarInt();
+            if (tag == 0) {
+                return null;
+            }
+            if (tag > 1) {
+                if (tag - 2 >= strings.size()) {
+                    throw new InvalidObjectException("Invalid string reference: " + tag);
+                }
+                return strings.get(tag - 2);
+            }
+            final byte[] bytes = new byte[readVarInt()];
+            in.readFully(bytes);
+            final String s = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(s);
+            return s;
+        }
+
+        Date readDate() throws IOException {
+            final long time = readSignedVarLong();
+            return time == Long.MIN_VALUE ? null : new Date(time);
+        }
+
+        /**
+         * Reads an enum constant by its ordinal plus 1, or null for 0.
+         */
+        <E extends Enum<E>> E readEnum(final E[] values, final int ordinalPlusOne) throws IOException {
+            if (ordinalPlusOne == 0) {
+                return null;
+            }
+            if (ordinalPlusOne > values.length) {
+                throw new InvalidObjectException("Unknown ordinal of " +
+                        values[0].getDeclaringClass().getName() + ": " + (ordinalPlusOne - 1));
+            }
+            return values[ordinalPlusOne - 1];
+        }
+
+        long readSignedVarLong() throws IOException {
+            final long v = readVarLong();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        int readVarInt() throws IOException {
+            final long v = readVarLong();
+            if (v > 0xFFFFFFFFL) {
+                throw new InvalidObjectException("Invalid int: " + v);
+            }
+            return (int) v;
+        }
+
+        long readVarLong() throws IOException {
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final byte b = in.readByte();
+                v |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return v;
+                }
+            }
+            throw new InvalidObjectException("Malformed variable-length integer");
+        }
+
+        private static String intern(final String s) {
+            return s == null ? null : s.intern();
+        }
+    }
+}
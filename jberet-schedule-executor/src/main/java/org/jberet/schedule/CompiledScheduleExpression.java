@@ -0,0 +1,488 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneRules;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.Locale;
+import javax.ejb.ScheduleExpression;
+
+import org.jberet.schedule._private.ScheduleExecutorMessages;
+
+/**
+ * A {@code javax.ejb.ScheduleExpression} compiled into bit sets, for computing
+ * the next fire time of a calendar-based job schedule.
+ * <p>
+ * Seconds, minutes, hours and months are compiled into one bit per allowed value.
+ * Since whether a day matches depends only on the length of its month and the
+ * day of week of the first day of that month, {@code dayOfMonth} and {@code dayOfWeek}
+ * (including relative values such as {@code Last}, {@code -3} or {@code 2nd Mon})
+ * are compiled together into one day mask for each of these 28 combinations.
+ * Computing the next fire time therefore only scans bit sets, and does not
+ * allocate, except for converting the result in a time zone with daylight saving time.
+ * <p>
+ * The syntax follows the EJB specification: wildcard ({@code *}), single values,
+ * lists ({@code 1,3,5}), ranges ({@code Mon-Fri}, wrapping around if the start is
+ * greater than the end), and increments ({@code *}{@code /5}, {@code 10/15}) for
+ * second, minute and hour. If both {@code dayOfMonth} and {@code dayOfWeek} are
+ * not wildcards, a day matches if either of them matches.
+ *
+ * @see CalendarScheduleTask
+ * @since 2.1.1
+ */
+final class CompiledScheduleExpression {
+    /**
+     * The last year to search for a fire time.
+     */
+    private static final int MAX_YEAR = 9999;
+
+    private static final String[] DAY_NAMES = {"sun", "mon", "tue", "wed", "thu", "fri", "sat"};
+
+    private static final String[] MONTH_NAMES =
+            {"jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct", "nov", "dec"};
+
+    private static final String[] ORDINALS = {"1st", "2nd", "3rd", "4th", "5th"};
+
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long months;
+
+    /**
+     * Matching days (bits 1 to 31) of a month, indexed by
+     * {@code (lengthOfMonth - 28) * 7 + dayOfWeekOfFirstDay}, where Sunday is 0.
+     */
+    private final long[] dayMasks = new long[4 * 7];
+
+    /**
+     * Allowed years, or null if any year is allowed.
+     */
+    private final BitSet years;
+
+    private final ZoneRules zoneRules;
+
+    private final ZoneId zone;
+
+    /**
+     * Offset in seconds if {@link #zoneRules} has a fixed offset, otherwise {@code Integer.MIN_VALUE}.
+     */
+    private final int fixedOffsetSeconds;
+
+    private final long startMillis;
+    private final long endMillis;
+
+    /**
+     * Compiles the schedule expression.
+     *
+     * @param expression the schedule expression
+     * @throws jakarta.batch.operations.BatchRuntimeException if the expression is invalid
+     */
+    CompiledScheduleExpression(final ScheduleExpression expression) {
+        seconds = parseField("second", valueOf(expression.getSecond(), "0"), 0, 59, null, true);
+        minutes = parseField("minute", valueOf(expression.getMinute(), "0"), 0, 59, null, true);
+        hours = parseField("hour", valueOf(expression.getHour(), "0"), 0, 23, null, true);
+        months = parseField("month", valueOf(expression.getMonth(), "*"), 1, 12, MONTH_NAMES, false);
+        years = parseYears(valueOf(expression.getYear(), "*"));
+
+        final String dayOfMonth = valueOf(expression.getDayOfMonth(), "*");
+        final String dayOfWeek = valueOf(expression.getDayOfWeek(), "*");
+        long daysOfWeek = parseField("dayOfWeek", dayOfWeek, 0, 7, DAY_NAMES, false);
+        if ((daysOfWeek & (1L << 7)) != 0) {
+            daysOfWeek |= 1;
+        }
+        compileDays(dayOfMonth, daysOfWeek, isWildcard(dayOfMonth), isWildcard(dayOfWeek));
+
+        final String timezone = expression.getTimezone();
+        try {
+            zone = timezone == null || timezone.trim().isEmpty() ? ZoneId.systemDefault() : ZoneId.of(timezone.trim());
+        } catch (final RuntimeException e) {
+            throw ScheduleExecutorMessages.MESSAGES.invalidScheduleExpression("timezone", timezone);
+        }
+        zoneRules = zone.getRules();
+        fixedOffsetSeconds = zoneRules.isFixedOffset() ?
+                zoneRules.getOffset(Instant.EPOCH).getTotalSeconds() : Integer.MIN_VALUE;
+
+        final Date start = expression.getStart();
+        final Date end = expression.getEnd();
+        startMillis = start == null ? Long.MIN_VALUE : start.getTime();
+        endMillis = end == null ? Long.MAX_VALUE : end.getTime();
+    }
+
+    /**
+     * Computes the first fire time strictly after the specified time.
+     *
+     * @param afterMillis the time after which to search, in milliseconds since the epoch
+     * @return the next fire time in milliseconds since the epoch, or -1 if there is none
+     */
+    long next(final long afterMillis) {
+        final long fromMillis = Math.max(afterMillis + 1, startMillis);
+        final long fromSecond = Math.floorDiv(fromMillis + 999, 1000);
+        long localSecond = fromSecond + offsetAt(fromSecond);
+
+        while (true) {
+            final long epochDay = Math.floorDiv(localSecond, 86400);
+            final int secondOfDay = (int) Math.floorMod(localSecond, 86400);
+
+            // civil date from epoch day
+            final long z = epochDay + 719468;
+            final long era = Math.floorDiv(z, 146097);
+            final long doe = z - era * 146097;
+            final long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+            final long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+            final long mp = (5 * doy + 2) / 153;
+            int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+            int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+            int year = (int) (yoe + era * 400 + (month <= 2 ? 1 : 0));
+
+            int hour = secondOfDay / 3600;
+            int minute = secondOfDay / 60 % 60;
+            int second = secondOfDay % 60;
+
+            boolean found = false;
+            while (!found) {
+                if (year > MAX_YEAR) {
+                    return -1;
+                }
+                if (years != null && !years.get(year)) {
+                    year = years.nextSetBit(year);
+                    if (year < 0) {
+                        return -1;
+                    }
+                    month = day = 1;
+                    hour = minute = second = 0;
+                    continue;
+                }
+                final int nextMonth = nextBit(months, month);
+                if (nextMonth < 0) {
+                    year++;
+                    month = day = 1;
+                    hour = minute = second = 0;
+                    continue;
+                }
+                if (nextMonth != month) {
+                    month = nextMonth;
+                    day = 1;
+                    hour = minute = second = 0;
+                }
+                final int length = lengthOfMonth(year, month);
+                final int nextDay = nextBit(dayMasks[(length - 28) * 7 + dayOfWeek(year, month, 1)], day);
+                if (nextDay < 0) {
+                    if (++month > 12) {
+                        year++;
+                        month = 1;
+                    }
+                    day = 1;
+                    hour = minute = second = 0;
+                    continue;
+                }
+                if (nextDay != day) {
+                    day = nextDay;
+                    hour = minute = second = 0;
+                }
+                final int nextHour = nextBit(hours, hour);
+                if (nextHour < 0) {
+                    day++;
+                    hour = minute = second = 0;
+                    continue;
+                }
+                if (nextHour != hour) {
+                    hour = nextHour;
+                    minute = second = 0;
+                }
+                final int nextMinute = nextBit(minutes, minute);
+                if (nextMinute < 0) {
+                    hour++;
+                    minute = second = 0;
+                    continue;
+                }
+                if (nextMinute != minute) {
+                    minute = nextMinute;
+                    second = 0;
+                }
+                final int nextSecond = nextBit(seconds, second);
+                if (nextSecond < 0) {
+                    minute++;
+                    second = 0;
+                    continue;
+                }
+                second = nextSecond;
+                found = true;
+            }
+
+            final long epochSecond = toEpochSecond(year, month, day, hour, minute, second);
+            if (epochSecond < fromSecond) {
+                // an ambiguous local time in a daylight saving time overlap, keep searching
+                localSecond = daysFromCivil(year, month, day) * 86400 + hour * 3600 + minute * 60 + second + 1;
+                continue;
+            }
+            final long result = epochSecond * 1000;
+            return result > endMillis ? -1 : result;
+        }
+    }
+
+    private int offsetAt(final long epochSecond) {
+        return fixedOffsetSeconds != Integer.MIN_VALUE ? fixedOffsetSeconds :
+                zoneRules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+
+    private long toEpochSecond(final int year, final int month, final int day,
+                               final int hour, final int minute, final int second) {
+        if (fixedOffsetSeconds != Integer.MIN_VALUE) {
+            return daysFromCivil(year, month, day) * 86400 + hour * 3600 + minute * 60 + second - fixedOffsetSeconds;
+        }
+        return ZonedDateTime.ofLocal(LocalDateTime.of(year, month, day, hour, minute, second), zone, null)
+                .toEpochSecond();
+    }
+
+    /**
+     * Finds the lowest set bit at or above {@code from}.
+     */
+    private static int nextBit(final long bits, final int from) {
+        if (from >= 64) {
+            return -1;
+        }
+        final long remaining = bits & (-1L << from);
+        return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    private static long daysFromCivil(final int year, final int month, final int day) {
+        final long y = month <= 2 ? year - 1 : year;
+        final long era = Math.floorDiv(y, 400);
+        final long yoe = y - era * 400;
+        final long doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    /**
+     * Gets the day of week, where Sunday is 0.
+     */
+    private static int dayOfWeek(final int year, final int month, final int day) {
+        return (int) Math.floorMod(daysFromCivil(year, month, day) + 4, 7);
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static String valueOf(final String value, final String defaultValue) {
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+
+    private static boolean isWildcard(final String value) {
+        return value.equals("*");
+    }
+
+    /**
+     * Parses a field with values in {@code [min, max]} into a bit set.
+     */
+    private static long parseField(final String attribute, final String value, final int min, final int max,
+                                   final String[] names, final boolean incrementAllowed) {
+        long bits = 0;
+        for (final String part : value.split(",")) {
+            final String item = part.trim();
+            final int slash = item.indexOf('/');
+            if (slash >= 0) {
+                if (!incrementAllowed) {
+                    throw ScheduleExecutorMessages.MESSAGES.invalidScheduleExpression(attribute, value);
+                }
+                final String startValue = item.substring(0, slash).trim();
+                final int start = isWildcard(startValue) ? min : parseValue(attribute, value, startValue, min, max, names);
+                final int increment = parseValue(attribute, value, item.substring(slash + 1).trim(), 1, max + 1, null);
+                for (int i = start; i <= max; i += increment) {
+                    bits |= 1L << i;
+                }
+            } else if (isWildcard(item)) {
+                for (int i = min; i <= max; i++) {
+                    bits |= 1L << i;
+                }
+            } else {
+                final int dash = item.indexOf('-', 1);
+                if (dash > 0) {
+                    final int from = parseValue(attribute, value, item.substring(0, dash).trim(), min, max, names);
+                    final int to = parseValue(attribute, value, item.substring(dash + 1).trim(), min, max, names);
+                    for (int i = from; ; i = i == max ? min : i + 1) {
+                        bits |= 1L << i;
+                        if (i == to) {
+                            break;
+                        }
+                    }
+                } else {
+                    bits |= 1L << parseValue(attribute, value, item, min, max, names);
+                }
+            }
+        }
+        return bits;
+    }
+
+    private static int parseValue(final String attribute, final String value, final String item,
+                                  final int min, final int max, final String[] names) {
+        if (names != null) {
+            final String lower = item.toLowerCase(Locale.ENGLISH);
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(lower)) {
+                    // month names start from 1, day names from 0
+                    return i + min;
+                }
+            }
+        }
+        final int result;
+        try {
+            result = Integer.parseInt(item);
+        } catch (final NumberFormatException e) {
+            throw ScheduleExecutorMessages.MESSAGES.invalidScheduleExpression(attribute, value);
+        }
+        if (result < min || result > max) {
+            throw ScheduleExecutorMessages.MESSAGES.invalidScheduleExpression(attribute, value);
+        }
+        return result;
+    }
+
+    private static BitSet parseYears(final String value) {
+        if (isWildcard(value)) {
+            return null;
+        }
+        final BitSet result = new BitSet(MAX_YEAR + 1);
+        for (final String part : value.split(",")) {
+            final String item = part.trim();
+            final int dash = item.indexOf('-', 1);
+            if (dash > 0) {
+                final int from = parseValue("year", value, item.substring(0, dash).trim(), 1, MAX_YEAR, null);
+                final int to = parseValue("year", value, item.substring(dash + 1).trim(), 1, MAX_YEAR, null);
+                if (from > to) {
+                    throw ScheduleExecutorMessages.MESSAGES.invalidScheduleExpression("year", value);
+                }
+                result.set(from, to + 1);
+            } else {
+                result.set(parseValue("year", value, item, 1, MAX_YEAR, null));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Fills {@link #dayMasks} for every combination of month length and day of week
+     * of the first day of month.
+     */
+    private void compileDays(final String dayOfMonth, final long daysOfWeek,
+                             final boolean dayOfMonthWildcard, final boolean dayOfWeekWildcard) {
+        final String[] items = dayOfMonth.split(",");
+        for (final String item : items) {
+            // validate once, independent of any particular month
+            parseDayOfMonthItem(dayOfMonth, item.trim(), 31, 0);
+        }
+        for (int length = 28; length <= 31; length++) {
+            for (int firstDayOfWeek = 0; firstDayOfWeek < 7; firstDayOfWeek++) {
+                long dayOfMonthMask = 0;
+                for (final String item : items) {
+                    dayOfMonthMask |= parseDayOfMonthItem(dayOfMonth, item.trim(), length, firstDayOfWeek);
+                }
+                long dayOfWeekMask = 0;
+                for (int day = 1; day <= length; day++) {
+                    if ((daysOfWeek & (1L << ((firstDayOfWeek + day - 1) % 7))) != 0) {
+                        dayOfWeekMask |= 1L << day;
+                    }
+                }
+                final long mask;
+                if (dayOfMonthWildcard) {
+                    mask = dayOfWeekMask;
+                } else if (dayOfWeekWildcard) {
+                    mask = dayOfMonthMask;
+                } else {
+                    mask = dayOfMonthMask | dayOfWeekMask;
+                }
+                dayMasks[(length - 28) * 7 + firstDayOfWeek] = mask;
+            }
+        }
+    }
+
+    /**
+     * Evaluates one item of {@code dayOfMonth} for a month of the specified length
+     * and day of week of its first day.
+     */
+    private static long parseDayOfMonthItem(final String value, final String item,
+                                            final int length, final int firstDayOfWeek) {
+        if (isWildcard(item)) {
+            return ((1L << length) - 1) << 1;
+        }
+        // a range separator is a '-' that is neither leading nor directly following another '-',
+        // e.g., "-7--1" is the range from 7 days before the last day to 1 day before the last day
+        for (int i = 1; i < item.length(); i++) {
+            if (item.charAt(i) == '-' && item.charAt(i - 1) != '-') {
+                final int from = dayOfMonthValue(value, item.substring(0, i).trim(), length, firstDayOfWeek);
+                final int to = dayOfMonthValue(value, item.substring(i + 1).trim(), length, firstDayOfWeek);
+                if (from <= 0 || to <= 0) {
+                    return 0;
+                }
+                long bits = 0;
+                for (int day = from; ; day = day == length ? 1 : day + 1) {
+                    bits |= 1L << day;
+                    if (day == to) {
+                        break;
+                    }
+                }
+                return bits;
+            }
+        }
+        final int day = dayOfMonthValue(value, item, length, firstDayOfWeek);
+        return day > 0 ? 1L << day : 0;
+    }
+
+    /**
+     * Resolves a single {@code dayOfMonth} value to a day of the month.
+     *
+     * @return the day of month, or 0 if the value does not occur in this month
+     */
+    private static int dayOfMonthValue(final String value, final String item,
+                                       final int length, final int firstDayOfWeek) {
+        final String lower = item.toLowerCase(Locale.ENGLISH);
+        if (lower.equals("last")) {
+            return length;
+        }
+        final int space = lower.indexOf(' ');
+        if (space > 0) {
+            final String ordinal = lower.substring(0, space);
+            final int dayOfWeek = parseValue("dayOfMonth", value, lower.substring(space + 1).trim(), 0, 6, DAY_NAMES);
+            final int first = 1 + Math.floorMod(dayOfWeek - firstDayOfWeek, 7);
+            if (ordinal.equals("last")) {
+                return first + (length - first) / 7 * 7;
+            }
+            for (int i = 0; i < ORDINALS.length; i++) {
+                if (ORDINALS[i].equals(ordinal)) {
+                    final int day = first + i * 7;
+                    return day <= length ? day : 0;
+                }
+            }
+            throw ScheduleExecutorMessages.MESSAGES.invalidScheduleExpression("dayOfMonth", value);
+        }
+        if (lower.startsWith("-")) {
+            final int daysBeforeLast = parseValue("dayOfMonth", value, lower.substring(1), 1, 7, null);
+            return length - daysBeforeLast;
+        }
+        final int day = parseValue("dayOfMonth", value, lower, 1, 31, null);
+        return day <= length ? day : 0;
+    }
+}
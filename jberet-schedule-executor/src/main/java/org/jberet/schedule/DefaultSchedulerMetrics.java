@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The default {@link SchedulerMetrics} implementation, which keeps counters in
+ * {@code LongAdder}s and durations in {@link LatencyHistogram}s, so that recording
+ * is cheap even when many threads fire job schedules concurrently.
+ *
+ * @see JobScheduler#getMetrics()
+ * @see SchedulerMetricsMXBean
+ * @since 2.1.1
+ */
+public class DefaultSchedulerMetrics implements SchedulerMetrics {
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder launched = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LatencyHistogram firingLag = new LatencyHistogram();
+    private final LatencyHistogram launchLatency = new LatencyHistogram();
+
+    @Override
+    public void scheduled(final JobSchedule jobSchedule) {
+        scheduled.increment();
+    }
+
+    @Override
+    public void cancelled(final JobSchedule jobSchedule) {
+        cancelled.increment();
+    }
+
+    @Override
+    public void fired(final JobSchedule jobSchedule, final long lagNanos) {
+        fired.increment();
+        firingLag.record(lagNanos);
+    }
+
+    @Override
+    public void misfired(final JobSchedule jobSchedule, final MisfirePolicy policy, final int count) {
+        if (policy == MisfirePolicy.SKIP) {
+            skipped.add(count);
+        } else {
+            coalesced.add(count);
+        }
+    }
+
+    @Override
+    public void throttled(final JobSchedule jobSchedule, final AdmissionConfig.Policy policy) {
+        throttled.increment();
+    }
+
+    @Override
+    public void launched(final JobSchedule jobSchedule, final long latencyNanos) {
+        launched.increment();
+        launchLatency.record(latencyNanos);
+    }
+
+    @Override
+    public void failed(final JobSchedule jobSchedule, final Throwable failure) {
+        failed.increment();
+    }
+
+    /**
+     * Gets the number of job schedules scheduled.
+     *
+     * @return the number of job schedules scheduled
+     */
+    public long getScheduledCount() {
+        return scheduled.sum();
+    }
+
+    /**
+     * Gets the number of job schedules cancelled.
+     *
+     * @return the number of job schedules cancelled
+     */
+    public long getCancelledCount() {
+        return cancelled.sum();
+    }
+
+    /**
+     * Gets the number of times job schedules have fired.
+     *
+     * @return the number of firings
+     */
+    public long getFiredCount() {
+        return fired.sum();
+    }
+
+    /**
+     * Gets the number of missed firings coalesced with other firings.
+     *
+     * @return the number of coalesced firings
+     * @see MisfirePolicy#FIRE_ALL
+     * @see MisfirePolicy#FIRE_ONCE
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Gets the number of missed firings skipped.
+     *
+     * @return the number of skipped firings
+     * @see MisfirePolicy#SKIP
+     */
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    /**
+     * Gets the number of times firings have not been admitted because of concurrency limits.
+     *
+     * @return the number of throttled firings
+     * @see AdmissionConfig
+     */
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    /**
+     * Gets the number of job executions started or restarted by job schedules.
+     *
+     * @return the number of job executions launched
+     */
+    public long getLaunchedCount() {
+        return launched.sum();
+    }
+
+    /**
+     * Gets the number of times job schedules failed to start or restart a job execution.
+     *
+     * @return the number of failures
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Gets the histogram of the lag between the planned and the actual fire time.
+     *
+     * @return the firing lag histogram
+     */
+    public LatencyHistogram getFiringLag() {
+        return firingLag;
+    }
+
+    /**
+     * Gets the histogram of the time taken by {@code JobOperator.start} or {@code JobOperator.restart}.
+     *
+     * @return the launch latency histogram
+     */
+    public LatencyHistogram getLaunchLatency() {
+        return launchLatency;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultSchedulerMetrics{" +
+                "scheduled=" + scheduled +
+                ", cancelled=" + cancelled +
+                ", fired=" + fired +
+                ", coalesced=" + coalesced +
+                ", skipped=" + skipped +
+                ", throttled=" + throttled +
+                ", launched=" + launched +
+                ", failed=" + failed +
+                ", firingLag=" + firingLag +
+                ", launchLatency=" + launchLatency +
+                '}';
+    }
+}
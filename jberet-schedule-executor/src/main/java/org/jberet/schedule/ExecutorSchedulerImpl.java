@@ -11,37 +11,149 @@
 package org.jberet.schedule;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jberet.schedule._private.ScheduleExecutorLogger;
+import org.jberet.schedule._private.ScheduleExecutorMessages;
 
 /**
  * Job scheduler implementation based on {@code java.util.concurrent.ScheduledExecutorService}.
- * It supports single action and repeatable job schedule, but does not support calendar-based
- * repeatable job schedule, or persistent job schedule.
+ * It supports single action, repeatable, and calendar-based job schedule. Persistent
+ * job schedule is supported when a {@link ScheduleStore} is configured.
+ * <p>
+ * A calendar-based job schedule is compiled once when submitted, and after each run,
+ * is scheduled again for its next fire time. As with EJB-Timer-based job scheduler,
+ * the schedule expression is ignored if an initial delay is specified.
+ * <p>
+ * By default, matured job schedules are launched on the thread of the scheduled
+ * executor service. When a launch executor is configured, the scheduled executor
+ * service only detects matured job schedules (the tick stage), and the launch
+ * executor performs the {@code JobOperator} start or restart calls (the launch stage),
+ * so that a slow job start does not delay other job schedules.
+ * <p>
+ * The status of a job schedule is updated when it is cancelled, and when its task
+ * finishes its last run or fails, at the same time as its event is published to the
+ * subscribers of {@link #getJobScheduleEvents()}, so reading job schedules does not
+ * check their futures.
+ * <p>
+ * Job schedule ids are the decimal strings of positive longs, generated from per-thread
+ * stripes of id blocks, so that threads scheduling at the same time do not contend on
+ * one counter. Job schedules are kept in tables keyed by these longs; the
+ * {@code ConcurrentMap} specified in the constructor, if any, receives a copy of all changes.
+ * <p>
+ * With a schedule store, changes to persistent job schedules are written to the
+ * store in the background, in groups collected over a short commit window and
+ * coalescing repeated changes to the same job schedule, so that persistence does
+ * not slow down scheduling (see {@link ScheduleStoreConfig}). When this job scheduler is
+ * created, job schedules are recovered from the store in bulk by a background
+ * thread. Operations by id on a job schedule that is not yet recovered wait for
+ * the recovery to finish, and so does scheduling, so that a new job schedule does
+ * not take the id of a stored one. A recovered job schedule resumes at its next planned
+ * fire time; fire times missed while the application was down are skipped, except
+ * that an overdue single-action job schedule fires immediately. Since changes are
+ * written asynchronously, a job schedule may fire again after recovery if the
+ * application stopped right after it fired.
  *
+ * @see #getTickStageStatistics()
+ * @see #getLaunchStageStatistics()
  * @since 1.3.0
  */
-public class ExecutorSchedulerImpl extends JobScheduler {
+public class ExecutorSchedulerImpl extends JobScheduler implements AutoCloseable {
     /**
      * Scheduled executor used for job scheduling.
      */
     protected final ScheduledExecutorService executorService;
 
     /**
-     * Keeps all job schedules.
+     * Executor for starting or restarting job executions, or null if job executions
+     * are launched on the thread of {@link #executorService}.
+     *
+     * @since 2.1.1
+     */
+    protected final ExecutorService launchExecutor;
+
+    /**
+     * Keeps all job schedules, and writes them to the map specified in the constructor, if any.
      */
-    private final ConcurrentMap<String, JobSchedule> schedules;
+    private final JobScheduleRegistry schedules;
 
     /**
      * For generating job schedule ids.
      */
-    private final AtomicInteger ids = new AtomicInteger(1);
+    private final JobScheduleIds ids = new JobScheduleIds();
+
+    /**
+     * Secondary indexes of {@link #schedules} for queries.
+     */
+    private final JobScheduleIndex index = new JobScheduleIndex();
+
+    /**
+     * Store for persistent job schedules, or null if job schedules are kept in memory only.
+     */
+    private final ScheduleStore store;
+
+    private final ScheduleStoreWriter storeWriter;
+
+    /**
+     * Whether operations wait for their changes to be written to {@link #store}.
+     */
+    private final boolean commit;
+
+    /**
+     * Released when job schedules have been recovered from {@link #store}.
+     */
+    private final CountDownLatch recovery;
+
+    private final StageStatistics.Recorder tickStage = new StageStatistics.Recorder();
+
+    private final StageStatistics.Recorder launchStage = new StageStatistics.Recorder();
+
+    /**
+     * Claims firings shared with other job schedulers, or null if firings are not shared.
+     */
+    private volatile FiringGuard firingGuard;
+
+    /**
+     * How long finished job schedules are kept, or null if they are kept until deleted.
+     */
+    private volatile RetentionConfig retentionConfig;
+
+    /**
+     * The periodic sweep of finished job schedules, or null if there is no retention config.
+     */
+    private Future<?> sweeper;
+
+    /**
+     * Job schedules evicted by the retention config, in the order they were archived,
+     * guarded by itself.
+     */
+    private final LinkedHashMap<String, ArchivedJobSchedule> archive =
+            new LinkedHashMap<String, ArchivedJobSchedule>() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, ArchivedJobSchedule> eldest) {
+            final RetentionConfig config = retentionConfig;
+            return config == null || size() > config.archiveSize;
+        }
+    };
 
     /**
      * Default no-arg constructor.
@@ -75,57 +187,394 @@ public class ExecutorSchedulerImpl extends JobScheduler {
      */
     public ExecutorSchedulerImpl(final ConcurrentMap<String, JobSchedule> schedules,
                                  final ScheduledExecutorService executorService) {
-        this.schedules = schedules == null ?
-                new ConcurrentHashMap<String, JobSchedule>() : schedules;
+        this(schedules, executorService, null);
+    }
+
+    /**
+     * Constructs {@code ExecutorSchedulerImpl}, specifying the
+     * {@code ConcurrentMap<String, JobSchedule>} for storing all job schedules,
+     * the scheduled executor service, and the executor for launching job executions.
+     *
+     * @param schedules {@code ConcurrentMap<String, JobSchedule>} for storing all job schedules
+     * @param executorService scheduled executor service
+     * @param launchExecutor executor for starting or restarting job executions, or null to
+     *                       launch job executions on the thread of {@code executorService}
+     *
+     * @see #newLaunchExecutor(int, int)
+     * @since 2.1.1
+     */
+    public ExecutorSchedulerImpl(final ConcurrentMap<String, JobSchedule> schedules,
+                                 final ScheduledExecutorService executorService,
+                                 final ExecutorService launchExecutor) {
+        this(schedules, executorService, launchExecutor, null);
+    }
+
+    /**
+     * Constructs {@code ExecutorSchedulerImpl}, specifying the
+     * {@code ConcurrentMap<String, JobSchedule>} for storing all job schedules,
+     * the scheduled executor service, the executor for launching job executions,
+     * and the store for persistent job schedules. If a store is specified, job schedules
+     * are recovered from it in the background.
+     *
+     * @param schedules {@code ConcurrentMap<String, JobSchedule>} for storing all job schedules
+     * @param executorService scheduled executor service
+     * @param launchExecutor executor for starting or restarting job executions, or null to
+     *                       launch job executions on the thread of {@code executorService}
+     * @param store store for persistent job schedules, or null to keep job schedules in memory only
+     *
+     * @see JdbcScheduleStore
+     * @see FileScheduleStore
+     * @since 2.1.1
+     */
+    public ExecutorSchedulerImpl(final ConcurrentMap<String, JobSchedule> schedules,
+                                 final ScheduledExecutorService executorService,
+                                 final ExecutorService launchExecutor,
+                                 final ScheduleStore store) {
+        this(schedules, executorService, launchExecutor, store, null);
+    }
+
+    /**
+     * Constructs {@code ExecutorSchedulerImpl}, specifying the
+     * {@code ConcurrentMap<String, JobSchedule>} for storing all job schedules,
+     * the scheduled executor service, the executor for launching job executions,
+     * the store for persistent job schedules, and how to write to the store.
+     *
+     * @param schedules {@code ConcurrentMap<String, JobSchedule>} for storing all job schedules
+     * @param executorService scheduled executor service
+     * @param launchExecutor executor for starting or restarting job executions, or null to
+     *                       launch job executions on the thread of {@code executorService}
+     * @param store store for persistent job schedules, or null to keep job schedules in memory only
+     * @param storeConfig configures writes to {@code store}, or null for the default configuration
+     *
+     * @see ScheduleStoreConfigBuilder
+     * @since 2.1.1
+     */
+    public ExecutorSchedulerImpl(final ConcurrentMap<String, JobSchedule> schedules,
+                                 final ScheduledExecutorService executorService,
+                                 final ExecutorService launchExecutor,
+                                 final ScheduleStore store,
+                                 final ScheduleStoreConfig storeConfig) {
+        this.schedules = new JobScheduleRegistry(schedules);
         this.executorService = executorService == null ?
                 Executors.newSingleThreadScheduledExecutor() : executorService;
+        this.launchExecutor = launchExecutor;
+
+        if (schedules != null && !schedules.isEmpty()) {
+            final List<JobSchedule> existing = new ArrayList<JobSchedule>(schedules.values());
+            Collections.sort(existing);
+            for (final JobSchedule jobSchedule : existing) {
+                if (this.schedules.addIfAbsent(jobSchedule)) {
+                    index.add(jobSchedule);
+                    reserveId(jobSchedule);
+                }
+            }
+        }
+
+        this.store = store;
+        this.commit = storeConfig != null && storeConfig.durability == ScheduleStoreConfig.Durability.COMMIT;
+        if (store == null) {
+            storeWriter = null;
+            recovery = new CountDownLatch(0);
+        } else {
+            storeWriter = new ScheduleStoreWriter(store,
+                    storeConfig == null ? ScheduleStoreConfig.DEFAULT : storeConfig);
+            recovery = new CountDownLatch(1);
+            final Thread recoveryThread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    recover();
+                }
+            }, "jberet-schedule-recovery");
+            recoveryThread.setDaemon(true);
+            recoveryThread.start();
+        }
+    }
+
+    /**
+     * Creates a bounded executor suitable as the launch executor of this class.
+     * When both its threads and its queue are full, the launch is run by the
+     * submitting scheduling thread, which slows down the tick stage instead of
+     * dropping job executions.
+     *
+     * @param threads number of launch threads
+     * @param queueCapacity max number of launches waiting for a thread
+     * @return a new launch executor
+     *
+     * @since 2.1.1
+     */
+    public static ExecutorService newLaunchExecutor(final int threads, final int queueCapacity) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(queueCapacity), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Creates an executor that starts or restarts each job execution on its own
+     * virtual thread, suitable as the launch executor of this class. Submitting to
+     * this executor never blocks the scheduling thread.
+     * <p>
+     * Virtual threads require Java 21 or later. On earlier Java runtimes, an
+     * unbounded pool of platform threads is returned instead.
+     *
+     * @return a new launch executor
+     *
+     * @since 2.1.1
+     */
+    public static ExecutorService newVirtualThreadLaunchExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final Exception e) {
+            ScheduleExecutorLogger.LOGGER.virtualThreadsNotAvailable();
+            return Executors.newCachedThreadPool();
+        }
     }
 
     @Override
     public JobSchedule schedule(final JobScheduleConfig scheduleConfig) {
-        final JobSchedule jobSchedule = new JobSchedule(String.valueOf(ids.getAndIncrement()), scheduleConfig);
-        final JobScheduleTask task = new JobScheduleTask(jobSchedule);
+        return schedule(scheduleConfig, null, commit);
+    }
+
+    @Override
+    public JobSchedule schedule(final JobScheduleConfig scheduleConfig, final String scheduleIdParameter) {
+        return schedule(scheduleConfig, scheduleIdParameter, commit);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation schedules the job schedule in the calling thread, which does not
+     * block, and with {@link ScheduleStoreConfig.Durability#COMMIT}, completes the returned
+     * stage once the job schedule is written to the schedule store. While job schedules are
+     * recovered from the schedule store, it schedules from the async executor instead.
+     */
+    @Override
+    public CompletionStage<JobSchedule> scheduleAsync(final JobScheduleConfig scheduleConfig) {
+        if (recovery.getCount() > 0) {
+            return super.scheduleAsync(scheduleConfig);
+        }
+        try {
+            return committed(schedule(scheduleConfig, null, false));
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private JobSchedule schedule(final JobScheduleConfig scheduleConfig, final String scheduleIdParameter,
+                                 final boolean await) {
+        awaitRecoveryOfIds();
+        final long id = ids.next();
+        final String scheduleId = String.valueOf(id);
+        final JobSchedule jobSchedule;
+        if (scheduleIdParameter != null) {
+            // the job schedule owns its job parameters, so the caller's config is not modified
+            jobSchedule = new JobSchedule(scheduleId, scheduleConfig.withJobParameter(scheduleIdParameter, scheduleId));
+            jobSchedule.setChain(true);
+        } else {
+            jobSchedule = new JobSchedule(scheduleId, scheduleConfig);
+        }
+        index.add(jobSchedule);
+        arm(jobSchedule, scheduleConfig.scheduleExpression != null && scheduleConfig.initialDelay <= 0 ?
+                -1 : scheduleConfig.getTimeUnit().toNanos(scheduleConfig.initialDelay));
+        register(id, jobSchedule);
+        getMetrics().scheduled(jobSchedule);
+        publish(jobSchedule.getId(), JobScheduleEvent.Type.SCHEDULED, 0, null);
+        write(jobSchedule, await);
+        return jobSchedule;
+    }
+
+    /**
+     * Adds an armed job schedule to the job schedules kept by id, or if its id is already
+     * in use, cancels and unindexes it.
+     *
+     * @param id the long id of the job schedule
+     * @param jobSchedule the job schedule
+     */
+    private void register(final long id, final JobSchedule jobSchedule) {
+        try {
+            schedules.add(id, jobSchedule);
+        } catch (final RuntimeException e) {
+            jobSchedule.getFuture().cancel(false);
+            index.remove(jobSchedule);
+            throw e;
+        }
+    }
+
+    /**
+     * Submits the task of a job schedule to the scheduled executor service.
+     *
+     * @param jobSchedule the job schedule
+     * @param initialDelayNanos the delay of the first run in nanoseconds,
+     *                          or -1 to follow the schedule expression
+     * @return the task of the job schedule
+     */
+    private JobScheduleTask arm(final JobSchedule jobSchedule, final long initialDelayNanos) {
+        final JobScheduleConfig scheduleConfig = jobSchedule.getJobScheduleConfig();
+        final JobScheduleTask task = new JobScheduleTask(jobSchedule, this, launchExecutor,
+                tickStage, launchStage, Math.max(initialDelayNanos, 0));
 
+        final TimeUnit unit = scheduleConfig.getTimeUnit();
         final Future<?> future;
-        if (scheduleConfig.interval <= 0 && scheduleConfig.afterDelay <= 0) {
-            future = executorService.schedule(task, scheduleConfig.initialDelay, timeUnit);
+        if (initialDelayNanos < 0) {
+            future = new CalendarScheduleTask(executorService,
+                    new CompiledScheduleExpression(scheduleConfig.scheduleExpression), task).start();
+        } else if (scheduleConfig.interval <= 0 && scheduleConfig.afterDelay <= 0) {
+            future = executorService.schedule(task, initialDelayNanos, TimeUnit.NANOSECONDS);
         } else if (scheduleConfig.interval > 0) {
             future = executorService.scheduleAtFixedRate(
-                    task, scheduleConfig.initialDelay, scheduleConfig.interval, timeUnit);
+                    task, initialDelayNanos, unit.toNanos(scheduleConfig.interval), TimeUnit.NANOSECONDS);
         } else {
             future = executorService.scheduleWithFixedDelay(
-                    task, scheduleConfig.initialDelay, scheduleConfig.afterDelay, timeUnit);
+                    task, initialDelayNanos, unit.toNanos(scheduleConfig.afterDelay), TimeUnit.NANOSECONDS);
         }
         jobSchedule.setFuture(future);
-        schedules.put(jobSchedule.getId(), jobSchedule);
+        return task;
+    }
+
+    @Override
+    public String[] getFeatures() {
+        return store == null ? new String[]{CALENDAR, RESCHEDULE} : new String[]{PERSISTENT, CALENDAR, RESCHEDULE};
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation cancels the pending run of the job schedule, if any, and submits
+     * a new task for it, so the job schedule keeps its place in the indexes, and with a
+     * schedule store, is written in the background like any other change.
+     */
+    @Override
+    public JobSchedule reschedule(final String scheduleId, final long jobExecutionId) {
+        final JobSchedule jobSchedule = get(scheduleId);
+        if (jobSchedule == null) {
+            return null;
+        }
+        final JobScheduleConfig scheduleConfig = jobSchedule.getJobScheduleConfig();
+        synchronized (jobSchedule) {
+            final JobSchedule.Status status = jobSchedule.getStatus();
+            // a job schedule evicted by the retention config is not re-armed
+            if (status == JobSchedule.Status.CANCELLED || schedules.get(scheduleId) != jobSchedule) {
+                return null;
+            }
+            final Future<?> future = jobSchedule.getFuture();
+            if (future != null) {
+                future.cancel(false);
+            }
+            if (status == JobSchedule.Status.DONE) {
+                index.setStatus(jobSchedule, JobSchedule.Status.DONE, JobSchedule.Status.SCHEDULED);
+            }
+            jobSchedule.setNextJobExecutionId(jobExecutionId > 0 ? jobExecutionId : -1);
+            arm(jobSchedule, scheduleConfig.getTimeUnit().toNanos(Math.max(scheduleConfig.initialDelay, 0)));
+        }
+        getMetrics().scheduled(jobSchedule);
+        publish(scheduleId, JobScheduleEvent.Type.SCHEDULED, 0, null);
+        write(jobSchedule, commit);
         return jobSchedule;
     }
 
     @Override
     public List<JobSchedule> getJobSchedules() {
-        final List<JobSchedule> result = new ArrayList<JobSchedule>();
-        for (final JobSchedule e : schedules.values()) {
-            final JobSchedule.Status status = e.getStatus();
-            if (status != JobSchedule.Status.CANCELLED && status != JobSchedule.Status.DONE) {
-                final Future<?> future = e.getFuture();
-                if (future != null) {
-                    if (future.isCancelled()) {
-                        e.setStatus(JobSchedule.Status.CANCELLED);
-                    } else if (future.isDone()) {
-                        e.setStatus(JobSchedule.Status.DONE);
-                    }
+        return getJobSchedules(new JobScheduleQuery()).getJobSchedules();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation finds matching job schedules in indexes by creation order,
+     * status and job name, so the cost of a page with a cursor is proportional to the
+     * page size. Skipping job schedules with an offset is proportional to the offset.
+     * Its cursor is the creation sequence number of the last job schedule in the page.
+     */
+    @Override
+    public JobSchedulePage getJobSchedules(final JobScheduleQuery query) {
+        return index.query(query);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation reserves the ids of all job schedules at once, once job schedules
+     * have been recovered from the schedule store, if any, and with
+     * {@link ScheduleStoreConfig.Durability#COMMIT}, waits once for all of them to be
+     * written to the schedule store, which writes them in batches.
+     */
+    @Override
+    public List<JobSchedule> scheduleAll(final Collection<JobScheduleConfig> scheduleConfigs) {
+        final List<JobSchedule> result = new ArrayList<JobSchedule>(scheduleConfigs.size());
+        awaitRecoveryOfIds();
+        final long firstId = ids.reserve(scheduleConfigs.size());
+        long id = firstId;
+        for (final JobScheduleConfig scheduleConfig : scheduleConfigs) {
+            result.add(new JobSchedule(String.valueOf(id++), scheduleConfig));
+        }
+        index.addAll(result);
+        id = firstId;
+        for (int i = 0; i < result.size(); i++) {
+            final JobSchedule jobSchedule = result.get(i);
+            final JobScheduleConfig scheduleConfig = jobSchedule.getJobScheduleConfig();
+            arm(jobSchedule, scheduleConfig.scheduleExpression != null && scheduleConfig.initialDelay <= 0 ?
+                    -1 : scheduleConfig.getTimeUnit().toNanos(scheduleConfig.initialDelay));
+            try {
+                register(id++, jobSchedule);
+            } catch (final RuntimeException e) {
+                for (final JobSchedule notArmed : result.subList(i + 1, result.size())) {
+                    index.remove(notArmed);
                 }
+                throw e;
             }
-            result.add(e);
+            getMetrics().scheduled(jobSchedule);
+            publish(jobSchedule.getId(), JobScheduleEvent.Type.SCHEDULED, 0, null);
+            write(jobSchedule, false);
         }
-        Collections.sort(result, Collections.<JobSchedule>reverseOrder());
+        commitWrites();
         return result;
     }
 
     @Override
     public boolean cancel(final String scheduleId) {
+        return cancel(scheduleId, commit);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * With {@link ScheduleStoreConfig.Durability#COMMIT}, this implementation waits once
+     * for all cancelled job schedules to be written to the schedule store.
+     */
+    @Override
+    public int cancelAll(final Collection<String> scheduleIds) {
+        int cancelled = 0;
+        for (final String scheduleId : scheduleIds) {
+            if (cancel(scheduleId, false)) {
+                cancelled++;
+            }
+        }
+        commitWrites();
+        return cancelled;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation cancels the job schedule in the calling thread, unless it is
+     * waiting to be recovered from the schedule store, and with
+     * {@link ScheduleStoreConfig.Durability#COMMIT}, completes the returned stage once
+     * the cancellation is written to the schedule store.
+     */
+    @Override
+    public CompletionStage<Boolean> cancelAsync(final String scheduleId) {
+        if (schedules.get(scheduleId) == null && recovery.getCount() > 0) {
+            return super.cancelAsync(scheduleId);
+        }
+        try {
+            final boolean cancelled = cancel(scheduleId, false);
+            return cancelled ? committed(Boolean.TRUE) : CompletableFuture.completedFuture(Boolean.FALSE);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean cancel(final String scheduleId, final boolean await) {
         boolean result = false;
-        final JobSchedule jobSchedule = schedules.get(scheduleId);
+        final JobSchedule jobSchedule = get(scheduleId);
         if (jobSchedule != null) {
             final JobSchedule.Status status = jobSchedule.getStatus();
             if (status == JobSchedule.Status.DONE || status == JobSchedule.Status.CANCELLED) {
@@ -135,8 +584,10 @@ public class ExecutorSchedulerImpl extends JobScheduler {
             final Future<?> future = jobSchedule.getFuture();
             if (future != null) {
                 result = future.cancel(true);
-                if (result) {
-                    jobSchedule.setStatus(JobSchedule.Status.CANCELLED);
+                if (result && index.setStatus(jobSchedule, null, JobSchedule.Status.CANCELLED)) {
+                    getMetrics().cancelled(jobSchedule);
+                    publish(scheduleId, JobScheduleEvent.Type.CANCELLED, 0, null);
+                    write(jobSchedule, await);
                 }
             }
         }
@@ -145,31 +596,507 @@ public class ExecutorSchedulerImpl extends JobScheduler {
 
     @Override
     public void delete(final String scheduleId) {
-        super.delete(scheduleId);
-        schedules.remove(scheduleId);
+        deleteAll(Collections.singletonList(scheduleId));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation removes all job schedules from the schedule store and from
+     * the firing guard, if any, in batches.
+     */
     @Override
-    public JobSchedule getJobSchedule(final String scheduleId) {
-        final JobSchedule jobSchedule = schedules.get(scheduleId);
-        if (jobSchedule != null) {
-            final JobSchedule.Status status = jobSchedule.getStatus();
-            if (status != JobSchedule.Status.CANCELLED && status != JobSchedule.Status.DONE) {
-                final Future<?> future = jobSchedule.getFuture();
-                if (future != null) {
-                    if (future.isCancelled()) {
-                        jobSchedule.setStatus(JobSchedule.Status.CANCELLED);
-                    } else if (future.isDone()) {
-                        jobSchedule.setStatus(JobSchedule.Status.DONE);
+    public void deleteAll(final Collection<String> scheduleIds) {
+        final List<JobSchedule> toDelete = new ArrayList<JobSchedule>(scheduleIds.size());
+        for (final String scheduleId : scheduleIds) {
+            cancel(scheduleId, false);
+            final JobSchedule jobSchedule = get(scheduleId);
+            if (jobSchedule != null) {
+                toDelete.add(jobSchedule);
+            }
+        }
+        remove(toDelete, false, false);
+        commitWrites();
+    }
+
+    /**
+     * Removes job schedules from this job scheduler, its schedule store and its firing
+     * guard, if any, without waiting for the schedule store.
+     *
+     * @param jobSchedules the job schedules to remove
+     * @param finishedOnly whether to keep the job schedules that have been re-armed since
+     *                     they were found finished
+     * @param archive whether to keep the removed job schedules in the archive
+     */
+    private void remove(final List<JobSchedule> jobSchedules, final boolean finishedOnly, final boolean archive) {
+        final List<String> removed = new ArrayList<String>(jobSchedules.size());
+        for (final JobSchedule jobSchedule : jobSchedules) {
+            final String scheduleId = jobSchedule.getId();
+            final boolean remove;
+            synchronized (jobSchedule) {
+                final JobSchedule.Status status = jobSchedule.getStatus();
+                remove = (!finishedOnly || status == JobSchedule.Status.CANCELLED || status == JobSchedule.Status.DONE)
+                        && schedules.remove(jobSchedule);
+            }
+            if (remove) {
+                index.remove(jobSchedule);
+                if (storeWriter != null && jobSchedule.getJobScheduleConfig().isPersistent()) {
+                    storeWriter.remove(scheduleId, false);
+                }
+                getAdmissionController().forget(scheduleId);
+                removed.add(scheduleId);
+                if (archive) {
+                    synchronized (this.archive) {
+                        this.archive.put(scheduleId, new ArchivedJobSchedule(jobSchedule));
                     }
                 }
             }
         }
+        final FiringGuard guard = firingGuard;
+        if (guard != null && !removed.isEmpty()) {
+            guard.remove(removed);
+        }
+    }
+
+    /**
+     * Gets the retention config of this job scheduler.
+     *
+     * @return the retention config, or null if finished job schedules are kept until deleted
+     * @since 2.1.1
+     */
+    public RetentionConfig getRetentionConfig() {
+        return retentionConfig;
+    }
+
+    /**
+     * Sets the retention config of this job scheduler, and starts sweeping finished
+     * job schedules with it, i.e., those that are cancelled or done. The sweeper runs
+     * on the scheduled executor service. By default, finished job schedules are kept
+     * until they are deleted, so job schedules that finish regularly, e.g., those
+     * created by {@link SchedulingJobListener} after each job execution, should be
+     * swept with a retention config.
+     *
+     * @param retentionConfig the retention config, or null to keep finished job schedules until deleted
+     * @since 2.1.1
+     */
+    public synchronized void setRetentionConfig(final RetentionConfig retentionConfig) {
+        if (sweeper != null) {
+            sweeper.cancel(false);
+            sweeper = null;
+        }
+        this.retentionConfig = retentionConfig;
+        if (retentionConfig != null) {
+            sweeper = executorService.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        evictFinished();
+                    } catch (final Throwable e) {
+                        ScheduleExecutorLogger.LOGGER.failToEvictJobSchedules(e);
+                    }
+                }
+            }, retentionConfig.sweepIntervalNanos, retentionConfig.sweepIntervalNanos, TimeUnit.NANOSECONDS);
+        }
+        synchronized (archive) {
+            if (retentionConfig == null) {
+                archive.clear();
+            } else {
+                // trims the archive to the new archive size
+                final Iterator<String> it = archive.keySet().iterator();
+                for (int excess = archive.size() - retentionConfig.archiveSize; excess > 0; excess--) {
+                    it.next();
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the job schedules evicted by the retention config and kept in the archive,
+     * oldest first.
+     *
+     * @return the archived job schedules
+     * @since 2.1.1
+     */
+    public List<ArchivedJobSchedule> getArchivedJobSchedules() {
+        synchronized (archive) {
+            return new ArrayList<ArchivedJobSchedule>(archive.values());
+        }
+    }
+
+    /**
+     * Gets an archived job schedule by its id.
+     *
+     * @param scheduleId the job schedule id
+     * @return the archived job schedule, or null if not found
+     * @since 2.1.1
+     */
+    public ArchivedJobSchedule getArchivedJobSchedule(final String scheduleId) {
+        synchronized (archive) {
+            return archive.get(scheduleId);
+        }
+    }
+
+    /**
+     * Evicts the finished job schedules that the retention config does not keep:
+     * those that finished before the max age, and the oldest ones in excess of the max count.
+     * A done job schedule of a chain is kept while its last job execution is running,
+     * since that job execution may re-arm it.
+     *
+     * @return the number of evicted job schedules
+     */
+    int evictFinished() {
+        final RetentionConfig config = retentionConfig;
+        if (config == null) {
+            return 0;
+        }
+        final List<JobSchedule> finished = index.getFinished();
+        final long finishedAfter = config.maxAgeMillis > 0 ?
+                System.currentTimeMillis() - config.maxAgeMillis : Long.MIN_VALUE;
+        int excess = finished.size() - config.getMaxCount();
+        final List<JobSchedule> evicted = new ArrayList<JobSchedule>();
+        for (final JobSchedule jobSchedule : finished) {
+            if ((excess > 0 || jobSchedule.getFinishTime() < finishedAfter) && !isChainRunning(jobSchedule)) {
+                evicted.add(jobSchedule);
+                excess--;
+            }
+        }
+        remove(evicted, true, config.archiveSize > 0);
+        return evicted.size();
+    }
+
+    private static boolean isChainRunning(final JobSchedule jobSchedule) {
+        return jobSchedule.isChain() && jobSchedule.getStatus() == JobSchedule.Status.DONE
+                && AdmissionController.isRunning(jobSchedule.getLastJobExecutionId());
+    }
+
+    /**
+     * Gets a stage completed with the result of an asynchronous operation once its changes
+     * are written to the schedule store, with {@link ScheduleStoreConfig.Durability#COMMIT}.
+     * Dependent stages run on the async executor rather than on the writer thread.
+     *
+     * @param result the result of the operation
+     * @return a stage completed with {@code result}
+     */
+    private <T> CompletionStage<T> committed(final T result) {
+        if (commit && storeWriter != null) {
+            return storeWriter.commitAsync().thenApplyAsync(v -> result, getAsyncExecutor());
+        }
+        return CompletableFuture.completedFuture(result);
+    }
+
+    /**
+     * Waits for the changes queued to the schedule store to be written,
+     * with {@link ScheduleStoreConfig.Durability#COMMIT}.
+     */
+    private void commitWrites() {
+        if (commit && storeWriter != null) {
+            storeWriter.commit();
+        }
+    }
+
+    @Override
+    public JobSchedule getJobSchedule(final String scheduleId) {
+        return get(scheduleId);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation gets the job schedule in the calling thread, unless it is
+     * waiting to be recovered from the schedule store.
+     */
+    @Override
+    public CompletionStage<JobSchedule> getJobScheduleAsync(final String scheduleId) {
+        if (schedules.get(scheduleId) == null && recovery.getCount() > 0) {
+            return super.getJobScheduleAsync(scheduleId);
+        }
+        return CompletableFuture.completedFuture(getJobSchedule(scheduleId));
+    }
+
+    /**
+     * Marks a job schedule as done when it has finished all its runs, unless
+     * it has been cancelled.
+     *
+     * @param jobSchedule the job schedule that is done
+     */
+    void done(final JobSchedule jobSchedule) {
+        if (index.setStatus(jobSchedule, JobSchedule.Status.SCHEDULED, JobSchedule.Status.DONE)) {
+            publish(jobSchedule.getId(), JobScheduleEvent.Type.DONE, 0, null);
+            changed(jobSchedule);
+        }
+    }
+
+    /**
+     * Marks a job schedule as done when the task of a generation has finished all its runs,
+     * unless the job schedule has been cancelled, or re-armed with a newer task since.
+     *
+     * @param jobSchedule the job schedule that is done
+     * @param generation the generation of the job schedule the task was armed with
+     */
+    void done(final JobSchedule jobSchedule, final int generation) {
+        final boolean done;
+        synchronized (jobSchedule) {
+            done = jobSchedule.getGeneration() == generation
+                    && index.setStatus(jobSchedule, JobSchedule.Status.SCHEDULED, JobSchedule.Status.DONE);
+        }
+        if (done) {
+            publish(jobSchedule.getId(), JobScheduleEvent.Type.DONE, 0, null);
+            changed(jobSchedule);
+        }
+    }
+
+    /**
+     * Writes a job schedule changed by its runs to the schedule store in the background,
+     * if it is persistent.
+     *
+     * @param jobSchedule the changed job schedule
+     */
+    void changed(final JobSchedule jobSchedule) {
+        write(jobSchedule, false);
+    }
+
+    /**
+     * Writes a new or changed job schedule to the schedule store, if it is persistent.
+     *
+     * @param jobSchedule the new or changed job schedule
+     * @param await whether to wait until the job schedule is written
+     */
+    private void write(final JobSchedule jobSchedule, final boolean await) {
+        if (storeWriter != null && jobSchedule.getJobScheduleConfig().isPersistent()) {
+            storeWriter.store(jobSchedule, await);
+        }
+    }
+
+    /**
+     * Unregisters the metrics MBean, if registered, and writes all pending changes
+     * to the schedule store, if any, and closes it.
+     * The scheduled executor service and the launch executor are not shut down,
+     * since they may be managed by the application server or shared.
+     *
+     * @since 2.1.1
+     */
+    @Override
+    public void close() {
+        unregisterMetricsMBean();
+        closeJobScheduleEvents();
+        synchronized (this) {
+            if (sweeper != null) {
+                sweeper.cancel(false);
+                sweeper = null;
+            }
+        }
+        if (store != null) {
+            storeWriter.close();
+            store.close();
+        }
+    }
+
+    /**
+     * Waits until job schedules have been recovered from the schedule store.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void awaitRecovery() throws InterruptedException {
+        recovery.await();
+    }
+
+    /**
+     * Waits for the recovery from the schedule store, if in progress, before generating
+     * job schedule ids, since the stored job schedules not yet recovered have not
+     * reserved their ids.
+     */
+    private void awaitRecoveryOfIds() {
+        if (recovery.getCount() > 0) {
+            try {
+                recovery.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw ScheduleExecutorMessages.MESSAGES.interruptedRecovery(e, store);
+            }
+        }
+    }
+
+    /**
+     * Gets a job schedule by id, waiting for the recovery from the schedule store
+     * if the job schedule is not found and the recovery is in progress.
+     *
+     * @param scheduleId the job schedule id
+     * @return the job schedule, or null if not found
+     */
+    private JobSchedule get(final String scheduleId) {
+        JobSchedule jobSchedule = schedules.get(scheduleId);
+        if (jobSchedule == null && recovery.getCount() > 0) {
+            try {
+                recovery.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            jobSchedule = schedules.get(scheduleId);
+        }
         return jobSchedule;
     }
 
+    /**
+     * Makes sure that the id of an existing job schedule is not generated again.
+     *
+     * @param jobSchedule a job schedule recovered or found in the map specified in the constructor
+     */
+    private void reserveId(final JobSchedule jobSchedule) {
+        final long id = JobScheduleIds.parse(jobSchedule.getId());
+        if (id > 0) {
+            ids.advancePast(id);
+        }
+    }
+
+    /**
+     * Loads all job schedules from the schedule store, and resumes those still scheduled.
+     */
+    private void recover() {
+        final int[] count = {0};
+        try {
+            store.load(new Consumer<JobSchedule>() {
+                @Override
+                public void accept(final JobSchedule jobSchedule) {
+                    if (!schedules.addIfAbsent(jobSchedule)) {
+                        return;
+                    }
+                    reserveId(jobSchedule);
+                    index.add(jobSchedule);
+                    if (jobSchedule.getStatus() == JobSchedule.Status.SCHEDULED) {
+                        resume(jobSchedule);
+                    }
+                    count[0]++;
+                }
+            });
+            ScheduleExecutorLogger.LOGGER.recoveredJobSchedules(count[0], store);
+        } catch (final Throwable e) {
+            ScheduleExecutorLogger.LOGGER.failToRecoverJobSchedules(e, store);
+        } finally {
+            recovery.countDown();
+        }
+    }
+
+    /**
+     * Resumes a recovered job schedule at its next planned fire time, and handles
+     * the firings missed while the application was down with its misfire policy.
+     *
+     * @param jobSchedule the recovered job schedule
+     */
+    private void resume(final JobSchedule jobSchedule) {
+        final JobScheduleConfig config = jobSchedule.getJobScheduleConfig();
+        if (config.scheduleExpression != null && config.initialDelay <= 0) {
+            arm(jobSchedule, -1);
+            return;
+        }
+        final TimeUnit unit = config.getTimeUnit();
+        final long first = jobSchedule.getCreateTime().getTime() + unit.toMillis(config.initialDelay);
+        final long now = System.currentTimeMillis();
+        if (now <= first) {
+            arm(jobSchedule, TimeUnit.MILLISECONDS.toNanos(first - now));
+            return;
+        }
+
+        final long period = unit.toMillis(config.interval > 0 ? config.interval : config.afterDelay);
+        if (period <= 0) {
+            // an overdue single-action job schedule
+            if (config.getMisfirePolicy() == MisfirePolicy.SKIP) {
+                getMetrics().misfired(jobSchedule, MisfirePolicy.SKIP, 1);
+                done(jobSchedule);
+            } else {
+                arm(jobSchedule, 0);
+            }
+            return;
+        }
+
+        // fire times are first + k * period; find those after the last firing and not after now
+        final long lastFireTime = jobSchedule.getLastFireTime();
+        final long from = lastFireTime < first ? 0 : (lastFireTime - first + period / 2) / period + 1;
+        final long to = (now - first) / period;
+        final JobScheduleTask task = arm(jobSchedule,
+                TimeUnit.MILLISECONDS.toNanos(first + (to + 1) * period - now));
+        final long missed = to - from + 1;
+        if (missed > 0) {
+            executorService.execute(new Runnable() {
+                @Override
+                public void run() {
+                    task.catchUp(missed, first + to * period, period);
+                }
+            });
+        }
+    }
+
+    /**
+     * Gets the firing guard of this job scheduler.
+     *
+     * @return the firing guard, or null if firings are not shared with other job schedulers
+     *
+     * @since 2.1.1
+     */
+    public FiringGuard getFiringGuard() {
+        return firingGuard;
+    }
+
+    /**
+     * Sets the firing guard of this job scheduler, e.g., {@link JdbcFiringGuard}, which
+     * claims each firing before its job execution is started or restarted. When several
+     * job schedulers share the same job schedules, e.g., recovered from a shared
+     * {@link ScheduleStore}, only the job scheduler that claims a firing launches it.
+     *
+     * @param firingGuard the firing guard, or null to launch all firings
+     *
+     * @since 2.1.1
+     */
+    public void setFiringGuard(final FiringGuard firingGuard) {
+        this.firingGuard = firingGuard;
+    }
+
+    /**
+     * Gets the statistics of the tick stage, i.e., the scheduled executor service
+     * detecting matured job schedules. The lag is measured from the planned firing
+     * time of each job schedule.
+     *
+     * @return statistics of the tick stage
+     *
+     * @since 2.1.1
+     */
+    public StageStatistics getTickStageStatistics() {
+        final int queueDepth;
+        if (executorService instanceof ThreadPoolExecutor) {
+            queueDepth = ((ThreadPoolExecutor) executorService).getQueue().size();
+        } else if (executorService instanceof HierarchicalTimingWheel) {
+            queueDepth = ((HierarchicalTimingWheel) executorService).getPendingCount();
+        } else {
+            queueDepth = -1;
+        }
+        return tickStage.snapshot(queueDepth);
+    }
+
+    /**
+     * Gets the statistics of the launch stage, i.e., the launch executor
+     * starting or restarting job executions. The lag is measured from the time
+     * the tick stage hands a matured job schedule over to the launch executor.
+     * If no launch executor is configured, the returned statistics are empty.
+     *
+     * @return statistics of the launch stage
+     *
+     * @since 2.1.1
+     */
+    public StageStatistics getLaunchStageStatistics() {
+        final int queueDepth;
+        if (launchExecutor == null) {
+            queueDepth = 0;
+        } else if (launchExecutor instanceof ThreadPoolExecutor) {
+            queueDepth = ((ThreadPoolExecutor) launchExecutor).getQueue().size();
+        } else {
+            queueDepth = -1;
+        }
+        return launchStage.snapshot(queueDepth);
+    }
+
     @Override
     public String toString() {
-        return  getClass().getName() + "{executorService=" + executorService + '}';
+        return  getClass().getName() + "{executorService=" + executorService +
+                ", launchExecutor=" + launchExecutor + ", store=" + store + '}';
     }
 }
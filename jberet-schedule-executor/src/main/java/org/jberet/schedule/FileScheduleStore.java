@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.jberet.schedule._private.ScheduleExecutorLogger;
+import org.jberet.schedule._private.ScheduleExecutorMessages;
+
+/**
+ * {@link ScheduleStore} implementation that appends every stored or removed job
+ * schedule as a record to a local log file. Each batch is written with a single
+ * write, and by default forced to the storage device.
+ * <p>
+ * Loading replays the log, keeping the latest record of each job schedule in
+ * creation order. A record partially written when the application stopped is
+ * discarded, and the log is truncated after the last complete record. If most
+ * records in the log are obsolete, when loading or after appending a batch, the
+ * log is compacted into a new file with one record per stored job schedule.
+ * <p>
+ * The log file must not be shared by multiple job schedulers.
+ *
+ * @since 2.1.1
+ */
+public class FileScheduleStore implements ScheduleStore {
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+
+    /**
+     * The log is compacted when it has more than this many obsolete records,
+     * and more obsolete records than live ones.
+     */
+    private static final int COMPACTION_THRESHOLD = 1024;
+
+    private final Path file;
+
+    private final boolean sync;
+
+    private FileChannel channel;
+
+    /**
+     * Ids of the job schedules with a live record in the log.
+     */
+    private final Set<String> liveIds = new HashSet<String>();
+
+    /**
+     * Number of records in the log.
+     */
+    private int records;
+
+    /**
+     * Constructs {@code FileScheduleStore} with the log file, which is synced to
+     * the storage device after each batch.
+     *
+     * @param file the log file, which is created if it does not exist
+     */
+    public FileScheduleStore(final Path file) {
+        this(file, true);
+    }
+
+    /**
+     * Constructs {@code FileScheduleStore} with the log file, specifying whether
+     * to sync the log file to the storage device after each batch.
+     *
+     * @param file the log file, which is created if it does not exist
+     * @param sync true to sync after each batch, so that stored job schedules survive
+     *             a crash of the operating system; false to only write to the file
+     */
+    public FileScheduleStore(final Path file, final boolean sync) {
+        this.file = file;
+        this.sync = sync;
+    }
+
+    @Override
+    public synchronized void store(final Collection<JobSchedule> jobSchedules) {
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(jobSchedules.size() * 512);
+            final DataOutputStream out = new DataOutputStream(bytes);
+            for (final JobSchedule jobSchedule : jobSchedules) {
+                writeRecord(out, PUT, jobSchedule.getId(), ScheduleStores.toBytes(jobSchedule));
+            }
+            append(bytes);
+            for (final JobSchedule jobSchedule : jobSchedules) {
+                liveIds.add(jobSchedule.getId());
+            }
+            records += jobSchedules.size();
+            compactIfObsolete();
+        } catch (final IOException e) {
+            throw ScheduleExecutorMessages.MESSAGES.failToAccessScheduleStore(e, this);
+        }
+    }
+
+    @Override
+    public synchronized void remove(final Collection<String> scheduleIds) {
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(scheduleIds.size() * 32);
+            final DataOutputStream out = new DataOutputStream(bytes);
+            for (final String id : scheduleIds) {
+                writeRecord(out, REMOVE, id, null);
+            }
+            append(bytes);
+            liveIds.removeAll(scheduleIds);
+            records += scheduleIds.size();
+            compactIfObsolete();
+        } catch (final IOException e) {
+            throw ScheduleExecutorMessages.MESSAGES.failToAccessScheduleStore(e, this);
+        }
+    }
+
+    @Override
+    public synchronized void load(final Consumer<JobSchedule> consumer) {
+        final Map<String, byte[]> live = new LinkedHashMap<String, byte[]>();
+        try {
+            closeChannel();
+            liveIds.clear();
+            records = 0;
+            if (!Files.exists(file)) {
+                return;
+            }
+            final long fileSize = Files.size(file);
+            final long validLength = readLog(live, fileSize);
+            liveIds.addAll(live.keySet());
+            if (isMostlyObsolete()) {
+                compact(live);
+            } else if (validLength < fileSize) {
+                try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    ch.truncate(validLength);
+                    ch.force(true);
+                }
+            }
+        } catch (final IOException e) {
+            throw ScheduleExecutorMessages.MESSAGES.failToAccessScheduleStore(e, this);
+        }
+
+        for (final Map.Entry<String, byte[]> e : live.entrySet()) {
+            final JobSchedule jobSchedule;
+            try {
+                jobSchedule = ScheduleStores.fromBytes(e.getValue());
+            } catch (final Exception ex) {
+                ScheduleExecutorLogger.LOGGER.failToRecoverJobSchedule(ex, e.getKey());
+                continue;
+            }
+            consumer.accept(jobSchedule);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            closeChannel();
+        } catch (final IOException e) {
+            throw ScheduleExecutorMessages.MESSAGES.failToAccessScheduleStore(e, this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + "{file=" + file + '}';
+    }
+
+    private void append(final ByteArrayOutputStream bytes) throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        write(channel, bytes);
+        if (sync) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Reads the records of the log, keeping the latest record of each live job schedule,
+     * and counting the records.
+     *
+     * @param live the map to put the data of live job schedules in, by id
+     * @param fileSize the size of the log file
+     * @return the length of the log up to the end of the last complete record
+     * @throws IOException if the log cannot be read
+     */
+    private long readLog(final Map<String, byte[]> live, final long fileSize) throws IOException {
+        long validLength = 0;
+        records = 0;
+        try (InputStream is = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(is, 64 * 1024))) {
+            while (true) {
+                final byte op;
+                final String id;
+                byte[] data = null;
+                try {
+                    op = in.readByte();
+                    final int idLength = in.readInt();
+                    if (idLength < 0 || idLength > fileSize - validLength) {
+                        break;
+                    }
+                    final byte[] idBytes = new byte[idLength];
+                    in.readFully(idBytes);
+                    id = new String(idBytes, StandardCharsets.UTF_8);
+                    if (op == PUT) {
+                        final int dataLength = in.readInt();
+                        if (dataLength < 0 || dataLength > fileSize - validLength) {
+                            break;
+                        }
+                        data = new byte[dataLength];
+                        in.readFully(data);
+                    } else if (op != REMOVE) {
+                        break;
+                    }
+                    validLength += 1 + 4 + idBytes.length + (data == null ? 0 : 4 + data.length);
+                } catch (final EOFException e) {
+                    break;
+                }
+                records++;
+                if (data != null) {
+                    live.put(id, data);
+                } else {
+                    live.remove(id);
+                }
+            }
+        }
+        return validLength;
+    }
+
+    private boolean isMostlyObsolete() {
+        final int obsolete = records - liveIds.size();
+        return obsolete > COMPACTION_THRESHOLD && obsolete > liveIds.size();
+    }
+
+    /**
+     * Compacts the log after appending, if most of its records are obsolete, e.g., when
+     * a repeating job schedule is stored after each of its launches. The live records
+     * are read back from the log.
+     */
+    private void compactIfObsolete() throws IOException {
+        if (!isMostlyObsolete()) {
+            return;
+        }
+        closeChannel();
+        final Map<String, byte[]> live = new LinkedHashMap<String, byte[]>();
+        readLog(live, Files.size(file));
+        liveIds.clear();
+        liveIds.addAll(live.keySet());
+        compact(live);
+    }
+
+    private void compact(final Map<String, byte[]> live) throws IOException {
+        final Path temp = file.resolveSibling(file.getFileName() + ".compact");
+        try (FileChannel ch = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+            final DataOutputStream out = new DataOutputStream(bytes);
+            for (final Map.Entry<String, byte[]> e : live.entrySet()) {
+                writeRecord(out, PUT, e.getKey(), e.getValue());
+                if (bytes.size() >= 64 * 1024) {
+                    write(ch, bytes);
+                    bytes.reset();
+                }
+            }
+            write(ch, bytes);
+            ch.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        records = live.size();
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private static void write(final FileChannel ch, final ByteArrayOutputStream bytes) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        while (buffer.hasRemaining()) {
+            ch.write(buffer);
+        }
+    }
+
+    private static void writeRecord(final DataOutputStream out, final byte op, final String id, final byte[] data)
+            throws IOException {
+        final byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        out.writeByte(op);
+        out.writeInt(idBytes.length);
+        out.write(idBytes);
+        if (data != null) {
+            out.writeInt(data.length);
+            out.write(data);
+        }
+    }
+}
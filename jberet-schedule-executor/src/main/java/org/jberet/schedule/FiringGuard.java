@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.Collection;
+
+/**
+ * Service provider interface for claiming the firings of job schedules shared by
+ * multiple job schedulers, e.g., on several nodes recovering the same job schedules
+ * from a shared {@link ScheduleStore}, so that each firing starts only one job execution.
+ * <p>
+ * A firing is identified by its job schedule id and its planned fire time, which is
+ * the same on all nodes. The planned fire time also fences off stale claims: a claim
+ * only succeeds if it is later than the last claimed fire time of the job schedule,
+ * so a node that falls behind, e.g., after a long pause, cannot fire again a firing
+ * already claimed by another node.
+ *
+ * @see ExecutorSchedulerImpl#setFiringGuard(FiringGuard)
+ * @see JdbcFiringGuard
+ * @since 2.1.1
+ */
+public interface FiringGuard {
+    /**
+     * Claims a firing of a job schedule. The claim succeeds if the last claimed fire time
+     * of the job schedule is at or before {@code fireTime - spacing}, or if the job
+     * schedule has no claimed firing.
+     *
+     * @param scheduleId the job schedule id
+     * @param fireTime the planned fire time, in milliseconds since the epoch
+     * @param spacing the min time between two claimed firings of the job schedule in
+     *                milliseconds, at least 1; greater for job schedules whose fire times
+     *                differ slightly from node to node
+     * @return true if the firing is claimed by the caller; false if it has been claimed by another
+     * @throws jakarta.batch.operations.BatchRuntimeException if failed to access the claims
+     */
+    boolean claim(String scheduleId, long fireTime, long spacing);
+
+    /**
+     * Removes the claims of job schedules, e.g., after they are deleted.
+     *
+     * @param scheduleIds ids of the job schedules
+     * @throws jakarta.batch.operations.BatchRuntimeException if failed to access the claims
+     */
+    void remove(Collection<String> scheduleIds);
+}
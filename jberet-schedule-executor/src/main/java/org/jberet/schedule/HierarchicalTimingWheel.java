@@ -0,0 +1,525 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@code ScheduledExecutorService} backed by a hierarchical timing wheel.
+ * <p>
+ * Each level of the wheel has {@value #WHEEL_SIZE} slots, and each slot of level
+ * {@code n} covers {@code WHEEL_SIZE^n} ticks. A task is placed in the lowest
+ * level whose span covers its delay, and is cascaded down to lower levels as
+ * the wheel turns. Both insertion and cancellation are constant-time linked
+ * list operations.
+ * <p>
+ * Callers never touch the wheel directly: new and cancelled tasks are handed
+ * over through lock-free queues and applied by the single tick thread, so
+ * {@code schedule} and {@code cancel} never contend on a shared heap lock.
+ * Expired tasks are run on a separate task executor, so a slow task does not
+ * delay the tick thread.
+ *
+ * @see TimingWheelSchedulerImpl
+ * @since 2.1.1
+ */
+final class HierarchicalTimingWheel extends AbstractExecutorService implements ScheduledExecutorService {
+    /**
+     * Number of bits used to index the slots of one wheel level.
+     */
+    private static final int WHEEL_BITS = 6;
+
+    /**
+     * Number of slots in each wheel level.
+     */
+    static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static final int RUNNING = 0;
+    private static final int SHUTDOWN = 1;
+    private static final int TERMINATED = 2;
+
+    private static final AtomicInteger wheelCount = new AtomicInteger(1);
+
+    /**
+     * Duration of one tick in nanoseconds.
+     */
+    private final long tickNanos;
+
+    /**
+     * The {@code System.nanoTime()} at which tick 0 started.
+     */
+    private final long startNanos;
+
+    /**
+     * Wheel slots, indexed by level and slot. Only accessed by the tick thread.
+     */
+    private final Bucket[][] wheels;
+
+    /**
+     * Tasks submitted but not yet placed into the wheel.
+     */
+    private final Queue<WheelTask<?>> pendingAdds = new ConcurrentLinkedQueue<WheelTask<?>>();
+
+    /**
+     * Tasks cancelled but not yet removed from the wheel.
+     */
+    private final Queue<WheelTask<?>> pendingCancels = new ConcurrentLinkedQueue<WheelTask<?>>();
+
+    /**
+     * Number of tasks waiting in the wheel or in {@link #pendingAdds}.
+     */
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    /**
+     * Executor that runs expired tasks.
+     */
+    private final ExecutorService taskExecutor;
+
+    /**
+     * Whether {@link #taskExecutor} was created by this wheel, and is shut down with it.
+     */
+    private final boolean ownsTaskExecutor;
+
+    private final Thread tickThread;
+
+    private final CountDownLatch tickThreadExited = new CountDownLatch(1);
+
+    private volatile int state = RUNNING;
+
+    /**
+     * The last tick processed. Only accessed by the tick thread.
+     */
+    private long currentTick;
+
+    /**
+     * Creates a timing wheel.
+     *
+     * @param tickDuration duration of one tick
+     * @param tickUnit time unit of {@code tickDuration}
+     * @param levels number of wheel levels; delays beyond {@code WHEEL_SIZE^levels}
+     *               ticks are re-cascaded from the top level
+     * @param taskExecutor executor to run expired tasks, or null to use a fixed thread pool
+     *                     sized to the number of available processors, which is shut down
+     *                     with this wheel; a specified executor is not shut down by this wheel
+     */
+    HierarchicalTimingWheel(final long tickDuration, final TimeUnit tickUnit, final int levels,
+                            final ExecutorService taskExecutor) {
+        if (tickDuration <= 0 || levels <= 0) {
+            throw new IllegalArgumentException("tickDuration: " + tickDuration + ", levels: " + levels);
+        }
+        this.tickNanos = tickUnit.toNanos(tickDuration);
+        this.wheels = new Bucket[levels][WHEEL_SIZE];
+        for (final Bucket[] wheel : wheels) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheel[i] = new Bucket();
+            }
+        }
+        this.ownsTaskExecutor = taskExecutor == null;
+        this.taskExecutor = ownsTaskExecutor ?
+                Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()) : taskExecutor;
+        this.startNanos = System.nanoTime();
+        this.tickThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                runTicks();
+            }
+        }, "jberet-timing-wheel-" + wheelCount.getAndIncrement());
+        tickThread.setDaemon(true);
+        tickThread.start();
+    }
+
+    /**
+     * Gets the number of tasks waiting to expire.
+     *
+     * @return number of pending tasks
+     */
+    int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+        return enqueue(new WheelTask<Void>(Executors.<Void>callable(command, null), triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit) {
+        return enqueue(new WheelTask<V>(callable, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command, final long initialDelay,
+                                                  final long period, final TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period: " + period);
+        }
+        return enqueue(new WheelTask<Void>(Executors.<Void>callable(command, null),
+                triggerTime(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command, final long initialDelay,
+                                                     final long delay, final TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay: " + delay);
+        }
+        return enqueue(new WheelTask<Void>(Executors.<Void>callable(command, null),
+                triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        schedule(command, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Tasks still waiting in the wheel are cancelled, and tasks already handed
+     * to the task executor are allowed to complete. The task executor is shut down
+     * only if it was created by this wheel.
+     */
+    @Override
+    public void shutdown() {
+        if (state == RUNNING) {
+            state = SHUTDOWN;
+            LockSupport.unpark(tickThread);
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        try {
+            tickThreadExited.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return ownsTaskExecutor ? taskExecutor.shutdownNow() : Collections.<Runnable>emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return state != RUNNING;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return state == TERMINATED && (!ownsTaskExecutor || taskExecutor.isTerminated());
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        if (!tickThreadExited.await(timeout, unit)) {
+            return false;
+        }
+        return !ownsTaskExecutor || taskExecutor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + "{tickNanos=" + tickNanos + ", levels=" + wheels.length +
+                ", pending=" + pendingCount.get() + ", taskExecutor=" + taskExecutor + '}';
+    }
+
+    private static long triggerTime(final long delay, final TimeUnit unit) {
+        return System.nanoTime() + unit.toNanos(delay < 0 ? 0 : delay);
+    }
+
+    private <V> WheelTask<V> enqueue(final WheelTask<V> task) {
+        if (state != RUNNING) {
+            throw new RejectedExecutionException(toString());
+        }
+        pendingCount.incrementAndGet();
+        pendingAdds.offer(task);
+        if (state != RUNNING) {
+            // raced with shutdown, and the tick thread may no longer drain pendingAdds
+            task.cancel(false);
+        }
+        return task;
+    }
+
+    /**
+     * Main loop of the tick thread.
+     */
+    private void runTicks() {
+        try {
+            while (state == RUNNING) {
+                final long targetTick = (System.nanoTime() - startNanos) / tickNanos;
+                while (currentTick < targetTick) {
+                    currentTick++;
+                    processCancels();
+                    processAdds();
+                    cascade();
+                    expire(wheels[0][(int) (currentTick & WHEEL_MASK)]);
+                }
+                final long sleepNanos = startNanos + (currentTick + 1) * tickNanos - System.nanoTime();
+                if (sleepNanos > 0) {
+                    LockSupport.parkNanos(this, sleepNanos);
+                }
+            }
+        } finally {
+            cancelAll();
+            state = TERMINATED;
+            if (ownsTaskExecutor) {
+                taskExecutor.shutdown();
+            }
+            tickThreadExited.countDown();
+        }
+    }
+
+    private void processCancels() {
+        WheelTask<?> task;
+        while ((task = pendingCancels.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+                pendingCount.decrementAndGet();
+            }
+        }
+    }
+
+    private void processAdds() {
+        WheelTask<?> task;
+        while ((task = pendingAdds.poll()) != null) {
+            if (task.isCancelled()) {
+                pendingCount.decrementAndGet();
+            } else {
+                task.deadlineTick = toTick(task.deadlineNanos);
+                place(task);
+            }
+        }
+    }
+
+    /**
+     * Cascades the slots of upper levels whose turn has come, from the top level down,
+     * so that cascaded tasks can move down more than one level in the same tick.
+     */
+    private void cascade() {
+        for (int level = wheels.length - 1; level > 0; level--) {
+            final int shift = WHEEL_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) == 0) {
+                WheelTask<?> task = wheels[level][(int) ((currentTick >>> shift) & WHEEL_MASK)].clear();
+                while (task != null) {
+                    final WheelTask<?> next = task.next;
+                    task.next = null;
+                    place(task);
+                    task = next;
+                }
+            }
+        }
+    }
+
+    private void expire(final Bucket bucket) {
+        WheelTask<?> task = bucket.clear();
+        while (task != null) {
+            final WheelTask<?> next = task.next;
+            task.next = null;
+            if (task.deadlineTick > currentTick) {
+                // overflowed a single-level wheel, and needs another round
+                place(task);
+            } else {
+                dispatch(task);
+            }
+            task = next;
+        }
+    }
+
+    /**
+     * Places the task into the lowest wheel level whose span covers its deadline.
+     * Tasks that are already due are dispatched immediately.
+     */
+    private void place(final WheelTask<?> task) {
+        final long delta = task.deadlineTick - currentTick;
+        if (delta <= 0) {
+            dispatch(task);
+            return;
+        }
+        int level = 0;
+        long span = WHEEL_SIZE;
+        while (delta >= span && level < wheels.length - 1) {
+            level++;
+            span <<= WHEEL_BITS;
+        }
+        final long tick = delta < span ? task.deadlineTick : currentTick + span - 1;
+        wheels[level][(int) ((tick >>> (WHEEL_BITS * level)) & WHEEL_MASK)].add(task);
+    }
+
+    private void dispatch(final WheelTask<?> task) {
+        pendingCount.decrementAndGet();
+        if (task.isCancelled()) {
+            return;
+        }
+        try {
+            taskExecutor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            task.cancel(false);
+        }
+    }
+
+    private void cancelAll() {
+        for (final Bucket[] wheel : wheels) {
+            for (final Bucket bucket : wheel) {
+                WheelTask<?> task = bucket.clear();
+                while (task != null) {
+                    final WheelTask<?> next = task.next;
+                    task.next = null;
+                    task.cancel(false);
+                    task = next;
+                }
+            }
+        }
+        WheelTask<?> task;
+        while ((task = pendingAdds.poll()) != null) {
+            task.cancel(false);
+        }
+        pendingCancels.clear();
+        pendingCount.set(0);
+    }
+
+    private long toTick(final long nanos) {
+        final long elapsed = nanos - startNanos;
+        return elapsed <= 0 ? 0 : (elapsed + tickNanos - 1) / tickNanos;
+    }
+
+    /**
+     * Re-submits a periodic task after it has run.
+     */
+    private void reschedule(final WheelTask<?> task) {
+        if (state != RUNNING) {
+            task.cancel(false);
+            return;
+        }
+        pendingCount.incrementAndGet();
+        pendingAdds.offer(task);
+    }
+
+    /**
+     * A doubly-linked list of tasks sharing the same wheel slot.
+     * Only accessed by the tick thread.
+     */
+    private static final class Bucket {
+        private WheelTask<?> head;
+
+        void add(final WheelTask<?> task) {
+            task.bucket = this;
+            task.prev = null;
+            task.next = head;
+            if (head != null) {
+                head.prev = task;
+            }
+            head = task;
+        }
+
+        void remove(final WheelTask<?> task) {
+            if (task.prev != null) {
+                task.prev.next = task.next;
+            } else {
+                head = task.next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            }
+            task.prev = task.next = null;
+            task.bucket = null;
+        }
+
+        /**
+         * Detaches all tasks from this bucket.
+         *
+         * @return the first detached task, linked to the rest through {@code next}
+         */
+        WheelTask<?> clear() {
+            final WheelTask<?> first = head;
+            for (WheelTask<?> t = first; t != null; t = t.next) {
+                t.bucket = null;
+                t.prev = null;
+            }
+            head = null;
+            return first;
+        }
+    }
+
+    /**
+     * A task scheduled in the wheel, which is also its own {@code ScheduledFuture}.
+     *
+     * @param <V> the result type
+     */
+    private final class WheelTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+        /**
+         * Positive for fixed-rate, negative for fixed-delay, and 0 for one-shot tasks.
+         */
+        private final long periodNanos;
+
+        private volatile long deadlineNanos;
+
+        // the following fields are only accessed by the tick thread
+        private long deadlineTick;
+        private Bucket bucket;
+        private WheelTask<?> prev;
+        private WheelTask<?> next;
+
+        WheelTask(final Callable<V> callable, final long deadlineNanos, final long periodNanos) {
+            super(callable);
+            this.deadlineNanos = deadlineNanos;
+            this.periodNanos = periodNanos;
+        }
+
+        @Override
+        public void run() {
+            if (periodNanos == 0) {
+                super.run();
+            } else if (runAndReset()) {
+                deadlineNanos = periodNanos > 0 ? deadlineNanos + periodNanos : System.nanoTime() - periodNanos;
+                reschedule(this);
+            }
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                pendingCancels.offer(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(final TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(final Delayed o) {
+            if (o == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.UUID;
+import javax.sql.DataSource;
+
+import org.jberet.schedule._private.ScheduleExecutorMessages;
+
+/**
+ * {@link FiringGuard} implementation that keeps the last claimed firing of each
+ * job schedule in a shared database table, one row per job schedule. The table
+ * is created if it does not exist.
+ * <p>
+ * A firing is claimed with a single conditional {@code UPDATE}, which is atomic
+ * in the database, so claims do not need locks or transactions spanning several
+ * statements. The row of a job schedule is inserted by its first claim, and a
+ * concurrent insert by another node fails on the primary key, which loses the claim.
+ * So a successful claim takes one statement, and a lost claim takes two.
+ *
+ * @since 2.1.1
+ */
+public class JdbcFiringGuard implements FiringGuard {
+    /**
+     * Default name of the table for job schedule firings.
+     */
+    public static final String DEFAULT_TABLE_NAME = "JBERET_SCHEDULE_FIRING";
+
+    private final DataSource dataSource;
+
+    /**
+     * Name of the table for job schedule firings.
+     */
+    protected final String tableName;
+
+    /**
+     * Name of this node, recorded as the owner of its claims.
+     */
+    private final String owner;
+
+    /**
+     * Constructs {@code JdbcFiringGuard} with the data source, the default table name,
+     * and a random owner name.
+     *
+     * @param dataSource the data source
+     */
+    public JdbcFiringGuard(final DataSource dataSource) {
+        this(dataSource, DEFAULT_TABLE_NAME, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Constructs {@code JdbcFiringGuard} with the data source, the table name and the
+     * owner name, and creates the table if it does not exist.
+     *
+     * @param dataSource the data source
+     * @param tableName  name of the table for job schedule firings
+     * @param owner      name of this node, recorded as the owner of its claims
+     */
+    public JdbcFiringGuard(final DataSource dataSource, final String tableName, final String owner) {
+        this.dataSource = dataSource;
+        this.tableName = tableName;
+        this.owner = owner;
+        createTableIfNotExists();
+    }
+
+    /**
+     * Gets the DDL statement to create the table for job schedule firings.
+     *
+     * @return the create table statement
+     */
+    protected String getCreateTableSql() {
+        return "CREATE TABLE " + tableName + " (" +
+                "SCHEDULE_ID VARCHAR(128) NOT NULL PRIMARY KEY, " +
+                "FIRE_TIME BIGINT NOT NULL, " +
+                "OWNER VARCHAR(128), " +
+                "CLAIM_TIME BIGINT)";
+    }
+
+    @Override
+    public boolean claim(final String scheduleId, final long fireTime, final long spacing) {
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement update = connection.prepareStatement("UPDATE " + tableName +
+                    " SET FIRE_TIME = ?, OWNER = ?, CLAIM_TIME = ? WHERE SCHEDULE_ID = ? AND FIRE_TIME <= ?")) {
+                update.setLong(1, fireTime);
+                update.setString(2, owner);
+                update.setLong(3, System.currentTimeMillis());
+                update.setString(4, scheduleId);
+                update.setLong(5, fireTime - Math.max(spacing, 1));
+                if (update.executeUpdate() > 0) {
+                    commit(connection);
+                    return true;
+                }
+            }
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + tableName +
+                    " (SCHEDULE_ID, FIRE_TIME, OWNER, CLAIM_TIME) VALUES (?, ?, ?, ?)")) {
+                insert.setString(1, scheduleId);
+                insert.setLong(2, fireTime);
+                insert.setString(3, owner);
+                insert.setLong(4, System.currentTimeMillis());
+                insert.executeUpdate();
+                commit(connection);
+                return true;
+            } catch (final SQLException e) {
+                // integrity constraint violation: the row has been inserted by another claim
+                if (e.getSQLState() != null && e.getSQLState().startsWith("23")) {
+                    if (!connection.getAutoCommit()) {
+                        connection.rollback();
+                    }
+                    return false;
+                }
+                throw e;
+            }
+        } catch (final SQLException e) {
+            throw ScheduleExecutorMessages.MESSAGES.failToAccessFiringGuard(e, this);
+        }
+    }
+
+    @Override
+    public void remove(final Collection<String> scheduleIds) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement delete = connection.prepareStatement(
+                     "DELETE FROM " + tableName + " WHERE SCHEDULE_ID = ?")) {
+            for (final String scheduleId : scheduleIds) {
+                delete.setString(1, scheduleId);
+                delete.addBatch();
+            }
+            delete.executeBatch();
+            commit(connection);
+        } catch (final SQLException e) {
+            throw ScheduleExecutorMessages.MESSAGES.failToAccessFiringGuard(e, this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + "{tableName=" + tableName + ", owner=" + owner + '}';
+    }
+
+    private static void commit(final Connection connection) throws SQLException {
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+    }
+
+    private void createTableIfNotExists() {
+        try (Connection connection = dataSource.getConnection()) {
+            final DatabaseMetaData metaData = connection.getMetaData();
+            for (final String name : new String[]{tableName, tableName.toUpperCase(), tableName.toLowerCase()}) {
+                try (ResultSet tables = metaData.getTables(null, null, name, null)) {
+                    if (tables.next()) {
+                        return;
+                    }
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate(getCreateTableSql());
+            }
+            commit(connection);
+        } catch (final SQLException e) {
+            throw ScheduleExecutorMessages.MESSAGES.failToAccessFiringGuard(e, this);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+
+import org.jberet.schedule._private.ScheduleExecutorLogger;
+import org.jberet.schedule._private.ScheduleExecutorMessages;
+
+/**
+ * {@link ScheduleStore} implementation that stores job schedules in a database
+ * table, one row per job schedule, with the serialized job schedule in a binary
+ * column. The table is created if it does not exist.
+ * <p>
+ * Each batch of job schedules is written with batched statements in a single
+ * transaction. Job schedules are loaded with a single query, streaming the rows.
+ * <p>
+ * The default table definition uses the {@code BLOB} type. For databases that do
+ * not support it, e.g., PostgreSQL, override {@link #getCreateTableSql()}, or create
+ * the table beforehand.
+ *
+ * @since 2.1.1
+ */
+public class JdbcScheduleStore implements ScheduleStore {
+    /**
+     * Default name of the table for storing job schedules.
+     */
+    public static final String DEFAULT_TABLE_NAME = "JBERET_JOB_SCHEDULE";
+
+    /**
+     * Number of rows fetched per round trip when loading job schedules.
+     */
+    private static final int FETCH_SIZE = 1000;
+
+    private final DataSource dataSource;
+
+    /**
+     * Name of the table for storing job schedules.
+     */
+    protected final String tableName;
+
+    /**
+     * Constructs {@code JdbcScheduleStore} with the data source and the default table name.
+     *
+     * @param dataSource the data source
+     */
+    public JdbcScheduleStore(final DataSource dataSource) {
+        this(dataSource, DEFAULT_TABLE_NAME);
+    }
+
+    /**
+     * Constructs {@code JdbcScheduleStore} with the data source and the table name,
+     * and creates the table if it does not exist.
+     *
+     * @param dataSource the data source
+     * @param tableName  name of the table for storing job schedules
+     */
+    public JdbcScheduleStore(final DataSource dataSource, final String tableName) {
+        this.dataSource = dataSource;
+        this.tableName = tableName;
+        createTableIfNotExists();
+    }
+
+    /**
+     * Gets the DDL statement to create the table for storing job schedules.
+     *
+     * @return the create table statement
+     */
+    protected String getCreateTableSql() {
+        return "CREATE TABLE " + tableName + " (" +
+                "ID VARCHAR(128) NOT NULL PRIMARY KEY, " +
+                "JOB_NAME VARCHAR(512), " +
+                "STATUS VARCHAR(16), " +
+                "CREATE_TIME BIGINT, " +
+                "DATA BLOB)";
+    }
+
+    @Override
+    public void store(final Collection<JobSchedule> jobSchedules) {
+        final List<String> ids = new ArrayList<String>(jobSchedules.size());
+        for (final JobSchedule jobSchedule : jobSchedules) {
+            ids.add(jobSchedule.getId());
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                delete(connection, ids);
+                try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + tableName +
+                        " (ID, JOB_NAME, STATUS, CREATE_TIME, DATA) VALUES (?, ?, ?, ?, ?)")) {
+                    for (final JobSchedule jobSchedule : jobSchedules) {
+                        final JobScheduleConfig config = jobSchedule.getJobScheduleConfig();
+                        insert.setString(1, jobSchedule.getId());
+                        insert.setString(2, config == null ? null : config.getJobName());
+                        insert.setString(3, jobSchedule.getStatus().name());
+                        insert.setLong(4, jobSchedule.getCreateTime().getTime());
+                        insert.setBytes(5, ScheduleStores.toBytes(jobSchedule));
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                }
+                connection.commit();
+            } catch (final Exception e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (final Exception e) {
+            throw ScheduleExecutorMessages.MESSAGES.failToAccessScheduleStore(e, this);
+        }
+    }
+
+    @Override
+    public void remove(final Collection<String> scheduleIds) {
+        try (Connection connection = dataSource.getConnection()) {
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                delete(connection, scheduleIds);
+                connection.commit();
+            } catch (final SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (final SQLException e) {
+            throw ScheduleExecutorMessages.MESSAGES.failToAccessScheduleStore(e, this);
+        }
+    }
+
+    @Override
+    public void load(final Consumer<JobSchedule> consumer) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement select = connection.prepareStatement(
+                     "SELECT ID, DATA FROM " + tableName + " ORDER BY CREATE_TIME, ID")) {
+            select.setFetchSize(FETCH_SIZE);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    final String id = rs.getString(1);
+                    final JobSchedule jobSchedule;
+                    try {
+                        jobSchedule = ScheduleStores.fromBytes(rs.getBytes(2));
+                    } catch (final Exception e) {
+                        ScheduleExecutorLogger.LOGGER.failToRecoverJobSchedule(e, id);
+                        continue;
+                    }
+                    consumer.accept(jobSchedule);
+                }
+            }
+        } catch (final SQLException e) {
+            throw ScheduleExecutorMessages.MESSAGES.failToAccessScheduleStore(e, this);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method does nothing, since the data source is managed by the caller.
+     */
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + "{tableName=" + tableName + '}';
+    }
+
+    private void delete(final Connection connection, final Collection<String> ids) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM " + tableName + " WHERE ID = ?")) {
+            for (final String id : ids) {
+                delete.setString(1, id);
+                delete.addBatch();
+            }
+            delete.executeBatch();
+        }
+    }
+
+    private void createTableIfNotExists() {
+        try (Connection connection = dataSource.getConnection()) {
+            final DatabaseMetaData metaData = connection.getMetaData();
+            for (final String name : new String[]{tableName, tableName.toUpperCase(), tableName.toLowerCase()}) {
+                try (ResultSet tables = metaData.getTables(null, null, name, null)) {
+                    if (tables.next()) {
+                        return;
+                    }
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate(getCreateTableSql());
+            }
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (final SQLException e) {
+            throw ScheduleExecutorMessages.MESSAGES.failToAccessScheduleStore(e, this);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How a job scheduler spreads the firings of job schedules over a jitter window,
+ * so that job schedules with the same fire times, e.g., calendar-based job schedules
+ * at the top of the hour, do not all start their jobs at the same instant.
+ * Each firing is delayed by an offset between 0 (inclusive) and the window (exclusive).
+ *
+ * @see JobScheduleConfig#getJitter()
+ * @see JobScheduleConfigBuilder#jitter(long, java.util.concurrent.TimeUnit, Jitter)
+ * @since 2.1.1
+ */
+public enum Jitter {
+    /**
+     * Delays each firing by a new random offset.
+     */
+    RANDOM {
+        @Override
+        public long offset(final String scheduleId, final long window) {
+            return window > 0 ? ThreadLocalRandom.current().nextLong(window) : 0;
+        }
+    },
+
+    /**
+     * Delays all firings of a job schedule by the same offset, derived from the hash
+     * of the job schedule id. Job schedules are spread evenly over the window, while
+     * each job schedule keeps a constant period between its firings.
+     */
+    HASH {
+        @Override
+        public long offset(final String scheduleId, final long window) {
+            if (window <= 0 || scheduleId == null) {
+                return 0;
+            }
+            // spread the bits of the hash code, so that sequential ids map to distant offsets
+            long h = scheduleId.hashCode() * 0x9E3779B97F4A7C15L;
+            h ^= h >>> 32;
+            h *= 0xBF58476D1CE4E5B9L;
+            h ^= h >>> 29;
+            return Math.floorMod(h, window);
+        }
+    };
+
+    /**
+     * Gets the offset of the next firing of a job schedule.
+     *
+     * @param scheduleId the job schedule id
+     * @param window the width of the jitter window, in any time unit
+     * @return the offset, between 0 (inclusive) and {@code window} (exclusive), in the time unit of {@code window}
+     */
+    public abstract long offset(String scheduleId, long window);
+}
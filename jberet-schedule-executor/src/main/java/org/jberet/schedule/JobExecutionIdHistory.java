@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.RandomAccess;
+import java.util.function.LongConsumer;
+
+/**
+ * The most recent job execution ids of a {@link JobSchedule}, kept as primitive longs
+ * in a ring buffer that grows up to the retention, after which the oldest id is
+ * overwritten by each new one. Appending does not copy the retained ids.
+ * <p>
+ * This class is not thread-safe, and is guarded by the owning {@code JobSchedule}.
+ * It is serialized as a plain {@code ArrayList}, so that the serialized form of
+ * {@code JobSchedule} is unchanged.
+ *
+ * @since 2.1.1
+ */
+final class JobExecutionIdHistory extends AbstractList<Long> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final int retention;
+
+    private long[] ids;
+
+    /**
+     * Index of the oldest retained id in {@link #ids}.
+     */
+    private int head;
+
+    private int size;
+
+    JobExecutionIdHistory(final int retention) {
+        this.retention = retention;
+        this.ids = new long[Math.min(INITIAL_CAPACITY, retention)];
+    }
+
+    /**
+     * Creates a history with the retention, keeping the most recent of the specified ids.
+     *
+     * @param retention max number of ids to keep
+     * @param jobExecutionIds job execution ids, oldest first
+     */
+    JobExecutionIdHistory(final int retention, final Collection<Long> jobExecutionIds) {
+        this(retention);
+        for (final Long id : jobExecutionIds) {
+            append(id);
+        }
+    }
+
+    /**
+     * Appends a job execution id, discarding the oldest one if the retention is reached.
+     *
+     * @param jobExecutionId the new job execution id
+     */
+    void append(final long jobExecutionId) {
+        if (size < ids.length) {
+            ids[(head + size++) % ids.length] = jobExecutionId;
+        } else if (size < retention) {
+            final long[] grown = new long[(int) Math.min((long) ids.length * 2, retention)];
+            for (int i = 0; i < size; i++) {
+                grown[i] = ids[(head + i) % ids.length];
+            }
+            ids = grown;
+            head = 0;
+            ids[size++] = jobExecutionId;
+        } else {
+            ids[head] = jobExecutionId;
+            head = (head + 1) % ids.length;
+        }
+    }
+
+    /**
+     * Copies the retained ids into a new history.
+     *
+     * @return the copy
+     */
+    JobExecutionIdHistory copy() {
+        final JobExecutionIdHistory copy = new JobExecutionIdHistory(retention);
+        copy.ids = new long[Math.max(size, 1)];
+        for (int i = 0; i < size; i++) {
+            copy.ids[i] = ids[(head + i) % ids.length];
+        }
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * Performs the action for each retained job execution id, oldest first.
+     *
+     * @param action the action to perform
+     */
+    void forEachId(final LongConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(ids[(head + i) % ids.length]);
+        }
+    }
+
+    @Override
+    public Long get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return ids[(head + index) % ids.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a job execution id. This is used by XML binding when unmarshalling.
+     */
+    @Override
+    public boolean add(final Long jobExecutionId) {
+        append(jobExecutionId);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    private Object writeReplace() throws ObjectStreamException {
+        return new ArrayList<Long>(this);
+    }
+}
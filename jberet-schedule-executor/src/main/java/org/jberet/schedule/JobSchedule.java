@@ -10,19 +10,24 @@
 
 package org.jberet.schedule;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
 import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlTransient;
 
 /**
  * Represents a job schedule. Instances of this class may be transferred
- * during remote REST API invocations.
+ * during remote REST API invocations. They are serialized in the compact
+ * form of {@link CompactSerialForm}, and forms serialized by earlier versions
+ * can still be deserialized. Their XML and JSON forms only carry the fields
+ * with public getters; the bookkeeping of the job scheduler is left out.
  *
  * @see JobScheduleConfig
  * @since 1.3.0
@@ -32,6 +37,14 @@ import jakarta.xml.bind.annotation.XmlRootElement;
 public final class JobSchedule implements Serializable, Comparable<JobSchedule> {
     private static final long serialVersionUID = 5759369754976526021L;
 
+    /**
+     * The default max number of the most recent job execution ids kept in a job schedule.
+     *
+     * @see JobScheduleConfig#getJobExecutionIdRetention()
+     * @since 2.1.1
+     */
+    public static final int DEFAULT_JOB_EXECUTION_ID_RETENTION = 1000;
+
     /**
      * Statuses of {@code JobSchedule}.
      */
@@ -81,14 +94,55 @@ public final class JobSchedule implements Serializable, Comparable<JobSchedule>
     /**
      * The default status is {@code SCHEDULED}.
      */
-    private Status status = Status.SCHEDULED;
+    private volatile Status status = Status.SCHEDULED;
+
+    /**
+     * A list to save the most recent job execution ids, up to the retention of
+     * {@link JobScheduleConfig#getJobExecutionIdRetention()}. For single-action
+     * job schedule, there is at most 1 element; for repeatable job schedules,
+     * there can be many elements. Guarded by {@code this}.
+     */
+    private List<Long> jobExecutionIds;
+
+    /**
+     * The number of job executions that have realized from this job schedule,
+     * including those whose ids are no longer kept. Guarded by {@code this}.
+     */
+    private long jobExecutionCount;
+
+    /**
+     * The id of the first job execution, or 0 if none. Guarded by {@code this}.
+     */
+    private long firstJobExecutionId;
+
+    /**
+     * The id of the last job execution, or 0 if none. Guarded by {@code this}.
+     */
+    private long lastJobExecutionId;
+
+    /**
+     * The planned time of the last firing in milliseconds, or 0 if never fired.
+     * It is used to find the firings missed while the application was down.
+     */
+    @XmlTransient
+    private volatile long lastFireTime;
+
+    /**
+     * The time the job schedule was cancelled or done in milliseconds, or 0 if it
+     * has not finished, or finished before this field was added.
+     */
+    @XmlTransient
+    private volatile long finishTime;
 
     /**
-     * A list to save all job execution ids. For single-action job schedule,
-     * there is at most 1 element; for repeatable job schedules, there can
-     * be many elements.
+     * What the next firing of a re-armed job schedule launches: a positive job execution
+     * id to restart, -1 to start the job of the job schedule config, or 0 to launch as
+     * configured, if it has not been re-armed.
+     *
+     * @see JobScheduler#reschedule(String, long)
      */
-    private List<Long> jobExecutionIds = new CopyOnWriteArrayList<Long>();
+    @XmlTransient
+    private volatile long nextJobExecutionId;
 
     /**
      * The {@code java.util.concurrent.Future} object from submitting the
@@ -98,6 +152,27 @@ public final class JobSchedule implements Serializable, Comparable<JobSchedule>
      */
     private transient Future<?> future;
 
+    /**
+     * The position of this job schedule in the creation order of the job scheduler
+     * that indexes it, or 0 if it is not indexed.
+     */
+    private transient long sequence;
+
+    /**
+     * The number of times this job schedule has been armed, which tells the current
+     * task of a re-armed job schedule from the tasks it replaced. Guarded by {@code this}.
+     */
+    private transient int generation;
+
+    /**
+     * Whether this job schedule carries its id in its job parameters, so that the job
+     * executions it launches may re-arm it, e.g., in the chain of {@link SchedulingJobListener}.
+     * It is not kept in the schedule store.
+     *
+     * @see JobScheduler#schedule(JobScheduleConfig, String)
+     */
+    private transient volatile boolean chain;
+
     /**
      * Default no-arg constructor.
      */
@@ -112,9 +187,21 @@ public final class JobSchedule implements Serializable, Comparable<JobSchedule>
      * @param jobScheduleConfig job schedule config
      */
     public JobSchedule(final String id, final JobScheduleConfig jobScheduleConfig) {
+        this(id, jobScheduleConfig, System.currentTimeMillis());
+    }
+
+    /**
+     * Constructs {@code JobSchedule} with id, {@code JobScheduleConfig} and create time.
+     *
+     * @param id job schedule id
+     * @param jobScheduleConfig job schedule config
+     * @param createTime the create time in milliseconds since the epoch
+     */
+    JobSchedule(final String id, final JobScheduleConfig jobScheduleConfig, final long createTime) {
         this.id = id;
         this.jobScheduleConfig = jobScheduleConfig;
-        this.createTime = new Date();
+        this.createTime = new Date(createTime);
+        this.jobExecutionIds = new JobExecutionIdHistory(getJobExecutionIdRetention());
     }
 
     /**
@@ -139,6 +226,16 @@ public final class JobSchedule implements Serializable, Comparable<JobSchedule>
         return jobScheduleConfig;
     }
 
+    /**
+     * Gets the time the job schedule is created.
+     * @return the create time
+     *
+     * @since 2.1.1
+     */
+    public Date getCreateTime() {
+        return new Date(createTime.getTime());
+    }
+
     /**
      * Gets the job schedule status.
      * @return job schedule status
@@ -148,15 +245,72 @@ public final class JobSchedule implements Serializable, Comparable<JobSchedule>
     }
 
     /**
-     * Gets all ids of job executions that have realized from this job schedule.
-     * @return all job execution ids
+     * Gets the ids of the most recent job executions that have realized from this job schedule,
+     * oldest first. At most {@link JobScheduleConfig#getJobExecutionIdRetention()} ids are kept.
+     * The returned list is a snapshot, and is not updated by later job executions.
+     *
+     * @return the most recent job execution ids
+     *
+     * @see #forEachJobExecutionId(LongConsumer)
+     */
+    public synchronized List<Long> getJobExecutionIds() {
+        return Collections.unmodifiableList(history().copy());
+    }
+
+    /**
+     * Performs the action for each of the most recent job execution ids, oldest first,
+     * without copying or boxing them. The action is performed while holding the lock
+     * of this job schedule, and so should not block.
+     *
+     * @param action the action to perform for each job execution id
+     *
+     * @see #getJobExecutionIds()
+     * @since 2.1.1
+     */
+    public synchronized void forEachJobExecutionId(final LongConsumer action) {
+        history().forEachId(action);
+    }
+
+    /**
+     * Gets the number of job executions that have realized from this job schedule,
+     * including those whose ids are no longer kept.
+     *
+     * @return the number of job executions
+     * @since 2.1.1
+     */
+    public synchronized long getJobExecutionCount() {
+        history();
+        return jobExecutionCount;
+    }
+
+    /**
+     * Gets the id of the first job execution that has realized from this job schedule.
+     *
+     * @return the first job execution id, or 0 if none
+     * @since 2.1.1
+     */
+    public synchronized long getFirstJobExecutionId() {
+        history();
+        return firstJobExecutionId;
+    }
+
+    /**
+     * Gets the id of the last job execution that has realized from this job schedule.
+     *
+     * @return the last job execution id, or 0 if none
+     * @since 2.1.1
      */
-    public List<Long> getJobExecutionIds() {
-        return Collections.unmodifiableList(jobExecutionIds);
+    public synchronized long getLastJobExecutionId() {
+        history();
+        return lastJobExecutionId;
     }
 
-    public void addJobExecutionIds(final long jobExecutionId) {
-        jobExecutionIds.add(jobExecutionId);
+    public synchronized void addJobExecutionIds(final long jobExecutionId) {
+        history().append(jobExecutionId);
+        if (jobExecutionCount++ == 0) {
+            firstJobExecutionId = jobExecutionId;
+        }
+        lastJobExecutionId = jobExecutionId;
     }
 
     /**
@@ -170,10 +324,104 @@ public final class JobSchedule implements Serializable, Comparable<JobSchedule>
         return createTime.compareTo(o.createTime);
     }
 
+    /**
+     * Gets the history of job execution ids, converting the list deserialized or
+     * unmarshalled from an earlier form if needed. Must be called while holding
+     * the lock of this job schedule.
+     *
+     * @return the history of job execution ids
+     */
+    private JobExecutionIdHistory history() {
+        if (jobExecutionIds instanceof JobExecutionIdHistory) {
+            return (JobExecutionIdHistory) jobExecutionIds;
+        }
+        final List<Long> ids = jobExecutionIds == null ? Collections.<Long>emptyList() : jobExecutionIds;
+        if (jobExecutionCount < ids.size()) {
+            // from an earlier version that kept all job execution ids without counting them
+            jobExecutionCount = ids.size();
+            firstJobExecutionId = ids.get(0);
+            lastJobExecutionId = ids.get(ids.size() - 1);
+        }
+        final JobExecutionIdHistory history = new JobExecutionIdHistory(getJobExecutionIdRetention(), ids);
+        jobExecutionIds = history;
+        return history;
+    }
+
+    private int getJobExecutionIdRetention() {
+        return jobScheduleConfig == null ?
+                DEFAULT_JOB_EXECUTION_ID_RETENTION : jobScheduleConfig.getJobExecutionIdRetention();
+    }
+
+    /**
+     * Replaces this job schedule with its compact serialized form.
+     *
+     * @return the serialized form of this job schedule
+     * @throws ObjectStreamException never
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return new CompactSerialForm(this);
+    }
+
+    /**
+     * Restores the state of a job schedule read from its compact serialized form.
+     *
+     * @param status the status
+     * @param finishTime the finish time, or 0 if not finished
+     * @param lastFireTime the planned time of the last firing, or 0 if never fired
+     * @param nextJobExecutionId what the next firing of a re-armed job schedule launches
+     * @param jobExecutionCount the number of job executions
+     * @param firstJobExecutionId the id of the first job execution, or 0 if none
+     * @param lastJobExecutionId the id of the last job execution, or 0 if none
+     * @param jobExecutionIds the most recent job execution ids, oldest first
+     *
+     * @see CompactSerialForm
+     */
+    synchronized void restore(final Status status, final long finishTime, final long lastFireTime,
+                              final long nextJobExecutionId, final long jobExecutionCount,
+                              final long firstJobExecutionId, final long lastJobExecutionId,
+                              final long[] jobExecutionIds) {
+        this.status = status;
+        this.finishTime = finishTime;
+        this.lastFireTime = lastFireTime;
+        this.nextJobExecutionId = nextJobExecutionId;
+        this.jobExecutionCount = jobExecutionCount;
+        this.firstJobExecutionId = firstJobExecutionId;
+        this.lastJobExecutionId = lastJobExecutionId;
+        final JobExecutionIdHistory history = new JobExecutionIdHistory(getJobExecutionIdRetention());
+        for (final long id : jobExecutionIds) {
+            history.append(id);
+        }
+        this.jobExecutionIds = history;
+    }
+
     void setStatus(final Status status) {
+        if (status == Status.CANCELLED || status == Status.DONE) {
+            finishTime = System.currentTimeMillis();
+        } else {
+            finishTime = 0;
+        }
         this.status = status;
     }
 
+    /**
+     * Gets the time the job schedule was cancelled or done, or its create time if
+     * that is not known.
+     *
+     * @return the finish time in milliseconds since the epoch
+     */
+    long getFinishTime() {
+        final long time = finishTime;
+        return time > 0 ? time : createTime.getTime();
+    }
+
+    boolean isChain() {
+        return chain;
+    }
+
+    void setChain(final boolean chain) {
+        this.chain = chain;
+    }
+
     Future<?> getFuture() {
         return future;
     }
@@ -182,4 +430,36 @@ public final class JobSchedule implements Serializable, Comparable<JobSchedule>
         this.future = future;
     }
 
+    long getLastFireTime() {
+        return lastFireTime;
+    }
+
+    void setLastFireTime(final long lastFireTime) {
+        this.lastFireTime = lastFireTime;
+    }
+
+    long getNextJobExecutionId() {
+        return nextJobExecutionId;
+    }
+
+    void setNextJobExecutionId(final long nextJobExecutionId) {
+        this.nextJobExecutionId = nextJobExecutionId;
+    }
+
+    synchronized int nextGeneration() {
+        return ++generation;
+    }
+
+    synchronized int getGeneration() {
+        return generation;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    void setSequence(final long sequence) {
+        this.sequence = sequence;
+    }
+
 }
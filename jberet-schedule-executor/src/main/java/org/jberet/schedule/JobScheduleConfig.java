@@ -17,8 +17,10 @@ import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import jakarta.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Represents job schedule configuration, typically passed from the client side
@@ -60,13 +62,13 @@ public final class JobScheduleConfig implements Serializable {
     final ScheduleExpression scheduleExpression;
 
     /**
-     * The initial delay (in minutes) of the job schedule.
+     * The initial delay (in {@link #timeUnit}) of the job schedule.
      * It should not be specified for calendar-based job schedule.
      */
     final long initialDelay;
 
     /**
-     * The subsequent delay (in minutes) of the repeatable job schedule.
+     * The subsequent delay (in {@link #timeUnit}) of the repeatable job schedule.
      * It should not specified for single action or calendar-based job schedule.
      * For non-calendar repeatable job schedule, either {@code afterDelay}
      * or {@code interval} should be specified, but not both.
@@ -74,7 +76,7 @@ public final class JobScheduleConfig implements Serializable {
     final long afterDelay;
 
     /**
-     * The interval or period (in minutes) for the repeatable job schedule,
+     * The interval or period (in {@link #timeUnit}) for the repeatable job schedule,
      * for example, run the task every 1000 minutes.
      * It should not specified for single action or calendar-based job schedule.
      * For non-calendar repeatable job schedule, either {@code afterDelay}
@@ -88,11 +90,66 @@ public final class JobScheduleConfig implements Serializable {
      */
     final boolean persistent;
 
+    /**
+     * The time unit of {@link #initialDelay}, {@link #afterDelay} and {@link #interval}.
+     * If not specified, defaults to minutes.
+     *
+     * @since 2.1.1
+     */
+    final TimeUnit timeUnit;
+
+    /**
+     * The max number of the most recent job execution ids kept in {@link JobSchedule}.
+     * If not specified, defaults to {@link JobSchedule#DEFAULT_JOB_EXECUTION_ID_RETENTION}.
+     *
+     * @since 2.1.1
+     */
+    final int jobExecutionIdRetention;
+
+    /**
+     * What to do with missed firings. If not specified, defaults to {@link MisfirePolicy#FIRE_ALL}.
+     *
+     * @since 2.1.1
+     */
+    final MisfirePolicy misfirePolicy;
+
+    /**
+     * The max number of firings of a backlog of missed firings with {@link MisfirePolicy#FIRE_ALL},
+     * including the firing that ends the backlog. If not specified, all missed firings are fired.
+     *
+     * @since 2.1.1
+     */
+    final int maxCatchUpFirings;
+
+    /**
+     * How firings are spread over the jitter window. If not specified, defaults to {@link Jitter#RANDOM}.
+     *
+     * @since 2.1.1
+     */
+    final Jitter jitter;
+
+    /**
+     * The width of the jitter window in milliseconds, within which each firing is delayed.
+     * If not specified, firings are not delayed.
+     *
+     * @since 2.1.1
+     */
+    final long jitterWindow;
+
+    /**
+     * The max number of concurrent job executions started by the job schedule.
+     * If not specified, the job schedule does not limit its job executions.
+     *
+     * @see AdmissionConfig
+     * @since 2.1.1
+     */
+    final int maxConcurrentExecutions;
+
     /**
      * Default no-arg constructor.
      */
     public JobScheduleConfig() {
-        this(null, 0, null, null, 0, 0, 0, false);
+        this(null, 0, null, null, 0, 0, 0, false, null, 0, null, 0, null, 0, 0);
     }
 
     /**
@@ -106,6 +163,14 @@ public final class JobScheduleConfig implements Serializable {
      * @param afterDelay         subsequent delay for repeatable job schedule
      * @param interval           interval or period for repeatable job schedule
      * @param persistent         whether the job schedule is persistent
+     * @param timeUnit           time unit of initial delay, subsequent delay and interval
+     * @param jobExecutionIdRetention max number of the most recent job execution ids to keep
+     * @param misfirePolicy      what to do with missed firings
+     * @param maxCatchUpFirings  max number of missed firings fired with {@link MisfirePolicy#FIRE_ALL}
+     * @param jitter             how firings are spread over the jitter window
+     * @param jitterWindow       width of the jitter window in milliseconds, or 0 to not delay firings
+     * @param maxConcurrentExecutions max number of concurrent job executions started by the job schedule,
+     *                           or 0 for no limit
      */
     JobScheduleConfig(final String jobName,
                       final long jobExecutionId,
@@ -114,7 +179,14 @@ public final class JobScheduleConfig implements Serializable {
                       final long initialDelay,
                       final long afterDelay,
                       final long interval,
-                      final boolean persistent) {
+                      final boolean persistent,
+                      final TimeUnit timeUnit,
+                      final int jobExecutionIdRetention,
+                      final MisfirePolicy misfirePolicy,
+                      final int maxCatchUpFirings,
+                      final Jitter jitter,
+                      final long jitterWindow,
+                      final int maxConcurrentExecutions) {
         this.jobName = jobName;
         this.jobExecutionId = jobExecutionId;
         this.jobParameters = jobParameters;
@@ -123,6 +195,32 @@ public final class JobScheduleConfig implements Serializable {
         this.afterDelay = afterDelay;
         this.interval = interval;
         this.persistent = persistent;
+        this.timeUnit = timeUnit;
+        this.jobExecutionIdRetention = jobExecutionIdRetention;
+        this.misfirePolicy = misfirePolicy;
+        this.maxCatchUpFirings = maxCatchUpFirings;
+        this.jitter = jitter;
+        this.jitterWindow = jitterWindow;
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+    }
+
+    /**
+     * Creates a copy of this job schedule config, whose job parameters are a copy of
+     * those of this config, if any, with a job parameter added.
+     *
+     * @param key the key of the job parameter to add
+     * @param value the value of the job parameter to add
+     * @return the copy of this job schedule config
+     */
+    JobScheduleConfig withJobParameter(final String key, final String value) {
+        final Properties params = new Properties();
+        if (jobParameters != null) {
+            params.putAll(jobParameters);
+        }
+        params.setProperty(key, value);
+        return new JobScheduleConfig(jobName, jobExecutionId, params, scheduleExpression,
+                initialDelay, afterDelay, interval, persistent, timeUnit, jobExecutionIdRetention,
+                misfirePolicy, maxCatchUpFirings, jitter, jitterWindow, maxConcurrentExecutions);
     }
 
     /**
@@ -172,7 +270,7 @@ public final class JobScheduleConfig implements Serializable {
     }
 
     /**
-     * Gets the initial delay (in minutes) of this job schedule.
+     * Gets the initial delay (in {@link #getTimeUnit()}) of this job schedule.
      *
      * @return initial delay, 0 for calendar-based job schedule
      */
@@ -181,7 +279,7 @@ public final class JobScheduleConfig implements Serializable {
     }
 
     /**
-     * Gets the subsequent delay (in minutes) of this job schedule.
+     * Gets the subsequent delay (in {@link #getTimeUnit()}) of this job schedule.
      * Note that subsequent delay does not apply to single action or
      * calendar-based job schedule.
      *
@@ -192,7 +290,7 @@ public final class JobScheduleConfig implements Serializable {
     }
 
     /**
-     * Gets the interval or period (in minutes) of this job schedule.
+     * Gets the interval or period (in {@link #getTimeUnit()}) of this job schedule.
      * Note that interval does not apply to single action or
      * calendar-based job schedule. For non-calendar repeatable job schedule
      * that has {@link #afterDelay} specified, the interval is ignored.
@@ -214,6 +312,96 @@ public final class JobScheduleConfig implements Serializable {
         return persistent;
     }
 
+    /**
+     * Gets the time unit of the initial delay, subsequent delay and interval
+     * of this job schedule.
+     *
+     * @return time unit of this job schedule, minutes if not specified
+     * @since 2.1.1
+     */
+    public TimeUnit getTimeUnit() {
+        return timeUnit != null ? timeUnit : JobScheduler.timeUnit;
+    }
+
+    /**
+     * Gets the max number of the most recent job execution ids kept in {@link JobSchedule}.
+     * Older job execution ids are discarded, but still counted in
+     * {@link JobSchedule#getJobExecutionCount()}.
+     *
+     * @return the job execution id retention,
+     *         {@link JobSchedule#DEFAULT_JOB_EXECUTION_ID_RETENTION} if not specified
+     * @since 2.1.1
+     */
+    public int getJobExecutionIdRetention() {
+        return jobExecutionIdRetention > 0 ? jobExecutionIdRetention : JobSchedule.DEFAULT_JOB_EXECUTION_ID_RETENTION;
+    }
+
+    /**
+     * Gets what to do with missed firings of this job schedule.
+     *
+     * @return the misfire policy, {@link MisfirePolicy#FIRE_ALL} if not specified
+     * @since 2.1.1
+     */
+    public MisfirePolicy getMisfirePolicy() {
+        return misfirePolicy != null ? misfirePolicy : MisfirePolicy.FIRE_ALL;
+    }
+
+    /**
+     * Gets the max number of firings of a backlog of missed firings with {@link MisfirePolicy#FIRE_ALL},
+     * including the firing that ends the backlog.
+     *
+     * @return the max number of catch-up firings, {@code Integer.MAX_VALUE} if not specified
+     * @since 2.1.1
+     */
+    public int getMaxCatchUpFirings() {
+        return maxCatchUpFirings > 0 ? maxCatchUpFirings : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets how firings are spread over the jitter window.
+     *
+     * @return the jitter, {@link Jitter#RANDOM} if not specified
+     * @since 2.1.1
+     */
+    public Jitter getJitter() {
+        return jitter != null ? jitter : Jitter.RANDOM;
+    }
+
+    /**
+     * Gets the width of the jitter window, within which each firing is delayed.
+     *
+     * @param unit the time unit of the returned value
+     * @return the width of the jitter window, 0 if firings are not delayed
+     * @since 2.1.1
+     */
+    public long getJitterWindow(final TimeUnit unit) {
+        return unit.convert(jitterWindow, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets the delay of the next firing of a job schedule with this config within its jitter window.
+     *
+     * @param scheduleId the job schedule id
+     * @param unit the time unit of the returned value
+     * @return the delay, 0 if firings are not delayed
+     * @since 2.1.1
+     */
+    public long getJitterOffset(final String scheduleId, final TimeUnit unit) {
+        return jitterWindow > 0 ? getJitter().offset(scheduleId, getJitterWindow(unit)) : 0;
+    }
+
+    /**
+     * Gets the max number of concurrent job executions started by the job schedule.
+     * A firing that would exceed it is handled by the admission policy of the job scheduler.
+     *
+     * @return the max number of concurrent job executions, {@code Integer.MAX_VALUE} if not specified
+     * @see AdmissionConfig#getPolicy()
+     * @since 2.1.1
+     */
+    public int getMaxConcurrentExecutions() {
+        return maxConcurrentExecutions > 0 ? maxConcurrentExecutions : Integer.MAX_VALUE;
+    }
+
     /**
      * Sets the job XML name. This method can be called to set the job XML name
      * for this job schedule configuration later in the processing cycle from other source.
@@ -248,6 +436,13 @@ public final class JobScheduleConfig implements Serializable {
         if (afterDelay != that.afterDelay) return false;
         if (interval != that.interval) return false;
         if (persistent != that.persistent) return false;
+        if (getTimeUnit() != that.getTimeUnit()) return false;
+        if (getJobExecutionIdRetention() != that.getJobExecutionIdRetention()) return false;
+        if (getMisfirePolicy() != that.getMisfirePolicy()) return false;
+        if (getMaxCatchUpFirings() != that.getMaxCatchUpFirings()) return false;
+        if (getJitter() != that.getJitter()) return false;
+        if (jitterWindow != that.jitterWindow) return false;
+        if (getMaxConcurrentExecutions() != that.getMaxConcurrentExecutions()) return false;
         if (jobName != null ? !jobName.equals(that.jobName) : that.jobName != null) return false;
         if (jobParameters != null ? !jobParameters.equals(that.jobParameters) : that.jobParameters != null)
             return false;
@@ -265,6 +460,13 @@ public final class JobScheduleConfig implements Serializable {
         result = 31 * result + (int) (afterDelay ^ (afterDelay >>> 32));
         result = 31 * result + (int) (interval ^ (interval >>> 32));
         result = 31 * result + (persistent ? 1 : 0);
+        result = 31 * result + getTimeUnit().hashCode();
+        result = 31 * result + getJobExecutionIdRetention();
+        result = 31 * result + getMisfirePolicy().hashCode();
+        result = 31 * result + getMaxCatchUpFirings();
+        result = 31 * result + getJitter().hashCode();
+        result = 31 * result + (int) (jitterWindow ^ (jitterWindow >>> 32));
+        result = 31 * result + getMaxConcurrentExecutions();
         return result;
     }
 
@@ -277,8 +479,25 @@ public final class JobScheduleConfig implements Serializable {
                 ", initialDelay=" + initialDelay +
                 ", afterDelay=" + afterDelay +
                 ", interval=" + interval +
+                ", timeUnit=" + getTimeUnit() +
                 ", persistent=" + persistent +
+                ", jobExecutionIdRetention=" + getJobExecutionIdRetention() +
+                ", misfirePolicy=" + getMisfirePolicy() +
+                ", maxCatchUpFirings=" + getMaxCatchUpFirings() +
+                ", jitter=" + getJitter() +
+                ", jitterWindow=" + jitterWindow +
+                ", maxConcurrentExecutions=" + getMaxConcurrentExecutions() +
                 ", scheduleExpression='" + scheduleExpression + '\'' +
                 '}';
     }
+
+    /**
+     * Replaces this job schedule config with its compact serialized form.
+     *
+     * @return the serialized form of this job schedule config
+     * @throws ObjectStreamException never
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return new CompactSerialForm(this);
+    }
 }
@@ -11,6 +11,7 @@
 package org.jberet.schedule;
 
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import javax.ejb.ScheduleExpression;
 
 /**
@@ -28,6 +29,13 @@ public final class JobScheduleConfigBuilder {
     private long afterDelay;
     private long interval;
     private boolean persistent = true;
+    private TimeUnit timeUnit = JobScheduler.timeUnit;
+    private int jobExecutionIdRetention;
+    private MisfirePolicy misfirePolicy;
+    private int maxCatchUpFirings;
+    private Jitter jitter;
+    private long jitterWindow;
+    private int maxConcurrentExecutions;
 
     private JobScheduleConfigBuilder() {
     }
@@ -46,7 +54,9 @@ public final class JobScheduleConfigBuilder {
      */
     public JobScheduleConfig build() {
         return new JobScheduleConfig(jobName, jobExecutionId, jobParameters, scheduleExpression,
-                initialDelay, afterDelay, interval, persistent);
+                initialDelay, afterDelay, interval, persistent, timeUnit, jobExecutionIdRetention,
+                misfirePolicy, maxCatchUpFirings, jitter, jitterWindow,
+                maxConcurrentExecutions);
     }
 
     /**
@@ -102,8 +112,8 @@ public final class JobScheduleConfigBuilder {
     }
 
     /**
-     * Sets the initial delay (in minutes) to this builder.
-     * @param initialDelay initial delay in minutes
+     * Sets the initial delay (in {@link #timeUnit(TimeUnit)}, minutes by default) to this builder.
+     * @param initialDelay initial delay
      * @return this builder
      *
      * @see JobScheduleConfig#initialDelay
@@ -115,8 +125,8 @@ public final class JobScheduleConfigBuilder {
     }
 
     /**
-     * Sets the subsequent delay (in minutes) to this builder.
-     * @param afterDelay subsequent delay in minutes
+     * Sets the subsequent delay (in {@link #timeUnit(TimeUnit)}, minutes by default) to this builder.
+     * @param afterDelay subsequent delay
      * @return this builder
      *
      * @see JobScheduleConfig#afterDelay
@@ -128,8 +138,8 @@ public final class JobScheduleConfigBuilder {
     }
 
     /**
-     * Sets the interval or period (in minutes) to this builder.
-     * @param interval interval or period in minutes
+     * Sets the interval or period (in {@link #timeUnit(TimeUnit)}, minutes by default) to this builder.
+     * @param interval interval or period
      * @return this builder
      *
      * @see JobScheduleConfig#interval
@@ -152,4 +162,109 @@ public final class JobScheduleConfigBuilder {
         this.persistent = persistent;
         return this;
     }
+
+    /**
+     * Sets the time unit of initial delay, subsequent delay and interval to this builder.
+     * For example, {@code interval(5).timeUnit(TimeUnit.SECONDS)} runs the job every 5 seconds.
+     * @param timeUnit time unit of the job schedule, defaults to minutes
+     * @return this builder
+     *
+     * @see JobScheduleConfig#timeUnit
+     * @see JobScheduleConfig#getTimeUnit()
+     * @since 2.1.1
+     */
+    public JobScheduleConfigBuilder timeUnit(final TimeUnit timeUnit) {
+        this.timeUnit = timeUnit;
+        return this;
+    }
+
+    /**
+     * Sets the max number of the most recent job execution ids kept in the job schedule.
+     * @param jobExecutionIdRetention the job execution id retention,
+     *                                defaults to {@link JobSchedule#DEFAULT_JOB_EXECUTION_ID_RETENTION}
+     * @return this builder
+     *
+     * @see JobScheduleConfig#jobExecutionIdRetention
+     * @see JobScheduleConfig#getJobExecutionIdRetention()
+     * @since 2.1.1
+     */
+    public JobScheduleConfigBuilder jobExecutionIdRetention(final int jobExecutionIdRetention) {
+        if (jobExecutionIdRetention <= 0) {
+            throw new IllegalArgumentException("jobExecutionIdRetention: " + jobExecutionIdRetention);
+        }
+        this.jobExecutionIdRetention = jobExecutionIdRetention;
+        return this;
+    }
+
+    /**
+     * Sets what to do with missed firings to this builder.
+     * @param misfirePolicy the misfire policy, defaults to {@link MisfirePolicy#FIRE_ALL}
+     * @return this builder
+     *
+     * @see JobScheduleConfig#misfirePolicy
+     * @see JobScheduleConfig#getMisfirePolicy()
+     * @since 2.1.1
+     */
+    public JobScheduleConfigBuilder misfirePolicy(final MisfirePolicy misfirePolicy) {
+        this.misfirePolicy = misfirePolicy;
+        return this;
+    }
+
+    /**
+     * Sets the max number of firings of a backlog of missed firings with {@link MisfirePolicy#FIRE_ALL},
+     * including the firing that ends the backlog, to this builder. Further missed firings are coalesced.
+     * @param maxCatchUpFirings the max number of catch-up firings, unlimited by default
+     * @return this builder
+     *
+     * @see JobScheduleConfig#maxCatchUpFirings
+     * @see JobScheduleConfig#getMaxCatchUpFirings()
+     * @since 2.1.1
+     */
+    public JobScheduleConfigBuilder maxCatchUpFirings(final int maxCatchUpFirings) {
+        if (maxCatchUpFirings <= 0) {
+            throw new IllegalArgumentException("maxCatchUpFirings: " + maxCatchUpFirings);
+        }
+        this.maxCatchUpFirings = maxCatchUpFirings;
+        return this;
+    }
+
+    /**
+     * Sets the jitter window to this builder, within which each firing is delayed,
+     * so that job schedules with the same fire times do not start their jobs at the same instant.
+     * @param window the width of the jitter window, 0 to not delay firings
+     * @param unit the time unit of {@code window}
+     * @param jitter how firings are spread over the window
+     * @return this builder
+     *
+     * @see JobScheduleConfig#jitterWindow
+     * @see JobScheduleConfig#getJitterWindow(TimeUnit)
+     * @see JobScheduleConfig#getJitter()
+     * @since 2.1.1
+     */
+    public JobScheduleConfigBuilder jitter(final long window, final TimeUnit unit, final Jitter jitter) {
+        if (window < 0) {
+            throw new IllegalArgumentException("window: " + window);
+        }
+        this.jitterWindow = unit.toMillis(window);
+        this.jitter = jitter;
+        return this;
+    }
+
+    /**
+     * Sets the max number of concurrent job executions started by the job schedule to this builder.
+     * A firing that would exceed it is handled by the admission policy of the job scheduler.
+     * @param maxConcurrentExecutions the max number of concurrent job executions, unlimited by default
+     * @return this builder
+     *
+     * @see JobScheduleConfig#maxConcurrentExecutions
+     * @see JobScheduleConfig#getMaxConcurrentExecutions()
+     * @since 2.1.1
+     */
+    public JobScheduleConfigBuilder maxConcurrentExecutions(final int maxConcurrentExecutions) {
+        if (maxConcurrentExecutions <= 0) {
+            throw new IllegalArgumentException("maxConcurrentExecutions: " + maxConcurrentExecutions);
+        }
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        return this;
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+/**
+ * An event of a job schedule, published to the subscribers of
+ * {@link JobScheduler#getJobScheduleEvents()} and {@link JobScheduler#getJobScheduleEvents(String)}.
+ *
+ * @see JobScheduler#getJobScheduleEvents()
+ * @see JobScheduler#getJobScheduleEvents(String)
+ * @since 2.1.1
+ */
+public final class JobScheduleEvent {
+    /**
+     * Types of job schedule events.
+     */
+    public enum Type {
+        /**
+         * The job schedule was scheduled.
+         */
+        SCHEDULED,
+
+        /**
+         * The job schedule fired at one of its fire times, before the firing is launched.
+         */
+        FIRED,
+
+        /**
+         * A firing started a job or restarted a job execution.
+         */
+        LAUNCHED,
+
+        /**
+         * A firing failed to start a job or restart a job execution.
+         */
+        FAILED,
+
+        /**
+         * A firing was not admitted by the admission controller of the job scheduler.
+         */
+        THROTTLED,
+
+        /**
+         * The job schedule was cancelled. This is the last event of the job schedule.
+         */
+        CANCELLED,
+
+        /**
+         * The job schedule finished all its firings. This is the last event of the job schedule.
+         */
+        DONE;
+
+        /**
+         * Checks whether this type of event is the last event of a job schedule.
+         *
+         * @return true if this is {@link #CANCELLED} or {@link #DONE}
+         */
+        public boolean isFinal() {
+            return this == CANCELLED || this == DONE;
+        }
+    }
+
+    private final String scheduleId;
+    private final Type type;
+    private final long time;
+    private final long jobExecutionId;
+    private final Throwable failure;
+
+    /**
+     * Creates {@code JobScheduleEvent} that happens now.
+     *
+     * @param scheduleId the job schedule id
+     * @param type the event type
+     * @param jobExecutionId the id of the launched job execution, or 0 if none
+     * @param failure the failure of a {@link Type#FAILED} event, or null
+     */
+    public JobScheduleEvent(final String scheduleId, final Type type,
+                            final long jobExecutionId, final Throwable failure) {
+        this.scheduleId = scheduleId;
+        this.type = type;
+        this.time = System.currentTimeMillis();
+        this.jobExecutionId = jobExecutionId;
+        this.failure = failure;
+    }
+
+    /**
+     * Gets the job schedule id.
+     *
+     * @return the job schedule id
+     */
+    public String getScheduleId() {
+        return scheduleId;
+    }
+
+    /**
+     * Gets the event type.
+     *
+     * @return the event type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the time of the event.
+     *
+     * @return the time of the event in milliseconds since the epoch
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * Gets the id of the job execution started or restarted by a {@link Type#LAUNCHED} event.
+     *
+     * @return the job execution id, or 0 for other types of events
+     */
+    public long getJobExecutionId() {
+        return jobExecutionId;
+    }
+
+    /**
+     * Gets the failure of a {@link Type#FAILED} event.
+     *
+     * @return the failure, or null for other types of events
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return "JobScheduleEvent{" +
+                "scheduleId='" + scheduleId + '\'' +
+                ", type=" + type +
+                ", time=" + time +
+                ", jobExecutionId=" + jobExecutionId +
+                ", failure=" + failure +
+                '}';
+    }
+}
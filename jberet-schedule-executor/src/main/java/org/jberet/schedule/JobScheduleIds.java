@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Generates the positive long ids of job schedules without contending on a single
+ * counter. Blocks of {@value #BLOCK} consecutive ids are reserved from a shared counter,
+ * and handed out one by one from a stripe selected by the calling thread, so that threads
+ * scheduling at the same time mostly increment their own stripe. Ids are unique, but not
+ * in creation order across threads, and unused ids of a block may be skipped.
+ * <p>
+ * The id of a job schedule is the decimal string of its long id, see {@link #parse(String)}.
+ *
+ * @since 2.1.1
+ */
+final class JobScheduleIds {
+    /**
+     * Number of ids reserved from {@link #blocks} at once.
+     */
+    static final int BLOCK = 64;
+
+    /**
+     * Number of longs between two stripes in {@link #stripes}, to keep each stripe
+     * in its own cache line.
+     */
+    private static final int PAD = 16;
+
+    /**
+     * Max number of digits of a generated id, which keeps parsing free of overflow checks.
+     */
+    private static final int MAX_DIGITS = 18;
+
+    /**
+     * Start of the next block to reserve, always a multiple of {@link #BLOCK}.
+     */
+    private final AtomicLong blocks = new AtomicLong();
+
+    /**
+     * The last id handed out by each stripe, at every {@link #PAD}-th index. A multiple of
+     * {@link #BLOCK} means the block of the stripe is exhausted.
+     */
+    private final AtomicLongArray stripes;
+
+    private final int mask;
+
+    JobScheduleIds() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Creates a generator with at least the specified number of stripes.
+     *
+     * @param stripes min number of stripes, rounded up to a power of two, up to 256
+     */
+    JobScheduleIds(final int stripes) {
+        final int count = Integer.highestOneBit(Math.max(1, Math.min(stripes, 256) * 2 - 1));
+        this.stripes = new AtomicLongArray(count * PAD);
+        this.mask = count - 1;
+    }
+
+    /**
+     * Gets a new id.
+     *
+     * @return a new id, greater than 0
+     */
+    long next() {
+        final int i = stripe() * PAD;
+        for (;;) {
+            final long last = stripes.get(i);
+            if ((last & (BLOCK - 1)) != 0) {
+                if (stripes.compareAndSet(i, last, last + 1)) {
+                    return last + 1;
+                }
+            } else {
+                // the first id of a block is 1 past its start, so its last id is a multiple of BLOCK;
+                // if another thread has already replaced the exhausted block, the rest of this one is skipped
+                final long id = blocks.getAndAdd(BLOCK) + 1;
+                stripes.compareAndSet(i, last, id);
+                return id;
+            }
+        }
+    }
+
+    /**
+     * Reserves consecutive ids.
+     *
+     * @param count number of ids
+     * @return the first of the reserved ids
+     */
+    long reserve(final int count) {
+        return blocks.getAndAdd(((long) count + BLOCK - 1) & -BLOCK) + 1;
+    }
+
+    /**
+     * Makes sure that all ids generated afterwards are greater than the specified id,
+     * e.g., that of a job schedule recovered from a schedule store.
+     *
+     * @param id an id in use
+     */
+    void advancePast(final long id) {
+        blocks.accumulateAndGet((id + BLOCK - 1) & -BLOCK, Math::max);
+        for (int i = 0; i < stripes.length(); i += PAD) {
+            long last;
+            while ((last = stripes.get(i)) < id && (last & (BLOCK - 1)) != 0
+                    && !stripes.compareAndSet(i, last, (last | (BLOCK - 1)) + 1)) {
+                // retry
+            }
+        }
+    }
+
+    /**
+     * Parses the long id from a job schedule id generated by this class.
+     *
+     * @param scheduleId the job schedule id
+     * @return the long id, or -1 if the job schedule id is not the canonical decimal string
+     * of a positive long of up to 18 digits
+     */
+    static long parse(final String scheduleId) {
+        final int length = scheduleId.length();
+        if (length == 0 || length > MAX_DIGITS || scheduleId.charAt(0) == '0') {
+            return -1;
+        }
+        long id = 0;
+        for (int i = 0; i < length; i++) {
+            final int digit = scheduleId.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            id = id * 10 + digit;
+        }
+        return id;
+    }
+
+    private int stripe() {
+        return (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jberet.schedule._private.ScheduleExecutorMessages;
+
+/**
+ * Secondary indexes of job schedules by creation order, status and job name,
+ * so that a page of {@link JobScheduleQuery} results can be served in time
+ * proportional to the page size, instead of the number of job schedules.
+ * <p>
+ * Each job schedule is assigned a sequence number in creation order, and is
+ * kept in one sorted map per status, and in one sorted map per job name and
+ * status. A query merges the sorted maps of the requested statuses, starting
+ * from the cursor, which is the sequence number of the last job schedule of
+ * the previous page.
+ * <p>
+ * Status changes must go through {@link #setStatus(JobSchedule, JobSchedule.Status, JobSchedule.Status)}
+ * to keep the indexes current. A job schedule is added to the index of its
+ * new status before it is removed from that of its old status, so concurrent
+ * queries never miss it. The sorted maps of a job name are dropped when its
+ * last job schedule is removed.
+ *
+ * @since 2.1.1
+ */
+final class JobScheduleIndex {
+    private static final JobSchedule.Status[] ALL_STATUSES = JobSchedule.Status.values();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Map<JobSchedule.Status, ConcurrentNavigableMap<Long, JobSchedule>> byStatus = newStatusMaps();
+
+    private final ConcurrentMap<String, JobNameEntry> byJobName = new ConcurrentHashMap<String, JobNameEntry>();
+
+    /**
+     * Adds a job schedule to the indexes, assigning it the next sequence number.
+     *
+     * @param jobSchedule the job schedule to add
+     */
+    void add(final JobSchedule jobSchedule) {
+        synchronized (jobSchedule) {
+            final long seq = sequence.incrementAndGet();
+            jobSchedule.setSequence(seq);
+            acquireJobName(jobSchedule);
+            put(jobSchedule, jobSchedule.getStatus());
+        }
+    }
+
+    /**
+     * Adds job schedules to the indexes, assigning them consecutive sequence numbers
+     * in the order of the list.
+     *
+     * @param jobSchedules the job schedules to add
+     */
+    void addAll(final List<JobSchedule> jobSchedules) {
+        long seq = sequence.getAndAdd(jobSchedules.size());
+        for (final JobSchedule jobSchedule : jobSchedules) {
+            synchronized (jobSchedule) {
+                jobSchedule.setSequence(++seq);
+                acquireJobName(jobSchedule);
+                put(jobSchedule, jobSchedule.getStatus());
+            }
+        }
+    }
+
+    /**
+     * Removes a job schedule from the indexes.
+     *
+     * @param jobSchedule the job schedule to remove
+     */
+    void remove(final JobSchedule jobSchedule) {
+        synchronized (jobSchedule) {
+            if (jobSchedule.getSequence() > 0) {
+                for (final JobSchedule.Status status : ALL_STATUSES) {
+                    remove(jobSchedule, status);
+                }
+                releaseJobName(jobSchedule);
+                jobSchedule.setSequence(0);
+            }
+        }
+    }
+
+    /**
+     * Gets the job schedules that are cancelled or done, in creation order.
+     *
+     * @return the finished job schedules
+     */
+    List<JobSchedule> getFinished() {
+        final List<Iterator<Map.Entry<Long, JobSchedule>>> sources =
+                new ArrayList<Iterator<Map.Entry<Long, JobSchedule>>>(2);
+        sources.add(byStatus.get(JobSchedule.Status.CANCELLED).entrySet().iterator());
+        sources.add(byStatus.get(JobSchedule.Status.DONE).entrySet().iterator());
+        final List<JobSchedule> result = new ArrayList<JobSchedule>();
+        final MergingIterator merged = new MergingIterator(sources, true);
+        while (merged.hasNext()) {
+            result.add(merged.next().getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Changes the status of a job schedule, and moves it to the index of the new status.
+     *
+     * @param jobSchedule the job schedule
+     * @param expect the expected current status, or null to change from any status
+     * @param update the new status
+     * @return true if the status is changed; false if the current status is not
+     *          {@code expect}, or is already {@code update}
+     */
+    boolean setStatus(final JobSchedule jobSchedule, final JobSchedule.Status expect, final JobSchedule.Status update) {
+        synchronized (jobSchedule) {
+            final JobSchedule.Status old = jobSchedule.getStatus();
+            if (old == update || (expect != null && old != expect)) {
+                return false;
+            }
+            final boolean indexed = jobSchedule.getSequence() > 0;
+            if (indexed) {
+                put(jobSchedule, update);
+            }
+            jobSchedule.setStatus(update);
+            if (indexed) {
+                remove(jobSchedule, old);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Gets a page of job schedules matching the query.
+     *
+     * @param query the query
+     * @return a page of job schedules
+     */
+    JobSchedulePage query(final JobScheduleQuery query) {
+        final boolean ascending = query.getSortOrder() == JobScheduleQuery.SortOrder.CREATE_TIME_ASC;
+        final Long after = parseCursor(query.getCursor());
+
+        final Collection<JobSchedule.Status> statuses = query.getStatuses() == null ?
+                EnumSet.allOf(JobSchedule.Status.class) : query.getStatuses();
+        final Map<JobSchedule.Status, ConcurrentNavigableMap<Long, JobSchedule>> maps;
+        if (query.getJobName() == null) {
+            maps = byStatus;
+        } else {
+            final JobNameEntry entry = byJobName.get(query.getJobName());
+            if (entry == null) {
+                return new JobSchedulePage(new ArrayList<JobSchedule>(), null);
+            }
+            maps = entry.maps;
+        }
+
+        final List<Iterator<Map.Entry<Long, JobSchedule>>> sources =
+                new ArrayList<Iterator<Map.Entry<Long, JobSchedule>>>(statuses.size());
+        for (final JobSchedule.Status status : statuses) {
+            final ConcurrentNavigableMap<Long, JobSchedule> map = maps.get(status);
+            final ConcurrentNavigableMap<Long, JobSchedule> view;
+            if (ascending) {
+                view = after == null ? map : map.tailMap(after, false);
+            } else {
+                view = after == null ? map.descendingMap() : map.headMap(after, false).descendingMap();
+            }
+            sources.add(view.entrySet().iterator());
+        }
+
+        final int limit = query.getLimit();
+        final List<JobSchedule> result = new ArrayList<JobSchedule>(Math.min(limit, 64));
+        int toSkip = query.getOffset();
+        long lastKey = 0;
+        final MergingIterator merged = new MergingIterator(sources, ascending);
+        while (merged.hasNext()) {
+            final Map.Entry<Long, JobSchedule> entry = merged.next();
+            final JobSchedule jobSchedule = entry.getValue();
+            if (!query.matches(jobSchedule)) {
+                continue;
+            }
+            if (toSkip > 0) {
+                toSkip--;
+                continue;
+            }
+            if (result.size() == limit) {
+                return new JobSchedulePage(result, String.valueOf(lastKey));
+            }
+            result.add(jobSchedule);
+            lastKey = entry.getKey();
+        }
+        return new JobSchedulePage(result, null);
+    }
+
+    private static Long parseCursor(final String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(cursor);
+        } catch (final NumberFormatException e) {
+            throw ScheduleExecutorMessages.MESSAGES.invalidCursor(cursor);
+        }
+    }
+
+    private void put(final JobSchedule jobSchedule, final JobSchedule.Status status) {
+        final Long seq = jobSchedule.getSequence();
+        byStatus.get(status).put(seq, jobSchedule);
+        final String jobName = getJobName(jobSchedule);
+        if (jobName != null) {
+            byJobName.get(jobName).maps.get(status).put(seq, jobSchedule);
+        }
+    }
+
+    private void remove(final JobSchedule jobSchedule, final JobSchedule.Status status) {
+        final Long seq = jobSchedule.getSequence();
+        byStatus.get(status).remove(seq, jobSchedule);
+        final String jobName = getJobName(jobSchedule);
+        if (jobName != null) {
+            final JobNameEntry entry = byJobName.get(jobName);
+            if (entry != null) {
+                entry.maps.get(status).remove(seq, jobSchedule);
+            }
+        }
+    }
+
+    /**
+     * Counts a job schedule being added to the indexes of its job name, creating them if needed.
+     *
+     * @param jobSchedule the job schedule being added
+     */
+    private void acquireJobName(final JobSchedule jobSchedule) {
+        final String jobName = getJobName(jobSchedule);
+        if (jobName != null) {
+            byJobName.compute(jobName, (name, entry) -> {
+                final JobNameEntry result = entry == null ? new JobNameEntry() : entry;
+                result.count++;
+                return result;
+            });
+        }
+    }
+
+    /**
+     * Counts a job schedule removed from the indexes of its job name, and drops
+     * them after the last one.
+     *
+     * @param jobSchedule the removed job schedule
+     */
+    private void releaseJobName(final JobSchedule jobSchedule) {
+        final String jobName = getJobName(jobSchedule);
+        if (jobName != null) {
+            byJobName.computeIfPresent(jobName, (name, entry) -> --entry.count == 0 ? null : entry);
+        }
+    }
+
+    private static String getJobName(final JobSchedule jobSchedule) {
+        final JobScheduleConfig config = jobSchedule.getJobScheduleConfig();
+        return config == null ? null : config.getJobName();
+    }
+
+    private static Map<JobSchedule.Status, ConcurrentNavigableMap<Long, JobSchedule>> newStatusMaps() {
+        final Map<JobSchedule.Status, ConcurrentNavigableMap<Long, JobSchedule>> maps =
+                new EnumMap<JobSchedule.Status, ConcurrentNavigableMap<Long, JobSchedule>>(JobSchedule.Status.class);
+        for (final JobSchedule.Status status : ALL_STATUSES) {
+            maps.put(status, new ConcurrentSkipListMap<Long, JobSchedule>());
+        }
+        return maps;
+    }
+
+    /**
+     * The sorted maps of the job schedules of one job name, with the number of job
+     * schedules indexed, which is only changed inside {@code compute} of {@link #byJobName}.
+     */
+    private static final class JobNameEntry {
+        private final Map<JobSchedule.Status, ConcurrentNavigableMap<Long, JobSchedule>> maps = newStatusMaps();
+        private int count;
+    }
+
+    /**
+     * Merges the entries of several iterators, each sorted by sequence number,
+     * skipping an entry with the same sequence number as the previous one, which
+     * can be seen twice while its job schedule is moved between two status indexes.
+     */
+    private static final class MergingIterator implements Iterator<Map.Entry<Long, JobSchedule>> {
+        private final List<Iterator<Map.Entry<Long, JobSchedule>>> sources;
+        private final Map.Entry<Long, JobSchedule>[] heads;
+        private final boolean ascending;
+        private long last = -1;
+        private Map.Entry<Long, JobSchedule> next;
+
+        @SuppressWarnings("unchecked")
+        MergingIterator(final List<Iterator<Map.Entry<Long, JobSchedule>>> sources, final boolean ascending) {
+            this.sources = sources;
+            this.ascending = ascending;
+            this.heads = new Map.Entry[sources.size()];
+            for (int i = 0; i < heads.length; i++) {
+                final Iterator<Map.Entry<Long, JobSchedule>> it = sources.get(i);
+                heads[i] = it.hasNext() ? it.next() : null;
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<Long, JobSchedule> next() {
+            final Map.Entry<Long, JobSchedule> result = next;
+            if (result == null) {
+                throw new NoSuchElementException();
+            }
+            advance();
+            return result;
+        }
+
+        private void advance() {
+            next = null;
+            while (next == null) {
+                int best = -1;
+                for (int i = 0; i < heads.length; i++) {
+                    if (heads[i] != null && (best < 0 || (ascending ?
+                            heads[i].getKey() < heads[best].getKey() : heads[i].getKey() > heads[best].getKey()))) {
+                        best = i;
+                    }
+                }
+                if (best < 0) {
+                    return;
+                }
+                final Map.Entry<Long, JobSchedule> entry = heads[best];
+                final Iterator<Map.Entry<Long, JobSchedule>> it = sources.get(best);
+                heads[best] = it.hasNext() ? it.next() : null;
+                if (entry.getKey() != last) {
+                    last = entry.getKey();
+                    next = entry;
+                }
+            }
+        }
+    }
+}
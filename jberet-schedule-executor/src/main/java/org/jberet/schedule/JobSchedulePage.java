@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Represents a page of job schedules returned for a {@link JobScheduleQuery}.
+ * Instances of this class may be transferred during remote REST API invocations.
+ *
+ * @see JobScheduler#getJobSchedules(JobScheduleQuery)
+ * @since 2.1.1
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+public final class JobSchedulePage implements Serializable {
+    private static final long serialVersionUID = 2104697305316452237L;
+
+    /**
+     * The job schedules in this page, in the sort order of the query.
+     */
+    @XmlElement(name = "jobSchedule")
+    private final List<JobSchedule> jobSchedules;
+
+    /**
+     * The cursor to get the next page, or null if this is the last page.
+     */
+    private final String nextCursor;
+
+    /**
+     * Default no-arg constructor.
+     */
+    public JobSchedulePage() {
+        this(Collections.<JobSchedule>emptyList(), null);
+    }
+
+    /**
+     * Constructs {@code JobSchedulePage} with job schedules and the cursor of the next page.
+     *
+     * @param jobSchedules the job schedules in this page
+     * @param nextCursor   the cursor to get the next page, or null if this is the last page
+     */
+    public JobSchedulePage(final List<JobSchedule> jobSchedules, final String nextCursor) {
+        this.jobSchedules = jobSchedules;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the job schedules in this page.
+     * @return the job schedules in this page
+     */
+    public List<JobSchedule> getJobSchedules() {
+        return jobSchedules;
+    }
+
+    /**
+     * Gets the cursor to get the next page, to be passed to
+     * {@link JobScheduleQueryBuilder#cursor(String)}.
+     * @return the cursor of the next page, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "JobSchedulePage{" +
+                "jobSchedules=" + jobSchedules +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
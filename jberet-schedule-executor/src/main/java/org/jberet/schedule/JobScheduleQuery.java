@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Represents a query for job schedules, with optional filters, sort order and
+ * paging. Instances of this class may be transferred during remote REST API
+ * invocations, and are typically created with {@link JobScheduleQueryBuilder}.
+ * <p>
+ * A page of results can be requested either with {@link #offset}, which skips
+ * the specified number of matching job schedules, or with {@link #cursor}, which
+ * continues right after the last job schedule of a previous page. A cursor is
+ * opaque, and is only valid for the job scheduler that returned it.
+ *
+ * @see JobScheduler#getJobSchedules(JobScheduleQuery)
+ * @see JobSchedulePage
+ * @since 2.1.1
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+public final class JobScheduleQuery implements Serializable {
+    private static final long serialVersionUID = -3716250846378917206L;
+
+    /**
+     * Sort orders of the query results.
+     */
+    public enum SortOrder {
+        /**
+         * Oldest job schedules first.
+         */
+        CREATE_TIME_ASC,
+
+        /**
+         * Newest job schedules first. This is the default, and the same order
+         * as returned by {@link JobScheduler#getJobSchedules()}.
+         */
+        CREATE_TIME_DESC
+    }
+
+    /**
+     * The statuses to match, or null to match any status.
+     */
+    final Set<JobSchedule.Status> statuses;
+
+    /**
+     * The job XML name to match, or null to match any job. Job schedules that
+     * restart a job execution do not have a job name, and never match.
+     */
+    final String jobName;
+
+    /**
+     * The sort order of the results.
+     */
+    final SortOrder sortOrder;
+
+    /**
+     * The number of matching job schedules to skip, after {@link #cursor} if specified.
+     */
+    final int offset;
+
+    /**
+     * The max number of job schedules to return.
+     */
+    final int limit;
+
+    /**
+     * The cursor returned with a previous page, to continue after that page.
+     */
+    final String cursor;
+
+    /**
+     * Default no-arg constructor.
+     */
+    public JobScheduleQuery() {
+        this(null, null, null, 0, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Constructs {@code JobScheduleQuery} with parameters.
+     *
+     * @param statuses  statuses to match
+     * @param jobName   job XML name to match
+     * @param sortOrder sort order of the results
+     * @param offset    number of matching job schedules to skip
+     * @param limit     max number of job schedules to return
+     * @param cursor    cursor to continue after a previous page
+     */
+    JobScheduleQuery(final Set<JobSchedule.Status> statuses,
+                     final String jobName,
+                     final SortOrder sortOrder,
+                     final int offset,
+                     final int limit,
+                     final String cursor) {
+        this.statuses = statuses == null || statuses.isEmpty() ? null :
+                Collections.unmodifiableSet(EnumSet.copyOf(statuses));
+        this.jobName = jobName;
+        this.sortOrder = sortOrder;
+        this.offset = offset;
+        this.limit = limit;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Gets the statuses to match.
+     * @return the statuses to match, or null to match any status
+     */
+    public Set<JobSchedule.Status> getStatuses() {
+        return statuses;
+    }
+
+    /**
+     * Gets the job XML name to match.
+     * @return the job XML name to match, or null to match any job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Gets the sort order of the results.
+     * @return the sort order, defaults to {@link SortOrder#CREATE_TIME_DESC}
+     */
+    public SortOrder getSortOrder() {
+        return sortOrder == null ? SortOrder.CREATE_TIME_DESC : sortOrder;
+    }
+
+    /**
+     * Gets the number of matching job schedules to skip.
+     * @return the number of matching job schedules to skip
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Gets the max number of job schedules to return.
+     * @return the max number of job schedules to return
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Gets the cursor to continue after a previous page.
+     * @return the cursor, or null to start from the first matching job schedule
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Checks if a job schedule matches the filters of this query.
+     *
+     * @param jobSchedule the job schedule to check
+     * @return true if the job schedule matches; false otherwise
+     */
+    public boolean matches(final JobSchedule jobSchedule) {
+        if (statuses != null && !statuses.contains(jobSchedule.getStatus())) {
+            return false;
+        }
+        if (jobName != null) {
+            final JobScheduleConfig config = jobSchedule.getJobScheduleConfig();
+            return config != null && jobName.equals(config.getJobName());
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "JobScheduleQuery{" +
+                "statuses=" + statuses +
+                ", jobName='" + jobName + '\'' +
+                ", sortOrder=" + getSortOrder() +
+                ", offset=" + offset +
+                ", limit=" + limit +
+                ", cursor='" + cursor + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Builder class for {@link JobScheduleQuery}.
+ *
+ * @see JobScheduleQuery
+ * @since 2.1.1
+ */
+public final class JobScheduleQueryBuilder {
+    private Set<JobSchedule.Status> statuses;
+    private String jobName;
+    private JobScheduleQuery.SortOrder sortOrder = JobScheduleQuery.SortOrder.CREATE_TIME_DESC;
+    private int offset;
+    private int limit = Integer.MAX_VALUE;
+    private String cursor;
+
+    private JobScheduleQueryBuilder() {
+    }
+
+    /**
+     * Creates a new instance of this builder.
+     * @return a new instance of {@code JobScheduleQueryBuilder}
+     */
+    public static JobScheduleQueryBuilder newInstance() {
+        return new JobScheduleQueryBuilder();
+    }
+
+    /**
+     * Builds a new instance of {@link JobScheduleQuery} from this builder instance.
+     * @return a new instance of {@code JobScheduleQuery}
+     */
+    public JobScheduleQuery build() {
+        return new JobScheduleQuery(statuses, jobName, sortOrder, offset, limit, cursor);
+    }
+
+    /**
+     * Sets the statuses to match to this builder. If not set, job schedules
+     * of any status match.
+     * @param statuses statuses to match
+     * @return this builder
+     *
+     * @see JobScheduleQuery#getStatuses()
+     */
+    public JobScheduleQueryBuilder statuses(final JobSchedule.Status... statuses) {
+        this.statuses = statuses == null || statuses.length == 0 ? null : EnumSet.copyOf(Arrays.asList(statuses));
+        return this;
+    }
+
+    /**
+     * Sets the job XML name to match to this builder. If not set, job schedules
+     * of any job match.
+     * @param jobName job XML name to match
+     * @return this builder
+     *
+     * @see JobScheduleQuery#getJobName()
+     */
+    public JobScheduleQueryBuilder jobName(final String jobName) {
+        this.jobName = jobName;
+        return this;
+    }
+
+    /**
+     * Sets the sort order to this builder. If not set, defaults to
+     * {@link JobScheduleQuery.SortOrder#CREATE_TIME_DESC}.
+     * @param sortOrder sort order of the results
+     * @return this builder
+     *
+     * @see JobScheduleQuery#getSortOrder()
+     */
+    public JobScheduleQueryBuilder sortOrder(final JobScheduleQuery.SortOrder sortOrder) {
+        this.sortOrder = sortOrder;
+        return this;
+    }
+
+    /**
+     * Sets the number of matching job schedules to skip to this builder.
+     * @param offset number of matching job schedules to skip
+     * @return this builder
+     *
+     * @see JobScheduleQuery#getOffset()
+     */
+    public JobScheduleQueryBuilder offset(final int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset: " + offset);
+        }
+        this.offset = offset;
+        return this;
+    }
+
+    /**
+     * Sets the max number of job schedules to return to this builder.
+     * If not set, all matching job schedules are returned.
+     * @param limit max number of job schedules to return
+     * @return this builder
+     *
+     * @see JobScheduleQuery#getLimit()
+     */
+    public JobScheduleQueryBuilder limit(final int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit: " + limit);
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Sets the cursor returned with a previous page to this builder,
+     * so as to continue after that page.
+     * @param cursor cursor from {@link JobSchedulePage#getNextCursor()}
+     * @return this builder
+     *
+     * @see JobScheduleQuery#getCursor()
+     */
+    public JobScheduleQueryBuilder cursor(final String cursor) {
+        this.cursor = cursor;
+        return this;
+    }
+}
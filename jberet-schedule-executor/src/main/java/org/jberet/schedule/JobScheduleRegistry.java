@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jberet.schedule._private.ScheduleExecutorMessages;
+
+/**
+ * Keeps the job schedules of a job scheduler by id. Job schedules with ids generated by
+ * {@link JobScheduleIds} are kept in segmented open-addressing tables of primitive long
+ * ids, which are read without locking, and written under the lock of one segment.
+ * Job schedules with other ids, e.g., recovered from a schedule store written by another
+ * job scheduler, are kept in a {@code ConcurrentHashMap}.
+ * <p>
+ * If an external {@code ConcurrentMap} was specified for the job scheduler, all changes
+ * are also written to it, and job schedules not found in this registry are looked up in it.
+ *
+ * @since 2.1.1
+ */
+final class JobScheduleRegistry {
+    private static final int SEGMENT_BITS = 4;
+
+    /**
+     * Consecutive ids are hashed in groups of {@code 1 << GROUP_BITS} to consecutive slots,
+     * so that ids generated one after another share cache lines.
+     */
+    private static final int GROUP_BITS = 3;
+
+    private final Segment[] segments = new Segment[1 << SEGMENT_BITS];
+
+    private final ConcurrentMap<String, JobSchedule> others = new ConcurrentHashMap<String, JobSchedule>();
+
+    private final ConcurrentMap<String, JobSchedule> external;
+
+    /**
+     * Creates a registry.
+     *
+     * @param external the map to write all changes to, or null
+     */
+    JobScheduleRegistry(final ConcurrentMap<String, JobSchedule> external) {
+        this.external = external;
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Gets a job schedule.
+     *
+     * @param scheduleId the job schedule id
+     * @return the job schedule, or null if not found
+     */
+    JobSchedule get(final String scheduleId) {
+        final long id = JobScheduleIds.parse(scheduleId);
+        final JobSchedule jobSchedule = id > 0 ? segment(id).get(id) : others.get(scheduleId);
+        if (jobSchedule == null && external != null) {
+            return external.get(scheduleId);
+        }
+        return jobSchedule;
+    }
+
+    /**
+     * Adds a job schedule with an id generated by {@link JobScheduleIds}.
+     *
+     * @param id the long id of the job schedule
+     * @param jobSchedule the job schedule
+     * @throws jakarta.batch.operations.BatchRuntimeException if the id is already in use
+     */
+    void add(final long id, final JobSchedule jobSchedule) {
+        if (!segment(id).putIfAbsent(id, jobSchedule)) {
+            throw ScheduleExecutorMessages.MESSAGES.duplicateJobScheduleId(jobSchedule.getId());
+        }
+        if (external != null) {
+            external.put(jobSchedule.getId(), jobSchedule);
+        }
+    }
+
+    /**
+     * Adds a job schedule, unless a job schedule with the same id is already kept.
+     *
+     * @param jobSchedule the job schedule
+     * @return true if added, false otherwise
+     */
+    boolean addIfAbsent(final JobSchedule jobSchedule) {
+        final String scheduleId = jobSchedule.getId();
+        final long id = JobScheduleIds.parse(scheduleId);
+        final boolean added = id > 0 ? segment(id).putIfAbsent(id, jobSchedule) :
+                others.putIfAbsent(scheduleId, jobSchedule) == null;
+        if (added && external != null) {
+            external.putIfAbsent(scheduleId, jobSchedule);
+        }
+        return added;
+    }
+
+    /**
+     * Removes a job schedule, if it is still kept.
+     *
+     * @param jobSchedule the job schedule
+     * @return true if removed, false otherwise
+     */
+    boolean remove(final JobSchedule jobSchedule) {
+        final String scheduleId = jobSchedule.getId();
+        final long id = JobScheduleIds.parse(scheduleId);
+        final boolean removed = id > 0 ? segment(id).remove(id, jobSchedule) :
+                others.remove(scheduleId, jobSchedule);
+        return external != null && external.remove(scheduleId, jobSchedule) || removed;
+    }
+
+    private Segment segment(final long id) {
+        return segments[(int) (mix(id >>> GROUP_BITS) >>> (64 - SEGMENT_BITS))];
+    }
+
+    private static long mix(final long id) {
+        return id * 0x9E3779B97F4A7C15L;
+    }
+
+    /**
+     * An open-addressing table with linear probing, keeping ids and job schedules in
+     * parallel arrays. When a job schedule is removed, its slot keeps the id with a null
+     * job schedule, until the slot is reused by another id, which is written before its
+     * job schedule. A reader that finds an id reads the job schedule, and then checks that
+     * the slot still has the id. When more than half of the slots have been used, the
+     * job schedules are rehashed into a new table, so that probing always ends at an empty
+     * slot. Readers of a replaced table still find the entries as they were before the rehash.
+     */
+    private static final class Segment {
+        private static final VarHandle IDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+        private static final VarHandle JOB_SCHEDULES = MethodHandles.arrayElementVarHandle(JobSchedule[].class);
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private volatile Table table = new Table(INITIAL_CAPACITY);
+
+        /**
+         * Number of job schedules, guarded by this segment.
+         */
+        private int size;
+
+        /**
+         * Number of slots with an id, guarded by this segment.
+         */
+        private int used;
+
+        JobSchedule get(final long id) {
+            final Table tab = table;
+            final int mask = tab.ids.length - 1;
+            for (int i = start(id, mask); ; i = (i + 1) & mask) {
+                final long slotId = (long) IDS.getAcquire(tab.ids, i);
+                if (slotId == id) {
+                    final JobSchedule jobSchedule = (JobSchedule) JOB_SCHEDULES.getAcquire(tab.jobSchedules, i);
+                    if ((long) IDS.getAcquire(tab.ids, i) == id) {
+                        return jobSchedule;
+                    }
+                    // the slot has been reused by another id, so the id has been removed
+                    return null;
+                }
+                if (slotId == 0) {
+                    return null;
+                }
+            }
+        }
+
+        synchronized boolean putIfAbsent(final long id, final JobSchedule jobSchedule) {
+            final Table tab = table;
+            final int mask = tab.ids.length - 1;
+            int free = -1;
+            int i = start(id, mask);
+            for (long slotId; (slotId = tab.ids[i]) != 0; i = (i + 1) & mask) {
+                if (tab.jobSchedules[i] == null) {
+                    if (slotId == id) {
+                        free = i;
+                        break;
+                    }
+                    if (free < 0) {
+                        free = i;
+                    }
+                } else if (slotId == id) {
+                    return false;
+                }
+            }
+            size++;
+            if (free >= 0) {
+                IDS.setRelease(tab.ids, free, id);
+                JOB_SCHEDULES.setRelease(tab.jobSchedules, free, jobSchedule);
+                return true;
+            }
+            JOB_SCHEDULES.setRelease(tab.jobSchedules, i, jobSchedule);
+            IDS.setRelease(tab.ids, i, id);
+            if (++used * 2 > tab.ids.length) {
+                rehash(tab);
+            }
+            return true;
+        }
+
+        synchronized boolean remove(final long id, final JobSchedule jobSchedule) {
+            final Table tab = table;
+            final int mask = tab.ids.length - 1;
+            for (int i = start(id, mask); ; i = (i + 1) & mask) {
+                final long slotId = tab.ids[i];
+                if (slotId == id && tab.jobSchedules[i] != null) {
+                    if (tab.jobSchedules[i] != jobSchedule) {
+                        return false;
+                    }
+                    JOB_SCHEDULES.setRelease(tab.jobSchedules, i, null);
+                    size--;
+                    return true;
+                }
+                if (slotId == 0) {
+                    return false;
+                }
+            }
+        }
+
+        /**
+         * Copies the job schedules into a new table with 2 to 4 slots per job schedule,
+         * and publishes it.
+         */
+        private void rehash(final Table tab) {
+            final Table rehashed = new Table(
+                    Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, size)) * 4));
+            final int mask = rehashed.ids.length - 1;
+            for (int j = 0; j < tab.ids.length; j++) {
+                final JobSchedule jobSchedule = tab.jobSchedules[j];
+                if (jobSchedule != null) {
+                    int i = start(tab.ids[j], mask);
+                    while (rehashed.ids[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    rehashed.ids[i] = tab.ids[j];
+                    rehashed.jobSchedules[i] = jobSchedule;
+                }
+            }
+            used = size;
+            table = rehashed;
+        }
+
+        private static int start(final long id, final int mask) {
+            return ((int) (mix(id >>> GROUP_BITS) >>> 24) << GROUP_BITS | (int) id & ((1 << GROUP_BITS) - 1)) & mask;
+        }
+    }
+
+    /**
+     * The arrays of a segment, published together.
+     */
+    private static final class Table {
+        final long[] ids;
+        final JobSchedule[] jobSchedules;
+
+        Table(final int capacity) {
+            ids = new long[capacity];
+            jobSchedules = new JobSchedule[capacity];
+        }
+    }
+}
@@ -10,9 +10,17 @@
 
 package org.jberet.schedule;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.schedule._private.ScheduleExecutorLogger;
+
 /**
  * A task that is submitted to the job scheduler, and when the schedule matures,
  * starts the job or restarts the job execution based on {@link JobSchedule}.
+ * <p>
+ * If a launch executor is given, this task only hands the launch over to it,
+ * so that a slow job start does not hold up the scheduling thread.
  *
  * @see JobSchedule
  * @see JobScheduler
@@ -21,27 +29,402 @@ package org.jberet.schedule;
 class JobScheduleTask implements Runnable {
     private final JobSchedule jobSchedule;
 
+    /**
+     * The job scheduler to notify when the job schedule is done, may be null.
+     */
+    private final ExecutorSchedulerImpl scheduler;
+
+    /**
+     * Executor for starting or restarting job executions, or null to launch
+     * on the scheduling thread.
+     */
+    private final Executor launchExecutor;
+
+    private final StageStatistics.Recorder tickStage;
+
+    private final StageStatistics.Recorder launchStage;
+
+    /**
+     * The {@code System.nanoTime()} at which the next run is planned.
+     * Only accessed by the scheduling thread.
+     */
+    private long plannedNanos;
+
+    /**
+     * The number of missed firings fired in the current backlog, or -1 if not in a backlog.
+     * Only accessed by the scheduling thread.
+     *
+     * @see MisfirePolicy
+     */
+    private int catchUpFirings = -1;
+
+    /**
+     * The generation of the job schedule this task was armed with.
+     *
+     * @see ExecutorSchedulerImpl#reschedule(String, long)
+     */
+    private final int generation;
+
     /**
      * Creates {@code JobScheduleTask} with {@link JobSchedule} passed in.
-     * @param jobSchedule
+     * @param jobSchedule the job schedule
      */
     JobScheduleTask(final JobSchedule jobSchedule) {
+        this(jobSchedule, null, null, null, null);
+    }
+
+    /**
+     * Creates {@code JobScheduleTask} with {@link JobSchedule}, job scheduler, launch executor,
+     * and recorders for the tick and launch stages. The first run is planned after the
+     * initial delay of the job schedule config.
+     *
+     * @param jobSchedule the job schedule
+     * @param scheduler the job scheduler to notify when the job schedule is done, may be null
+     * @param launchExecutor executor for launching job executions, may be null
+     * @param tickStage recorder for the lag of the scheduling thread, may be null
+     * @param launchStage recorder for the lag of the launch executor, may be null
+     */
+    JobScheduleTask(final JobSchedule jobSchedule,
+                    final ExecutorSchedulerImpl scheduler,
+                    final Executor launchExecutor,
+                    final StageStatistics.Recorder tickStage,
+                    final StageStatistics.Recorder launchStage) {
+        this(jobSchedule, scheduler, launchExecutor, tickStage, launchStage,
+                jobSchedule.getJobScheduleConfig().getTimeUnit().toNanos(
+                        jobSchedule.getJobScheduleConfig().initialDelay));
+    }
+
+    /**
+     * Creates {@code JobScheduleTask} with {@link JobSchedule}, job scheduler, launch executor,
+     * recorders for the tick and launch stages, and the delay of the first run.
+     *
+     * @param jobSchedule the job schedule
+     * @param scheduler the job scheduler to notify when the job schedule is done, may be null
+     * @param launchExecutor executor for launching job executions, may be null
+     * @param tickStage recorder for the lag of the scheduling thread, may be null
+     * @param launchStage recorder for the lag of the launch executor, may be null
+     * @param initialDelayNanos delay of the first run in nanoseconds, e.g., the remaining
+     *                          delay of a job schedule recovered from a schedule store
+     */
+    JobScheduleTask(final JobSchedule jobSchedule,
+                    final ExecutorSchedulerImpl scheduler,
+                    final Executor launchExecutor,
+                    final StageStatistics.Recorder tickStage,
+                    final StageStatistics.Recorder launchStage,
+                    final long initialDelayNanos) {
         this.jobSchedule = jobSchedule;
+        this.scheduler = scheduler;
+        this.launchExecutor = launchExecutor;
+        this.tickStage = tickStage;
+        this.launchStage = launchStage;
+        this.plannedNanos = System.nanoTime() + initialDelayNanos;
+        this.generation = jobSchedule.nextGeneration();
     }
 
     /**
      * Runs the task by starting the job or restarting the job execution,
      * and saving the new job execution id in {@link JobSchedule}.
+     * If a launch executor is present, the launch is submitted to it instead.
      */
     @Override
     public void run() {
         final JobScheduleConfig config = jobSchedule.getJobScheduleConfig();
-        if (config.jobExecutionId > 0) {
-            jobSchedule.addJobExecutionIds(
-                JobScheduler.getJobOperator().restart(config.jobExecutionId, config.jobParameters));
+        final long planned = plannedNanos;
+        if (config.interval > 0) {
+            final long intervalNanos = config.getTimeUnit().toNanos(config.interval);
+            plannedNanos += intervalNanos;
+            if (misfire(config, System.nanoTime() - planned >= intervalNanos)) {
+                return;
+            }
+        }
+        try {
+            fire(planned);
+        } catch (final Throwable e) {
+            // the scheduled executor service does not run a task again after it throws
+            done();
+            throw e;
+        }
+        if (config.interval <= 0) {
+            if (config.afterDelay > 0) {
+                plannedNanos = System.nanoTime() + config.getTimeUnit().toNanos(config.afterDelay);
+            } else {
+                done();
+            }
+        }
+    }
+
+    /**
+     * Applies the misfire policy of a repeatable job schedule to the current run.
+     * The scheduled executor service runs a fixed-rate task back-to-back for all its
+     * missed runs, so a run is missed if the next run is also due.
+     *
+     * @param config the job schedule config
+     * @param missed whether the current run is missed
+     * @return true if the current run should not fire
+     */
+    private boolean misfire(final JobScheduleConfig config, final boolean missed) {
+        if (!missed && catchUpFirings < 0) {
+            return false;
+        }
+        final MisfirePolicy policy = config.getMisfirePolicy();
+        final boolean skip;
+        if (missed) {
+            if (catchUpFirings < 0) {
+                catchUpFirings = 0;
+            }
+            // the run that ends the backlog also counts against the max number of catch-up firings
+            if (policy == MisfirePolicy.FIRE_ALL && catchUpFirings < config.getMaxCatchUpFirings() - 1) {
+                catchUpFirings++;
+                skip = false;
+            } else {
+                skip = true;
+            }
+        } else {
+            // the run that ends the backlog
+            catchUpFirings = -1;
+            skip = policy == MisfirePolicy.SKIP;
+        }
+        if (skip && scheduler != null) {
+            scheduler.getMetrics().misfired(jobSchedule, policy, 1);
+        }
+        return skip;
+    }
+
+    /**
+     * Fires a job schedule recovered from a schedule store for its firings missed while
+     * the application was down, if any, as its misfire policy allows. The most recent
+     * missed firings are fired, each with its own planned fire time.
+     *
+     * @param missed the number of missed firings
+     * @param lastFireTime the planned fire time of the last missed firing, in milliseconds since the epoch
+     * @param period the time between two fire times in milliseconds
+     */
+    void catchUp(final long missed, final long lastFireTime, final long period) {
+        final JobScheduleConfig config = jobSchedule.getJobScheduleConfig();
+        final MisfirePolicy policy = config.getMisfirePolicy();
+        final long firings = policy == MisfirePolicy.SKIP ? 0 :
+                policy == MisfirePolicy.FIRE_ONCE ? 1 : Math.min(missed, config.getMaxCatchUpFirings());
+        if (missed > firings && scheduler != null) {
+            scheduler.getMetrics().misfired(jobSchedule, policy, (int) Math.min(missed - firings, Integer.MAX_VALUE));
+        }
+        for (long i = firings - 1; i >= 0; i--) {
+            final long fireTime = lastFireTime - i * period;
+            fire(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - fireTime), fireTime);
+        }
+    }
+
+    /**
+     * Notifies the job scheduler that the job schedule has finished all its runs.
+     */
+    void done() {
+        if (scheduler != null) {
+            scheduler.done(jobSchedule, generation);
+        }
+    }
+
+    /**
+     * Fires the job schedule that was planned to fire at the specified time. If the
+     * job schedule has a jitter window, its job is launched after the jitter offset.
+     *
+     * @param plannedNanos the {@code System.nanoTime()} at which the job schedule was planned to fire
+     */
+    void fire(final long plannedNanos) {
+        fire(plannedNanos, -1);
+    }
+
+    /**
+     * Fires the job schedule that was planned to fire at the specified time. If the
+     * job schedule has a jitter window, its job is launched after the jitter offset.
+     *
+     * @param plannedNanos the {@code System.nanoTime()} at which the job schedule was planned to fire
+     * @param fireTime the exact planned fire time in milliseconds since the epoch, e.g., of a
+     *                 schedule expression, or -1 to derive it from {@code plannedNanos}
+     */
+    void fire(final long plannedNanos, final long fireTime) {
+        final long now = System.nanoTime();
+        if (tickStage != null) {
+            tickStage.record(now - plannedNanos);
+        }
+        final long plannedMillis = fireTime >= 0 ? fireTime :
+                System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(now - plannedNanos);
+        jobSchedule.setLastFireTime(plannedMillis);
+
+        final long jitterNanos = scheduler == null ? 0 :
+                jobSchedule.getJobScheduleConfig().getJitterOffset(jobSchedule.getId(), TimeUnit.NANOSECONDS);
+        if (jitterNanos <= 0) {
+            dispatch(plannedNanos, plannedMillis);
+        } else {
+            scheduler.executorService.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (jobSchedule.getStatus() == JobSchedule.Status.CANCELLED) {
+                        return;
+                    }
+                    try {
+                        dispatch(plannedNanos + jitterNanos, plannedMillis);
+                    } catch (final Throwable e) {
+                        ScheduleExecutorLogger.LOGGER.failToLaunch(e, jobSchedule.getId());
+                    }
+                }
+            }, plannedNanos + jitterNanos - now, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Launches the job schedule, or submits the launch to the launch executor, if present.
+     *
+     * @param plannedNanos the {@code System.nanoTime()} at which the job schedule was planned to launch
+     * @param plannedMillis the planned fire time in milliseconds since the epoch, without jitter
+     */
+    private void dispatch(final long plannedNanos, final long plannedMillis) {
+        final long now = System.nanoTime();
+        if (scheduler != null) {
+            scheduler.getMetrics().fired(jobSchedule, Math.max(now - plannedNanos, 0));
+            scheduler.publish(jobSchedule.getId(), JobScheduleEvent.Type.FIRED, 0, null);
+        }
+
+        if (launchExecutor == null) {
+            if (claim(plannedMillis)) {
+                launch();
+            }
         } else {
-            jobSchedule.addJobExecutionIds(
-                JobScheduler.getJobOperator().start(config.jobName, config.jobParameters));
+            launchExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    if (launchStage != null) {
+                        launchStage.record(System.nanoTime() - now);
+                    }
+                    try {
+                        if (claim(plannedMillis)) {
+                            launch();
+                        }
+                    } catch (final Throwable e) {
+                        ScheduleExecutorLogger.LOGGER.failToLaunch(e, jobSchedule.getId());
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Claims the firing with the firing guard of the job scheduler, if any, so that
+     * a firing shared with other job schedulers is launched only once. The firing is
+     * identified by its fire time in the job schedule, which is the same on all nodes.
+     *
+     * @param plannedMillis the planned fire time in milliseconds since the epoch
+     * @return true if the firing is claimed or there is no firing guard; false otherwise
+     */
+    private boolean claim(final long plannedMillis) {
+        final FiringGuard guard = scheduler == null ? null : scheduler.getFiringGuard();
+        if (guard == null) {
+            return true;
+        }
+        final JobScheduleConfig config = jobSchedule.getJobScheduleConfig();
+        final TimeUnit unit = config.getTimeUnit();
+        long fireTime = plannedMillis;
+        long spacing = 1;
+        if (config.scheduleExpression == null || config.initialDelay > 0) {
+            // fire times are counted from the create time, which is the same on all nodes
+            final long first = jobSchedule.getCreateTime().getTime() + unit.toMillis(config.initialDelay);
+            if (config.interval > 0) {
+                final long period = unit.toMillis(config.interval);
+                fireTime = first + Math.round((plannedMillis - first) / (double) period) * period;
+            } else if (config.afterDelay > 0) {
+                // fire times depend on when each job execution was launched on each node
+                spacing = Math.max(unit.toMillis(config.afterDelay) / 2, 1);
+            } else {
+                fireTime = first;
+            }
+        }
+        try {
+            return guard.claim(jobSchedule.getId(), fireTime, spacing);
+        } catch (final RuntimeException e) {
+            ScheduleExecutorLogger.LOGGER.failToClaimFiring(e, jobSchedule.getId());
+            return false;
+        }
+    }
+
+    /**
+     * Starts the job or restarts the job execution, saves the new
+     * job execution id in {@link JobSchedule}, and notifies the job scheduler.
+     */
+    private void launch() {
+        final AdmissionController admission = scheduler == null ? null : scheduler.getAdmissionController();
+        final AdmissionController.Permit permit = admission == null ? null : admission.tryAcquire(jobSchedule);
+        if (admission != null && permit == null) {
+            throttle(admission);
+            return;
+        }
+        final JobScheduleConfig config = jobSchedule.getJobScheduleConfig();
+        final long next = jobSchedule.getNextJobExecutionId();
+        final long restartId = next == 0 ? config.jobExecutionId : next;
+        final long start = System.nanoTime();
+        final long jobExecutionId;
+        try {
+            if (restartId > 0) {
+                jobExecutionId = JobScheduler.getJobOperator().restart(restartId, config.jobParameters);
+            } else {
+                jobExecutionId = JobScheduler.getJobOperator().start(config.jobName, config.jobParameters);
+            }
+        } catch (final RuntimeException | Error e) {
+            if (permit != null) {
+                permit.release();
+            }
+            if (scheduler != null) {
+                scheduler.getMetrics().failed(jobSchedule, e);
+                scheduler.publish(jobSchedule.getId(), JobScheduleEvent.Type.FAILED, 0, e);
+            }
+            throw e;
+        }
+        if (permit != null) {
+            permit.started(jobExecutionId);
+        }
+        jobSchedule.addJobExecutionIds(jobExecutionId);
+        if (scheduler != null) {
+            scheduler.getMetrics().launched(jobSchedule, System.nanoTime() - start);
+            scheduler.publish(jobSchedule.getId(), JobScheduleEvent.Type.LAUNCHED, jobExecutionId, null);
+            scheduler.changed(jobSchedule);
+        }
+    }
+
+    /**
+     * Handles a firing that has not been admitted, according to the admission policy.
+     * A queued firing is tried again after the retry interval, on the launch executor
+     * if present, unless the job schedule has been cancelled in the meantime.
+     *
+     * @param admission the admission controller of the job scheduler
+     */
+    private void throttle(final AdmissionController admission) {
+        final AdmissionConfig.Policy policy = admission.getConfig().getPolicy();
+        scheduler.getMetrics().throttled(jobSchedule, policy);
+        scheduler.publish(jobSchedule.getId(), JobScheduleEvent.Type.THROTTLED, 0, null);
+        if (policy == AdmissionConfig.Policy.DROP) {
+            ScheduleExecutorLogger.LOGGER.droppedFiring(jobSchedule.getId());
+        } else if (policy == AdmissionConfig.Policy.QUEUE && admission.enqueue(jobSchedule.getId())) {
+            scheduler.executorService.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    admission.dequeue(jobSchedule.getId());
+                    if (jobSchedule.getStatus() == JobSchedule.Status.CANCELLED) {
+                        return;
+                    }
+                    final Runnable retry = new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                launch();
+                            } catch (final Throwable e) {
+                                ScheduleExecutorLogger.LOGGER.failToLaunch(e, jobSchedule.getId());
+                            }
+                        }
+                    };
+                    if (launchExecutor == null) {
+                        retry.run();
+                    } else {
+                        launchExecutor.execute(retry);
+                    }
+                }
+            }, admission.getConfig().getRetryInterval(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
         }
     }
 }
@@ -10,12 +10,28 @@
 
 package org.jberet.schedule;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SubmissionPublisher;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import jakarta.batch.operations.JobOperator;
 import jakarta.batch.runtime.BatchRuntime;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
 import javax.naming.InitialContext;
 import javax.naming.NamingException;
 
@@ -47,7 +63,19 @@ public abstract class JobScheduler {
     public static final String CALENDAR = "calendar";
 
     /**
-     * Time unit for job schedule.
+     * Feature name for re-arming a job schedule in place.
+     *
+     * @see #schedule(JobScheduleConfig, String)
+     * @see #reschedule(String, long)
+     * @since 2.1.1
+     */
+    public static final String RESCHEDULE = "reschedule";
+
+    /**
+     * Default time unit for job schedule, used when {@link JobScheduleConfig}
+     * does not specify one.
+     *
+     * @see JobScheduleConfig#getTimeUnit()
      */
     protected static final TimeUnit timeUnit = TimeUnit.MINUTES;
 
@@ -62,11 +90,66 @@ public abstract class JobScheduler {
     protected static final String MANAGED_EXECUTOR_SERVICE_LOOKUP =
             "java:comp/DefaultManagedScheduledExecutorService";
 
+    /**
+     * Orders job schedules by create time, and then by id.
+     */
+    private static final Comparator<JobSchedule> CREATE_TIME_ID = new Comparator<JobSchedule>() {
+        @Override
+        public int compare(final JobSchedule o1, final JobSchedule o2) {
+            final int result = o1.compareTo(o2);
+            return result != 0 ? result : String.valueOf(o1.getId()).compareTo(String.valueOf(o2.getId()));
+        }
+    };
+
     /**
      * The job scheduler instance.
      */
     private static volatile JobScheduler jobScheduler;
 
+    /**
+     * The {@code JobOperator} to use instead of the one from {@code BatchRuntime},
+     * or null. It is only set by tests.
+     */
+    static volatile JobOperator jobOperatorOverride;
+
+    /**
+     * Domain of the object names of metrics MBeans.
+     *
+     * @see #registerMetricsMBean(String)
+     */
+    public static final String METRICS_MBEAN_DOMAIN = "org.jberet.schedule";
+
+    /**
+     * Records the runtime metrics of this job scheduler.
+     */
+    private volatile SchedulerMetrics metrics = new DefaultSchedulerMetrics();
+
+    /**
+     * Object name of the registered metrics MBean, or null if not registered.
+     */
+    private volatile ObjectName metricsMBeanName;
+
+    /**
+     * Decides whether firings are admitted, according to concurrency limits.
+     */
+    private final AdmissionController admissionController = new AdmissionController(AdmissionConfig.DEFAULT);
+
+    /**
+     * Runs the asynchronous operations of this job scheduler, and delivers job schedule events.
+     */
+    private volatile Executor asyncExecutor = ForkJoinPool.commonPool();
+
+    /**
+     * Publisher of the events of all job schedules, created when first requested.
+     */
+    private volatile SubmissionPublisher<JobScheduleEvent> allEvents;
+
+    /**
+     * Publishers of job schedule events, by job schedule id, present only while subscribed.
+     * Subscriber counts are guarded by this map.
+     */
+    private final ConcurrentMap<String, ScheduleEvents> publishers = new ConcurrentHashMap<String, ScheduleEvents>();
+
     /**
      * Default no-arg constructor.
      */
@@ -108,16 +191,61 @@ public abstract class JobScheduler {
     public static JobScheduler getJobScheduler(final Class<? extends JobScheduler> schedulerType,
                                                final ConcurrentMap<String, JobSchedule> schedules,
                                                final String managedScheduledExecutorServiceLookup) {
+        return getJobScheduler(schedulerType, schedules, managedScheduledExecutorServiceLookup, null);
+    }
+
+    /**
+     * Gets the job scheduler, specifying scheduler type,
+     * {@code ConcurrentMap<String, JobSchedule>} for storing all job schedules, the lookup
+     * name of {@code ManagedScheduledExecutorService} resource, and how to launch job
+     * executions when job schedules mature.
+     * <p>
+     * The job scheduler type is determined as in
+     * {@link #getJobScheduler(Class, ConcurrentMap, String)}. If {@code schedulerType} is
+     * specified with a {@code launchMode} other than {@link LaunchMode#SCHEDULER_THREAD},
+     * it must be {@link ExecutorSchedulerImpl} or a subclass with a constructor taking
+     * {@code (ConcurrentMap, ScheduledExecutorService, ExecutorService)}, which is passed
+     * {@code schedules}, null and the launch executor. {@code launchMode} is ignored when
+     * the job scheduler is obtained from the lookup of {@value #TIMER_SCHEDULER_LOOKUP}.
+     *
+     * @param schedulerType fully-qualified class name of job scheduler type
+     * @param schedules {@code ConcurrentMap<String, JobSchedule>} for storing all job schedules
+     * @param managedScheduledExecutorServiceLookup lookup name of {@code ManagedScheduledExecutorService} resource
+     * @param launchMode how to launch job executions, or null for {@link LaunchMode#SCHEDULER_THREAD}
+     * @return job scheduler
+     * @throws jakarta.batch.operations.BatchRuntimeException if {@code schedulerType} does not
+     *         support {@code launchMode}
+     *
+     * @since 2.1.1
+     */
+    public static JobScheduler getJobScheduler(final Class<? extends JobScheduler> schedulerType,
+                                               final ConcurrentMap<String, JobSchedule> schedules,
+                                               final String managedScheduledExecutorServiceLookup,
+                                               final LaunchMode launchMode) {
         JobScheduler result = jobScheduler;
         if (result == null) {
             synchronized (JobScheduler.class) {
                 result = jobScheduler;
                 if (result == null) {
                     if (schedulerType != null) {
+                        if (launchMode != null && launchMode != LaunchMode.SCHEDULER_THREAD
+                                && !ExecutorSchedulerImpl.class.isAssignableFrom(schedulerType)) {
+                            throw ScheduleExecutorMessages.MESSAGES.launchModeNotSupported(launchMode, schedulerType);
+                        }
+                        final ExecutorService launchExecutor = newLaunchExecutor(launchMode);
                         try {
-                            jobScheduler = result = schedulerType.getDeclaredConstructor().newInstance();
+                            if (launchExecutor == null) {
+                                jobScheduler = result = schedulerType.getDeclaredConstructor().newInstance();
+                            } else {
+                                jobScheduler = result = schedulerType.getDeclaredConstructor(ConcurrentMap.class,
+                                        ScheduledExecutorService.class, ExecutorService.class)
+                                        .newInstance(schedules, null, launchExecutor);
+                            }
                             ScheduleExecutorLogger.LOGGER.createdJobScheduler(result, null);
                         } catch (final Throwable e) {
+                            if (launchExecutor != null) {
+                                launchExecutor.shutdown();
+                            }
                             throw ScheduleExecutorMessages.MESSAGES.failToCreateJobScheduler(e, schedulerType);
                         }
                     } else {
@@ -132,22 +260,22 @@ public abstract class JobScheduler {
                                 if (managedScheduledExecutorServiceLookup != null) {
                                     try {
                                         mexe = (ScheduledExecutorService) ic.lookup(managedScheduledExecutorServiceLookup);
-                                        jobScheduler = result = new ExecutorSchedulerImpl(schedules, mexe);
+                                        jobScheduler = result = new ExecutorSchedulerImpl(schedules, mexe, newLaunchExecutor(launchMode));
                                         ScheduleExecutorLogger.LOGGER.createdJobScheduler(result, managedScheduledExecutorServiceLookup);
                                     } catch (final NamingException e2) {
                                         ScheduleExecutorLogger.LOGGER.failToLookupManagedScheduledExecutorService(managedScheduledExecutorServiceLookup);
                                         mexe = (ScheduledExecutorService) ic.lookup(MANAGED_EXECUTOR_SERVICE_LOOKUP);
-                                        jobScheduler = result = new ExecutorSchedulerImpl(schedules, mexe);
+                                        jobScheduler = result = new ExecutorSchedulerImpl(schedules, mexe, newLaunchExecutor(launchMode));
                                         ScheduleExecutorLogger.LOGGER.createdJobScheduler(result, MANAGED_EXECUTOR_SERVICE_LOOKUP);
                                     }
                                 } else {
                                     mexe = (ScheduledExecutorService) ic.lookup(MANAGED_EXECUTOR_SERVICE_LOOKUP);
-                                    jobScheduler = result = new ExecutorSchedulerImpl(schedules, mexe);
+                                    jobScheduler = result = new ExecutorSchedulerImpl(schedules, mexe, newLaunchExecutor(launchMode));
                                     ScheduleExecutorLogger.LOGGER.createdJobScheduler(result, MANAGED_EXECUTOR_SERVICE_LOOKUP);
                                 }
                             }
                         } catch (final NamingException e) {
-                            jobScheduler = result = new ExecutorSchedulerImpl(schedules);
+                            jobScheduler = result = new ExecutorSchedulerImpl(schedules, null, newLaunchExecutor(launchMode));
                             ScheduleExecutorLogger.LOGGER.createdJobScheduler(result, null);
                         } finally {
                             if (ic != null) {
@@ -165,12 +293,17 @@ public abstract class JobScheduler {
         return result;
     }
 
+    private static ExecutorService newLaunchExecutor(final LaunchMode launchMode) {
+        return launchMode == null ? null : launchMode.newLaunchExecutor();
+    }
+
     /**
      * Convenience method for getting {@code JobOperator}.
      * @return {@code JobOperator}
      */
     public static JobOperator getJobOperator() {
-        return Holder.jobOperator;
+        final JobOperator jobOperator = jobOperatorOverride;
+        return jobOperator != null ? jobOperator : Holder.jobOperator;
     }
 
 
@@ -186,11 +319,146 @@ public abstract class JobScheduler {
      * @see #EMPTY_STRING_ARRAY
      * @see #PERSISTENT
      * @see #CALENDAR
+     * @see #RESCHEDULE
      */
     public String[] getFeatures() {
         return EMPTY_STRING_ARRAY;
     }
 
+    /**
+     * Gets the metrics of this job scheduler, which is {@link DefaultSchedulerMetrics}
+     * unless another implementation is set.
+     *
+     * @return the metrics of this job scheduler
+     * @since 2.1.1
+     */
+    public SchedulerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the metrics implementation of this job scheduler.
+     *
+     * @param metrics the metrics implementation
+     * @since 2.1.1
+     */
+    public void setMetrics(final SchedulerMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("metrics: null");
+        }
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the admission controller of this job scheduler, which limits the concurrent
+     * job executions started by job schedules.
+     *
+     * @return the admission controller of this job scheduler
+     * @since 2.1.1
+     */
+    public AdmissionController getAdmissionController() {
+        return admissionController;
+    }
+
+    /**
+     * Sets the admission configuration of this job scheduler, i.e., the max concurrent
+     * executions of all job schedules and by job name, and what happens to a firing
+     * that would exceed them. By default, job executions are not limited, other than
+     * by the max concurrent executions of each job schedule. Job executions already
+     * admitted and queued firings count against the new limits.
+     *
+     * @param config the admission configuration
+     * @since 2.1.1
+     */
+    public void setAdmissionConfig(final AdmissionConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("config: null");
+        }
+        admissionController.setConfig(config);
+    }
+
+    /**
+     * Reports a finished job execution to the admission controller of the current
+     * job scheduler, if any, which releases its permit.
+     *
+     * @param jobExecutionId the id of the finished job execution
+     */
+    static void jobExecutionFinished(final long jobExecutionId) {
+        final JobScheduler current = jobScheduler;
+        if (current != null) {
+            current.admissionController.completed(jobExecutionId);
+        }
+    }
+
+    /**
+     * Gets the executor that runs the asynchronous operations of this job scheduler,
+     * and delivers job schedule events to their subscribers.
+     *
+     * @return the executor, {@link ForkJoinPool#commonPool()} unless another one is set
+     * @since 2.1.1
+     */
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Sets the executor that runs the asynchronous operations of this job scheduler,
+     * and delivers job schedule events to their subscribers, e.g., a
+     * {@code ManagedExecutorService} in Java EE applications.
+     *
+     * @param asyncExecutor the executor
+     * @since 2.1.1
+     */
+    public void setAsyncExecutor(final Executor asyncExecutor) {
+        if (asyncExecutor == null) {
+            throw new IllegalArgumentException("asyncExecutor: null");
+        }
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Registers the metrics of this job scheduler with the platform MBean server, as
+     * {@link SchedulerMetricsMXBean}, so that they can be monitored with JMX tools.
+     * The object name is {@value #METRICS_MBEAN_DOMAIN}{@code :type=JobScheduler,name=<name>}.
+     *
+     * @param name the name of this job scheduler in the object name
+     * @return the object name of the registered MBean
+     * @throws jakarta.batch.operations.BatchRuntimeException if failed to register the MBean
+     *
+     * @see #unregisterMetricsMBean()
+     * @since 2.1.1
+     */
+    public ObjectName registerMetricsMBean(final String name) {
+        try {
+            final ObjectName objectName = new ObjectName(METRICS_MBEAN_DOMAIN + ":type=JobScheduler,name=" +
+                    ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(
+                    new StandardMBean(new SchedulerMetricsMBean(this), SchedulerMetricsMXBean.class, true), objectName);
+            metricsMBeanName = objectName;
+            return objectName;
+        } catch (final JMException e) {
+            throw ScheduleExecutorMessages.MESSAGES.failToRegisterMBean(e, name);
+        }
+    }
+
+    /**
+     * Unregisters the metrics MBean of this job scheduler, if registered.
+     *
+     * @see #registerMetricsMBean(String)
+     * @since 2.1.1
+     */
+    public void unregisterMetricsMBean() {
+        final ObjectName objectName = metricsMBeanName;
+        if (objectName != null) {
+            metricsMBeanName = null;
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (final JMException e) {
+                ScheduleExecutorLogger.LOGGER.failToUnregisterMBean(e, objectName);
+            }
+        }
+    }
+
     /**
      * Deletes a job schedule by its id. The default implementation of this method
      * just calls {@link #cancel(String)} method.
@@ -210,6 +478,99 @@ public abstract class JobScheduler {
      */
     public abstract JobSchedule schedule(final JobScheduleConfig scheduleConfig);
 
+    /**
+     * Submits job schedules specified with the job schedule configs. The default
+     * implementation of this method calls {@link #schedule(JobScheduleConfig)} for
+     * each job schedule config, and implementations may override it to share the
+     * cost of id generation, indexing and persistence across all job schedules.
+     *
+     * @param scheduleConfigs job schedule configs
+     * @return the job schedules resulting from the submission, in the order of {@code scheduleConfigs}
+     *
+     * @since 2.1.1
+     */
+    public List<JobSchedule> scheduleAll(final Collection<JobScheduleConfig> scheduleConfigs) {
+        final List<JobSchedule> result = new ArrayList<JobSchedule>(scheduleConfigs.size());
+        for (final JobScheduleConfig scheduleConfig : scheduleConfigs) {
+            result.add(schedule(scheduleConfig));
+        }
+        return result;
+    }
+
+    /**
+     * Cancels job schedules by their ids. The default implementation of this method
+     * calls {@link #cancel(String)} for each job schedule id.
+     *
+     * @param scheduleIds ids of the job schedules to cancel
+     * @return the number of job schedules cancelled
+     *
+     * @since 2.1.1
+     */
+    public int cancelAll(final Collection<String> scheduleIds) {
+        int cancelled = 0;
+        for (final String scheduleId : scheduleIds) {
+            if (cancel(scheduleId)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Deletes job schedules by their ids. The default implementation of this method
+     * calls {@link #delete(String)} for each job schedule id.
+     *
+     * @param scheduleIds ids of the job schedules to delete
+     *
+     * @since 2.1.1
+     */
+    public void deleteAll(final Collection<String> scheduleIds) {
+        for (final String scheduleId : scheduleIds) {
+            delete(scheduleId);
+        }
+    }
+
+    /**
+     * Submits a job schedule specified with the job schedule config, and sets its id as
+     * the job parameter {@code scheduleIdParameter} before it is armed, so that the job
+     * executions it launches can find it, e.g., to {@linkplain #reschedule(String, long)
+     * reschedule} it. {@code scheduleConfig} is not modified: the job schedule has a copy of
+     * it, with the id added to a copy of its job parameters, if any. This method is supported
+     * by job schedulers with the {@link #RESCHEDULE} feature, and the default implementation
+     * throws {@code UnsupportedOperationException}.
+     *
+     * @param scheduleConfig job schedule config
+     * @param scheduleIdParameter the job parameter key for the job schedule id
+     * @return the job schedule resulting from the submission
+     *
+     * @see SchedulingJobListener#chain
+     * @since 2.1.1
+     */
+    public JobSchedule schedule(final JobScheduleConfig scheduleConfig, final String scheduleIdParameter) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Re-arms a single-action job schedule in place with the initial delay of its job
+     * schedule config, keeping its id, its job schedule config and its job execution ids,
+     * so that a chain of job executions is tracked by one job schedule. A done job schedule
+     * is scheduled again, and a job schedule that has not fired yet is re-armed from now.
+     * The next firing restarts {@code jobExecutionId} if it is positive, and starts the job
+     * of the job schedule config otherwise. This method is supported by job schedulers with
+     * the {@link #RESCHEDULE} feature, and the default implementation throws
+     * {@code UnsupportedOperationException}.
+     *
+     * @param scheduleId id of the job schedule to re-arm
+     * @param jobExecutionId the job execution to restart at the next firing, or 0 to start the job
+     * @return the re-armed job schedule, or null if not found or cancelled
+     *
+     * @see SchedulingJobListener#chain
+     * @since 2.1.1
+     */
+    public JobSchedule reschedule(final String scheduleId, final long jobExecutionId) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Gets all job schedules known to the scheduler.
      * Some implementation may keep the job schedule record after its expiration
@@ -219,6 +580,69 @@ public abstract class JobScheduler {
      */
     public abstract List<JobSchedule> getJobSchedules();
 
+    /**
+     * Gets a page of job schedules matching the query.
+     * <p>
+     * The default implementation of this method filters and sorts all job schedules
+     * from {@link #getJobSchedules()}, and its cursor consists of the create time and
+     * id of the last job schedule in the page. Subclasses should override this method
+     * if they can find matching job schedules more efficiently.
+     *
+     * @param query the query with optional filters, sort order and paging
+     * @return a page of job schedules matching the query
+     *
+     * @since 2.1.1
+     */
+    public JobSchedulePage getJobSchedules(final JobScheduleQuery query) {
+        final boolean ascending = query.getSortOrder() == JobScheduleQuery.SortOrder.CREATE_TIME_ASC;
+        final List<JobSchedule> all = new ArrayList<JobSchedule>(getJobSchedules());
+        all.sort(ascending ? CREATE_TIME_ID : CREATE_TIME_ID.reversed());
+
+        int start = 0;
+        final String cursor = query.getCursor();
+        if (cursor != null) {
+            final int separator = cursor.indexOf(':');
+            final long lastCreateTime;
+            try {
+                lastCreateTime = Long.parseLong(cursor.substring(0, separator));
+            } catch (final RuntimeException e) {
+                throw ScheduleExecutorMessages.MESSAGES.invalidCursor(cursor);
+            }
+            final String lastId = cursor.substring(separator + 1);
+            while (start < all.size()) {
+                final JobSchedule jobSchedule = all.get(start);
+                int diff = Long.compare(jobSchedule.getCreateTime().getTime(), lastCreateTime);
+                if (diff == 0) {
+                    diff = String.valueOf(jobSchedule.getId()).compareTo(lastId);
+                }
+                if (ascending ? diff > 0 : diff < 0) {
+                    break;
+                }
+                start++;
+            }
+        }
+
+        final int limit = query.getLimit();
+        final List<JobSchedule> result = new ArrayList<JobSchedule>(Math.min(limit, 64));
+        int toSkip = query.getOffset();
+        for (int i = start; i < all.size(); i++) {
+            final JobSchedule jobSchedule = all.get(i);
+            if (!query.matches(jobSchedule)) {
+                continue;
+            }
+            if (toSkip > 0) {
+                toSkip--;
+                continue;
+            }
+            if (result.size() == limit) {
+                final JobSchedule last = result.get(limit - 1);
+                return new JobSchedulePage(result, last.getCreateTime().getTime() + ":" + last.getId());
+            }
+            result.add(jobSchedule);
+        }
+        return new JobSchedulePage(result, null);
+    }
+
     /**
      * Cancels a job schedule by its id.
      * @param scheduleId the schedule id to cancel
@@ -233,4 +657,273 @@ public abstract class JobScheduler {
      */
     public abstract JobSchedule getJobSchedule(final String scheduleId);
 
+    /**
+     * Submits a job schedule specified with the job schedule config, without blocking
+     * the calling thread. The default implementation of this method calls
+     * {@link #schedule(JobScheduleConfig)} from the {@linkplain #getAsyncExecutor() async executor}.
+     *
+     * @param scheduleConfig job schedule config
+     * @return a stage completed with the job schedule resulting from the submission
+     *
+     * @since 2.1.1
+     */
+    public CompletionStage<JobSchedule> scheduleAsync(final JobScheduleConfig scheduleConfig) {
+        return CompletableFuture.supplyAsync(() -> schedule(scheduleConfig), asyncExecutor);
+    }
+
+    /**
+     * Cancels a job schedule by its id, without blocking the calling thread.
+     * The default implementation of this method calls {@link #cancel(String)}
+     * from the {@linkplain #getAsyncExecutor() async executor}.
+     *
+     * @param scheduleId the schedule id to cancel
+     * @return a stage completed with true if cancelled successfully; false otherwise
+     *
+     * @since 2.1.1
+     */
+    public CompletionStage<Boolean> cancelAsync(final String scheduleId) {
+        return CompletableFuture.supplyAsync(() -> cancel(scheduleId), asyncExecutor);
+    }
+
+    /**
+     * Gets the job schedule by its id, without blocking the calling thread.
+     * The default implementation of this method calls {@link #getJobSchedule(String)}
+     * from the {@linkplain #getAsyncExecutor() async executor}.
+     *
+     * @param scheduleId id of the job schedule to retrieve
+     * @return a stage completed with the job schedule matching the specified id
+     *
+     * @since 2.1.1
+     */
+    public CompletionStage<JobSchedule> getJobScheduleAsync(final String scheduleId) {
+        return CompletableFuture.supplyAsync(() -> getJobSchedule(scheduleId), asyncExecutor);
+    }
+
+    /**
+     * Gets the lifecycle events of all job schedules of this job scheduler: when each
+     * job schedule is scheduled, fires, is launched, fails or is throttled, and when it
+     * is cancelled or done. Subscribers only receive events that happen after they
+     * subscribe, from the {@linkplain #getAsyncExecutor() async executor} at the time of
+     * the first call to this method, and are completed when the job scheduler is closed.
+     * Events are dropped for a subscriber whose buffer is full, rather than holding up
+     * the job scheduler.
+     *
+     * @return the publisher of the events of all job schedules
+     *
+     * @see #getJobScheduleEvents(String)
+     * @since 2.1.1
+     */
+    public Flow.Publisher<JobScheduleEvent> getJobScheduleEvents() {
+        SubmissionPublisher<JobScheduleEvent> publisher = allEvents;
+        if (publisher == null) {
+            synchronized (publishers) {
+                publisher = allEvents;
+                if (publisher == null) {
+                    publisher = new SubmissionPublisher<JobScheduleEvent>(asyncExecutor, Flow.defaultBufferSize());
+                    allEvents = publisher;
+                }
+            }
+        }
+        return publisher;
+    }
+
+    /**
+     * Gets the events of a job schedule, i.e., each of its firings as it fires, is
+     * launched, fails or is throttled, and finally when it is cancelled or done, at which
+     * point subscribers are completed. Subscribers only receive events that happen after
+     * they subscribe, from the {@linkplain #getAsyncExecutor() async executor}. Events are
+     * dropped for a subscriber whose buffer is full, rather than holding up the job scheduler.
+     * <p>
+     * Subscribers to a job schedule that does not exist, or has been cancelled or is
+     * done, are completed immediately. The publisher of a job schedule is dropped when
+     * its last subscriber cancels its subscription.
+     *
+     * @param scheduleId the job schedule id
+     * @return the publisher of the events of the job schedule
+     *
+     * @see #getJobScheduleEvents()
+     * @since 2.1.1
+     */
+    public Flow.Publisher<JobScheduleEvent> getJobScheduleEvents(final String scheduleId) {
+        if (!isActive(scheduleId)) {
+            return closedPublisher();
+        }
+        return subscriber -> subscribe(scheduleId, subscriber);
+    }
+
+    private void subscribe(final String scheduleId, final Flow.Subscriber<? super JobScheduleEvent> subscriber) {
+        final ScheduleEvents events;
+        synchronized (publishers) {
+            events = publishers.computeIfAbsent(scheduleId, k -> new ScheduleEvents(
+                    new SubmissionPublisher<JobScheduleEvent>(asyncExecutor, Flow.defaultBufferSize())));
+            events.subscribers++;
+        }
+        events.publisher.subscribe(new ScheduleEventSubscriber(subscriber, () -> unsubscribed(scheduleId, events)));
+        // the job schedule may have finished before the publisher was added
+        if (!isActive(scheduleId) && publishers.remove(scheduleId, events)) {
+            events.publisher.close();
+        }
+    }
+
+    private void unsubscribed(final String scheduleId, final ScheduleEvents events) {
+        synchronized (publishers) {
+            if (--events.subscribers > 0 || !publishers.remove(scheduleId, events)) {
+                return;
+            }
+        }
+        events.publisher.close();
+    }
+
+    /**
+     * Publishes an event of a job schedule to the subscribers of all job schedules and
+     * of the job schedule, if any, and completes the latter after the final event. Job
+     * scheduler implementations call this method whenever a job schedule is scheduled,
+     * fires, is launched, fails, is throttled, is cancelled or is done. The event is only
+     * created if there are subscribers.
+     *
+     * @param scheduleId the job schedule id
+     * @param type the event type
+     * @param jobExecutionId the id of the launched job execution, or 0 if none
+     * @param failure the failure of a {@link JobScheduleEvent.Type#FAILED} event, or null
+     *
+     * @since 2.1.1
+     */
+    protected void publish(final String scheduleId, final JobScheduleEvent.Type type,
+                           final long jobExecutionId, final Throwable failure) {
+        final SubmissionPublisher<JobScheduleEvent> all = allEvents;
+        final boolean toAll = all != null && all.hasSubscribers();
+        if (!toAll && publishers.isEmpty()) {
+            return;
+        }
+        final ScheduleEvents events = type.isFinal() ? publishers.remove(scheduleId) : publishers.get(scheduleId);
+        if (!toAll && events == null) {
+            return;
+        }
+        final JobScheduleEvent event = new JobScheduleEvent(scheduleId, type, jobExecutionId, failure);
+        if (toAll) {
+            all.offer(event, null);
+        }
+        if (events != null) {
+            events.publisher.offer(event, null);
+            if (type.isFinal()) {
+                events.publisher.close();
+            }
+        }
+    }
+
+    /**
+     * Completes the subscribers of the events of a job schedule, without a final event,
+     * e.g., when the job schedule has been removed by another job scheduler sharing the same store.
+     *
+     * @param scheduleId the job schedule id
+     *
+     * @since 2.1.1
+     */
+    protected void closeJobScheduleEvents(final String scheduleId) {
+        final ScheduleEvents events = publishers.remove(scheduleId);
+        if (events != null) {
+            events.publisher.close();
+        }
+    }
+
+    /**
+     * Completes the subscribers of job schedule events, when this job scheduler is closed.
+     *
+     * @since 2.1.1
+     */
+    protected void closeJobScheduleEvents() {
+        final SubmissionPublisher<JobScheduleEvent> all = allEvents;
+        if (all != null) {
+            all.close();
+        }
+        for (final String scheduleId : publishers.keySet()) {
+            closeJobScheduleEvents(scheduleId);
+        }
+    }
+
+    private boolean isActive(final String scheduleId) {
+        final JobSchedule jobSchedule = getJobSchedule(scheduleId);
+        if (jobSchedule == null) {
+            return false;
+        }
+        final JobSchedule.Status status = jobSchedule.getStatus();
+        return status != JobSchedule.Status.CANCELLED && status != JobSchedule.Status.DONE;
+    }
+
+    private static SubmissionPublisher<JobScheduleEvent> closedPublisher() {
+        final SubmissionPublisher<JobScheduleEvent> publisher = new SubmissionPublisher<JobScheduleEvent>();
+        publisher.close();
+        return publisher;
+    }
+
+    /**
+     * The publisher of the events of a job schedule, with its number of subscribers.
+     */
+    private static final class ScheduleEvents {
+        private final SubmissionPublisher<JobScheduleEvent> publisher;
+
+        /**
+         * Number of subscribers that have not cancelled, guarded by the map of publishers.
+         */
+        private int subscribers;
+
+        ScheduleEvents(final SubmissionPublisher<JobScheduleEvent> publisher) {
+            this.publisher = publisher;
+        }
+    }
+
+    /**
+     * A subscriber to the events of a job schedule, which reports once when it
+     * cancels its subscription, fails or is completed.
+     */
+    private static final class ScheduleEventSubscriber implements Flow.Subscriber<JobScheduleEvent> {
+        private final Flow.Subscriber<? super JobScheduleEvent> subscriber;
+        private final Runnable unsubscribed;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        ScheduleEventSubscriber(final Flow.Subscriber<? super JobScheduleEvent> subscriber,
+                                final Runnable unsubscribed) {
+            this.subscriber = subscriber;
+            this.unsubscribed = unsubscribed;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                    unsubscribe();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(final JobScheduleEvent item) {
+            subscriber.onNext(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            unsubscribe();
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            unsubscribe();
+            subscriber.onComplete();
+        }
+
+        private void unsubscribe() {
+            if (done.compareAndSet(false, true)) {
+                unsubscribed.run();
+            }
+        }
+    }
 }
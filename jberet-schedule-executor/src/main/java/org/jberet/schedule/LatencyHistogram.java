@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent histogram of durations, with buckets of logarithmically increasing
+ * width, in the style of HDR histograms. Each power of 2 is divided into 8 buckets,
+ * so a percentile is accurate to within 12.5%, over the whole range of {@code long}
+ * nanoseconds, in a fixed amount of memory. Recording a value takes a few atomic
+ * additions, and does not allocate.
+ *
+ * @see DefaultSchedulerMetrics
+ * @since 2.1.1
+ */
+public final class LatencyHistogram {
+    /**
+     * Number of bits of the sub-bucket index within a power of 2.
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a duration. Negative durations are ignored.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(final long nanos) {
+        if (nanos < 0) {
+            return;
+        }
+        buckets.incrementAndGet(bucketOf(nanos));
+        count.increment();
+        totalNanos.add(nanos);
+        if (nanos > maxNanos.get()) {
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    /**
+     * Gets the number of recorded durations.
+     *
+     * @return the number of recorded durations
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the mean of recorded durations.
+     *
+     * @param unit the time unit of the result
+     * @return the mean duration, or 0 if none is recorded
+     */
+    public double getMean(final TimeUnit unit) {
+        final long n = count.sum();
+        return n == 0 ? 0 : (double) totalNanos.sum() / n / unit.toNanos(1);
+    }
+
+    /**
+     * Gets the max of recorded durations.
+     *
+     * @param unit the time unit of the result
+     * @return the max duration, or 0 if none is recorded
+     */
+    public long getMax(final TimeUnit unit) {
+        return unit.convert(maxNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets a percentile of recorded durations, e.g., 99 for the duration that 99% of the
+     * recorded durations do not exceed. The result is the upper bound of the bucket
+     * containing the percentile, but no more than the max duration.
+     *
+     * @param percentile the percentile between 0 and 100
+     * @param unit the time unit of the result
+     * @return the duration at the percentile, or 0 if none is recorded
+     */
+    public long getPercentile(final double percentile, final TimeUnit unit) {
+        long total = 0;
+        final long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(total * Math.min(percentile, 100) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return unit.convert(Math.min(upperBoundOf(i), maxNanos.get()), TimeUnit.NANOSECONDS);
+            }
+        }
+        return getMax(unit);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" +
+                "count=" + getCount() +
+                ", meanMillis=" + getMean(TimeUnit.MILLISECONDS) +
+                ", p99Millis=" + getPercentile(99, TimeUnit.MILLISECONDS) +
+                ", maxMillis=" + getMax(TimeUnit.MILLISECONDS) +
+                '}';
+    }
+
+    static int bucketOf(final long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        final int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
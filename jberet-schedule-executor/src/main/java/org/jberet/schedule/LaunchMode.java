@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * How {@link ExecutorSchedulerImpl} launches job executions when job schedules mature.
+ *
+ * @see JobScheduler#getJobScheduler(Class, java.util.concurrent.ConcurrentMap, String, LaunchMode)
+ * @since 2.1.1
+ */
+public enum LaunchMode {
+    /**
+     * Job executions are started or restarted on the thread of the scheduled
+     * executor service. This is the default mode.
+     */
+    SCHEDULER_THREAD,
+
+    /**
+     * Job executions are started or restarted on a bounded pool of platform threads.
+     *
+     * @see ExecutorSchedulerImpl#newLaunchExecutor(int, int)
+     */
+    PLATFORM_THREAD,
+
+    /**
+     * Each job execution is started or restarted on its own virtual thread,
+     * so that any number of job schedules maturing at the same time can be
+     * launched concurrently. If virtual threads are not supported by the
+     * current Java runtime, an unbounded pool of platform threads is used instead.
+     *
+     * @see ExecutorSchedulerImpl#newVirtualThreadLaunchExecutor()
+     */
+    VIRTUAL_THREAD;
+
+    /**
+     * Default number of threads for {@link #PLATFORM_THREAD} mode.
+     */
+    static final int DEFAULT_LAUNCH_THREADS = Runtime.getRuntime().availableProcessors() * 2;
+
+    /**
+     * Default queue capacity for {@link #PLATFORM_THREAD} mode.
+     */
+    static final int DEFAULT_LAUNCH_QUEUE_CAPACITY = 1024;
+
+    /**
+     * Creates the launch executor for this mode.
+     *
+     * @return a new launch executor, or null for {@link #SCHEDULER_THREAD} mode
+     */
+    ExecutorService newLaunchExecutor() {
+        switch (this) {
+            case PLATFORM_THREAD:
+                return ExecutorSchedulerImpl.newLaunchExecutor(DEFAULT_LAUNCH_THREADS, DEFAULT_LAUNCH_QUEUE_CAPACITY);
+            case VIRTUAL_THREAD:
+                return ExecutorSchedulerImpl.newVirtualThreadLaunchExecutor();
+            default:
+                return null;
+        }
+    }
+}
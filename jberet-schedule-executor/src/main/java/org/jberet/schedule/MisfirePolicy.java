@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+/**
+ * What a job scheduler does with the firings of a repeatable job schedule that were
+ * missed, e.g., during a long GC pause, while the launch thread was blocked, or while
+ * the application was down. A firing is missed when its fire time has passed, and so
+ * has the fire time of the next firing. The missed firings of a job schedule form a
+ * backlog, which ends with the first firing that is not missed.
+ * <p>
+ * The policy applies to job schedules with {@link JobScheduleConfig#getInterval() interval},
+ * and to persistent job schedules recovered from a {@link ScheduleStore}. Calendar-based
+ * job schedules always fire once for all their missed fire times.
+ *
+ * @see JobScheduleConfig#getMisfirePolicy()
+ * @see JobScheduleConfigBuilder#misfirePolicy(MisfirePolicy)
+ * @since 2.1.1
+ */
+public enum MisfirePolicy {
+    /**
+     * Fires all missed firings back-to-back, so that a backlog fires up to
+     * {@link JobScheduleConfig#getMaxCatchUpFirings()} times, including the firing that
+     * ends it, and coalesces the rest into the firing that ends the backlog. This is the default, and without a limit,
+     * it is the behavior of {@code ScheduledExecutorService.scheduleAtFixedRate}.
+     */
+    FIRE_ALL,
+
+    /**
+     * Coalesces all missed firings into one, i.e., fires once when the backlog ends.
+     */
+    FIRE_ONCE,
+
+    /**
+     * Skips all missed firings, including the one that ends the backlog, so that
+     * the job schedule next fires at its next fire time that is not yet due.
+     */
+    SKIP
+}
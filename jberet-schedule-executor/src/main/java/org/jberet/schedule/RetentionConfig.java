@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures how long a job scheduler keeps finished job schedules, i.e., those
+ * that are cancelled or done, and is typically created with {@link RetentionConfigBuilder}.
+ * <p>
+ * A background sweeper evicts finished job schedules that are older than the max age,
+ * counted from when they finished, and the oldest finished job schedules in excess of
+ * the max count. An evicted job schedule is removed as if it were deleted, and if the
+ * archive is enabled, is kept as a compact {@link ArchivedJobSchedule} until it is pushed
+ * out by more recently archived job schedules.
+ *
+ * @see ExecutorSchedulerImpl#setRetentionConfig(RetentionConfig)
+ * @since 2.1.1
+ */
+public final class RetentionConfig {
+    /**
+     * The max age of finished job schedules in milliseconds, or 0 if unlimited.
+     */
+    final long maxAgeMillis;
+
+    /**
+     * The max number of finished job schedules, or 0 if unlimited.
+     */
+    final int maxCount;
+
+    /**
+     * The interval between two sweeps in nanoseconds.
+     */
+    final long sweepIntervalNanos;
+
+    /**
+     * The max number of archived job schedules, or 0 if evicted job schedules are not archived.
+     */
+    final int archiveSize;
+
+    RetentionConfig(final long maxAgeMillis, final int maxCount,
+                    final long sweepIntervalNanos, final int archiveSize) {
+        this.maxAgeMillis = maxAgeMillis;
+        this.maxCount = maxCount;
+        this.sweepIntervalNanos = sweepIntervalNanos;
+        this.archiveSize = archiveSize;
+    }
+
+    /**
+     * Gets the max age of finished job schedules, counted from when they finished.
+     *
+     * @param unit the time unit of the returned value
+     * @return the max age in the specified time unit, or {@code Long.MAX_VALUE} if unlimited
+     */
+    public long getMaxAge(final TimeUnit unit) {
+        return maxAgeMillis > 0 ? unit.convert(maxAgeMillis, TimeUnit.MILLISECONDS) : Long.MAX_VALUE;
+    }
+
+    /**
+     * Gets the max number of finished job schedules to keep.
+     *
+     * @return the max number of finished job schedules, {@code Integer.MAX_VALUE} if unlimited
+     */
+    public int getMaxCount() {
+        return maxCount > 0 ? maxCount : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the interval between two sweeps.
+     *
+     * @param unit the time unit of the returned value
+     * @return the sweep interval in the specified time unit
+     */
+    public long getSweepInterval(final TimeUnit unit) {
+        return unit.convert(sweepIntervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the max number of evicted job schedules kept in the archive.
+     *
+     * @return the archive size, or 0 if evicted job schedules are not archived
+     */
+    public int getArchiveSize() {
+        return archiveSize;
+    }
+
+    @Override
+    public String toString() {
+        return "RetentionConfig{" +
+                "maxAgeMillis=" + maxAgeMillis +
+                ", maxCount=" + maxCount +
+                ", sweepIntervalNanos=" + sweepIntervalNanos +
+                ", archiveSize=" + archiveSize +
+                '}';
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder class for {@link RetentionConfig}.
+ *
+ * @see RetentionConfig
+ * @since 2.1.1
+ */
+public final class RetentionConfigBuilder {
+    private long maxAgeMillis;
+    private int maxCount;
+    private long sweepIntervalNanos = TimeUnit.MINUTES.toNanos(1);
+    private int archiveSize;
+
+    private RetentionConfigBuilder() {
+    }
+
+    /**
+     * Creates a new instance of this builder.
+     * @return a new instance of {@code RetentionConfigBuilder}
+     */
+    public static RetentionConfigBuilder newInstance() {
+        return new RetentionConfigBuilder();
+    }
+
+    /**
+     * Builds a new instance of {@link RetentionConfig} from this builder instance.
+     * @return a new instance of {@code RetentionConfig}
+     */
+    public RetentionConfig build() {
+        return new RetentionConfig(maxAgeMillis, maxCount, sweepIntervalNanos, archiveSize);
+    }
+
+    /**
+     * Sets the max age of finished job schedules, counted from when they were cancelled or done.
+     * @param maxAge the max age, unlimited by default
+     * @param unit the time unit of {@code maxAge}
+     * @return this builder
+     *
+     * @see RetentionConfig#getMaxAge(TimeUnit)
+     */
+    public RetentionConfigBuilder maxAge(final long maxAge, final TimeUnit unit) {
+        if (maxAge <= 0) {
+            throw new IllegalArgumentException("maxAge: " + maxAge);
+        }
+        this.maxAgeMillis = Math.max(unit.toMillis(maxAge), 1);
+        return this;
+    }
+
+    /**
+     * Sets the max number of finished job schedules to keep.
+     * @param maxCount the max number of finished job schedules, unlimited by default
+     * @return this builder
+     *
+     * @see RetentionConfig#getMaxCount()
+     */
+    public RetentionConfigBuilder maxCount(final int maxCount) {
+        if (maxCount <= 0) {
+            throw new IllegalArgumentException("maxCount: " + maxCount);
+        }
+        this.maxCount = maxCount;
+        return this;
+    }
+
+    /**
+     * Sets the interval between two sweeps of finished job schedules.
+     * @param sweepInterval the sweep interval, defaults to 1 minute
+     * @param unit the time unit of {@code sweepInterval}
+     * @return this builder
+     *
+     * @see RetentionConfig#getSweepInterval(TimeUnit)
+     */
+    public RetentionConfigBuilder sweepInterval(final long sweepInterval, final TimeUnit unit) {
+        if (sweepInterval <= 0) {
+            throw new IllegalArgumentException("sweepInterval: " + sweepInterval);
+        }
+        this.sweepIntervalNanos = unit.toNanos(sweepInterval);
+        return this;
+    }
+
+    /**
+     * Sets the max number of evicted job schedules kept in the archive, as compact records.
+     * @param archiveSize the archive size, 0 by default, i.e., evicted job schedules are not archived
+     * @return this builder
+     *
+     * @see RetentionConfig#getArchiveSize()
+     */
+    public RetentionConfigBuilder archiveSize(final int archiveSize) {
+        if (archiveSize < 0) {
+            throw new IllegalArgumentException("archiveSize: " + archiveSize);
+        }
+        this.archiveSize = archiveSize;
+        return this;
+    }
+}
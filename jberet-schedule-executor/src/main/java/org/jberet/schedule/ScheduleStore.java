@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Service provider interface for storing job schedules of {@link ExecutorSchedulerImpl}
+ * outside of memory, so that they survive restarts of the application.
+ * <p>
+ * {@code ExecutorSchedulerImpl} writes through to the store from a single background
+ * thread, in batches that contain at most one entry per job schedule, so implementations
+ * need not be thread-safe, and should write each batch in one round trip or transaction
+ * if possible. Failures should be reported as {@code jakarta.batch.operations.BatchRuntimeException},
+ * and the batch is then retried.
+ *
+ * @see ExecutorSchedulerImpl#ExecutorSchedulerImpl(java.util.concurrent.ConcurrentMap,
+ *      java.util.concurrent.ScheduledExecutorService, java.util.concurrent.ExecutorService, ScheduleStore)
+ * @see JdbcScheduleStore
+ * @see FileScheduleStore
+ * @since 2.1.1
+ */
+public interface ScheduleStore extends AutoCloseable {
+    /**
+     * Stores job schedules, replacing any stored job schedule with the same id.
+     *
+     * @param jobSchedules the job schedules to store
+     */
+    void store(Collection<JobSchedule> jobSchedules);
+
+    /**
+     * Removes job schedules. Ids that are not stored are ignored.
+     *
+     * @param scheduleIds ids of the job schedules to remove
+     */
+    void remove(Collection<String> scheduleIds);
+
+    /**
+     * Loads all stored job schedules, in the order they are created if possible.
+     * Implementations should read job schedules in bulk, and pass each of them
+     * to {@code consumer} as soon as it is read, instead of materializing all of them.
+     *
+     * @param consumer receiver of the loaded job schedules
+     */
+    void load(Consumer<JobSchedule> consumer);
+
+    /**
+     * Closes this store, and releases any resources held by it.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures how {@link ExecutorSchedulerImpl} writes persistent job schedules
+ * to its {@link ScheduleStore}, and is typically created with {@link ScheduleStoreConfigBuilder}.
+ * <p>
+ * Changes are written in groups: once a change is queued, more changes are collected
+ * for up to {@link #commitWindowNanos}, or until {@link #maxBatchSize} job schedules
+ * are pending, and then written to the store together. Multiple changes to the same
+ * job schedule within a group, such as job execution ids added by successive runs,
+ * are written once with its latest state.
+ *
+ * @see ExecutorSchedulerImpl#ExecutorSchedulerImpl(java.util.concurrent.ConcurrentMap,
+ *      java.util.concurrent.ScheduledExecutorService, java.util.concurrent.ExecutorService,
+ *      ScheduleStore, ScheduleStoreConfig)
+ * @since 2.1.1
+ */
+public final class ScheduleStoreConfig {
+    /**
+     * When a job scheduler operation returns, relative to writing its changes to the store.
+     */
+    public enum Durability {
+        /**
+         * Operations return right after queuing their changes, which are written
+         * in the background. Changes of the last commit window may be lost if the
+         * application stops abruptly. This is the default.
+         */
+        ASYNC,
+
+        /**
+         * {@link JobScheduler#schedule(JobScheduleConfig)}, {@link JobScheduler#cancel(String)}
+         * and {@link JobScheduler#delete(String)} return only after their changes have been
+         * written to the store, and fail if the write fails. Changes made by job schedule
+         * runs, such as new job execution ids, are still written in the background,
+         * so as not to delay job executions.
+         */
+        COMMIT
+    }
+
+    /**
+     * The default configuration.
+     */
+    static final ScheduleStoreConfig DEFAULT = ScheduleStoreConfigBuilder.newInstance().build();
+
+    /**
+     * How long to collect changes before writing them, in nanoseconds.
+     */
+    final long commitWindowNanos;
+
+    /**
+     * The max number of job schedules written to the store in one call.
+     */
+    final int maxBatchSize;
+
+    /**
+     * When operations return, relative to writing their changes.
+     */
+    final Durability durability;
+
+    ScheduleStoreConfig(final long commitWindowNanos, final int maxBatchSize, final Durability durability) {
+        this.commitWindowNanos = commitWindowNanos;
+        this.maxBatchSize = maxBatchSize;
+        this.durability = durability;
+    }
+
+    /**
+     * Gets the commit window.
+     *
+     * @param unit the time unit of the returned value
+     * @return the commit window in the specified time unit
+     */
+    public long getCommitWindow(final TimeUnit unit) {
+        return unit.convert(commitWindowNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the max number of job schedules written to the store in one call.
+     *
+     * @return the max batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Gets the durability of job scheduler operations.
+     *
+     * @return the durability
+     */
+    public Durability getDurability() {
+        return durability;
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduleStoreConfig{" +
+                "commitWindowNanos=" + commitWindowNanos +
+                ", maxBatchSize=" + maxBatchSize +
+                ", durability=" + durability +
+                '}';
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder class for {@link ScheduleStoreConfig}.
+ *
+ * @see ScheduleStoreConfig
+ * @since 2.1.1
+ */
+public final class ScheduleStoreConfigBuilder {
+    private long commitWindowNanos = TimeUnit.MILLISECONDS.toNanos(5);
+    private int maxBatchSize = 500;
+    private ScheduleStoreConfig.Durability durability = ScheduleStoreConfig.Durability.ASYNC;
+
+    private ScheduleStoreConfigBuilder() {
+    }
+
+    /**
+     * Creates a new instance of this builder.
+     * @return a new instance of {@code ScheduleStoreConfigBuilder}
+     */
+    public static ScheduleStoreConfigBuilder newInstance() {
+        return new ScheduleStoreConfigBuilder();
+    }
+
+    /**
+     * Builds a new instance of {@link ScheduleStoreConfig} from this builder instance.
+     * @return a new instance of {@code ScheduleStoreConfig}
+     */
+    public ScheduleStoreConfig build() {
+        return new ScheduleStoreConfig(commitWindowNanos, maxBatchSize, durability);
+    }
+
+    /**
+     * Sets how long to collect changes before writing them to the store.
+     * A longer window writes more changes per batch, at the cost of latency.
+     * @param commitWindow the commit window, 0 to write changes as soon as possible; defaults to 5 milliseconds
+     * @param unit the time unit of {@code commitWindow}
+     * @return this builder
+     *
+     * @see ScheduleStoreConfig#getCommitWindow(TimeUnit)
+     */
+    public ScheduleStoreConfigBuilder commitWindow(final long commitWindow, final TimeUnit unit) {
+        if (commitWindow < 0) {
+            throw new IllegalArgumentException("commitWindow: " + commitWindow);
+        }
+        this.commitWindowNanos = unit.toNanos(commitWindow);
+        return this;
+    }
+
+    /**
+     * Sets the max number of job schedules written to the store in one call. When this many
+     * changed job schedules are pending, they are written without waiting for the commit window.
+     * @param maxBatchSize the max batch size, defaults to 500
+     * @return this builder
+     *
+     * @see ScheduleStoreConfig#getMaxBatchSize()
+     */
+    public ScheduleStoreConfigBuilder maxBatchSize(final int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize: " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * Sets when job scheduler operations return, relative to writing their changes to the store.
+     * @param durability the durability, defaults to {@link ScheduleStoreConfig.Durability#ASYNC}
+     * @return this builder
+     *
+     * @see ScheduleStoreConfig#getDurability()
+     */
+    public ScheduleStoreConfigBuilder durability(final ScheduleStoreConfig.Durability durability) {
+        this.durability = durability;
+        return this;
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jberet.schedule._private.ScheduleExecutorLogger;
+import org.jberet.schedule._private.ScheduleExecutorMessages;
+
+/**
+ * Writes changed job schedules to a {@link ScheduleStore} from a background thread,
+ * so that persistence does not slow down scheduling.
+ * <p>
+ * Changes are collected in a map keyed by job schedule id, so all the changes to a job
+ * schedule made while the previous group is being written are coalesced into a single
+ * write of its latest state. Once a change is pending, the writer waits for the commit
+ * window of {@link ScheduleStoreConfig}, or until the max batch size is reached, and
+ * then writes all pending changes in one round, in batches of up to the max batch size.
+ * <p>
+ * Callers that need their change to be durable wait for the round that picks it up.
+ * A failed batch is put back, unless the job schedule has changed again since, and is
+ * retried after a pause; callers waiting for that round get the failure. When the
+ * writer is being closed, a failed batch is logged and dropped instead.
+ *
+ * @since 2.1.1
+ */
+final class ScheduleStoreWriter implements Runnable {
+    /**
+     * Marks a job schedule to be removed from the store.
+     */
+    private static final JobSchedule REMOVED = new JobSchedule();
+
+    private static final long RETRY_PAUSE_MILLIS = 1000;
+
+    private final ScheduleStore store;
+
+    private final long commitWindowNanos;
+
+    private final int maxBatchSize;
+
+    private final ConcurrentHashMap<String, JobSchedule> pending = new ConcurrentHashMap<String, JobSchedule>();
+
+    private final AtomicBoolean signalled = new AtomicBoolean();
+
+    private final Thread thread;
+
+    /**
+     * The round that will pick up changes queued now, guarded by {@code this}.
+     */
+    private Round next = new Round();
+
+    private volatile boolean closed;
+
+    ScheduleStoreWriter(final ScheduleStore store, final ScheduleStoreConfig config) {
+        this.store = store;
+        this.commitWindowNanos = config.commitWindowNanos;
+        this.maxBatchSize = config.maxBatchSize;
+        this.thread = new Thread(this, "jberet-schedule-store-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Queues a job schedule to be stored.
+     *
+     * @param jobSchedule the new or changed job schedule
+     * @param await whether to wait until the job schedule is written
+     * @throws jakarta.batch.operations.BatchRuntimeException if {@code await} is true and the write failed
+     */
+    void store(final JobSchedule jobSchedule, final boolean await) {
+        queue(jobSchedule.getId(), jobSchedule, await);
+    }
+
+    /**
+     * Queues a job schedule to be removed from the store.
+     *
+     * @param scheduleId id of the deleted job schedule
+     * @param await whether to wait until the job schedule is removed
+     * @throws jakarta.batch.operations.BatchRuntimeException if {@code await} is true and the removal failed
+     */
+    void remove(final String scheduleId, final boolean await) {
+        queue(scheduleId, REMOVED, await);
+    }
+
+    /**
+     * Waits until all changes queued before this call have been written,
+     * or have failed to be written.
+     */
+    void flush() {
+        await(currentRound(), false);
+    }
+
+    /**
+     * Waits until all changes queued before this call have been written, e.g.,
+     * after queuing a batch of changes without waiting for each of them.
+     *
+     * @throws jakarta.batch.operations.BatchRuntimeException if the write failed
+     */
+    void commit() {
+        await(currentRound(), true);
+    }
+
+    /**
+     * Gets a stage completed when all changes queued before this call have been written,
+     * without waiting for them. The stage is completed from the writer thread.
+     *
+     * @return a stage completed when the changes are written, or completed exceptionally
+     *         with {@code BatchRuntimeException} if the write failed
+     */
+    CompletionStage<Void> commitAsync() {
+        final CompletableFuture<Void> completion;
+        synchronized (this) {
+            if (next.completion == null) {
+                next.completion = new CompletableFuture<Void>();
+            }
+            completion = next.completion;
+        }
+        signal();
+        if (!thread.isAlive()) {
+            completion.complete(null);
+        }
+        return completion;
+    }
+
+    /**
+     * Writes all queued changes, and stops the writer thread.
+     */
+    void close() {
+        closed = true;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        final CompletableFuture<Void> completion;
+        synchronized (this) {
+            completion = next.completion;
+        }
+        if (completion != null) {
+            completion.complete(null);
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            signalled.set(false);
+            if (commitWindowNanos > 0 && !pending.isEmpty()) {
+                awaitCommitWindow();
+            }
+
+            final Round round;
+            synchronized (this) {
+                round = next;
+                next = new Round();
+            }
+            final boolean empty = pending.isEmpty();
+            final Throwable failure = empty ? null : writePending();
+            synchronized (this) {
+                round.done = true;
+                round.failure = failure;
+                notifyAll();
+            }
+            if (round.completion != null) {
+                if (failure == null) {
+                    round.completion.complete(null);
+                } else {
+                    round.completion.completeExceptionally(
+                            ScheduleExecutorMessages.MESSAGES.failToAccessScheduleStore(failure, store));
+                }
+            }
+
+            if (failure != null && !closed) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(RETRY_PAUSE_MILLIS));
+            } else if (empty) {
+                if (closed) {
+                    return;
+                }
+                if (!signalled.get()) {
+                    LockSupport.park(this);
+                }
+            }
+        }
+    }
+
+    private void queue(final String scheduleId, final JobSchedule jobSchedule, final boolean await) {
+        pending.put(scheduleId, jobSchedule);
+        if (await) {
+            await(currentRound(), true);
+        } else {
+            signal();
+            if (commitWindowNanos > 0 && pending.size() >= maxBatchSize) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    private synchronized Round currentRound() {
+        return next;
+    }
+
+    private void await(final Round round, final boolean throwFailure) {
+        signal();
+        synchronized (this) {
+            while (!round.done && thread.isAlive()) {
+                try {
+                    wait(RETRY_PAUSE_MILLIS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        if (throwFailure && round.failure != null) {
+            throw ScheduleExecutorMessages.MESSAGES.failToAccessScheduleStore(round.failure, store);
+        }
+    }
+
+    private void signal() {
+        if (signalled.compareAndSet(false, true)) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Waits for more changes until the commit window elapses, the max batch size
+     * is reached, or the writer is being closed.
+     */
+    private void awaitCommitWindow() {
+        final long deadline = System.nanoTime() + commitWindowNanos;
+        long remaining = commitWindowNanos;
+        while (remaining > 0 && !closed && pending.size() < maxBatchSize) {
+            LockSupport.parkNanos(this, remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    /**
+     * Writes all pending changes in batches of up to {@link #maxBatchSize}.
+     *
+     * @return the failure, or null if all batches were written
+     */
+    private Throwable writePending() {
+        final Map<String, JobSchedule> batch = new HashMap<String, JobSchedule>();
+        for (final Iterator<Map.Entry<String, JobSchedule>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+            final Map.Entry<String, JobSchedule> e = it.next();
+            if (pending.remove(e.getKey(), e.getValue())) {
+                batch.put(e.getKey(), e.getValue());
+                if (batch.size() >= maxBatchSize) {
+                    final Throwable failure = writeBatch(batch);
+                    if (failure != null) {
+                        return failure;
+                    }
+                    batch.clear();
+                }
+            }
+        }
+        return batch.isEmpty() ? null : writeBatch(batch);
+    }
+
+    private Throwable writeBatch(final Map<String, JobSchedule> batch) {
+        final List<JobSchedule> toStore = new ArrayList<JobSchedule>();
+        final List<String> toRemove = new ArrayList<String>();
+        for (final Map.Entry<String, JobSchedule> e : batch.entrySet()) {
+            if (e.getValue() == REMOVED) {
+                toRemove.add(e.getKey());
+            } else {
+                toStore.add(e.getValue());
+            }
+        }
+
+        try {
+            if (!toStore.isEmpty()) {
+                store.store(toStore);
+            }
+            if (!toRemove.isEmpty()) {
+                store.remove(toRemove);
+            }
+            return null;
+        } catch (final Throwable e) {
+            ScheduleExecutorLogger.LOGGER.failToWriteScheduleStore(e, batch.size(), store);
+            if (!closed) {
+                for (final Map.Entry<String, JobSchedule> entry : batch.entrySet()) {
+                    pending.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+            }
+            return e;
+        }
+    }
+
+    /**
+     * A round of writing all pending changes.
+     */
+    private static final class Round {
+        /**
+         * Whether the round is finished, guarded by the writer.
+         */
+        boolean done;
+
+        /**
+         * The failure of the round, or null if successful, guarded by the writer.
+         */
+        Throwable failure;
+
+        /**
+         * Completed when the round is finished, or null if nobody is waiting for it
+         * asynchronously, guarded by the writer.
+         */
+        CompletableFuture<Void> completion;
+    }
+}
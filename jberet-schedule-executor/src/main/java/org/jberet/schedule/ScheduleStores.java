@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Utility methods shared by {@link ScheduleStore} implementations.
+ *
+ * @since 2.1.1
+ */
+final class ScheduleStores {
+    private ScheduleStores() {
+    }
+
+    /**
+     * Serializes a job schedule.
+     *
+     * @param jobSchedule the job schedule
+     * @return the serialized form of the job schedule
+     * @throws IOException if the job schedule cannot be serialized
+     */
+    static byte[] toBytes(final JobSchedule jobSchedule) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(jobSchedule);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserializes a job schedule.
+     *
+     * @param bytes the serialized form of the job schedule
+     * @return the job schedule
+     * @throws IOException if the job schedule cannot be deserialized
+     * @throws ClassNotFoundException if a class in the serialized form is not found
+     */
+    static JobSchedule fromBytes(final byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (JobSchedule) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+/**
+ * Service provider interface for recording runtime metrics of a {@link JobScheduler}.
+ * A job scheduler calls these methods as job schedules are scheduled, cancelled and
+ * fired, so implementations must be thread-safe, and should return quickly without
+ * blocking. The default implementation is {@link DefaultSchedulerMetrics}, and other
+ * implementations, e.g., one that reports to a monitoring system, can be set with
+ * {@link JobScheduler#setMetrics(SchedulerMetrics)}.
+ * <p>
+ * Queue depths are not recorded through this interface, since they are read from the
+ * executors on demand; see {@link ExecutorSchedulerImpl#getTickStageStatistics()} and
+ * {@link ExecutorSchedulerImpl#getLaunchStageStatistics()}.
+ *
+ * @see DefaultSchedulerMetrics
+ * @see SchedulerMetricsMXBean
+ * @since 2.1.1
+ */
+public interface SchedulerMetrics {
+    /**
+     * Records that a job schedule has been scheduled.
+     *
+     * @param jobSchedule the new job schedule
+     */
+    void scheduled(JobSchedule jobSchedule);
+
+    /**
+     * Records that a job schedule has been cancelled.
+     *
+     * @param jobSchedule the cancelled job schedule
+     */
+    void cancelled(JobSchedule jobSchedule);
+
+    /**
+     * Records that a job schedule has fired.
+     *
+     * @param jobSchedule the job schedule
+     * @param lagNanos the time between the planned and the actual fire time in nanoseconds,
+     *                 or a negative value if the job scheduler does not know the planned fire time
+     */
+    void fired(JobSchedule jobSchedule, long lagNanos);
+
+    /**
+     * Records missed firings of a job schedule that are not fired because of its misfire policy.
+     * They are coalesced with {@link MisfirePolicy#FIRE_ALL} and {@link MisfirePolicy#FIRE_ONCE},
+     * and skipped with {@link MisfirePolicy#SKIP}.
+     *
+     * @param jobSchedule the job schedule
+     * @param policy the misfire policy of the job schedule
+     * @param count the number of firings not fired
+     */
+    void misfired(JobSchedule jobSchedule, MisfirePolicy policy, int count);
+
+    /**
+     * Records a firing of a job schedule that has not been admitted, because it would exceed
+     * the max concurrent executions of the job schedule, of its job, or of the job scheduler.
+     * A firing queued with {@link AdmissionConfig.Policy#QUEUE} is recorded each time it is
+     * not admitted.
+     *
+     * @param jobSchedule the job schedule
+     * @param policy the admission policy of the job scheduler
+     */
+    void throttled(JobSchedule jobSchedule, AdmissionConfig.Policy policy);
+
+    /**
+     * Records that a job execution has been started or restarted by a job schedule.
+     *
+     * @param jobSchedule the job schedule
+     * @param latencyNanos the time taken by {@code JobOperator.start} or {@code JobOperator.restart}
+     *                     in nanoseconds
+     */
+    void launched(JobSchedule jobSchedule, long latencyNanos);
+
+    /**
+     * Records that a job schedule failed to start or restart a job execution.
+     *
+     * @param jobSchedule the job schedule
+     * @param failure the failure
+     */
+    void failed(JobSchedule jobSchedule, Throwable failure);
+}
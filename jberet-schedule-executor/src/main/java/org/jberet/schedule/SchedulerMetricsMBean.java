@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implements {@link SchedulerMetricsMXBean} by reading the current metrics of a job scheduler.
+ *
+ * @since 2.1.1
+ */
+final class SchedulerMetricsMBean implements SchedulerMetricsMXBean {
+    private final JobScheduler scheduler;
+
+    SchedulerMetricsMBean(final JobScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public long getScheduledCount() {
+        final DefaultSchedulerMetrics metrics = metrics();
+        return metrics == null ? -1 : metrics.getScheduledCount();
+    }
+
+    @Override
+    public long getCancelledCount() {
+        final DefaultSchedulerMetrics metrics = metrics();
+        return metrics == null ? -1 : metrics.getCancelledCount();
+    }
+
+    @Override
+    public long getFiredCount() {
+        final DefaultSchedulerMetrics metrics = metrics();
+        return metrics == null ? -1 : metrics.getFiredCount();
+    }
+
+    @Override
+    public long getCoalescedCount() {
+        final DefaultSchedulerMetrics metrics = metrics();
+        return metrics == null ? -1 : metrics.getCoalescedCount();
+    }
+
+    @Override
+    public long getSkippedCount() {
+        final DefaultSchedulerMetrics metrics = metrics();
+        return metrics == null ? -1 : metrics.getSkippedCount();
+    }
+
+    @Override
+    public long getThrottledCount() {
+        final DefaultSchedulerMetrics metrics = metrics();
+        return metrics == null ? -1 : metrics.getThrottledCount();
+    }
+
+    @Override
+    public long getLaunchedCount() {
+        final DefaultSchedulerMetrics metrics = metrics();
+        return metrics == null ? -1 : metrics.getLaunchedCount();
+    }
+
+    @Override
+    public long getFailedCount() {
+        final DefaultSchedulerMetrics metrics = metrics();
+        return metrics == null ? -1 : metrics.getFailedCount();
+    }
+
+    @Override
+    public double getFiringLagMeanMillis() {
+        final DefaultSchedulerMetrics metrics = metrics();
+        return metrics == null ? -1 : metrics.getFiringLag().getMean(TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long getFiringLagP99Millis() {
+        final DefaultSchedulerMetrics metrics = metrics();
+        return metrics == null ? -1 : metrics.getFiringLag().getPercentile(99, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long getFiringLagMaxMillis() {
+        final DefaultSchedulerMetrics metrics = metrics();
+        return metrics == null ? -1 : metrics.getFiringLag().getMax(TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public double getLaunchLatencyMeanMillis() {
+        final DefaultSchedulerMetrics metrics = metrics();
+        return metrics == null ? -1 : metrics.getLaunchLatency().getMean(TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long getLaunchLatencyP99Millis() {
+        final DefaultSchedulerMetrics metrics = metrics();
+        return metrics == null ? -1 : metrics.getLaunchLatency().getPercentile(99, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long getLaunchLatencyMaxMillis() {
+        final DefaultSchedulerMetrics metrics = metrics();
+        return metrics == null ? -1 : metrics.getLaunchLatency().getMax(TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int getTickQueueDepth() {
+        return scheduler instanceof ExecutorSchedulerImpl ?
+                ((ExecutorSchedulerImpl) scheduler).getTickStageStatistics().getQueueDepth() : -1;
+    }
+
+    @Override
+    public int getLaunchQueueDepth() {
+        return scheduler instanceof ExecutorSchedulerImpl ?
+                ((ExecutorSchedulerImpl) scheduler).getLaunchStageStatistics().getQueueDepth() : -1;
+    }
+
+    private DefaultSchedulerMetrics metrics() {
+        final SchedulerMetrics metrics = scheduler.getMetrics();
+        return metrics instanceof DefaultSchedulerMetrics ? (DefaultSchedulerMetrics) metrics : null;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+/**
+ * JMX management interface for the metrics of a {@link JobScheduler}, registered with
+ * {@link JobScheduler#registerMetricsMBean(String)}. Counters and durations are read
+ * from {@link DefaultSchedulerMetrics}, and are -1 if the job scheduler uses another
+ * {@link SchedulerMetrics} implementation. Durations are in milliseconds.
+ *
+ * @since 2.1.1
+ */
+public interface SchedulerMetricsMXBean {
+    /**
+     * Gets the number of job schedules scheduled.
+     *
+     * @return the number of job schedules scheduled
+     */
+    long getScheduledCount();
+
+    /**
+     * Gets the number of job schedules cancelled.
+     *
+     * @return the number of job schedules cancelled
+     */
+    long getCancelledCount();
+
+    /**
+     * Gets the number of times job schedules have fired.
+     *
+     * @return the number of firings
+     */
+    long getFiredCount();
+
+    /**
+     * Gets the number of missed firings coalesced with other firings.
+     *
+     * @return the number of coalesced firings
+     */
+    long getCoalescedCount();
+
+    /**
+     * Gets the number of missed firings skipped.
+     *
+     * @return the number of skipped firings
+     */
+    long getSkippedCount();
+
+    /**
+     * Gets the number of times firings have not been admitted because of concurrency limits.
+     *
+     * @return the number of throttled firings
+     */
+    long getThrottledCount();
+
+    /**
+     * Gets the number of job executions started or restarted by job schedules.
+     *
+     * @return the number of job executions launched
+     */
+    long getLaunchedCount();
+
+    /**
+     * Gets the number of times job schedules failed to start or restart a job execution.
+     *
+     * @return the number of failures
+     */
+    long getFailedCount();
+
+    /**
+     * Gets the mean lag between the planned and the actual fire time.
+     *
+     * @return the mean firing lag in milliseconds
+     */
+    double getFiringLagMeanMillis();
+
+    /**
+     * Gets the 99th percentile of the lag between the planned and the actual fire time.
+     *
+     * @return the 99th percentile firing lag in milliseconds
+     */
+    long getFiringLagP99Millis();
+
+    /**
+     * Gets the max lag between the planned and the actual fire time.
+     *
+     * @return the max firing lag in milliseconds
+     */
+    long getFiringLagMaxMillis();
+
+    /**
+     * Gets the mean time taken to start or restart a job execution.
+     *
+     * @return the mean launch latency in milliseconds
+     */
+    double getLaunchLatencyMeanMillis();
+
+    /**
+     * Gets the 99th percentile of the time taken to start or restart a job execution.
+     *
+     * @return the 99th percentile launch latency in milliseconds
+     */
+    long getLaunchLatencyP99Millis();
+
+    /**
+     * Gets the max time taken to start or restart a job execution.
+     *
+     * @return the max launch latency in milliseconds
+     */
+    long getLaunchLatencyMaxMillis();
+
+    /**
+     * Gets the number of job schedule runs waiting for the scheduling thread.
+     *
+     * @return the tick queue depth, or -1 if not available
+     *
+     * @see ExecutorSchedulerImpl#getTickStageStatistics()
+     */
+    int getTickQueueDepth();
+
+    /**
+     * Gets the number of job executions waiting to be started or restarted.
+     *
+     * @return the launch queue depth, or -1 if not available
+     *
+     * @see ExecutorSchedulerImpl#getLaunchStageStatistics()
+     */
+    int getLaunchQueueDepth();
+}
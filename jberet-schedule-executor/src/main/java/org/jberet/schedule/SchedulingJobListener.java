@@ -10,6 +10,7 @@
 
 package org.jberet.schedule;
 
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Properties;
@@ -46,6 +47,13 @@ public class SchedulingJobListener extends AbstractJobListener {
      */
     private static final String numOfSchedulesKey = SchedulingJobListener.class.getName() + ".numOfSchedules";
 
+    /**
+     * The job parameter key for the id of the job schedule that tracks a chain of job executions
+     *
+     * @see #chain
+     */
+    private static final String scheduleIdKey = SchedulingJobListener.class.getName() + ".scheduleId";
+
     @Inject
     protected JobContext jobContext;
 
@@ -108,36 +116,72 @@ public class SchedulingJobListener extends AbstractJobListener {
     @BatchProperty
     protected boolean restartFailedStopped = true;
 
+    /**
+     * Whether to keep one job schedule for the whole chain of job executions, instead of
+     * submitting a new job schedule after each job execution. In chain mode, the first
+     * job execution submits a job schedule, which carries its id in the job parameters,
+     * and each later job execution re-arms that job schedule in place, so its job execution
+     * ids and count cover the whole chain, and its job schedule config is reused.
+     * {@link #maxSchedules} is then compared with the job execution count of the job schedule,
+     * and the count in the job parameters is only the fallback if the job schedule is no
+     * longer found. The chain ends when its job schedule is cancelled.
+     * <p>
+     * This property applies only when the job scheduler supports the
+     * {@link JobScheduler#RESCHEDULE} feature, and is ignored otherwise.
+     * Optional property, and defaults to false.
+     *
+     * @since 2.1.1
+     */
+    @Inject
+    @BatchProperty
+    protected boolean chain;
+
+    /**
+     * The job execution whose schedule count is cached in {@link #scheduleCount}
+     * and {@link #chainSchedule}, so that it is looked up once per job execution.
+     */
+    private JobExecution countedExecution;
+
+    /**
+     * The number of schedules performed before the job execution {@link #countedExecution}.
+     */
+    private int scheduleCount;
+
+    /**
+     * The job schedule of the chain that launched the job execution {@link #countedExecution},
+     * or null if not in chain mode, or launched otherwise.
+     */
+    private JobSchedule chainSchedule;
+
     /**
      * {@inheritDoc}
      * <p>
      * This method schedules the next execution of the same job to start
      * after the current job execution ends. The same job parameters are
-     * carried over to the next scheduled job execution.
+     * carried over to the next scheduled job execution. The current job
+     * execution no longer counts against the admission limits of the job scheduler.
      */
     @Override
     public void afterJob() {
         final long executionId = jobContext.getExecutionId();
+        JobScheduler.jobExecutionFinished(executionId);
         try {
             final JobExecution jobExecution = JobScheduler.getJobOperator().getJobExecution(executionId);
             final BatchStatus currentStatus = jobContext.getBatchStatus();
 
             if (needToSchedule(jobExecution, currentStatus)) {
+                final JobScheduler scheduler = JobScheduler.getJobScheduler();
+                if (isChained(scheduler)) {
+                    scheduleChain(scheduler, jobExecution, currentStatus);
+                    return;
+                }
                 final Properties nextExecutionParams = getJobParameters(jobExecution);
 
                 if (maxSchedules != null) {
-                    final Properties currentExecutionParams = jobExecution.getJobParameters();
-                    int currentScheduleCount = 0;
-                    if (currentExecutionParams != null) {
-                        final String numValue = currentExecutionParams.getProperty(numOfSchedulesKey);
-                        if (numValue != null) {
-                            currentScheduleCount = Integer.parseInt(numValue);
-                        }
-                    }
-                    nextExecutionParams.setProperty(numOfSchedulesKey, String.valueOf(currentScheduleCount + 1));
+                    nextExecutionParams.setProperty(numOfSchedulesKey,
+                            String.valueOf(getScheduleCount(jobExecution) + 1));
                 }
 
-                final JobScheduler scheduler = JobScheduler.getJobScheduler();
                 JobScheduleConfigBuilder builder = JobScheduleConfigBuilder.newInstance()
                         .initialDelay(initialDelay)
                         .persistent(persistent)
@@ -157,9 +201,57 @@ public class SchedulingJobListener extends AbstractJobListener {
             }
         } catch (final Throwable th) {
             ScheduleExecutorLogger.LOGGER.failToSchedule(th, executionId);
+        } finally {
+            countedExecution = null;
+            chainSchedule = null;
         }
     }
 
+    /**
+     * Schedules the next execution of the same job in chain mode, by re-arming the
+     * job schedule of the chain, or by submitting it after the first job execution.
+     *
+     * @param scheduler the job scheduler
+     * @param jobExecution the current job execution
+     * @param currentStatus the batch status of the current job execution
+     */
+    private void scheduleChain(final JobScheduler scheduler, final JobExecution jobExecution,
+                               final BatchStatus currentStatus) {
+        final long executionId = jobExecution.getExecutionId();
+        final long restartId = (currentStatus == FAILED || currentStatus == STOPPED || currentStatus == STOPPING)
+                && isRestartFailedStopped() ? executionId : 0;
+        final int count = getScheduleCount(jobExecution);
+        final JobSchedule chained = chainSchedule;
+        if (chained != null) {
+            final Properties chainParams = chained.getJobScheduleConfig().getJobParameters();
+            if (maxSchedules != null && chainParams != null) {
+                // the count to fall back to if the job schedule is no longer found
+                chainParams.setProperty(numOfSchedulesKey, String.valueOf(count + 1));
+            }
+            // a cancelled job schedule ends the chain, and is not re-armed
+            if (scheduler.reschedule(chained.getId(), restartId) != null) {
+                ScheduleExecutorLogger.LOGGER.scheduledNextExecution(
+                        executionId, chained.getId(), chained.getJobScheduleConfig());
+            }
+            return;
+        }
+
+        // the first job execution of the chain, or the job schedule of the chain has been deleted
+        final Properties jobParameters = getJobParameters(jobExecution);
+        if (maxSchedules != null) {
+            jobParameters.setProperty(numOfSchedulesKey, String.valueOf(count + 1));
+        }
+        final JobScheduleConfig scheduleConfig = JobScheduleConfigBuilder.newInstance()
+                .initialDelay(initialDelay)
+                .persistent(persistent)
+                .jobParameters(jobParameters)
+                .jobName(jobContext.getJobName())
+                .jobExecutionId(restartId)
+                .build();
+        final JobSchedule schedule = scheduler.schedule(scheduleConfig, scheduleIdKey);
+        ScheduleExecutorLogger.LOGGER.scheduledNextExecution(executionId, schedule.getId(), scheduleConfig);
+    }
+
     /**
      * Checks if need to schedule the next job execution.
      * This method may be overridden by subclass to customize the condition whether to schedule
@@ -181,17 +273,8 @@ public class SchedulingJobListener extends AbstractJobListener {
             return false;
         }
 
-        if (maxSchedules != null) {
-            final Properties jobParameters = jobExecution.getJobParameters();
-            if (jobParameters != null) {
-                final String numValue = jobParameters.getProperty(numOfSchedulesKey);
-                if (numValue != null) {
-                    final int num = Integer.parseInt(numValue);
-                    if (num >= maxSchedules) {
-                        return false;
-                    }
-                }
-            }
+        if (maxSchedules != null && getScheduleCount(jobExecution) >= maxSchedules) {
+            return false;
         }
 
         if (onBatchStatus != null && !onBatchStatus.isEmpty()) {
@@ -206,6 +289,52 @@ public class SchedulingJobListener extends AbstractJobListener {
         return true;
     }
 
+    /**
+     * Gets the number of schedules performed by this class before the current job execution.
+     * In chain mode, it is the job execution count of the job schedule of the chain, which
+     * the job scheduler keeps; otherwise, or if the job schedule is no longer found, it is
+     * parsed from the job parameters, which carry it from one job execution to the next.
+     * It is looked up once per job execution.
+     *
+     * @param jobExecution the current job execution
+     * @return the number of schedules performed before {@code jobExecution}
+     */
+    private int getScheduleCount(final JobExecution jobExecution) {
+        if (countedExecution == jobExecution) {
+            return scheduleCount;
+        }
+        int count = 0;
+        JobSchedule schedule = null;
+        final Properties jobParameters = jobExecution.getJobParameters();
+        if (jobParameters != null) {
+            final JobScheduler scheduler = JobScheduler.getJobScheduler();
+            final String scheduleId = isChained(scheduler) ? jobParameters.getProperty(scheduleIdKey) : null;
+            schedule = scheduleId == null ? null : scheduler.getJobSchedule(scheduleId);
+            if (schedule != null) {
+                count = (int) Math.min(schedule.getJobExecutionCount(), Integer.MAX_VALUE);
+            } else {
+                final String numValue = jobParameters.getProperty(numOfSchedulesKey);
+                if (numValue != null) {
+                    count = Integer.parseInt(numValue);
+                }
+            }
+        }
+        countedExecution = jobExecution;
+        scheduleCount = count;
+        chainSchedule = schedule;
+        return count;
+    }
+
+    /**
+     * Checks if the next job execution is scheduled in chain mode.
+     *
+     * @param scheduler the job scheduler
+     * @return true if {@link #chain} is set and {@code scheduler} supports re-arming job schedules
+     */
+    private boolean isChained(final JobScheduler scheduler) {
+        return chain && Arrays.asList(scheduler.getFeatures()).contains(JobScheduler.RESCHEDULE);
+    }
+
     /**
      * Determines whether to schedule to restart a failed or stopped job execution,
      * or to start another job execution afresh.
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A point-in-time snapshot of one stage of a job scheduler, e.g., the tick stage
+ * that detects matured job schedules, or the launch stage that starts or restarts
+ * job executions. The lag of a stage is the time between when a job schedule
+ * should have entered the stage and when the stage actually started working on it.
+ *
+ * @see ExecutorSchedulerImpl#getTickStageStatistics()
+ * @see ExecutorSchedulerImpl#getLaunchStageStatistics()
+ * @since 2.1.1
+ */
+public final class StageStatistics implements Serializable {
+    private static final long serialVersionUID = -2472043566925413360L;
+
+    private final int queueDepth;
+    private final long count;
+    private final long totalLagNanos;
+    private final long maxLagNanos;
+
+    StageStatistics(final int queueDepth, final long count, final long totalLagNanos, final long maxLagNanos) {
+        this.queueDepth = queueDepth;
+        this.count = count;
+        this.totalLagNanos = totalLagNanos;
+        this.maxLagNanos = maxLagNanos;
+    }
+
+    /**
+     * Gets the number of tasks waiting in this stage.
+     *
+     * @return number of waiting tasks, or -1 if the underlying executor does not expose it
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Gets the number of tasks that have entered this stage.
+     *
+     * @return number of tasks
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean lag of this stage.
+     *
+     * @param unit the time unit of the result
+     * @return mean lag, or 0 if no task has entered this stage
+     */
+    public long getMeanLag(final TimeUnit unit) {
+        return count == 0 ? 0 : unit.convert(totalLagNanos / count, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the maximum lag of this stage.
+     *
+     * @param unit the time unit of the result
+     * @return maximum lag, or 0 if no task has entered this stage
+     */
+    public long getMaxLag(final TimeUnit unit) {
+        return unit.convert(maxLagNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "StageStatistics{" +
+                "queueDepth=" + queueDepth +
+                ", count=" + count +
+                ", meanLagMillis=" + getMeanLag(TimeUnit.MILLISECONDS) +
+                ", maxLagMillis=" + getMaxLag(TimeUnit.MILLISECONDS) +
+                '}';
+    }
+
+    /**
+     * Records the lag of each task entering a stage.
+     */
+    static final class Recorder {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalLagNanos = new LongAdder();
+        private final AtomicLong maxLagNanos = new AtomicLong();
+
+        void record(final long lagNanos) {
+            final long lag = lagNanos < 0 ? 0 : lagNanos;
+            count.increment();
+            totalLagNanos.add(lag);
+            maxLagNanos.accumulateAndGet(lag, Math::max);
+        }
+
+        StageStatistics snapshot(final int queueDepth) {
+            return new StageStatistics(queueDepth, count.sum(), totalLagNanos.sum(), maxLagNanos.get());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job scheduler implementation based on a hierarchical timing wheel, suitable for
+ * a large number of job schedules. Compared to the default
+ * {@code java.util.concurrent.ScheduledExecutorService}, which keeps all tasks in one
+ * lock-protected heap, submitting and cancelling a job schedule is a constant-time
+ * operation that does not contend with other threads.
+ * <p>
+ * Firing times are rounded up to the tick duration, which defaults to
+ * {@value #DEFAULT_TICK_MILLIS} milliseconds.
+ * <p>
+ * This class can be selected with
+ * {@link JobScheduler#getJobScheduler(Class, ConcurrentMap, String)}.
+ *
+ * @see ExecutorSchedulerImpl
+ * @since 2.1.1
+ */
+public class TimingWheelSchedulerImpl extends ExecutorSchedulerImpl {
+    /**
+     * Default tick duration in milliseconds.
+     */
+    public static final long DEFAULT_TICK_MILLIS = 10;
+
+    /**
+     * Default number of wheel levels. With the default tick duration, 4 levels
+     * cover about 46 hours before a task has to be re-cascaded from the top level.
+     */
+    public static final int DEFAULT_LEVELS = 4;
+
+    /**
+     * Default no-arg constructor.
+     *
+     * @see #TimingWheelSchedulerImpl(ConcurrentMap)
+     * @see #TimingWheelSchedulerImpl(ConcurrentMap, long, TimeUnit, ExecutorService)
+     */
+    public TimingWheelSchedulerImpl() {
+        this(null);
+    }
+
+    /**
+     * Constructs {@code TimingWheelSchedulerImpl}, specifying
+     * {@code ConcurrentMap<String, JobSchedule>} for storing all job schedules.
+     *
+     * @param schedules {@code ConcurrentMap<String, JobSchedule>} for storing all job schedules
+     */
+    public TimingWheelSchedulerImpl(final ConcurrentMap<String, JobSchedule> schedules) {
+        this(schedules, DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS, null);
+    }
+
+    /**
+     * Constructs {@code TimingWheelSchedulerImpl}, specifying the
+     * {@code ConcurrentMap<String, JobSchedule>} for storing all job schedules,
+     * the tick duration of the timing wheel, and the executor for running
+     * matured job schedules.
+     *
+     * @param schedules {@code ConcurrentMap<String, JobSchedule>} for storing all job schedules
+     * @param tickDuration duration of one tick of the timing wheel
+     * @param tickUnit time unit of {@code tickDuration}
+     * @param taskExecutor executor for running matured job schedules, or null to use
+     *                     a fixed thread pool sized to the number of available processors;
+     *                     a specified executor is not shut down by {@link #close()}
+     */
+    public TimingWheelSchedulerImpl(final ConcurrentMap<String, JobSchedule> schedules,
+                                    final long tickDuration,
+                                    final TimeUnit tickUnit,
+                                    final ExecutorService taskExecutor) {
+        super(schedules, new HierarchicalTimingWheel(tickDuration, tickUnit, DEFAULT_LEVELS, taskExecutor));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation also shuts down the timing wheel, cancelling the job schedules
+     * still waiting in it, and the task executor if it was created by the timing wheel.
+     */
+    @Override
+    public void close() {
+        super.close();
+        executorService.shutdown();
+    }
+}
@@ -24,7 +24,7 @@ public class JaxbScheduleExpression {
 
     private String start;
 
-    private String timezone = "";
+    private String timezone;
 
     private String year = "*";
 
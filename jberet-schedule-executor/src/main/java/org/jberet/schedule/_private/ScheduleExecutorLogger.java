@@ -44,4 +44,50 @@ public interface ScheduleExecutorLogger extends BasicLogger {
     @LogMessage(level = Logger.Level.WARN)
     void failToSchedule(@Cause Throwable throwable, long currentExecutionId);
 
+    @Message(id = 72504,
+    value = "Failed to start or restart job execution for job schedule %s")
+    @LogMessage(level = Logger.Level.WARN)
+    void failToLaunch(@Cause Throwable throwable, String scheduleId);
+
+    @Message(id = 72505,
+    value = "Virtual threads are not available in the current Java runtime, and will use platform threads to launch job executions.")
+    @LogMessage(level = Logger.Level.WARN)
+    void virtualThreadsNotAvailable();
+
+    @Message(id = 72506,
+    value = "Failed to write %s job schedules to schedule store %s, and will retry.")
+    @LogMessage(level = Logger.Level.WARN)
+    void failToWriteScheduleStore(@Cause Throwable throwable, int count, Object store);
+
+    @Message(id = 72507,
+    value = "Recovered %s job schedules from schedule store %s")
+    @LogMessage(level = Logger.Level.INFO)
+    void recoveredJobSchedules(int count, Object store);
+
+    @Message(id = 72508,
+    value = "Failed to recover job schedules from schedule store %s")
+    @LogMessage(level = Logger.Level.ERROR)
+    void failToRecoverJobSchedules(@Cause Throwable throwable, Object store);
+
+    @Message(id = 72509,
+    value = "Failed to recover job schedule %s from schedule store, and will skip it.")
+    @LogMessage(level = Logger.Level.WARN)
+    void failToRecoverJobSchedule(@Cause Throwable throwable, String scheduleId);
+
+    @Message(id = 72510, value = "Failed to unregister MBean %s")
+    @LogMessage(level = Logger.Level.WARN)
+    void failToUnregisterMBean(@Cause Throwable throwable, Object name);
+
+    @Message(id = 72511, value = "Dropped firing of job schedule %s, which would exceed the max concurrent executions")
+    @LogMessage(level = Logger.Level.WARN)
+    void droppedFiring(String scheduleId);
+
+    @Message(id = 72512, value = "Failed to claim firing of job schedule %s, and the firing is skipped")
+    @LogMessage(level = Logger.Level.WARN)
+    void failToClaimFiring(@Cause Throwable throwable, String scheduleId);
+
+    @Message(id = 72513, value = "Failed to evict finished job schedules, and will retry at the next sweep")
+    @LogMessage(level = Logger.Level.WARN)
+    void failToEvictJobSchedules(@Cause Throwable throwable);
+
 }
@@ -13,6 +13,7 @@ package org.jberet.schedule._private;
 import jakarta.batch.operations.BatchRuntimeException;
 
 import org.jberet.schedule.JobScheduleConfig;
+import org.jberet.schedule.LaunchMode;
 import org.jboss.logging.Messages;
 import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.Message;
@@ -30,4 +31,28 @@ public interface ScheduleExecutorMessages {
     @Message(id = 72001, value = "Invalid job schedule config %s")
     BatchRuntimeException invalidJobScheduleConfig(JobScheduleConfig config);
 
+    @Message(id = 72002, value = "Invalid value for %s in schedule expression: %s")
+    BatchRuntimeException invalidScheduleExpression(String attribute, String value);
+
+    @Message(id = 72003, value = "Invalid job schedule query cursor: %s")
+    BatchRuntimeException invalidCursor(String cursor);
+
+    @Message(id = 72004, value = "Failed to access schedule store %s")
+    BatchRuntimeException failToAccessScheduleStore(@Cause Throwable th, Object store);
+
+    @Message(id = 72005, value = "Failed to register MBean %s")
+    BatchRuntimeException failToRegisterMBean(@Cause Throwable th, String name);
+
+    @Message(id = 72006, value = "Launch mode %s is not supported by JobScheduler of type %s")
+    BatchRuntimeException launchModeNotSupported(LaunchMode launchMode, Class<?> schedulerType);
+
+    @Message(id = 72007, value = "Job schedule id %s is already in use")
+    BatchRuntimeException duplicateJobScheduleId(String scheduleId);
+
+    @Message(id = 72008, value = "Interrupted while waiting for job schedules to be recovered from schedule store %s")
+    BatchRuntimeException interruptedRecovery(@Cause Throwable th, Object store);
+
+    @Message(id = 72009, value = "Failed to access firing guard %s")
+    BatchRuntimeException failToAccessFiringGuard(@Cause Throwable th, Object firingGuard);
+
 }
@@ -2,13 +2,22 @@ package org.jberet.schedule._private;
 
 import javax.ejb.ScheduleExpression;
 import jakarta.xml.bind.annotation.adapters.XmlAdapter;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
-import java.util.Optional;
 
+/**
+ * Adapts {@code ScheduleExpression} to {@link JaxbScheduleExpression} for JAXB and Jackson.
+ * The start and end dates are formatted in the default time zone with the immutable
+ * {@link #DATE_FORMAT}, so that one adapter can be shared by concurrent marshalling threads.
+ */
 public class ScheduleExpressionAdapter extends XmlAdapter<JaxbScheduleExpression, ScheduleExpression> {
-    private final static DateFormat DATE_FORMAT = new SimpleDateFormat("yyyy'-'MM'-'dd'T'HH':'mm':'ss'.'SSSX");
+    /**
+     * Format of start and end dates, e.g., {@code 2026-10-18T08:00:00.000+02}.
+     */
+    static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy'-'MM'-'dd'T'HH':'mm':'ss'.'SSSX").withZone(ZoneId.systemDefault());
 
     @Override
     public ScheduleExpression unmarshal(JaxbScheduleExpression scheduleExpression) throws Exception {
@@ -17,49 +26,46 @@ public class ScheduleExpressionAdapter extends XmlAdapter<JaxbScheduleExpression
         }
         ScheduleExpression expression = new ScheduleExpression();
 
-        Optional.ofNullable(scheduleExpression.getDayOfMonth())
-                .map(String::valueOf)
-                .ifPresent(expression::dayOfMonth);
-
-        Optional.ofNullable(scheduleExpression.getDayOfWeek())
-                .map(String::valueOf)
-                .ifPresent(expression::dayOfWeek);
-
-        Object endValue = scheduleExpression.getEnd();
-        if (endValue != null) {
-            Date date = DATE_FORMAT.parse(endValue.toString());
-            expression.end(date);
+        String value = scheduleExpression.getDayOfMonth();
+        if (value != null) {
+            expression.dayOfMonth(value);
         }
-
-        Optional.ofNullable(scheduleExpression.getHour())
-                .map(String::valueOf)
-                .ifPresent(expression::hour);
-
-        Optional.ofNullable(scheduleExpression.getMinute())
-                .map(String::valueOf)
-                .ifPresent(expression::minute);
-
-        Optional.ofNullable(scheduleExpression.getMonth())
-                .map(String::valueOf)
-                .ifPresent(expression::month);
-
-        Optional.ofNullable(scheduleExpression.getSecond())
-                .map(String::valueOf)
-                .ifPresent(expression::second);
-
-        Object startValue = scheduleExpression.getStart();
-        if (startValue != null) {
-            Date date = DATE_FORMAT.parse(startValue.toString());
-            expression.start(date);
+        value = scheduleExpression.getDayOfWeek();
+        if (value != null) {
+            expression.dayOfWeek(value);
+        }
+        value = scheduleExpression.getEnd();
+        if (value != null) {
+            expression.end(parseDate(value));
+        }
+        value = scheduleExpression.getHour();
+        if (value != null) {
+            expression.hour(value);
+        }
+        value = scheduleExpression.getMinute();
+        if (value != null) {
+            expression.minute(value);
+        }
+        value = scheduleExpression.getMonth();
+        if (value != null) {
+            expression.month(value);
+        }
+        value = scheduleExpression.getSecond();
+        if (value != null) {
+            expression.second(value);
+        }
+        value = scheduleExpression.getStart();
+        if (value != null) {
+            expression.start(parseDate(value));
+        }
+        value = scheduleExpression.getTimezone();
+        if (value != null) {
+            expression.timezone(value);
+        }
+        value = scheduleExpression.getYear();
+        if (value != null) {
+            expression.year(value);
         }
-
-        Optional.ofNullable(scheduleExpression.getTimezone())
-                .map(String::valueOf)
-                .ifPresent(expression::timezone);
-
-        Optional.ofNullable(scheduleExpression.getYear())
-                .map(String::valueOf)
-                .ifPresent(expression::year);
         return expression;
     }
 
@@ -86,8 +92,7 @@ public class ScheduleExpressionAdapter extends XmlAdapter<JaxbScheduleExpression
             jaxbScheduleExpression.setDayOfWeek(dayOfWeek);
         }
         if (end != null) {
-            String endString = DATE_FORMAT.format(end);
-            jaxbScheduleExpression.setEnd(endString);
+            jaxbScheduleExpression.setEnd(formatDate(end));
         }
         if (hour != null) {
             jaxbScheduleExpression.setHour(hour);
@@ -102,8 +107,7 @@ public class ScheduleExpressionAdapter extends XmlAdapter<JaxbScheduleExpression
             jaxbScheduleExpression.setSecond(second);
         }
         if (start != null) {
-            String startString = DATE_FORMAT.format(start);
-            jaxbScheduleExpression.setStart(startString);
+            jaxbScheduleExpression.setStart(formatDate(start));
         }
         if (timezone != null) {
             jaxbScheduleExpression.setTimezone(timezone);
@@ -113,4 +117,25 @@ public class ScheduleExpressionAdapter extends XmlAdapter<JaxbScheduleExpression
         }
         return jaxbScheduleExpression;
     }
+
+    /**
+     * Formats a start or end date with {@link #DATE_FORMAT}.
+     *
+     * @param date the date to format
+     * @return the formatted date
+     */
+    static String formatDate(final Date date) {
+        return DATE_FORMAT.format(Instant.ofEpochMilli(date.getTime()));
+    }
+
+    /**
+     * Parses a start or end date with {@link #DATE_FORMAT}.
+     *
+     * @param value the formatted date
+     * @return the parsed date
+     * @throws java.time.format.DateTimeParseException if {@code value} cannot be parsed
+     */
+    static Date parseDate(final String value) {
+        return new Date(DATE_FORMAT.parse(value, Instant::from).toEpochMilli());
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import jakarta.batch.runtime.BatchStatus;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link AdmissionController}, and firings of {@link JobScheduleTask} that are not admitted.
+ * Permits are held without starting job executions, or with job executions of the stub job operator.
+ */
+public class AdmissionControllerTest {
+    @Before
+    public void setUp() {
+        StubJobOperator.install();
+    }
+
+    @After
+    public void tearDown() {
+        StubJobOperator.uninstall();
+    }
+
+    @Test
+    public void scheduleLimit() {
+        final AdmissionController admission = new AdmissionController(AdmissionConfig.DEFAULT);
+        final JobSchedule limited = jobSchedule("1", "job", 2);
+        final AdmissionController.Permit first = admission.tryAcquire(limited);
+        assertNotNull(first);
+        assertNotNull(admission.tryAcquire(limited));
+        assertNull(admission.tryAcquire(limited));
+
+        // other job schedules are not limited
+        assertNotNull(admission.tryAcquire(jobSchedule("2", "job", 0)));
+
+        first.release();
+        assertNotNull(admission.tryAcquire(limited));
+    }
+
+    @Test
+    public void jobNameAndGlobalLimits() {
+        final AdmissionController admission = new AdmissionController(AdmissionConfigBuilder.newInstance()
+                .maxConcurrentExecutions(3).maxConcurrentExecutions("job", 1).build());
+        final AdmissionController.Permit permit = admission.tryAcquire(jobSchedule("1", "job", 0));
+        assertNotNull(permit);
+        assertNull(admission.tryAcquire(jobSchedule("2", "job", 0)));
+
+        assertNotNull(admission.tryAcquire(jobSchedule("3", "other", 0)));
+        assertNotNull(admission.tryAcquire(jobSchedule("4", "other", 0)));
+        assertNull(admission.tryAcquire(jobSchedule("5", "other", 0)));
+
+        permit.release();
+        assertNotNull(admission.tryAcquire(jobSchedule("2", "job", 0)));
+    }
+
+    @Test
+    public void completedJobExecution() {
+        final AdmissionController admission = new AdmissionController(AdmissionConfig.DEFAULT);
+        final JobSchedule jobSchedule = jobSchedule("1", "job", 1);
+        final long executionId = JobScheduler.getJobOperator().start("job", new Properties());
+        admission.tryAcquire(jobSchedule).started(executionId);
+        assertNull(admission.tryAcquire(jobSchedule));
+
+        admission.completed(executionId);
+        assertNotNull(admission.tryAcquire(jobSchedule));
+    }
+
+    @Test
+    public void finishedInJobRepository() {
+        final AdmissionController admission = new AdmissionController(AdmissionConfigBuilder.newInstance()
+                .maxConcurrentExecutions(1).build());
+        final long executionId = JobScheduler.getJobOperator().start("job", new Properties());
+        final AdmissionController.Permit permit = admission.tryAcquire(jobSchedule("1", "job", 0));
+        permit.started(executionId);
+        assertNull(admission.tryAcquire(jobSchedule("2", "other", 0)));
+
+        // the finished job execution is not reported, but found in the job repository
+        StubJobOperator.finish(executionId, BatchStatus.COMPLETED);
+        assertNotNull(admission.tryAcquire(jobSchedule("2", "other", 0)));
+        permit.release();
+        assertNull(admission.tryAcquire(jobSchedule("3", "other", 0)));
+    }
+
+    @Test
+    public void setAdmissionConfigKeepsPermits() {
+        final ExecutorSchedulerImpl scheduler = new ExecutorSchedulerImpl();
+        try {
+            scheduler.setAdmissionConfig(AdmissionConfigBuilder.newInstance().maxConcurrentExecutions(2).build());
+            final AdmissionController admission = scheduler.getAdmissionController();
+            assertNotNull(admission.tryAcquire(jobSchedule("1", "job", 0)));
+            assertTrue(admission.enqueue("2"));
+
+            scheduler.setAdmissionConfig(AdmissionConfigBuilder.newInstance().maxConcurrentExecutions(1).build());
+            assertSame(admission, scheduler.getAdmissionController());
+            assertNull(admission.tryAcquire(jobSchedule("2", "job", 0)));
+            assertFalse(admission.enqueue("2"));
+        } finally {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    public void unlimited() {
+        final AdmissionController admission = new AdmissionController(AdmissionConfig.DEFAULT);
+        final JobSchedule jobSchedule = jobSchedule("1", "job", 0);
+        assertSame(admission.tryAcquire(jobSchedule), admission.tryAcquire(jobSchedule));
+    }
+
+    @Test
+    public void queueFiring() throws Exception {
+        final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
+        final ExecutorSchedulerImpl scheduler = new ExecutorSchedulerImpl(null, executorService);
+        try {
+            scheduler.setAdmissionConfig(AdmissionConfigBuilder.newInstance()
+                    .retryInterval(10, TimeUnit.MILLISECONDS).build());
+            final JobSchedule jobSchedule = jobSchedule("1", "job", 1);
+            assertNotNull(scheduler.getAdmissionController().tryAcquire(jobSchedule));
+
+            final BlockingQueue<Runnable> launches = new LinkedBlockingQueue<Runnable>();
+            final Executor launchExecutor = new Executor() {
+                @Override
+                public void execute(final Runnable command) {
+                    launches.add(command);
+                }
+            };
+            final JobScheduleTask task = new JobScheduleTask(jobSchedule, scheduler, launchExecutor, null, null, 0);
+            task.fire(System.nanoTime());
+            task.fire(System.nanoTime());
+            launches.take().run();
+            launches.take().run();
+
+            // the first firing is queued, and the second one is skipped while it is queued
+            final Runnable retry = launches.poll(5, TimeUnit.SECONDS);
+            assertNotNull(retry);
+            assertEquals(2, ((DefaultSchedulerMetrics) scheduler.getMetrics()).getThrottledCount());
+
+            // the retry is still not admitted, and is queued again
+            retry.run();
+            assertNotNull(launches.poll(5, TimeUnit.SECONDS));
+            assertEquals(3, ((DefaultSchedulerMetrics) scheduler.getMetrics()).getThrottledCount());
+        } finally {
+            scheduler.close();
+            executorService.shutdownNow();
+        }
+    }
+
+    private static JobSchedule jobSchedule(final String id, final String jobName, final int maxConcurrentExecutions) {
+        final JobScheduleConfigBuilder builder = JobScheduleConfigBuilder.newInstance().jobName(jobName);
+        if (maxConcurrentExecutions > 0) {
+            builder.maxConcurrentExecutions(maxConcurrentExecutions);
+        }
+        return new JobSchedule(id, builder.build());
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import javax.ejb.ScheduleExpression;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the compact serialized form of {@link JobSchedule} and {@link JobScheduleConfig}.
+ */
+public class CompactSerialFormTest {
+    @Test
+    public void roundTrip() throws Exception {
+        final JobSchedule jobSchedule = newJobSchedule();
+        jobSchedule.setNextJobExecutionId(-1);
+        final byte[] bytes = serialize(jobSchedule);
+        final JobSchedule result = (JobSchedule) deserialize(bytes);
+
+        assertEquals(jobSchedule.getId(), result.getId());
+        assertEquals(jobSchedule.getCreateTime(), result.getCreateTime());
+        assertEquals(JobSchedule.Status.DONE, result.getStatus());
+        assertEquals(jobSchedule.getFinishTime(), result.getFinishTime());
+        assertEquals(1792310500000L, result.getLastFireTime());
+        assertEquals(-1, result.getNextJobExecutionId());
+        assertEquals(3, result.getJobExecutionCount());
+        assertEquals(101, result.getFirstJobExecutionId());
+        assertEquals(105, result.getLastJobExecutionId());
+        assertEquals(Arrays.asList(102L, 105L), result.getJobExecutionIds());
+        verifyConfig(result.getJobScheduleConfig());
+
+        // job names and job parameter keys are interned
+        assertSame("job1", result.getJobScheduleConfig().getJobName());
+        assertSame("chunkSize", result.getJobScheduleConfig().getJobParameters()
+                .stringPropertyNames().stream().filter("chunkSize"::equals).findFirst().get());
+    }
+
+    @Test
+    public void configRoundTrip() throws Exception {
+        final JobScheduleConfig config = (JobScheduleConfig) deserialize(serialize(newJobSchedule().getJobScheduleConfig()));
+        verifyConfig(config);
+
+        final JobScheduleConfig empty = (JobScheduleConfig) deserialize(serialize(
+                JobScheduleConfigBuilder.newInstance().jobExecutionId(3).interval(5).build()));
+        assertNull(empty.getJobName());
+        assertNull(empty.getJobParameters());
+        assertNull(empty.getScheduleExpression());
+        assertEquals(3, empty.getJobExecutionId());
+        assertEquals(5, empty.getInterval());
+        assertEquals(TimeUnit.MINUTES, empty.getTimeUnit());
+    }
+
+    @Test
+    public void readDefaultForm() throws Exception {
+        // serialized with default Java serialization, before the compact form was added
+        final byte[] bytes;
+        try (InputStream in = getClass().getResourceAsStream("job-schedule-default-form.ser")) {
+            bytes = in.readAllBytes();
+        }
+        final JobSchedule result = (JobSchedule) deserialize(bytes);
+        assertEquals("7", result.getId());
+        assertEquals(JobSchedule.Status.DONE, result.getStatus());
+        assertEquals(1792310500000L, result.getLastFireTime());
+        assertEquals(3, result.getJobExecutionCount());
+        assertEquals(Arrays.asList(102L, 105L), result.getJobExecutionIds());
+        verifyConfig(result.getJobScheduleConfig());
+
+        // the compact form of the same job schedule is much smaller
+        assertTrue(serialize(result).length * 2 < bytes.length);
+    }
+
+    private static void verifyConfig(final JobScheduleConfig config) {
+        assertEquals("job1", config.getJobName());
+        assertEquals("/data/in.csv", config.getJobParameters().getProperty("input"));
+        assertEquals("100", config.getJobParameters().getProperty("chunkSize"));
+        assertEquals(TimeUnit.SECONDS, config.getTimeUnit());
+        assertEquals(2, config.getJobExecutionIdRetention());
+        assertEquals(MisfirePolicy.FIRE_ONCE, config.getMisfirePolicy());
+        final ScheduleExpression expression = config.getScheduleExpression();
+        assertEquals("Mon-Fri", expression.getDayOfWeek());
+        assertEquals("8-17", expression.getHour());
+        assertEquals("*/15", expression.getMinute());
+        assertEquals("0", expression.getSecond());
+        assertEquals("UTC", expression.getTimezone());
+        assertEquals(new Date(1792310400000L), expression.getStart());
+        assertNull(expression.getEnd());
+    }
+
+    private static JobSchedule newJobSchedule() {
+        final Properties jobParameters = new Properties();
+        jobParameters.setProperty("input", "/data/in.csv");
+        jobParameters.setProperty(new String("chunkSize"), "100");
+        final JobScheduleConfig config = JobScheduleConfigBuilder.newInstance()
+                .jobName(new String("job1")).jobParameters(jobParameters)
+                .scheduleExpression(new ScheduleExpression().dayOfWeek("Mon-Fri").hour("8-17").minute("*/15")
+                        .timezone("UTC").start(new Date(1792310400000L)))
+                .timeUnit(TimeUnit.SECONDS).jobExecutionIdRetention(2).misfirePolicy(MisfirePolicy.FIRE_ONCE)
+                .build();
+        final JobSchedule jobSchedule = new JobSchedule("7", config);
+        jobSchedule.addJobExecutionIds(101);
+        jobSchedule.addJobExecutionIds(102);
+        jobSchedule.addJobExecutionIds(105);
+        jobSchedule.setLastFireTime(1792310500000L);
+        jobSchedule.setStatus(JobSchedule.Status.DONE);
+        return jobSchedule;
+    }
+
+    private static byte[] serialize(final Object object) throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(final byte[] bytes) throws Exception {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.time.DayOfWeek;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import jakarta.batch.operations.BatchRuntimeException;
+import javax.ejb.ScheduleExpression;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link CompiledScheduleExpression}.
+ */
+public class CompiledScheduleExpressionTest {
+    private static final ZoneId UTC = ZoneId.of("UTC");
+
+    @Test
+    public void increments() {
+        final ScheduleExpression exp = new ScheduleExpression().second("*/15").minute("*").hour("*").timezone("UTC");
+        assertNext(exp, utc(2026, 1, 1, 0, 0, 7), utc(2026, 1, 1, 0, 0, 15));
+        assertNext(exp, utc(2026, 1, 1, 0, 0, 45), utc(2026, 1, 1, 0, 1, 0));
+        assertNext(exp, utc(2026, 12, 31, 23, 59, 50), utc(2027, 1, 1, 0, 0, 0));
+    }
+
+    @Test
+    public void weekdayRange() {
+        final ScheduleExpression exp = new ScheduleExpression().dayOfWeek("Mon-Fri").hour(9).minute(30).timezone("UTC");
+        // 2026-10-17 is a Saturday
+        assertNext(exp, utc(2026, 10, 17, 12, 0, 0), utc(2026, 10, 19, 9, 30, 0));
+        assertNext(exp, utc(2026, 10, 19, 9, 30, 0), utc(2026, 10, 20, 9, 30, 0));
+
+        final ScheduleExpression wrapped = new ScheduleExpression().dayOfWeek("Fri-Mon").timezone("UTC");
+        assertNext(wrapped, utc(2026, 10, 20, 0, 0, 0), utc(2026, 10, 23, 0, 0, 0));
+        assertNext(wrapped, utc(2026, 10, 25, 0, 0, 0), utc(2026, 10, 26, 0, 0, 0));
+    }
+
+    @Test
+    public void relativeDayOfMonth() {
+        final ScheduleExpression last = new ScheduleExpression().dayOfMonth("Last").hour(23).minute(59).timezone("UTC");
+        assertNext(last, utc(2024, 2, 1, 0, 0, 0), utc(2024, 2, 29, 23, 59, 0));
+        assertNext(last, utc(2026, 2, 1, 0, 0, 0), utc(2026, 2, 28, 23, 59, 0));
+
+        final ScheduleExpression beforeLast = new ScheduleExpression().dayOfMonth("-1").timezone("UTC");
+        assertNext(beforeLast, utc(2026, 4, 1, 0, 0, 0), utc(2026, 4, 29, 0, 0, 0));
+
+        final ScheduleExpression secondTuesday = new ScheduleExpression().dayOfMonth("2nd Tue").timezone("UTC");
+        assertNext(secondTuesday, utc(2026, 10, 1, 0, 0, 0), utc(2026, 10, 13, 0, 0, 0));
+
+        final ScheduleExpression lastFriday = new ScheduleExpression().dayOfMonth("Last Fri").timezone("UTC");
+        assertNext(lastFriday, utc(2026, 10, 1, 0, 0, 0), utc(2026, 10, 30, 0, 0, 0));
+
+        final ScheduleExpression fifthMonday = new ScheduleExpression().dayOfMonth("5th Mon").timezone("UTC");
+        // October 2026 has only 4 Mondays, November 2026 has 5
+        assertNext(fifthMonday, utc(2026, 10, 1, 0, 0, 0), utc(2026, 11, 30, 0, 0, 0));
+
+        final ScheduleExpression range = new ScheduleExpression().dayOfMonth("-7--1").timezone("UTC");
+        assertNext(range, utc(2026, 2, 1, 0, 0, 0), utc(2026, 2, 21, 0, 0, 0));
+    }
+
+    @Test
+    public void dayOfMonthOrDayOfWeek() {
+        final ScheduleExpression exp = new ScheduleExpression().dayOfMonth("1").dayOfWeek("Fri").timezone("UTC");
+        assertNext(exp, utc(2026, 10, 18, 0, 0, 0), utc(2026, 10, 23, 0, 0, 0));
+        assertNext(exp, utc(2026, 10, 30, 0, 0, 0), utc(2026, 11, 1, 0, 0, 0));
+    }
+
+    @Test
+    public void yearsAndMonths() {
+        final ScheduleExpression never = new ScheduleExpression().year(2030).month("Feb").dayOfMonth(29).timezone("UTC");
+        assertEquals(-1, new CompiledScheduleExpression(never).next(utc(2026, 1, 1, 0, 0, 0)));
+
+        final ScheduleExpression leap = new ScheduleExpression().year("2027-2030").month("Feb").dayOfMonth(29).timezone("UTC");
+        assertNext(leap, utc(2026, 1, 1, 0, 0, 0), utc(2028, 2, 29, 0, 0, 0));
+
+        final ScheduleExpression quarterly = new ScheduleExpression().month("1,4,7,10").dayOfMonth(1).timezone("UTC");
+        assertNext(quarterly, utc(2026, 10, 18, 0, 0, 0), utc(2027, 1, 1, 0, 0, 0));
+    }
+
+    @Test
+    public void startEndAndTimezone() {
+        final ScheduleExpression exp = new ScheduleExpression().hour("*").timezone("UTC")
+                .start(new Date(utc(2026, 6, 1, 0, 30, 0)))
+                .end(new Date(utc(2026, 6, 1, 3, 0, 0)));
+        assertNext(exp, utc(2026, 1, 1, 0, 0, 0), utc(2026, 6, 1, 1, 0, 0));
+        assertNext(exp, utc(2026, 6, 1, 2, 0, 0), utc(2026, 6, 1, 3, 0, 0));
+        assertEquals(-1, new CompiledScheduleExpression(exp).next(utc(2026, 6, 1, 3, 0, 0)));
+
+        // 02:30 does not exist in New York on 2026-03-08, and is shifted by the daylight saving gap
+        final ZoneId newYork = ZoneId.of("America/New_York");
+        final ScheduleExpression gap = new ScheduleExpression().hour(2).minute(30).timezone(newYork.getId());
+        assertEquals(ZonedDateTime.of(2026, 3, 8, 2, 30, 0, 0, newYork).toInstant().toEpochMilli(),
+                new CompiledScheduleExpression(gap).next(ZonedDateTime.of(2026, 3, 7, 12, 0, 0, 0, newYork)
+                        .toInstant().toEpochMilli()));
+    }
+
+    /**
+     * Compares against a straightforward minute-by-minute evaluation over a few weeks.
+     */
+    @Test
+    public void againstBruteForce() {
+        final ScheduleExpression exp = new ScheduleExpression().minute("*/7").hour("8-17")
+                .dayOfWeek("Mon,Wed,Fri").timezone("UTC");
+        final CompiledScheduleExpression compiled = new CompiledScheduleExpression(exp);
+
+        ZonedDateTime time = ZonedDateTime.of(2026, 10, 1, 0, 0, 0, 0, UTC);
+        long next = compiled.next(time.toInstant().toEpochMilli() - 1);
+        final ZonedDateTime end = time.plusWeeks(3);
+        int count = 0;
+        while (time.isBefore(end)) {
+            final DayOfWeek dow = time.getDayOfWeek();
+            final boolean matches = time.getMinute() % 7 == 0 && time.getHour() >= 8 && time.getHour() <= 17 &&
+                    (dow == DayOfWeek.MONDAY || dow == DayOfWeek.WEDNESDAY || dow == DayOfWeek.FRIDAY);
+            if (matches) {
+                assertEquals(time.toString(), time.toInstant().toEpochMilli(), next);
+                next = compiled.next(next);
+                count++;
+            }
+            time = time.plusMinutes(1);
+        }
+        assertEquals(9 * 10 * 9, count);
+    }
+
+    @Test(expected = BatchRuntimeException.class)
+    public void invalidSecond() {
+        new CompiledScheduleExpression(new ScheduleExpression().second(61));
+    }
+
+    @Test(expected = BatchRuntimeException.class)
+    public void invalidDayOfMonth() {
+        new CompiledScheduleExpression(new ScheduleExpression().dayOfMonth("6th Mon"));
+    }
+
+    private static void assertNext(final ScheduleExpression exp, final long after, final long expected) {
+        assertEquals(new Date(expected).toInstant().toString(), expected, new CompiledScheduleExpression(exp).next(after));
+    }
+
+    private static long utc(final int year, final int month, final int day,
+                            final int hour, final int minute, final int second) {
+        return ZonedDateTime.of(year, month, day, hour, minute, second, 0, UTC).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import jakarta.batch.operations.BatchRuntimeException;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link JdbcFiringGuard}, shared by two nodes in the same database.
+ */
+public class FiringGuardTest {
+    private JdbcDataSource dataSource;
+    private JdbcFiringGuard node1;
+    private JdbcFiringGuard node2;
+
+    @Before
+    public void before() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:FiringGuardTest;DB_CLOSE_DELAY=-1");
+        node1 = new JdbcFiringGuard(dataSource, JdbcFiringGuard.DEFAULT_TABLE_NAME, "node1");
+        node2 = new JdbcFiringGuard(dataSource, JdbcFiringGuard.DEFAULT_TABLE_NAME, "node2");
+        node1.remove(Collections.singleton("1"));
+    }
+
+    @Test
+    public void claimOnce() {
+        assertTrue(node1.claim("1", 1000, 1));
+        assertFalse(node2.claim("1", 1000, 1));
+        assertFalse(node1.claim("1", 1000, 1));
+
+        assertTrue(node2.claim("1", 2000, 1));
+        assertFalse(node1.claim("1", 2000, 1));
+    }
+
+    @Test
+    public void fenceStaleClaims() {
+        assertTrue(node1.claim("1", 5000, 1));
+        // a node that fell behind cannot claim an earlier firing
+        assertFalse(node2.claim("1", 4000, 1));
+    }
+
+    @Test
+    public void spacing() {
+        assertTrue(node1.claim("1", 10000, 500));
+        // the same firing, planned slightly later on another node
+        assertFalse(node2.claim("1", 10020, 500));
+        assertTrue(node2.claim("1", 11000, 500));
+    }
+
+    @Test
+    public void remove() {
+        assertTrue(node1.claim("1", 5000, 1));
+        node2.remove(Collections.singleton("1"));
+        assertTrue(node1.claim("1", 1000, 1));
+    }
+
+    @Test
+    public void failToAccessFiringGuard() throws Exception {
+        final JdbcFiringGuard dropped = new JdbcFiringGuard(dataSource, "DROPPED_FIRING_GUARD", "node1");
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DROP TABLE DROPPED_FIRING_GUARD");
+        }
+        try {
+            dropped.claim("1", 1000, 1);
+            fail("Expecting BatchRuntimeException");
+        } catch (final BatchRuntimeException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("firing guard"));
+        }
+    }
+
+    /**
+     * Fires the same job schedule on two job schedulers, and verifies only one of them
+     * launches it. The launches are not admitted, so that no job execution is started,
+     * and each launch is counted as throttled.
+     */
+    @Test
+    public void launchOnce() throws Exception {
+        final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
+        final ExecutorSchedulerImpl scheduler1 = new ExecutorSchedulerImpl(null, executorService);
+        final ExecutorSchedulerImpl scheduler2 = new ExecutorSchedulerImpl(null, executorService);
+        try {
+            final JobSchedule jobSchedule = new JobSchedule("1", JobScheduleConfigBuilder.newInstance()
+                    .jobName("job").interval(1).timeUnit(TimeUnit.HOURS).maxConcurrentExecutions(1).build());
+            final Executor sameThread = new Executor() {
+                @Override
+                public void execute(final Runnable command) {
+                    command.run();
+                }
+            };
+            final long planned = System.nanoTime();
+            for (final ExecutorSchedulerImpl scheduler : new ExecutorSchedulerImpl[]{scheduler1, scheduler2}) {
+                scheduler.setFiringGuard(scheduler == scheduler1 ? node1 : node2);
+                scheduler.setAdmissionConfig(AdmissionConfigBuilder.newInstance()
+                        .policy(AdmissionConfig.Policy.SKIP).build());
+                assertNotNull(scheduler.getAdmissionController().tryAcquire(jobSchedule));
+                // the planned time differs slightly from node to node
+                new JobScheduleTask(jobSchedule, scheduler, sameThread, null, null, 0)
+                        .fire(planned + TimeUnit.MILLISECONDS.toNanos(scheduler == scheduler1 ? 0 : 7));
+            }
+            assertEquals(1, ((DefaultSchedulerMetrics) scheduler1.getMetrics()).getThrottledCount()
+                    + ((DefaultSchedulerMetrics) scheduler2.getMetrics()).getThrottledCount());
+        } finally {
+            scheduler1.close();
+            scheduler2.close();
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link HierarchicalTimingWheel}, using a 1-millisecond tick so that
+ * tasks cross wheel levels within a short test run.
+ */
+public class HierarchicalTimingWheelTest {
+    private HierarchicalTimingWheel wheel;
+
+    @After
+    public void after() throws Exception {
+        if (wheel != null) {
+            wheel.shutdown();
+            assertTrue(wheel.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Verifies that tasks placed in different wheel levels fire no earlier than their delay.
+     *
+     * @throws Exception if errors occur
+     */
+    @Test
+    public void singleAction() throws Exception {
+        wheel = new HierarchicalTimingWheel(1, TimeUnit.MILLISECONDS, 3, null);
+        final long[] delays = {0, 5, 63, 64, 200, 700};
+        final CountDownLatch latch = new CountDownLatch(delays.length);
+        final AtomicInteger early = new AtomicInteger();
+
+        for (final long delay : delays) {
+            final long start = System.nanoTime();
+            wheel.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(delay)) {
+                        early.incrementAndGet();
+                    }
+                    latch.countDown();
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, early.get());
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    /**
+     * Verifies that a delay beyond the span of all wheel levels is re-cascaded
+     * instead of firing early.
+     *
+     * @throws Exception if errors occur
+     */
+    @Test
+    public void overflow() throws Exception {
+        wheel = new HierarchicalTimingWheel(1, TimeUnit.MILLISECONDS, 1, null);
+        final long start = System.nanoTime();
+        final ScheduledFuture<Long> future = wheel.schedule(() -> System.nanoTime() - start, 300, TimeUnit.MILLISECONDS);
+        assertTrue(future.get(5, TimeUnit.SECONDS) >= TimeUnit.MILLISECONDS.toNanos(300));
+    }
+
+    /**
+     * Verifies that a cancelled task never runs and is removed from the wheel.
+     *
+     * @throws Exception if errors occur
+     */
+    @Test
+    public void cancel() throws Exception {
+        wheel = new HierarchicalTimingWheel(1, TimeUnit.MILLISECONDS, 3, null);
+        final AtomicInteger runs = new AtomicInteger();
+        final ScheduledFuture<?> future = wheel.schedule(runs::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+        assertTrue(future.cancel(false));
+        assertTrue(future.isCancelled());
+
+        Thread.sleep(300);
+        assertEquals(0, runs.get());
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    /**
+     * Verifies that fixed-rate and fixed-delay tasks are rescheduled until cancelled.
+     *
+     * @throws Exception if errors occur
+     */
+    @Test
+    public void repeating() throws Exception {
+        wheel = new HierarchicalTimingWheel(1, TimeUnit.MILLISECONDS, 3, null);
+        final CountDownLatch rateLatch = new CountDownLatch(5);
+        final CountDownLatch delayLatch = new CountDownLatch(5);
+        final ScheduledFuture<?> rate = wheel.scheduleAtFixedRate(rateLatch::countDown, 10, 20, TimeUnit.MILLISECONDS);
+        final ScheduledFuture<?> delay = wheel.scheduleWithFixedDelay(delayLatch::countDown, 10, 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(rateLatch.await(5, TimeUnit.SECONDS));
+        assertTrue(delayLatch.await(5, TimeUnit.SECONDS));
+        assertFalse(rate.isDone());
+        assertTrue(rate.cancel(false));
+        assertTrue(delay.cancel(false));
+        assertTrue(rate.isDone());
+    }
+
+    /**
+     * Verifies that the tick thread is a daemon thread, and that a task executor specified
+     * by the caller is not shut down with the wheel.
+     *
+     * @throws Exception if errors occur
+     */
+    @Test
+    public void callerTaskExecutor() throws Exception {
+        final ExecutorService taskExecutor = Executors.newSingleThreadExecutor();
+        try {
+            wheel = new HierarchicalTimingWheel(1, TimeUnit.MILLISECONDS, 3, taskExecutor);
+            final ScheduledFuture<String> future = wheel.schedule(() -> Thread.currentThread().getName(),
+                    0, TimeUnit.MILLISECONDS);
+            assertFalse(future.get(5, TimeUnit.SECONDS).startsWith("jberet-timing-wheel-"));
+            for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+                if (thread.getName().startsWith("jberet-timing-wheel-")) {
+                    assertTrue(thread.isDaemon());
+                }
+            }
+
+            wheel.shutdown();
+            assertTrue(wheel.awaitTermination(5, TimeUnit.SECONDS));
+            assertTrue(wheel.isTerminated());
+            assertFalse(taskExecutor.isShutdown());
+            assertTrue(wheel.shutdownNow().isEmpty());
+            assertFalse(taskExecutor.isShutdown());
+            wheel = null;
+        } finally {
+            taskExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Verifies that closing a {@link TimingWheelSchedulerImpl} shuts down its timing wheel
+     * and the task executor created by it.
+     *
+     * @throws Exception if errors occur
+     */
+    @Test
+    public void closeScheduler() throws Exception {
+        final TimingWheelSchedulerImpl scheduler = new TimingWheelSchedulerImpl();
+        scheduler.close();
+        assertTrue(scheduler.executorService.isShutdown());
+        assertTrue(scheduler.executorService.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
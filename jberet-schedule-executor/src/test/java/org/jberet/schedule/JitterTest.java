@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Jitter} and the jittered firings of {@link JobScheduleTask}.
+ */
+public class JitterTest {
+    @Test
+    public void hashSpreadsEvenly() {
+        final int[] buckets = new int[10];
+        for (int id = 1; id <= 10000; id++) {
+            final long offset = Jitter.HASH.offset(String.valueOf(id), 60000);
+            assertTrue(offset >= 0 && offset < 60000);
+            assertEquals(offset, Jitter.HASH.offset(String.valueOf(id), 60000));
+            buckets[(int) (offset / 6000)]++;
+        }
+        for (final int count : buckets) {
+            assertTrue(String.valueOf(count), count > 800 && count < 1200);
+        }
+    }
+
+    @Test
+    public void randomWithinWindow() {
+        for (int i = 0; i < 1000; i++) {
+            final long offset = Jitter.RANDOM.offset("1", 100);
+            assertTrue(offset >= 0 && offset < 100);
+        }
+        assertEquals(0, Jitter.RANDOM.offset("1", 0));
+    }
+
+    @Test
+    public void noJitterByDefault() {
+        final JobScheduleConfig config = JobScheduleConfigBuilder.newInstance().jobName("job").build();
+        assertEquals(0, config.getJitterWindow(TimeUnit.MILLISECONDS));
+        assertEquals(0, config.getJitterOffset("1", TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void launchAfterOffset() throws Exception {
+        final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
+        final ExecutorSchedulerImpl scheduler = new ExecutorSchedulerImpl(null, executorService);
+        try {
+            final JobScheduleConfig config = JobScheduleConfigBuilder.newInstance().jobName("job")
+                    .jitter(200, TimeUnit.MILLISECONDS, Jitter.HASH).build();
+            final JobSchedule jobSchedule = new JobSchedule("1", config);
+            final long offset = config.getJitterOffset("1", TimeUnit.NANOSECONDS);
+            final CountDownLatch launched = new CountDownLatch(1);
+            final Executor launchExecutor = new Executor() {
+                @Override
+                public void execute(final Runnable command) {
+                    launched.countDown();
+                }
+            };
+
+            final long start = System.nanoTime();
+            new JobScheduleTask(jobSchedule, scheduler, launchExecutor, null, null, 0).fire(start);
+            assertTrue(launched.await(5, TimeUnit.SECONDS));
+            assertTrue(System.nanoTime() - start >= offset);
+        } finally {
+            scheduler.close();
+            executorService.shutdownNow();
+        }
+    }
+}
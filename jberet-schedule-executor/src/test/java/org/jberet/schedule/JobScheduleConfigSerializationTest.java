@@ -2,7 +2,7 @@ package org.jberet.schedule;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.module.jaxb.JaxbAnnotationModule;
+import com.fasterxml.jackson.module.jakarta.xmlbind.JakartaXmlBindAnnotationModule;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -14,6 +14,7 @@ import java.io.StringWriter;
 import java.util.Date;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 public class JobScheduleConfigSerializationTest {
 
@@ -21,7 +22,7 @@ public class JobScheduleConfigSerializationTest {
     public void testJacksonJaxbSerialization() throws IOException {
         JobScheduleConfig jobScheduleConfig = createScheduleConfig();
         ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JaxbAnnotationModule());
+        objectMapper.registerModule(new JakartaXmlBindAnnotationModule());
 
         StringWriter stringWriter = new StringWriter();
         objectMapper.writeValue(stringWriter, jobScheduleConfig);
@@ -68,6 +69,7 @@ public class JobScheduleConfigSerializationTest {
 
     private void verifyConfig(JobScheduleConfig sourceConfig, JobScheduleConfig targetConfig) {
         Assert.assertEquals(sourceConfig.getJobName(), targetConfig.getJobName());
+        Assert.assertEquals(sourceConfig.getTimeUnit(), targetConfig.getTimeUnit());
 
         Properties sourceParameters = sourceConfig.getJobParameters();
         Properties targetParameters = targetConfig.getJobParameters();
@@ -111,6 +113,7 @@ public class JobScheduleConfigSerializationTest {
                 .jobName("jobname")
                 .jobParameters(properties)
                 .scheduleExpression(scheduleExpression)
+                .timeUnit(TimeUnit.SECONDS)
                 .build();
     }
 }
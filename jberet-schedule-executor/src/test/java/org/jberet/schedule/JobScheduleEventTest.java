@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the asynchronous operations of {@link ExecutorSchedulerImpl}, and the events
+ * published by {@link JobScheduler#getJobScheduleEvents()} and
+ * {@link JobScheduler#getJobScheduleEvents(String)}. Firings are not admitted,
+ * so that no job execution is started.
+ */
+public class JobScheduleEventTest {
+    private ScheduledExecutorService executorService;
+    private ExecutorSchedulerImpl scheduler;
+
+    @Before
+    public void before() {
+        executorService = Executors.newSingleThreadScheduledExecutor();
+        scheduler = new ExecutorSchedulerImpl(null, executorService);
+        scheduler.setAdmissionConfig(AdmissionConfigBuilder.newInstance()
+                .policy(AdmissionConfig.Policy.SKIP).build());
+    }
+
+    @After
+    public void after() {
+        scheduler.close();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void cancelAsync() throws Exception {
+        final JobSchedule jobSchedule = scheduler.scheduleAsync(JobScheduleConfigBuilder.newInstance()
+                .jobName("job").initialDelay(1).timeUnit(TimeUnit.HOURS).build()).toCompletableFuture().get();
+        assertEquals(jobSchedule, scheduler.getJobScheduleAsync(jobSchedule.getId()).toCompletableFuture().get());
+
+        final Collector events = new Collector();
+        scheduler.getJobScheduleEvents(jobSchedule.getId()).subscribe(events);
+        assertTrue(scheduler.cancelAsync(jobSchedule.getId()).toCompletableFuture().get());
+        assertEquals(JobScheduleEvent.Type.CANCELLED, events.take().getType());
+        assertTrue(events.completed.await(5, TimeUnit.SECONDS));
+
+        // a cancelled job schedule has no more events
+        final Collector more = new Collector();
+        scheduler.getJobScheduleEvents(jobSchedule.getId()).subscribe(more);
+        assertTrue(more.completed.await(5, TimeUnit.SECONDS));
+        assertNull(more.events.poll());
+    }
+
+    @Test
+    public void firingEvents() throws Exception {
+        final JobSchedule jobSchedule = scheduler.schedule(JobScheduleConfigBuilder.newInstance()
+                .jobName("job").initialDelay(200).timeUnit(TimeUnit.MILLISECONDS).maxConcurrentExecutions(1).build());
+        assertNotNull(scheduler.getAdmissionController().tryAcquire(jobSchedule));
+
+        final Collector events = new Collector();
+        scheduler.getJobScheduleEvents(jobSchedule.getId()).subscribe(events);
+        assertEquals(JobScheduleEvent.Type.FIRED, events.take().getType());
+        final JobScheduleEvent throttled = events.take();
+        assertEquals(JobScheduleEvent.Type.THROTTLED, throttled.getType());
+        assertEquals(jobSchedule.getId(), throttled.getScheduleId());
+        assertEquals(JobScheduleEvent.Type.DONE, events.take().getType());
+        assertTrue(events.completed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void lifecycleEvents() throws Exception {
+        final Collector events = new Collector();
+        scheduler.getJobScheduleEvents().subscribe(events);
+        final JobSchedule jobSchedule = scheduler.schedule(JobScheduleConfigBuilder.newInstance()
+                .jobName("job").initialDelay(200).timeUnit(TimeUnit.MILLISECONDS).maxConcurrentExecutions(1).build());
+        assertNotNull(scheduler.getAdmissionController().tryAcquire(jobSchedule));
+
+        assertEquals(JobScheduleEvent.Type.SCHEDULED, events.take().getType());
+        assertEquals(JobScheduleEvent.Type.FIRED, events.take().getType());
+        assertEquals(JobScheduleEvent.Type.THROTTLED, events.take().getType());
+        final JobScheduleEvent done = events.take();
+        assertEquals(JobScheduleEvent.Type.DONE, done.getType());
+        assertEquals(jobSchedule.getId(), done.getScheduleId());
+        // the status is updated before the event is published
+        assertEquals(JobSchedule.Status.DONE, jobSchedule.getStatus());
+
+        scheduler.close();
+        assertTrue(events.completed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void lastSubscriberCancels() throws Exception {
+        final JobSchedule jobSchedule = scheduler.schedule(JobScheduleConfigBuilder.newInstance()
+                .jobName("job").initialDelay(1).timeUnit(TimeUnit.HOURS).build());
+        final Collector first = new Collector();
+        final Collector second = new Collector();
+        scheduler.getJobScheduleEvents(jobSchedule.getId()).subscribe(first);
+        scheduler.getJobScheduleEvents(jobSchedule.getId()).subscribe(second);
+        final Map<?, ?> publishers = publishers();
+        assertEquals(1, publishers.size());
+
+        first.subscribed().cancel();
+        assertEquals(1, publishers.size());
+        second.subscribed().cancel();
+        assertTrue(publishers.isEmpty());
+
+        // a new subscriber gets the events of the job schedule again
+        final Collector third = new Collector();
+        scheduler.getJobScheduleEvents(jobSchedule.getId()).subscribe(third);
+        assertTrue(scheduler.cancel(jobSchedule.getId()));
+        assertEquals(JobScheduleEvent.Type.CANCELLED, third.take().getType());
+        assertTrue(third.completed.await(5, TimeUnit.SECONDS));
+        assertTrue(publishers.isEmpty());
+    }
+
+    @Test
+    public void unknownJobSchedule() throws Exception {
+        assertNull(scheduler.getJobScheduleAsync("unknown").toCompletableFuture().get());
+        final Collector events = new Collector();
+        scheduler.getJobScheduleEvents("unknown").subscribe(events);
+        assertTrue(events.completed.await(5, TimeUnit.SECONDS));
+    }
+
+    private Map<?, ?> publishers() throws Exception {
+        final Field field = JobScheduler.class.getDeclaredField("publishers");
+        field.setAccessible(true);
+        return (Map<?, ?>) field.get(scheduler);
+    }
+
+    /**
+     * A subscriber that collects all events.
+     */
+    private static final class Collector implements Flow.Subscriber<JobScheduleEvent> {
+        final BlockingQueue<JobScheduleEvent> events = new LinkedBlockingQueue<JobScheduleEvent>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        final BlockingQueue<Flow.Subscription> subscription = new LinkedBlockingQueue<Flow.Subscription>();
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription.add(subscription);
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(final JobScheduleEvent item) {
+            events.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        Flow.Subscription subscribed() throws InterruptedException {
+            final Flow.Subscription s = subscription.poll(5, TimeUnit.SECONDS);
+            assertNotNull(s);
+            return s;
+        }
+
+        JobScheduleEvent take() throws InterruptedException {
+            final JobScheduleEvent event = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event);
+            return event;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import jakarta.batch.operations.BatchRuntimeException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link JobScheduler#getJobSchedules(JobScheduleQuery)}, comparing the
+ * index-backed implementation in {@link ExecutorSchedulerImpl} with the default one.
+ */
+public class JobScheduleQueryTest {
+    private static final int COUNT = 30;
+
+    private ScheduledExecutorService executorService;
+    private ExecutorSchedulerImpl scheduler;
+
+    /**
+     * A job scheduler that only lists the job schedules of {@link #scheduler},
+     * and so uses the default query implementation.
+     */
+    private JobScheduler defaultScheduler;
+
+    /**
+     * Job schedule ids in creation order.
+     */
+    private final List<String> ids = new ArrayList<String>();
+
+    @Before
+    public void before() {
+        executorService = Executors.newSingleThreadScheduledExecutor();
+        scheduler = new ExecutorSchedulerImpl(null, executorService);
+        defaultScheduler = new JobScheduler() {
+            @Override
+            public JobSchedule schedule(final JobScheduleConfig scheduleConfig) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<JobSchedule> getJobSchedules() {
+                return scheduler.getJobSchedules();
+            }
+
+            @Override
+            public boolean cancel(final String scheduleId) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public JobSchedule getJobSchedule(final String scheduleId) {
+                return scheduler.getJobSchedule(scheduleId);
+            }
+        };
+
+        for (int i = 0; i < COUNT; i++) {
+            final JobScheduleConfig config = JobScheduleConfigBuilder.newInstance()
+                    .jobName(i % 2 == 0 ? "even" : "odd")
+                    .initialDelay(1)
+                    .timeUnit(TimeUnit.DAYS)
+                    .build();
+            ids.add(scheduler.schedule(config).getId());
+        }
+        for (int i = 0; i < COUNT; i += 3) {
+            assertTrue(scheduler.cancel(ids.get(i)));
+        }
+        scheduler.done(scheduler.getJobSchedule(ids.get(1)));
+    }
+
+    @After
+    public void after() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void allNewestFirst() {
+        final List<String> expected = new ArrayList<String>(ids);
+        Collections.reverse(expected);
+        assertEquals(expected, idsOf(scheduler.getJobSchedules()));
+        assertEquals(expected, idsOf(scheduler.getJobSchedules(new JobScheduleQuery()).getJobSchedules()));
+    }
+
+    @Test
+    public void filters() {
+        final JobScheduleQuery cancelledEven = JobScheduleQueryBuilder.newInstance()
+                .statuses(JobSchedule.Status.CANCELLED)
+                .jobName("even")
+                .sortOrder(JobScheduleQuery.SortOrder.CREATE_TIME_ASC)
+                .build();
+        final List<String> expected = new ArrayList<String>();
+        for (int i = 0; i < COUNT; i += 6) {
+            expected.add(ids.get(i));
+        }
+        assertEquals(expected, idsOf(scheduler.getJobSchedules(cancelledEven).getJobSchedules()));
+        assertEquals(new HashSet<String>(expected),
+                new HashSet<String>(idsOf(defaultScheduler.getJobSchedules(cancelledEven).getJobSchedules())));
+
+        final JobScheduleQuery done = JobScheduleQueryBuilder.newInstance()
+                .statuses(JobSchedule.Status.DONE, JobSchedule.Status.UNKNOWN)
+                .build();
+        final List<JobSchedule> doneSchedules = scheduler.getJobSchedules(done).getJobSchedules();
+        assertEquals(1, doneSchedules.size());
+        assertEquals(ids.get(1), doneSchedules.get(0).getId());
+        assertEquals(JobSchedule.Status.DONE, doneSchedules.get(0).getStatus());
+
+        assertEquals(0, scheduler.getJobSchedules(
+                JobScheduleQueryBuilder.newInstance().jobName("none").build()).getJobSchedules().size());
+    }
+
+    /**
+     * Verifies that paging with a cursor returns the same job schedules as a single
+     * query. The default implementation breaks ties in create time by id, so only
+     * the index-backed implementation is required to follow the creation order.
+     */
+    @Test
+    public void cursorPaging() {
+        for (final JobScheduleQuery.SortOrder order : JobScheduleQuery.SortOrder.values()) {
+            final List<String> expected = new ArrayList<String>();
+            for (int i = 0; i < COUNT; i++) {
+                if (i % 3 != 0) {
+                    expected.add(ids.get(i));
+                }
+            }
+            if (order == JobScheduleQuery.SortOrder.CREATE_TIME_DESC) {
+                Collections.reverse(expected);
+            }
+            assertEquals(expected, pageThrough(scheduler, order));
+
+            final List<String> all = idsOf(defaultScheduler.getJobSchedules(JobScheduleQueryBuilder.newInstance()
+                    .statuses(JobSchedule.Status.SCHEDULED, JobSchedule.Status.DONE)
+                    .sortOrder(order)
+                    .build()).getJobSchedules());
+            assertEquals(new HashSet<String>(expected), new HashSet<String>(all));
+            assertEquals(all, pageThrough(defaultScheduler, order));
+        }
+    }
+
+    private static List<String> pageThrough(final JobScheduler s, final JobScheduleQuery.SortOrder order) {
+        final List<String> result = new ArrayList<String>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            final JobSchedulePage page = s.getJobSchedules(JobScheduleQueryBuilder.newInstance()
+                    .statuses(JobSchedule.Status.SCHEDULED, JobSchedule.Status.DONE)
+                    .sortOrder(order)
+                    .limit(7)
+                    .cursor(cursor)
+                    .build());
+            result.addAll(idsOf(page.getJobSchedules()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+        assertEquals(3, pages);
+        return result;
+    }
+
+    @Test
+    public void offset() {
+        final JobScheduleQuery query = JobScheduleQueryBuilder.newInstance()
+                .sortOrder(JobScheduleQuery.SortOrder.CREATE_TIME_ASC)
+                .offset(25)
+                .limit(10)
+                .build();
+        final JobSchedulePage page = scheduler.getJobSchedules(query);
+        assertEquals(ids.subList(25, COUNT), idsOf(page.getJobSchedules()));
+        assertNull(page.getNextCursor());
+        assertEquals(5, defaultScheduler.getJobSchedules(query).getJobSchedules().size());
+    }
+
+    @Test
+    public void delete() {
+        scheduler.delete(ids.get(COUNT - 1));
+        assertEquals(COUNT - 1, scheduler.getJobSchedules().size());
+        assertEquals(ids.get(COUNT - 2), scheduler.getJobSchedules().get(0).getId());
+    }
+
+    @Test
+    public void deleteLastOfJobName() throws Exception {
+        final List<String> odd = new ArrayList<String>();
+        for (int i = 1; i < COUNT; i += 2) {
+            odd.add(ids.get(i));
+        }
+        scheduler.deleteAll(odd);
+        assertEquals(0, scheduler.getJobSchedules(
+                JobScheduleQueryBuilder.newInstance().jobName("odd").build()).getJobSchedules().size());
+        assertEquals(Collections.singleton("even"), jobNamesIndexed());
+
+        // the job name is indexed again by its next job schedule
+        scheduler.schedule(JobScheduleConfigBuilder.newInstance().jobName("odd")
+                .initialDelay(1).timeUnit(TimeUnit.DAYS).build());
+        assertEquals(1, scheduler.getJobSchedules(
+                JobScheduleQueryBuilder.newInstance().jobName("odd").build()).getJobSchedules().size());
+        assertEquals(new HashSet<String>(Arrays.asList("even", "odd")), jobNamesIndexed());
+    }
+
+    @Test(expected = BatchRuntimeException.class)
+    public void invalidCursor() {
+        scheduler.getJobSchedules(JobScheduleQueryBuilder.newInstance().cursor("x").build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> jobNamesIndexed() throws Exception {
+        final Field indexField = ExecutorSchedulerImpl.class.getDeclaredField("index");
+        indexField.setAccessible(true);
+        final Field byJobName = JobScheduleIndex.class.getDeclaredField("byJobName");
+        byJobName.setAccessible(true);
+        return new HashSet<String>(((Map<String, ?>) byJobName.get(indexField.get(scheduler))).keySet());
+    }
+
+    private static List<String> idsOf(final List<JobSchedule> jobSchedules) {
+        final List<String> result = new ArrayList<String>(jobSchedules.size());
+        for (final JobSchedule jobSchedule : jobSchedules) {
+            result.add(jobSchedule.getId());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import jakarta.batch.operations.BatchRuntimeException;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link JobScheduleIds} and {@link JobScheduleRegistry}.
+ */
+public class JobScheduleRegistryTest {
+    private static final JobScheduleConfig CONFIG = JobScheduleConfigBuilder.newInstance().jobName("job").build();
+
+    @Test
+    public void ids() {
+        final JobScheduleIds ids = new JobScheduleIds(1);
+        assertEquals(1, ids.next());
+        assertEquals(2, ids.next());
+        assertEquals(JobScheduleIds.BLOCK + 1, ids.reserve(3));
+        ids.advancePast(1000);
+        assertTrue(ids.next() > 1000);
+        assertTrue(ids.reserve(1) > 1000);
+
+        assertEquals(1234567890123L, JobScheduleIds.parse("1234567890123"));
+        assertEquals(-1, JobScheduleIds.parse("0"));
+        assertEquals(-1, JobScheduleIds.parse("012"));
+        assertEquals(-1, JobScheduleIds.parse("-1"));
+        assertEquals(-1, JobScheduleIds.parse("a1"));
+        assertEquals(-1, JobScheduleIds.parse(""));
+        assertEquals(-1, JobScheduleIds.parse("1234567890123456789"));
+    }
+
+    @Test
+    public void concurrentIds() throws Exception {
+        final JobScheduleIds ids = new JobScheduleIds(4);
+        final List<long[]> generated = runConcurrently(8, new Callable<long[]>() {
+            @Override
+            public long[] call() {
+                final long[] result = new long[10000];
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = ids.next();
+                }
+                return result;
+            }
+        });
+        final Set<Long> unique = new HashSet<Long>();
+        for (final long[] result : generated) {
+            for (final long id : result) {
+                assertTrue(id > 0);
+                assertTrue(unique.add(id));
+            }
+        }
+    }
+
+    @Test
+    public void registry() {
+        final ConcurrentMap<String, JobSchedule> external = new ConcurrentHashMap<String, JobSchedule>();
+        final JobScheduleRegistry registry = new JobScheduleRegistry(external);
+        final List<JobSchedule> jobSchedules = new ArrayList<JobSchedule>();
+        for (long id = 1; id <= 1000; id++) {
+            final JobSchedule jobSchedule = new JobSchedule(String.valueOf(id), CONFIG);
+            registry.add(id, jobSchedule);
+            jobSchedules.add(jobSchedule);
+        }
+        // an id in use is not taken over, also in the external map
+        try {
+            registry.add(5, new JobSchedule("5", CONFIG));
+            fail("Expecting BatchRuntimeException");
+        } catch (final BatchRuntimeException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("5"));
+        }
+        assertSame(jobSchedules.get(4), registry.get("5"));
+        assertSame(jobSchedules.get(4), external.get("5"));
+
+        final JobSchedule other = new JobSchedule("other", CONFIG);
+        assertTrue(registry.addIfAbsent(other));
+        assertFalse(registry.addIfAbsent(new JobSchedule("other", CONFIG)));
+        assertFalse(registry.addIfAbsent(new JobSchedule("5", CONFIG)));
+        assertEquals(1001, external.size());
+
+        for (final JobSchedule jobSchedule : jobSchedules) {
+            assertSame(jobSchedule, registry.get(new String(jobSchedule.getId())));
+        }
+        assertSame(other, registry.get("other"));
+        assertNull(registry.get("1001"));
+
+        for (int i = 0; i < 1000; i += 2) {
+            assertTrue(registry.remove(jobSchedules.get(i)));
+        }
+        assertFalse(registry.remove(jobSchedules.get(0)));
+        assertFalse(registry.remove(new JobSchedule("2", CONFIG)));
+        assertTrue(registry.remove(other));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 0 ? null : jobSchedules.get(i), registry.get(jobSchedules.get(i).getId()));
+        }
+        assertEquals(500, external.size());
+
+        // the slot of a removed job schedule is reused
+        final JobSchedule readded = new JobSchedule("1", CONFIG);
+        assertTrue(registry.addIfAbsent(readded));
+        assertSame(readded, registry.get("1"));
+        assertTrue(registry.remove(readded));
+
+        // job schedules only in the external map are still found
+        final JobSchedule shared = new JobSchedule("2000", CONFIG);
+        external.put(shared.getId(), shared);
+        assertSame(shared, registry.get("2000"));
+    }
+
+    @Test
+    public void concurrentRegistry() throws Exception {
+        final JobScheduleRegistry registry = new JobScheduleRegistry(null);
+        final JobScheduleIds ids = new JobScheduleIds(4);
+        runConcurrently(8, new Callable<Void>() {
+            @Override
+            public Void call() {
+                for (int i = 0; i < 5000; i++) {
+                    final long id = ids.next();
+                    final JobSchedule jobSchedule = new JobSchedule(String.valueOf(id), CONFIG);
+                    registry.add(id, jobSchedule);
+                    assertSame(jobSchedule, registry.get(jobSchedule.getId()));
+                    if (i % 3 == 0) {
+                        assertTrue(registry.remove(jobSchedule));
+                        assertNull(registry.get(jobSchedule.getId()));
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    private static <T> List<T> runConcurrently(final int threads, final Callable<T> task) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<T>> futures = new ArrayList<Future<T>>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(task));
+            }
+            final List<T> results = new ArrayList<T>();
+            for (final Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
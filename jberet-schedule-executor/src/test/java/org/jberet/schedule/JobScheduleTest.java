@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import jakarta.xml.bind.JAXB;
+import javax.ejb.ScheduleExpression;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.jakarta.xmlbind.JakartaXmlBindAnnotationModule;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the job execution id history of {@link JobSchedule}.
+ */
+public class JobScheduleTest {
+    @Test
+    public void retention() {
+        final JobSchedule jobSchedule = newJobSchedule(3);
+        assertEquals(0, jobSchedule.getJobExecutionCount());
+        assertEquals(0, jobSchedule.getLastJobExecutionId());
+        assertEquals(0, jobSchedule.getJobExecutionIds().size());
+
+        for (long id = 1; id <= 10; id++) {
+            jobSchedule.addJobExecutionIds(id);
+        }
+        assertEquals(Arrays.asList(8L, 9L, 10L), jobSchedule.getJobExecutionIds());
+        assertEquals(10, jobSchedule.getJobExecutionCount());
+        assertEquals(1, jobSchedule.getFirstJobExecutionId());
+        assertEquals(10, jobSchedule.getLastJobExecutionId());
+
+        final List<Long> streamed = new ArrayList<Long>();
+        jobSchedule.forEachJobExecutionId(streamed::add);
+        assertEquals(Arrays.asList(8L, 9L, 10L), streamed);
+    }
+
+    @Test
+    public void growsUpToRetention() {
+        final JobSchedule jobSchedule = newJobSchedule(100);
+        final List<Long> expected = new ArrayList<Long>();
+        for (long id = 1; id <= 250; id++) {
+            jobSchedule.addJobExecutionIds(id);
+            if (id > 150) {
+                expected.add(id);
+            }
+        }
+        assertEquals(expected, jobSchedule.getJobExecutionIds());
+    }
+
+    @Test
+    public void javaSerialization() throws Exception {
+        final JobSchedule jobSchedule = newJobSchedule(2);
+        jobSchedule.addJobExecutionIds(1);
+        jobSchedule.addJobExecutionIds(2);
+        jobSchedule.addJobExecutionIds(3);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(jobSchedule);
+        }
+        final JobSchedule copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (JobSchedule) in.readObject();
+        }
+        assertEquals(Arrays.asList(2L, 3L), copy.getJobExecutionIds());
+        assertEquals(3, copy.getJobExecutionCount());
+        assertEquals(1, copy.getFirstJobExecutionId());
+        copy.addJobExecutionIds(4);
+        assertEquals(Arrays.asList(3L, 4L), copy.getJobExecutionIds());
+        assertEquals(4, copy.getLastJobExecutionId());
+    }
+
+    /**
+     * Verifies a job schedule of an earlier version, which kept all job execution ids
+     * without counting them.
+     */
+    @Test
+    public void earlierVersion() throws Exception {
+        final JobSchedule jobSchedule = newJobSchedule(2);
+        setField(jobSchedule, "jobExecutionIds", new CopyOnWriteArrayList<Long>(Arrays.asList(5L, 6L, 7L)));
+
+        assertEquals(3, jobSchedule.getJobExecutionCount());
+        assertEquals(5, jobSchedule.getFirstJobExecutionId());
+        assertEquals(7, jobSchedule.getLastJobExecutionId());
+        assertEquals(Arrays.asList(6L, 7L), jobSchedule.getJobExecutionIds());
+    }
+
+    @Test
+    public void json() throws Exception {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JakartaXmlBindAnnotationModule());
+        final JobSchedule jobSchedule = newJobSchedule(5);
+        jobSchedule.addJobExecutionIds(1);
+        jobSchedule.addJobExecutionIds(2);
+        jobSchedule.setLastFireTime(1792310500000L);
+        jobSchedule.setNextJobExecutionId(7);
+
+        final String json = objectMapper.writeValueAsString(jobSchedule);
+        assertPublicForm(json);
+        final JobSchedule copy = objectMapper.readValue(json, JobSchedule.class);
+        assertEquals(Arrays.asList(1L, 2L), copy.getJobExecutionIds());
+        assertEquals(2, copy.getJobExecutionCount());
+        copy.addJobExecutionIds(3);
+        assertEquals(Arrays.asList(1L, 2L, 3L), copy.getJobExecutionIds());
+    }
+
+    @Test
+    public void xml() {
+        final JobSchedule jobSchedule = new JobSchedule("1", JobScheduleConfigBuilder.newInstance().jobName("job")
+                .scheduleExpression(new ScheduleExpression().hour(1)).jobExecutionIdRetention(5).build());
+        jobSchedule.addJobExecutionIds(1);
+        jobSchedule.addJobExecutionIds(2);
+        jobSchedule.setLastFireTime(1792310500000L);
+        jobSchedule.setNextJobExecutionId(7);
+        jobSchedule.setStatus(JobSchedule.Status.DONE);
+
+        final StringWriter writer = new StringWriter();
+        JAXB.marshal(jobSchedule, writer);
+        assertPublicForm(writer.toString());
+        final JobSchedule copy = JAXB.unmarshal(new StringReader(writer.toString()), JobSchedule.class);
+        assertEquals(Arrays.asList(1L, 2L), copy.getJobExecutionIds());
+        assertEquals(2, copy.getJobExecutionCount());
+        assertEquals(2, copy.getLastJobExecutionId());
+    }
+
+    /**
+     * Verifies that the XML or JSON form of a job schedule, which has fired and been
+     * re-armed, carries its public properties, but not the bookkeeping of the job scheduler.
+     */
+    private static void assertPublicForm(final String form) {
+        for (final String name : new String[]{"id", "jobScheduleConfig", "createTime", "status",
+                "jobExecutionIds", "jobExecutionCount", "firstJobExecutionId", "lastJobExecutionId"}) {
+            assertTrue(form, form.contains(name));
+        }
+        for (final String name : new String[]{"lastFireTime", "finishTime", "nextJobExecutionId",
+                "future", "sequence", "generation"}) {
+            assertFalse(form, form.contains(name));
+        }
+    }
+
+    private static JobSchedule newJobSchedule(final int retention) {
+        return new JobSchedule("1", JobScheduleConfigBuilder.newInstance().jobName("job")
+                .jobExecutionIdRetention(retention).build());
+    }
+
+    private static void setField(final Object obj, final String name, final Object value) throws Exception {
+        final Field field = obj.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(obj, value);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import jakarta.batch.operations.BatchRuntimeException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link LaunchMode} and {@link JobScheduler#getJobScheduler(Class, ConcurrentMap, String, LaunchMode)}.
+ */
+public class LaunchModeTest {
+    @Before
+    public void setUp() throws Exception {
+        StubJobOperator.install();
+        resetJobScheduler();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        final Field field = jobSchedulerField();
+        final Object jobScheduler = field.get(null);
+        if (jobScheduler instanceof ExecutorSchedulerImpl) {
+            final ExecutorSchedulerImpl executorScheduler = (ExecutorSchedulerImpl) jobScheduler;
+            executorScheduler.close();
+            if (executorScheduler.launchExecutor != null) {
+                executorScheduler.launchExecutor.shutdownNow();
+            }
+        }
+        resetJobScheduler();
+        StubJobOperator.uninstall();
+    }
+
+    @Test
+    public void launchExecutors() {
+        assertNull(LaunchMode.SCHEDULER_THREAD.newLaunchExecutor());
+
+        final ExecutorService platform = LaunchMode.PLATFORM_THREAD.newLaunchExecutor();
+        try {
+            final ThreadPoolExecutor pool = (ThreadPoolExecutor) platform;
+            assertEquals(LaunchMode.DEFAULT_LAUNCH_THREADS, pool.getMaximumPoolSize());
+            assertEquals(LaunchMode.DEFAULT_LAUNCH_QUEUE_CAPACITY, pool.getQueue().remainingCapacity());
+        } finally {
+            platform.shutdownNow();
+        }
+    }
+
+    @Test
+    public void virtualThreads() throws Exception {
+        final Method isVirtual = isVirtualMethod();
+        final ExecutorService executor = LaunchMode.VIRTUAL_THREAD.newLaunchExecutor();
+        try {
+            final Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+            if (isVirtual == null) {
+                // the fallback for Java runtimes without virtual threads
+                assertTrue(executor instanceof ThreadPoolExecutor);
+                assertEquals(Integer.MAX_VALUE, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+            } else {
+                assertEquals(Boolean.TRUE, isVirtual.invoke(thread));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void launchModeWithSchedulerType() throws Exception {
+        final ConcurrentMap<String, JobSchedule> schedules = new ConcurrentHashMap<String, JobSchedule>();
+        final JobScheduler jobScheduler = JobScheduler.getJobScheduler(
+                ExecutorSchedulerImpl.class, schedules, null, LaunchMode.PLATFORM_THREAD);
+        assertTrue(jobScheduler instanceof ExecutorSchedulerImpl);
+        assertTrue(((ExecutorSchedulerImpl) jobScheduler).launchExecutor instanceof ThreadPoolExecutor);
+
+        final JobSchedule jobSchedule = jobScheduler.schedule(JobScheduleConfigBuilder.newInstance()
+                .jobName("job").initialDelay(10).timeUnit(TimeUnit.MILLISECONDS).build());
+        assertSame(jobSchedule, schedules.get(jobSchedule.getId()));
+        final StubJobOperator.Launch launch = StubJobOperator.nextLaunch(5000);
+        assertNotNull(launch);
+        assertTrue(launch.thread.getName(), launch.thread.getName().startsWith("pool-"));
+    }
+
+    @Test
+    public void defaultLaunchModeWithSchedulerType() {
+        final JobScheduler jobScheduler = JobScheduler.getJobScheduler(
+                ExecutorSchedulerImpl.class, null, null, LaunchMode.SCHEDULER_THREAD);
+        assertNull(((ExecutorSchedulerImpl) jobScheduler).launchExecutor);
+    }
+
+    @Test
+    public void launchModeNotSupported() throws Exception {
+        try {
+            JobScheduler.getJobScheduler(OtherJobScheduler.class, null, null, LaunchMode.VIRTUAL_THREAD);
+            fail("Expecting BatchRuntimeException");
+        } catch (final BatchRuntimeException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("VIRTUAL_THREAD"));
+        }
+        assertNull(jobSchedulerField().get(null));
+
+        assertTrue(JobScheduler.getJobScheduler(OtherJobScheduler.class, null, null, null)
+                instanceof OtherJobScheduler);
+    }
+
+    private static Method isVirtualMethod() {
+        try {
+            return Thread.class.getMethod("isVirtual");
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Field jobSchedulerField() throws Exception {
+        final Field field = JobScheduler.class.getDeclaredField("jobScheduler");
+        field.setAccessible(true);
+        return field;
+    }
+
+    private static void resetJobScheduler() throws Exception {
+        jobSchedulerField().set(null, null);
+    }
+
+    /**
+     * A job scheduler type other than {@link ExecutorSchedulerImpl}.
+     */
+    public static final class OtherJobScheduler extends JobScheduler {
+        @Override
+        public JobSchedule schedule(final JobScheduleConfig scheduleConfig) {
+            return null;
+        }
+
+        @Override
+        public List<JobSchedule> getJobSchedules() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean cancel(final String scheduleId) {
+            return false;
+        }
+
+        @Override
+        public JobSchedule getJobSchedule(final String scheduleId) {
+            return null;
+        }
+    }
+}
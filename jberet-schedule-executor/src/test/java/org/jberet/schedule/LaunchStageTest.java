@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the tick and launch stages of {@link ExecutorSchedulerImpl}.
+ */
+public class LaunchStageTest {
+    private static final String TICK_THREAD = "jberet-test-tick";
+
+    private final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactory() {
+                @Override
+                public Thread newThread(final Runnable r) {
+                    return new Thread(r, TICK_THREAD);
+                }
+            });
+
+    @Before
+    public void setUp() {
+        StubJobOperator.install();
+    }
+
+    @After
+    public void tearDown() {
+        StubJobOperator.uninstall();
+    }
+
+    @Test
+    public void launchOnSchedulerThread() throws Exception {
+        final ExecutorSchedulerImpl scheduler = new ExecutorSchedulerImpl(null, executorService);
+        try {
+            scheduler.schedule(newConfig(10));
+            final StubJobOperator.Launch launch = StubJobOperator.nextLaunch(5000);
+            assertNotNull(launch);
+            assertEquals(TICK_THREAD, launch.thread.getName());
+
+            final StageStatistics tickStage = scheduler.getTickStageStatistics();
+            assertEquals(1, tickStage.getCount());
+            final StageStatistics launchStage = scheduler.getLaunchStageStatistics();
+            assertEquals(0, launchStage.getCount());
+            assertEquals(0, launchStage.getQueueDepth());
+            assertEquals(0, launchStage.getMaxLag(TimeUnit.NANOSECONDS));
+        } finally {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    public void slowLaunchDoesNotDelayTick() throws Exception {
+        final ExecutorService launchExecutor = ExecutorSchedulerImpl.newLaunchExecutor(3, 16);
+        final ExecutorSchedulerImpl scheduler = new ExecutorSchedulerImpl(null, executorService, launchExecutor);
+        try {
+            StubJobOperator.startLatencyMillis = 500;
+            final long start = System.nanoTime();
+            for (int i = 0; i < 3; i++) {
+                scheduler.schedule(newConfig(10));
+            }
+            for (int i = 0; i < 3; i++) {
+                final StubJobOperator.Launch launch = StubJobOperator.nextLaunch(5000);
+                assertNotNull(launch);
+                assertTrue(launch.thread.getName(), !TICK_THREAD.equals(launch.thread.getName()));
+            }
+            // the three slow starts overlap on the launch threads instead of running one after another
+            assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(1400));
+
+            final StageStatistics tickStage = scheduler.getTickStageStatistics();
+            assertEquals(3, tickStage.getCount());
+            assertTrue(tickStage.getMaxLag(TimeUnit.MILLISECONDS) < 500);
+            assertEquals(3, scheduler.getLaunchStageStatistics().getCount());
+            assertEquals(0, scheduler.getLaunchStageStatistics().getQueueDepth());
+        } finally {
+            scheduler.close();
+            launchExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void launchExecutorQueueDepth() throws Exception {
+        final ExecutorService launchExecutor = ExecutorSchedulerImpl.newLaunchExecutor(1, 16);
+        final ExecutorSchedulerImpl scheduler = new ExecutorSchedulerImpl(null, executorService, launchExecutor);
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            launchExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        release.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            scheduler.schedule(newConfig(0));
+            scheduler.schedule(newConfig(0));
+            final long deadline = System.currentTimeMillis() + 5000;
+            while (scheduler.getLaunchStageStatistics().getQueueDepth() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(2, scheduler.getLaunchStageStatistics().getQueueDepth());
+            assertEquals(0, scheduler.getLaunchStageStatistics().getCount());
+
+            Thread.sleep(100);
+            release.countDown();
+            assertNotNull(StubJobOperator.nextLaunch(5000));
+            assertNotNull(StubJobOperator.nextLaunch(5000));
+            final StageStatistics launchStage = scheduler.getLaunchStageStatistics();
+            assertEquals(2, launchStage.getCount());
+            assertTrue(launchStage.getMaxLag(TimeUnit.MILLISECONDS) >= 100);
+            assertTrue(launchStage.getMeanLag(TimeUnit.MILLISECONDS) >= 100);
+        } finally {
+            release.countDown();
+            scheduler.close();
+            launchExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void launchExecutorRunsOnCallerWhenFull() throws Exception {
+        final ExecutorService launchExecutor = ExecutorSchedulerImpl.newLaunchExecutor(1, 1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Runnable blocking = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        try {
+            launchExecutor.execute(blocking);
+            launchExecutor.execute(blocking);
+            final Thread[] ranOn = new Thread[1];
+            launchExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    ranOn[0] = Thread.currentThread();
+                }
+            });
+            assertSame(Thread.currentThread(), ranOn[0]);
+        } finally {
+            release.countDown();
+            launchExecutor.shutdownNow();
+        }
+    }
+
+    private static JobScheduleConfig newConfig(final long initialDelayMillis) {
+        return JobScheduleConfigBuilder.newInstance().jobName("job")
+                .initialDelay(initialDelayMillis).timeUnit(TimeUnit.MILLISECONDS).build();
+    }
+}
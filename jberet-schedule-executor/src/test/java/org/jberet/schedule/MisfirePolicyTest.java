@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link MisfirePolicy} applied by {@link JobScheduleTask}. The task is run
+ * back-to-back, as the scheduled executor service does for a fixed-rate task with
+ * missed runs, and its launches are counted instead of starting jobs.
+ */
+public class MisfirePolicyTest {
+    /**
+     * Number of missed runs, after which one more run ends the backlog.
+     */
+    private static final int MISSED = 10;
+
+    private ScheduledExecutorService executorService;
+    private ExecutorSchedulerImpl scheduler;
+    private final AtomicInteger launches = new AtomicInteger();
+    private final Executor launchExecutor = new Executor() {
+        @Override
+        public void execute(final Runnable command) {
+            launches.incrementAndGet();
+        }
+    };
+
+    @Before
+    public void before() {
+        executorService = Executors.newSingleThreadScheduledExecutor();
+        scheduler = new ExecutorSchedulerImpl(null, executorService);
+    }
+
+    @After
+    public void after() {
+        scheduler.close();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void fireAll() {
+        runBacklog(JobScheduleConfigBuilder.newInstance());
+        assertEquals(MISSED + 1, launches.get());
+        assertEquals(0, metrics().getCoalescedCount());
+    }
+
+    @Test
+    public void fireAllWithCap() {
+        // the run that ends the backlog counts against the cap
+        runBacklog(JobScheduleConfigBuilder.newInstance().maxCatchUpFirings(3));
+        assertEquals(3, launches.get());
+        assertEquals(MISSED + 1 - 3, metrics().getCoalescedCount());
+    }
+
+    @Test
+    public void fireAllCapBoundaries() {
+        final int[] caps = {1, MISSED, MISSED + 1, MISSED + 2};
+        final int[] expected = {1, MISSED, MISSED + 1, MISSED + 1};
+        long coalesced = 0;
+        for (int i = 0; i < caps.length; i++) {
+            launches.set(0);
+            runBacklog(JobScheduleConfigBuilder.newInstance().maxCatchUpFirings(caps[i]));
+            assertEquals("maxCatchUpFirings " + caps[i], expected[i], launches.get());
+            coalesced += MISSED + 1 - expected[i];
+            assertEquals("maxCatchUpFirings " + caps[i], coalesced, metrics().getCoalescedCount());
+        }
+    }
+
+    @Test
+    public void fireOnce() {
+        runBacklog(JobScheduleConfigBuilder.newInstance().misfirePolicy(MisfirePolicy.FIRE_ONCE));
+        assertEquals(1, launches.get());
+        assertEquals(MISSED, metrics().getCoalescedCount());
+    }
+
+    @Test
+    public void skip() {
+        runBacklog(JobScheduleConfigBuilder.newInstance().misfirePolicy(MisfirePolicy.SKIP));
+        assertEquals(0, launches.get());
+        assertEquals(MISSED + 1, metrics().getSkippedCount());
+    }
+
+    @Test
+    public void catchUp() {
+        final long now = System.currentTimeMillis();
+        task(JobScheduleConfigBuilder.newInstance().maxCatchUpFirings(3), 0).catchUp(MISSED, now, 1000);
+        assertEquals(3, launches.get());
+        task(JobScheduleConfigBuilder.newInstance().misfirePolicy(MisfirePolicy.FIRE_ONCE), 0).catchUp(MISSED, now, 1000);
+        assertEquals(3 + 1, launches.get());
+        task(JobScheduleConfigBuilder.newInstance().misfirePolicy(MisfirePolicy.SKIP), 0).catchUp(MISSED, now, 1000);
+        assertEquals(3 + 1, launches.get());
+        assertEquals(MISSED - 3 + MISSED - 1, metrics().getCoalescedCount());
+        assertEquals(MISSED, metrics().getSkippedCount());
+    }
+
+    /**
+     * Runs a task planned {@link #MISSED} intervals and a half ago, until the end of
+     * its backlog, i.e., {@link #MISSED} missed runs and one run that is not missed.
+     */
+    private void runBacklog(final JobScheduleConfigBuilder builder) {
+        final long intervalNanos = TimeUnit.HOURS.toNanos(1);
+        final JobScheduleTask task = task(builder, -(MISSED * intervalNanos + intervalNanos / 2));
+        for (int i = 0; i <= MISSED; i++) {
+            task.run();
+        }
+    }
+
+    private JobScheduleTask task(final JobScheduleConfigBuilder builder, final long initialDelayNanos) {
+        final JobSchedule jobSchedule = new JobSchedule("1",
+                builder.jobName("job").interval(1).timeUnit(TimeUnit.HOURS).build());
+        return new JobScheduleTask(jobSchedule, scheduler, launchExecutor, null, null, initialDelayNanos);
+    }
+
+    private DefaultSchedulerMetrics metrics() {
+        return (DefaultSchedulerMetrics) scheduler.getMetrics();
+    }
+}
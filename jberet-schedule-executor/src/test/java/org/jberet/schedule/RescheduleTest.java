@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for re-arming job schedules in place with {@link ExecutorSchedulerImpl#reschedule(String, long)},
+ * as done by {@link SchedulingJobListener} in chain mode. Firings are not admitted,
+ * so that no job execution is started.
+ */
+public class RescheduleTest {
+    private static final String ID_PARAMETER = "scheduleId";
+
+    private ScheduledExecutorService executorService;
+    private ExecutorSchedulerImpl scheduler;
+
+    @Before
+    public void before() {
+        executorService = Executors.newSingleThreadScheduledExecutor();
+        scheduler = new ExecutorSchedulerImpl(null, executorService);
+        scheduler.setAdmissionConfig(AdmissionConfigBuilder.newInstance()
+                .policy(AdmissionConfig.Policy.SKIP).build());
+    }
+
+    @After
+    public void after() {
+        scheduler.close();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void rescheduleDone() throws Exception {
+        assertTrue(Arrays.asList(scheduler.getFeatures()).contains(JobScheduler.RESCHEDULE));
+        final JobScheduleConfig config = config(50, TimeUnit.MILLISECONDS);
+        final JobSchedule jobSchedule = scheduler.schedule(config, ID_PARAMETER);
+        final JobScheduleConfig owned = jobSchedule.getJobScheduleConfig();
+        assertEquals(jobSchedule.getId(), owned.getJobParameters().getProperty(ID_PARAMETER));
+        assertNotNull(scheduler.getAdmissionController().tryAcquire(jobSchedule));
+        awaitStatus(jobSchedule, JobSchedule.Status.DONE);
+
+        assertSame(jobSchedule, scheduler.reschedule(jobSchedule.getId(), 5));
+        assertEquals(JobSchedule.Status.SCHEDULED, jobSchedule.getStatus());
+        assertSame(owned, jobSchedule.getJobScheduleConfig());
+        assertEquals(5, jobSchedule.getNextJobExecutionId());
+        assertEquals(1, scheduler.getJobSchedules().size());
+        awaitStatus(jobSchedule, JobSchedule.Status.DONE);
+
+        assertSame(jobSchedule, scheduler.reschedule(jobSchedule.getId(), 0));
+        assertEquals(-1, jobSchedule.getNextJobExecutionId());
+        awaitStatus(jobSchedule, JobSchedule.Status.DONE);
+    }
+
+    @Test
+    public void rescheduleScheduled() throws Exception {
+        final JobSchedule jobSchedule = scheduler.schedule(config(1, TimeUnit.HOURS), ID_PARAMETER);
+        final JobScheduleTask replaced = new JobScheduleTask(jobSchedule, scheduler, null, null, null);
+        assertSame(jobSchedule, scheduler.reschedule(jobSchedule.getId(), 0));
+
+        // a task replaced by re-arming does not mark the job schedule as done
+        replaced.done();
+        assertEquals(JobSchedule.Status.SCHEDULED, jobSchedule.getStatus());
+
+        assertTrue(scheduler.cancel(jobSchedule.getId()));
+        assertNull(scheduler.reschedule(jobSchedule.getId(), 0));
+        assertNull(scheduler.reschedule("unknown", 0));
+    }
+
+    @Test
+    public void scheduleIdParameterCopiesJobParameters() {
+        final Properties jobParameters = new Properties();
+        jobParameters.setProperty("input", "a.csv");
+        final JobScheduleConfig config = JobScheduleConfigBuilder.newInstance().jobName("job")
+                .jobParameters(jobParameters).initialDelay(1).timeUnit(TimeUnit.HOURS)
+                .jitter(1, TimeUnit.MINUTES, Jitter.HASH).maxConcurrentExecutions(2).build();
+        final JobScheduleConfig owned = scheduler.schedule(config, ID_PARAMETER).getJobScheduleConfig();
+        assertNull(jobParameters.getProperty(ID_PARAMETER));
+        assertEquals("a.csv", owned.getJobParameters().getProperty("input"));
+        assertEquals(config.getJobName(), owned.getJobName());
+        assertEquals(config.getInitialDelay(), owned.getInitialDelay());
+        assertEquals(config.getJitterWindow(TimeUnit.MILLISECONDS), owned.getJitterWindow(TimeUnit.MILLISECONDS));
+        assertEquals(2, owned.getMaxConcurrentExecutions());
+
+        // without job parameters
+        final JobSchedule jobSchedule = scheduler.schedule(JobScheduleConfigBuilder.newInstance().jobName("job")
+                .initialDelay(1).timeUnit(TimeUnit.HOURS).build(), ID_PARAMETER);
+        assertEquals(jobSchedule.getId(), jobSchedule.getJobScheduleConfig().getJobParameters()
+                .getProperty(ID_PARAMETER));
+    }
+
+    private void awaitStatus(final JobSchedule jobSchedule, final JobSchedule.Status status) throws Exception {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (jobSchedule.getStatus() != status && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(status, jobSchedule.getStatus());
+    }
+
+    private static JobScheduleConfig config(final long initialDelay, final TimeUnit unit) {
+        return JobScheduleConfigBuilder.newInstance().jobName("job").jobParameters(new Properties())
+                .initialDelay(initialDelay).timeUnit(unit).maxConcurrentExecutions(1).build();
+    }
+}
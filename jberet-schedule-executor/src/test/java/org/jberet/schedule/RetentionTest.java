@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for the eviction of finished job schedules by {@link RetentionConfig}.
+ */
+public class RetentionTest {
+    private ScheduledExecutorService executorService;
+    private ExecutorSchedulerImpl scheduler;
+
+    @Before
+    public void before() {
+        executorService = Executors.newSingleThreadScheduledExecutor();
+        scheduler = new ExecutorSchedulerImpl(null, executorService);
+    }
+
+    @After
+    public void after() {
+        scheduler.close();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void maxCount() {
+        final List<JobSchedule> cancelled = scheduleAndCancel(5);
+        final JobSchedule scheduled = scheduler.schedule(config());
+        scheduler.setRetentionConfig(RetentionConfigBuilder.newInstance().maxCount(2).archiveSize(2).build());
+
+        assertEquals(3, scheduler.evictFinished());
+        assertEquals(3, scheduler.getJobSchedules().size());
+        assertNull(scheduler.getJobSchedule(cancelled.get(0).getId()));
+        assertNotNull(scheduler.getJobSchedule(cancelled.get(3).getId()));
+        assertNotNull(scheduler.getJobSchedule(scheduled.getId()));
+
+        // the archive keeps the most recently evicted job schedules
+        final List<ArchivedJobSchedule> archived = scheduler.getArchivedJobSchedules();
+        assertEquals(2, archived.size());
+        assertEquals(cancelled.get(1).getId(), archived.get(0).getId());
+        assertEquals(JobSchedule.Status.CANCELLED, archived.get(1).getStatus());
+        assertEquals("job", archived.get(1).getJobName());
+        assertNull(scheduler.getArchivedJobSchedule(cancelled.get(0).getId()));
+
+        assertEquals(0, scheduler.evictFinished());
+    }
+
+    @Test
+    public void maxAge() throws Exception {
+        final List<JobSchedule> cancelled = scheduleAndCancel(3);
+        final JobSchedule scheduled = scheduler.schedule(config());
+        scheduler.setRetentionConfig(RetentionConfigBuilder.newInstance().maxAge(1, TimeUnit.HOURS).build());
+        assertEquals(0, scheduler.evictFinished());
+
+        scheduler.setRetentionConfig(RetentionConfigBuilder.newInstance().maxAge(1, TimeUnit.MILLISECONDS).build());
+        Thread.sleep(10);
+        assertEquals(3, scheduler.evictFinished());
+        assertEquals(1, scheduler.getJobSchedules().size());
+        assertNotNull(scheduler.getJobSchedule(scheduled.getId()));
+        assertNull(scheduler.getJobSchedule(cancelled.get(2).getId()));
+        assertEquals(0, scheduler.getArchivedJobSchedules().size());
+    }
+
+    @Test
+    public void sweeper() throws Exception {
+        scheduleAndCancel(3);
+        scheduler.setRetentionConfig(RetentionConfigBuilder.newInstance()
+                .maxCount(1).sweepInterval(10, TimeUnit.MILLISECONDS).build());
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.getJobSchedules().size() > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, scheduler.getJobSchedules().size());
+    }
+
+    private List<JobSchedule> scheduleAndCancel(final int count) {
+        final List<JobSchedule> result = new ArrayList<JobSchedule>();
+        for (int i = 0; i < count; i++) {
+            final JobSchedule jobSchedule = scheduler.schedule(config());
+            scheduler.cancel(jobSchedule.getId());
+            result.add(jobSchedule);
+        }
+        return result;
+    }
+
+    private static JobScheduleConfig config() {
+        return JobScheduleConfigBuilder.newInstance().jobName("job").initialDelay(1).timeUnit(TimeUnit.HOURS).build();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.ejb.ScheduleExpression;
+
+import org.jberet.schedule._private.JaxbScheduleExpression;
+import org.jberet.schedule._private.ScheduleExpressionAdapter;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link ScheduleExpressionAdapter}, including marshalling by concurrent threads
+ * sharing one adapter.
+ */
+public class ScheduleExpressionAdapterTest {
+    private final ScheduleExpressionAdapter adapter = new ScheduleExpressionAdapter();
+
+    @Test
+    public void roundTrip() throws Exception {
+        final Date start = new Date(1760774400123L);
+        final Date end = new Date(1792310400456L);
+        final ScheduleExpression expression = new ScheduleExpression().dayOfWeek("Mon-Fri")
+                .hour("8-17").minute("*/15").timezone("UTC").start(start).end(end);
+
+        final ScheduleExpression result = adapter.unmarshal(adapter.marshal(expression));
+        assertEquals("Mon-Fri", result.getDayOfWeek());
+        assertEquals("8-17", result.getHour());
+        assertEquals("*/15", result.getMinute());
+        assertEquals("0", result.getSecond());
+        assertEquals("UTC", result.getTimezone());
+        assertEquals(start, result.getStart());
+        assertEquals(end, result.getEnd());
+        assertNull(adapter.unmarshal(null));
+    }
+
+    @Test
+    public void parseDate() throws Exception {
+        final JaxbScheduleExpression jaxb = new JaxbScheduleExpression();
+        jaxb.setStart("2026-10-18T08:00:00.000Z");
+        jaxb.setEnd("2026-10-18T10:30:00.250+0230");
+        final ScheduleExpression result = adapter.unmarshal(jaxb);
+        assertEquals(1792310400000L, result.getStart().getTime());
+        assertEquals(1792310400250L, result.getEnd().getTime());
+    }
+
+    @Test
+    public void concurrentRoundTrips() throws Exception {
+        final int threads = 8;
+        final int iterations = 5000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Void>> results = new ArrayList<Future<Void>>();
+            for (int t = 0; t < threads; t++) {
+                final long base = 1700000000000L + t * 86400000L * 365;
+                results.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        for (int i = 0; i < iterations; i++) {
+                            final Date start = new Date(base + i * 3600001L);
+                            final Date end = new Date(start.getTime() + i * 7L);
+                            final ScheduleExpression result = adapter.unmarshal(adapter.marshal(
+                                    new ScheduleExpression().hour(String.valueOf(i % 24)).start(start).end(end)));
+                            assertEquals(start, result.getStart());
+                            assertEquals(end, result.getEnd());
+                            assertEquals(String.valueOf(i % 24), result.getHour());
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (final Future<Void> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import jakarta.batch.operations.BatchRuntimeException;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link ExecutorSchedulerImpl} with {@link JdbcScheduleStore} and {@link FileScheduleStore},
+ * recovering job schedules in a new job scheduler.
+ */
+public class ScheduleStoreTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ScheduledExecutorService executorService;
+
+    @Before
+    public void before() {
+        executorService = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void after() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void jdbcStore() throws Exception {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:ScheduleStoreTest;DB_CLOSE_DELAY=-1");
+        recover(new JdbcScheduleStore(dataSource), new JdbcScheduleStore(dataSource));
+    }
+
+    @Test
+    public void fileStore() throws Exception {
+        final Path file = folder.getRoot().toPath().resolve("schedules.dat");
+        recover(new FileScheduleStore(file), new FileScheduleStore(file));
+    }
+
+    @Test
+    public void fileStoreTruncatedTail() throws Exception {
+        final Path file = folder.getRoot().toPath().resolve("schedules.dat");
+        ExecutorSchedulerImpl scheduler = new ExecutorSchedulerImpl(null, executorService, null, new FileScheduleStore(file));
+        final JobSchedule kept = scheduler.schedule(config("kept"));
+        scheduler.close();
+
+        // simulate a crash in the middle of appending a record
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(raf.length());
+            raf.write(new byte[]{1, 0, 0, 0, 1, '9', 0, 0});
+        }
+
+        scheduler = new ExecutorSchedulerImpl(null, executorService, null, new FileScheduleStore(file));
+        scheduler.awaitRecovery();
+        assertEquals(1, scheduler.getJobSchedules().size());
+        assertEquals("kept", scheduler.getJobSchedule(kept.getId()).getJobScheduleConfig().getJobName());
+
+        // appending after the truncated tail is readable again
+        final JobSchedule added = scheduler.schedule(config("added"));
+        scheduler.close();
+        scheduler = new ExecutorSchedulerImpl(null, executorService, null, new FileScheduleStore(file));
+        assertEquals("added", scheduler.getJobSchedule(added.getId()).getJobScheduleConfig().getJobName());
+        scheduler.close();
+    }
+
+    @Test
+    public void fileStoreCompactsWhenAppending() throws Exception {
+        final Path file = folder.getRoot().toPath().resolve("schedules.dat");
+        final FileScheduleStore store = new FileScheduleStore(file, false);
+        store.store(Collections.singletonList(new JobSchedule("other", config("other"))));
+        store.store(Collections.singletonList(new JobSchedule("1", config("v0"))));
+        final long recordSize = Files.size(file) / 2;
+
+        // a repeating job schedule stored after each of its launches
+        final int times = 10000;
+        for (int i = 1; i <= times; i++) {
+            store.store(Collections.singletonList(new JobSchedule("1", config("v" + i))));
+            assertTrue(Files.size(file) <= (2 * 1024 + 4) * (recordSize + 8));
+        }
+        store.close();
+
+        final Map<String, JobSchedule> loaded = new LinkedHashMap<String, JobSchedule>();
+        final FileScheduleStore reloaded = new FileScheduleStore(file);
+        reloaded.load(jobSchedule -> loaded.put(jobSchedule.getId(), jobSchedule));
+        reloaded.close();
+        assertEquals(2, loaded.size());
+        assertEquals("other", loaded.get("other").getJobScheduleConfig().getJobName());
+        assertEquals("v" + times, loaded.get("1").getJobScheduleConfig().getJobName());
+    }
+
+    @Test
+    public void groupCommit() throws Exception {
+        final CountingStore store = new CountingStore();
+        final ExecutorSchedulerImpl scheduler = new ExecutorSchedulerImpl(null, executorService, null, store,
+                ScheduleStoreConfigBuilder.newInstance().commitWindow(1, TimeUnit.SECONDS).maxBatchSize(40).build());
+        for (int i = 0; i < 100; i++) {
+            scheduler.schedule(config("job" + i));
+        }
+        scheduler.close();
+        assertEquals(100, store.stored.size());
+        // written in batches of the max batch size, rather than one write per job schedule
+        assertTrue(String.valueOf(store.calls.get()), store.calls.get() <= 5);
+    }
+
+    @Test
+    public void commitDurability() throws Exception {
+        final CountingStore store = new CountingStore();
+        final ExecutorSchedulerImpl scheduler = new ExecutorSchedulerImpl(null, executorService, null, store,
+                ScheduleStoreConfigBuilder.newInstance().durability(ScheduleStoreConfig.Durability.COMMIT).build());
+        final JobSchedule jobSchedule = scheduler.schedule(config("committed"));
+        assertTrue(store.stored.containsKey(jobSchedule.getId()));
+
+        store.fail = true;
+        try {
+            scheduler.schedule(config("failed"));
+            fail("Expecting BatchRuntimeException");
+        } catch (final BatchRuntimeException e) {
+            // expected
+        }
+        store.fail = false;
+        scheduler.close();
+        assertEquals(2, store.stored.size());
+    }
+
+    @Test
+    public void bulkCommit() throws Exception {
+        final CountingStore store = new CountingStore();
+        final ExecutorSchedulerImpl scheduler = new ExecutorSchedulerImpl(null, executorService, null, store,
+                ScheduleStoreConfigBuilder.newInstance().durability(ScheduleStoreConfig.Durability.COMMIT).build());
+        final List<JobScheduleConfig> configs = new ArrayList<JobScheduleConfig>();
+        for (int i = 0; i < 100; i++) {
+            configs.add(config("job" + i));
+        }
+        final List<JobSchedule> jobSchedules = scheduler.scheduleAll(configs);
+        assertEquals(100, jobSchedules.size());
+        assertEquals(100, store.stored.size());
+        // committed in one wait for the whole batch, rather than one write per job schedule
+        assertTrue(String.valueOf(store.calls.get()), store.calls.get() <= 2);
+        for (int i = 0; i < 100; i++) {
+            assertEquals("job" + i, jobSchedules.get(i).getJobScheduleConfig().getJobName());
+            assertEquals(Integer.parseInt(jobSchedules.get(0).getId()) + i, Integer.parseInt(jobSchedules.get(i).getId()));
+        }
+
+        final List<String> ids = new ArrayList<String>();
+        for (final JobSchedule jobSchedule : jobSchedules) {
+            ids.add(jobSchedule.getId());
+        }
+        assertEquals(50, scheduler.cancelAll(ids.subList(0, 50)));
+        assertEquals(0, scheduler.cancelAll(ids.subList(0, 50)));
+        assertEquals(JobSchedule.Status.CANCELLED, store.stored.get(ids.get(0)).getStatus());
+
+        scheduler.deleteAll(ids.subList(25, 75));
+        assertEquals(50, store.stored.size());
+        assertEquals(50, scheduler.getJobSchedules().size());
+        assertNull(scheduler.getJobSchedule(ids.get(50)));
+        scheduler.close();
+    }
+
+    @Test
+    public void deleteDuringRecovery() throws Exception {
+        final CountingStore store = new CountingStore();
+        ExecutorSchedulerImpl scheduler = new ExecutorSchedulerImpl(null, executorService, null, store);
+        final String deleted = scheduler.schedule(config("deleted")).getId();
+        final String kept = scheduler.schedule(config("kept")).getId();
+        scheduler.close();
+
+        store.loading = new CountDownLatch(1);
+        scheduler = new ExecutorSchedulerImpl(null, executorService, null, store,
+                ScheduleStoreConfigBuilder.newInstance().durability(ScheduleStoreConfig.Durability.COMMIT).build());
+        final ExecutorSchedulerImpl recovering = scheduler;
+        final Thread deleter = new Thread(() -> recovering.delete(deleted));
+        deleter.start();
+        Thread.sleep(100);
+        store.loading.countDown();
+        deleter.join(5000);
+
+        assertNull(scheduler.getJobSchedule(deleted));
+        assertNull(store.stored.get(deleted));
+        assertEquals(JobSchedule.Status.SCHEDULED, scheduler.getJobSchedule(kept).getStatus());
+        assertEquals(1, scheduler.getJobSchedules().size());
+        scheduler.close();
+    }
+
+    @Test
+    public void scheduleDuringRecovery() throws Exception {
+        final CountingStore store = new CountingStore();
+        ExecutorSchedulerImpl scheduler = new ExecutorSchedulerImpl(null, executorService, null, store,
+                ScheduleStoreConfigBuilder.newInstance().durability(ScheduleStoreConfig.Durability.COMMIT).build());
+        final List<String> stored = new ArrayList<String>();
+        for (int i = 0; i < 3; i++) {
+            stored.add(scheduler.schedule(config("stored")).getId());
+        }
+        scheduler.close();
+
+        // new job schedules wait for the stored ones to reserve their ids
+        store.loading = new CountDownLatch(1);
+        scheduler = new ExecutorSchedulerImpl(null, executorService, null, store);
+        final ExecutorSchedulerImpl recovering = scheduler;
+        final CompletableFuture<JobSchedule> scheduled = CompletableFuture.supplyAsync(
+                () -> recovering.schedule(config("added")));
+        final CompletableFuture<JobSchedule> scheduledAsync =
+                scheduler.scheduleAsync(config("added")).toCompletableFuture();
+        Thread.sleep(100);
+        assertFalse(scheduled.isDone());
+        assertFalse(scheduledAsync.isDone());
+        store.loading.countDown();
+
+        final JobSchedule added = scheduled.get(5, TimeUnit.SECONDS);
+        final JobSchedule addedAsync = scheduledAsync.get(5, TimeUnit.SECONDS);
+        assertFalse(stored.contains(added.getId()));
+        assertFalse(stored.contains(addedAsync.getId()));
+        for (final String id : stored) {
+            assertEquals("stored", scheduler.getJobSchedule(id).getJobScheduleConfig().getJobName());
+        }
+        assertEquals(5, scheduler.getJobSchedules().size());
+        scheduler.close();
+    }
+
+    private void recover(final ScheduleStore store1, final ScheduleStore store2) throws Exception {
+        ExecutorSchedulerImpl scheduler = new ExecutorSchedulerImpl(null, executorService, null, store1);
+        scheduler.awaitRecovery();
+        assertTrue(Arrays.asList(scheduler.getFeatures()).contains(JobScheduler.PERSISTENT));
+
+        final JobSchedule scheduled = scheduler.schedule(config("scheduled"));
+        final JobSchedule cancelled = scheduler.schedule(config("cancelled"));
+        final JobSchedule deleted = scheduler.schedule(config("deleted"));
+        final JobSchedule transientSchedule = scheduler.schedule(JobScheduleConfigBuilder.newInstance()
+                .jobName("transient").initialDelay(1).timeUnit(TimeUnit.DAYS).persistent(false).build());
+        assertTrue(scheduler.cancel(cancelled.getId()));
+        scheduler.delete(deleted.getId());
+        scheduler.close();
+
+        scheduler = new ExecutorSchedulerImpl(null, executorService, null, store2);
+        // lookup by id waits for the recovery
+        assertEquals(JobSchedule.Status.SCHEDULED, scheduler.getJobSchedule(scheduled.getId()).getStatus());
+        assertEquals(JobSchedule.Status.CANCELLED, scheduler.getJobSchedule(cancelled.getId()).getStatus());
+        assertNull(scheduler.getJobSchedule(deleted.getId()));
+        assertNull(scheduler.getJobSchedule(transientSchedule.getId()));
+        assertEquals(2, scheduler.getJobSchedules().size());
+        assertEquals(scheduled.getCreateTime(), scheduler.getJobSchedule(scheduled.getId()).getCreateTime());
+
+        final JobSchedule added = scheduler.schedule(config("added"));
+        assertTrue(Integer.parseInt(added.getId()) > Integer.parseInt(cancelled.getId()));
+
+        assertTrue(scheduler.cancel(scheduled.getId()));
+        scheduler.close();
+    }
+
+    /**
+     * A schedule store that keeps job schedules in memory, counts its writes,
+     * and fails them on request.
+     */
+    private static final class CountingStore implements ScheduleStore {
+        final Map<String, JobSchedule> stored = new ConcurrentHashMap<String, JobSchedule>();
+        final AtomicInteger calls = new AtomicInteger();
+        volatile boolean fail;
+
+        /**
+         * If not null, loading waits for this latch.
+         */
+        volatile CountDownLatch loading;
+
+        @Override
+        public void store(final Collection<JobSchedule> jobSchedules) {
+            calls.incrementAndGet();
+            if (fail) {
+                throw new IllegalStateException("fail");
+            }
+            for (final JobSchedule jobSchedule : jobSchedules) {
+                stored.put(jobSchedule.getId(), jobSchedule);
+            }
+        }
+
+        @Override
+        public void remove(final Collection<String> scheduleIds) {
+            calls.incrementAndGet();
+            stored.keySet().removeAll(scheduleIds);
+        }
+
+        @Override
+        public void load(final Consumer<JobSchedule> consumer) {
+            final CountDownLatch latch = loading;
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            for (final JobSchedule jobSchedule : stored.values()) {
+                consumer.accept(jobSchedule);
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static JobScheduleConfig config(final String jobName) {
+        return JobScheduleConfigBuilder.newInstance().jobName(jobName)
+                .initialDelay(1).interval(1).timeUnit(TimeUnit.DAYS).build();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link DefaultSchedulerMetrics}, {@link LatencyHistogram} and {@link SchedulerMetricsMXBean}.
+ */
+public class SchedulerMetricsTest {
+    private ScheduledThreadPoolExecutor executorService;
+    private ExecutorSchedulerImpl scheduler;
+
+    @Before
+    public void before() {
+        executorService = new ScheduledThreadPoolExecutor(1);
+        executorService.setRemoveOnCancelPolicy(true);
+        scheduler = new ExecutorSchedulerImpl(null, executorService);
+    }
+
+    @After
+    public void after() {
+        scheduler.close();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void histogram() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(99, TimeUnit.NANOSECONDS));
+
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        histogram.record(-1);
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500.5, histogram.getMean(TimeUnit.MICROSECONDS), 0.001);
+        assertEquals(1000, histogram.getMax(TimeUnit.MICROSECONDS));
+        assertWithin(500, histogram.getPercentile(50, TimeUnit.MICROSECONDS));
+        assertWithin(990, histogram.getPercentile(99, TimeUnit.MICROSECONDS));
+        assertEquals(1000, histogram.getPercentile(100, TimeUnit.MICROSECONDS));
+    }
+
+    @Test
+    public void buckets() {
+        long previousUpperBound = -1;
+        for (int bucket = 0; bucket < 488; bucket++) {
+            final long upperBound = LatencyHistogram.upperBoundOf(bucket);
+            assertEquals(bucket, LatencyHistogram.bucketOf(previousUpperBound + 1));
+            assertEquals(bucket, LatencyHistogram.bucketOf(upperBound));
+            previousUpperBound = upperBound;
+        }
+        assertEquals(Long.MAX_VALUE, previousUpperBound);
+    }
+
+    @Test
+    public void mbean() throws Exception {
+        final JobSchedule jobSchedule = scheduler.schedule(JobScheduleConfigBuilder.newInstance()
+                .jobName("job").initialDelay(1).timeUnit(TimeUnit.DAYS).build());
+        scheduler.schedule(JobScheduleConfigBuilder.newInstance()
+                .jobName("job").initialDelay(1).timeUnit(TimeUnit.DAYS).build());
+        assertTrue(scheduler.cancel(jobSchedule.getId()));
+        scheduler.getMetrics().fired(jobSchedule, TimeUnit.MILLISECONDS.toNanos(20));
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = scheduler.registerMetricsMBean("test");
+        assertEquals(2L, server.getAttribute(name, "ScheduledCount"));
+        assertEquals(1L, server.getAttribute(name, "CancelledCount"));
+        assertEquals(1L, server.getAttribute(name, "FiredCount"));
+        assertEquals(20L, server.getAttribute(name, "FiringLagMaxMillis"));
+        assertEquals(1, server.getAttribute(name, "TickQueueDepth"));
+        assertEquals(0, server.getAttribute(name, "LaunchQueueDepth"));
+
+        scheduler.close();
+        assertFalse(server.isRegistered(name));
+    }
+
+    private static void assertWithin(final long expected, final long actual) {
+        assertTrue(expected + " " + actual, actual >= expected && actual <= expected * 1.125);
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.context.JobContext;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for counting the schedules of {@link SchedulingJobListener}, with the stub job operator.
+ */
+public class SchedulingJobListenerTest {
+    private static final String JOB_NAME = "job";
+
+    private static final String NUM_OF_SCHEDULES_KEY = SchedulingJobListener.class.getName() + ".numOfSchedules";
+
+    private static final String SCHEDULE_ID_KEY = SchedulingJobListener.class.getName() + ".scheduleId";
+
+    private ExecutorSchedulerImpl scheduler;
+
+    @Before
+    public void setUp() throws Exception {
+        StubJobOperator.install();
+        scheduler = new ExecutorSchedulerImpl();
+        jobSchedulerField().set(null, scheduler);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        jobSchedulerField().set(null, null);
+        scheduler.close();
+        StubJobOperator.uninstall();
+    }
+
+    @Test
+    public void chainCountsFromJobSchedule() throws Exception {
+        final Properties jobParameters = new Properties();
+        jobParameters.setProperty("input", "a.csv");
+        long executionId = JobScheduler.getJobOperator().start(JOB_NAME, jobParameters);
+        StubJobOperator.nextLaunch(0);
+
+        final SchedulingJobListener listener = newListener(true, 3);
+        String scheduleId = null;
+        for (int i = 1; i <= 3; i++) {
+            runAfterJob(listener, executionId);
+            final StubJobOperator.Launch launch = StubJobOperator.nextLaunch(5000);
+            assertNotNull(launch);
+            assertEquals(JOB_NAME, launch.jobName);
+            assertEquals("a.csv", launch.jobParameters.getProperty("input"));
+            if (scheduleId == null) {
+                scheduleId = launch.jobParameters.getProperty(SCHEDULE_ID_KEY);
+                assertNotNull(scheduleId);
+            } else {
+                // each later job execution re-arms the job schedule of the chain
+                assertEquals(scheduleId, launch.jobParameters.getProperty(SCHEDULE_ID_KEY));
+            }
+            awaitDone(scheduleId);
+            assertEquals(i, scheduler.getJobSchedule(scheduleId).getJobExecutionCount());
+            executionId = launch.executionId;
+        }
+
+        runAfterJob(listener, executionId);
+        assertNull(StubJobOperator.nextLaunch(200));
+        assertEquals(1, scheduler.getJobSchedules().size());
+        assertEquals(3, scheduler.getJobSchedule(scheduleId).getJobExecutionIds().size());
+    }
+
+    @Test
+    public void chainWithRetention() throws Exception {
+        scheduler.setRetentionConfig(RetentionConfigBuilder.newInstance().maxAge(1, TimeUnit.MILLISECONDS).build());
+        final long executionId = JobScheduler.getJobOperator().start(JOB_NAME, new Properties());
+        StubJobOperator.nextLaunch(0);
+        final SchedulingJobListener listener = newListener(true, 2);
+        runAfterJob(listener, executionId);
+        final StubJobOperator.Launch first = StubJobOperator.nextLaunch(5000);
+        assertNotNull(first);
+        assertEquals("1", first.jobParameters.getProperty(NUM_OF_SCHEDULES_KEY));
+        final String scheduleId = first.jobParameters.getProperty(SCHEDULE_ID_KEY);
+        awaitDone(scheduleId);
+
+        // the done job schedule is kept while its job execution is running
+        Thread.sleep(10);
+        scheduler.evictFinished();
+        assertNotNull(scheduler.getJobSchedule(scheduleId));
+
+        runAfterJob(listener, first.executionId);
+        final StubJobOperator.Launch second = StubJobOperator.nextLaunch(5000);
+        assertNotNull(second);
+        assertEquals(scheduleId, second.jobParameters.getProperty(SCHEDULE_ID_KEY));
+        assertEquals("2", second.jobParameters.getProperty(NUM_OF_SCHEDULES_KEY));
+        awaitDone(scheduleId);
+        assertEquals(2, scheduler.getJobSchedule(scheduleId).getJobExecutionCount());
+
+        // once evicted, the count falls back to the job parameters, and maxSchedules still applies
+        StubJobOperator.finish(second.executionId, BatchStatus.COMPLETED);
+        Thread.sleep(10);
+        scheduler.evictFinished();
+        assertNull(scheduler.getJobSchedule(scheduleId));
+        runAfterJob(listener, second.executionId);
+        assertNull(StubJobOperator.nextLaunch(200));
+        assertTrue(scheduler.getJobSchedules().isEmpty());
+    }
+
+    @Test
+    public void countFromJobParameters() throws Exception {
+        long executionId = JobScheduler.getJobOperator().start(JOB_NAME, new Properties());
+        StubJobOperator.nextLaunch(0);
+
+        final SchedulingJobListener listener = newListener(false, 2);
+        for (int i = 1; i <= 2; i++) {
+            runAfterJob(listener, executionId);
+            final StubJobOperator.Launch launch = StubJobOperator.nextLaunch(5000);
+            assertNotNull(launch);
+            assertEquals(String.valueOf(i), launch.jobParameters.getProperty(NUM_OF_SCHEDULES_KEY));
+            assertNull(launch.jobParameters.getProperty(SCHEDULE_ID_KEY));
+            executionId = launch.executionId;
+        }
+
+        runAfterJob(listener, executionId);
+        assertNull(StubJobOperator.nextLaunch(200));
+        assertEquals(2, scheduler.getJobSchedules().size());
+    }
+
+    @Test
+    public void chainRestartsFailedExecution() throws Exception {
+        final long executionId = JobScheduler.getJobOperator().start(JOB_NAME, new Properties());
+        StubJobOperator.nextLaunch(0);
+        StubJobOperator.finish(executionId, BatchStatus.FAILED);
+
+        final SchedulingJobListener listener = newListener(true, null);
+        listener.jobContext = new TestJobContext(executionId, BatchStatus.FAILED);
+        listener.afterJob();
+        final StubJobOperator.Launch launch = StubJobOperator.nextLaunch(5000);
+        assertNotNull(launch);
+        assertEquals(executionId, launch.restartId);
+    }
+
+    @Test
+    public void afterJobReleasesPermit() throws Exception {
+        final long executionId = JobScheduler.getJobOperator().start(JOB_NAME, new Properties());
+        StubJobOperator.nextLaunch(0);
+        final JobSchedule limited = new JobSchedule("limited", JobScheduleConfigBuilder.newInstance()
+                .jobName(JOB_NAME).maxConcurrentExecutions(1).build());
+        final AdmissionController admission = scheduler.getAdmissionController();
+        admission.tryAcquire(limited).started(executionId);
+        assertNull(admission.tryAcquire(limited));
+
+        // the job execution is still running in the job repository, until the listener reports it finished
+        final SchedulingJobListener listener = newListener(false, null);
+        listener.onBatchStatus = Collections.singletonList(BatchStatus.FAILED);
+        listener.jobContext = new TestJobContext(executionId, BatchStatus.COMPLETED);
+        listener.afterJob();
+        assertNotNull(admission.tryAcquire(limited));
+        assertNull(StubJobOperator.nextLaunch(200));
+    }
+
+    private static SchedulingJobListener newListener(final boolean chain, final Integer maxSchedules) {
+        final SchedulingJobListener listener = new SchedulingJobListener();
+        listener.initialDelay = 0;
+        listener.chain = chain;
+        listener.maxSchedules = maxSchedules;
+        return listener;
+    }
+
+    private static void runAfterJob(final SchedulingJobListener listener, final long executionId) {
+        StubJobOperator.finish(executionId, BatchStatus.COMPLETED);
+        listener.jobContext = new TestJobContext(executionId, BatchStatus.COMPLETED);
+        listener.afterJob();
+    }
+
+    private void awaitDone(final String scheduleId) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (scheduler.getJobSchedule(scheduleId).getStatus() != JobSchedule.Status.DONE) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static Field jobSchedulerField() throws Exception {
+        final Field field = JobScheduler.class.getDeclaredField("jobScheduler");
+        field.setAccessible(true);
+        return field;
+    }
+
+    /**
+     * The job context of a finished job execution.
+     */
+    private static final class TestJobContext implements JobContext {
+        private final long executionId;
+        private final BatchStatus batchStatus;
+        private Object transientUserData;
+        private String exitStatus;
+
+        TestJobContext(final long executionId, final BatchStatus batchStatus) {
+            this.executionId = executionId;
+            this.batchStatus = batchStatus;
+        }
+
+        @Override
+        public String getJobName() {
+            return JOB_NAME;
+        }
+
+        @Override
+        public Object getTransientUserData() {
+            return transientUserData;
+        }
+
+        @Override
+        public void setTransientUserData(final Object data) {
+            transientUserData = data;
+        }
+
+        @Override
+        public long getInstanceId() {
+            return 1;
+        }
+
+        @Override
+        public long getExecutionId() {
+            return executionId;
+        }
+
+        @Override
+        public Properties getProperties() {
+            return new Properties();
+        }
+
+        @Override
+        public BatchStatus getBatchStatus() {
+            return batchStatus;
+        }
+
+        @Override
+        public String getExitStatus() {
+            return exitStatus;
+        }
+
+        @Override
+        public void setExitStatus(final String status) {
+            exitStatus = status;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+import jakarta.batch.runtime.JobInstance;
+import jakarta.batch.runtime.StepExecution;
+
+/**
+ * A {@code JobOperator} that does not run any job, so that tests can check which job
+ * executions the job scheduler launches, and on which thread. Tests that use it call
+ * {@link #install()} before and {@link #uninstall()} after, so that it is returned by
+ * {@link JobScheduler#getJobOperator()}, while {@code BatchRuntime.getJobOperator()}
+ * still returns the {@code JobOperator} of JBeret.
+ * <p>
+ * Each started or restarted job execution is added to {@link #launches}, and stays
+ * {@link BatchStatus#STARTED} until {@link #finish(long, BatchStatus)} is called.
+ */
+public class StubJobOperator implements JobOperator {
+    /**
+     * Job executions started or restarted, in launch order.
+     */
+    static final BlockingQueue<Launch> launches = new LinkedBlockingQueue<Launch>();
+
+    /**
+     * Time spent in each call to {@code start} or {@code restart}, in milliseconds.
+     */
+    static volatile long startLatencyMillis;
+
+    private static final ConcurrentMap<Long, StubJobExecution> executions =
+            new ConcurrentHashMap<Long, StubJobExecution>();
+
+    private static final AtomicLong executionIds = new AtomicLong();
+
+    /**
+     * Clears all launches and job executions, and makes the job scheduler use this
+     * {@code JobOperator}.
+     */
+    static void install() {
+        reset();
+        JobScheduler.jobOperatorOverride = new StubJobOperator();
+    }
+
+    /**
+     * Makes the job scheduler use the {@code JobOperator} from {@code BatchRuntime} again,
+     * and clears all launches and job executions.
+     */
+    static void uninstall() {
+        JobScheduler.jobOperatorOverride = null;
+        reset();
+    }
+
+    /**
+     * Clears all launches and job executions, and the simulated start latency.
+     */
+    static void reset() {
+        launches.clear();
+        executions.clear();
+        startLatencyMillis = 0;
+    }
+
+    /**
+     * Waits for the next launch.
+     *
+     * @param timeoutMillis max time to wait in milliseconds
+     * @return the next launch, or null if none within the timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    static Launch nextLaunch(final long timeoutMillis) throws InterruptedException {
+        return launches.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Finishes a job execution with the specified batch status.
+     *
+     * @param executionId the job execution id
+     * @param batchStatus the final batch status
+     */
+    static void finish(final long executionId, final BatchStatus batchStatus) {
+        executions.get(executionId).batchStatus = batchStatus;
+    }
+
+    @Override
+    public long start(final String jobXMLName, final Properties jobParameters) {
+        return launch(jobXMLName, 0, jobParameters);
+    }
+
+    @Override
+    public long restart(final long executionId, final Properties restartParameters) {
+        final StubJobExecution original = executions.get(executionId);
+        return launch(original == null ? null : original.jobName, executionId, restartParameters);
+    }
+
+    @Override
+    public JobExecution getJobExecution(final long executionId) {
+        return executions.get(executionId);
+    }
+
+    @Override
+    public Set<String> getJobNames() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public int getJobInstanceCount(final String jobName) {
+        return 0;
+    }
+
+    @Override
+    public List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Long> getRunningExecutions(final String jobName) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Properties getParameters(final long executionId) {
+        final StubJobExecution execution = executions.get(executionId);
+        return execution == null ? null : execution.jobParameters;
+    }
+
+    @Override
+    public void stop(final long executionId) {
+    }
+
+    @Override
+    public void abandon(final long executionId) {
+    }
+
+    @Override
+    public JobInstance getJobInstance(final long executionId) {
+        return null;
+    }
+
+    @Override
+    public List<JobExecution> getJobExecutions(final JobInstance instance) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<StepExecution> getStepExecutions(final long jobExecutionId) {
+        return Collections.emptyList();
+    }
+
+    private static long launch(final String jobName, final long restartId, final Properties jobParameters) {
+        final long latency = startLatencyMillis;
+        if (latency > 0) {
+            try {
+                Thread.sleep(latency);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        final long executionId = executionIds.incrementAndGet();
+        final Properties copy = new Properties();
+        if (jobParameters != null) {
+            copy.putAll(jobParameters);
+        }
+        executions.put(executionId, new StubJobExecution(executionId, jobName, copy));
+        launches.add(new Launch(executionId, jobName, restartId, copy, Thread.currentThread()));
+        return executionId;
+    }
+
+    /**
+     * A job execution started or restarted by this job operator.
+     */
+    static final class Launch {
+        final long executionId;
+        final String jobName;
+        final long restartId;
+        final Properties jobParameters;
+        final Thread thread;
+
+        Launch(final long executionId, final String jobName, final long restartId,
+               final Properties jobParameters, final Thread thread) {
+            this.executionId = executionId;
+            this.jobName = jobName;
+            this.restartId = restartId;
+            this.jobParameters = jobParameters;
+            this.thread = thread;
+        }
+    }
+
+    private static final class StubJobExecution implements JobExecution {
+        private final long executionId;
+        private final String jobName;
+        private final Properties jobParameters;
+        private final Date time = new Date();
+        private volatile BatchStatus batchStatus = BatchStatus.STARTED;
+
+        StubJobExecution(final long executionId, final String jobName, final Properties jobParameters) {
+            this.executionId = executionId;
+            this.jobName = jobName;
+            this.jobParameters = jobParameters;
+        }
+
+        @Override
+        public long getExecutionId() {
+            return executionId;
+        }
+
+        @Override
+        public String getJobName() {
+            return jobName;
+        }
+
+        @Override
+        public BatchStatus getBatchStatus() {
+            return batchStatus;
+        }
+
+        @Override
+        public Date getStartTime() {
+            return time;
+        }
+
+        @Override
+        public Date getEndTime() {
+            return batchStatus == BatchStatus.STARTED ? null : time;
+        }
+
+        @Override
+        public String getExitStatus() {
+            return batchStatus.name();
+        }
+
+        @Override
+        public Date getCreateTime() {
+            return time;
+        }
+
+        @Override
+        public Date getLastUpdatedTime() {
+            return time;
+        }
+
+        @Override
+        public Properties getJobParameters() {
+            return jobParameters;
+        }
+    }
+}
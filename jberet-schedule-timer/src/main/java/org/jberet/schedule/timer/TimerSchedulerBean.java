@@ -14,26 +14,54 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
 import jakarta.batch.operations.BatchRuntimeException;
+import javax.ejb.NoMoreTimeoutsException;
+import javax.ejb.NoSuchObjectLocalException;
 import javax.ejb.Singleton;
 import javax.ejb.Timeout;
 import javax.ejb.Timer;
 import javax.ejb.TimerConfig;
+import javax.ejb.TimerHandle;
 import javax.ejb.TimerService;
 import javax.ejb.TransactionAttribute;
 import javax.ejb.TransactionAttributeType;
 
+import org.jberet.schedule.AdmissionConfig;
+import org.jberet.schedule.AdmissionController;
 import org.jberet.schedule.JobSchedule;
 import org.jberet.schedule.JobScheduleConfig;
+import org.jberet.schedule.JobScheduleEvent;
 import org.jberet.schedule.JobScheduler;
+import org.jberet.schedule.MisfirePolicy;
+import org.jberet.schedule.SchedulerMetrics;
+import org.jberet.schedule._private.ScheduleExecutorLogger;
 import org.jberet.schedule._private.ScheduleExecutorMessages;
 
 /**
  * EJB-Timer-based job scheduler, as a singleton session bean.
  * This job scheduler class supports single action, repeatable, and
  * calendar-based job schedule. Persistent job schedule is also supported.
+ * <p>
+ * This class keeps an in-memory index from job schedule id to timer, built from
+ * all timers when this bean is constructed, and kept current when job schedules
+ * are scheduled, cancelled or expire, so that operations by job schedule id do
+ * not go through all timers. A persistent timer is indexed by its
+ * {@code TimerHandle}. A job schedule id that is not in the index, e.g., one that
+ * is created by another node sharing the same timer store, is looked up among
+ * all timers, and then indexed.
  *
  * @since 1.3.0
  * @see JobScheduler
@@ -45,6 +73,29 @@ public class TimerSchedulerBean extends JobScheduler {
     @Resource
     private TimerService timerService;
 
+    /**
+     * Index of all known timers, by job schedule id.
+     */
+    private final ConcurrentMap<String, IndexedTimer> timers = new ConcurrentHashMap<String, IndexedTimer>();
+
+    /**
+     * Asynchronous operations waiting for their timeout, by operation id.
+     */
+    private final ConcurrentMap<Long, AsyncOperation<?>> asyncOperations =
+            new ConcurrentHashMap<Long, AsyncOperation<?>>();
+
+    private final AtomicLong asyncOperationIds = new AtomicLong();
+
+    /**
+     * Builds the index of timers from all existing timers, including persistent
+     * timers created before the application is restarted.
+     */
+    @PostConstruct
+    protected void buildIndex() {
+        timers.clear();
+        getJobSchedules();
+    }
+
     @Override
     public JobSchedule schedule(final JobScheduleConfig scheduleConfig) {
         final Timer timer;
@@ -52,15 +103,15 @@ public class TimerSchedulerBean extends JobScheduler {
         final long initialDelay = scheduleConfig.getInitialDelay();
         if (initialDelay > 0) {
             if (scheduleConfig.getInterval() > 0) {
-                timer = timerService.createIntervalTimer(toMillis(initialDelay),
-                        toMillis(scheduleConfig.getInterval()),
+                timer = timerService.createIntervalTimer(toMillis(initialDelay, scheduleConfig),
+                        toMillis(scheduleConfig.getInterval(), scheduleConfig),
                         new TimerConfig(jobSchedule, scheduleConfig.isPersistent()));
             } else if (scheduleConfig.getAfterDelay() > 0) {
-                timer = timerService.createIntervalTimer(toMillis(initialDelay),
-                        toMillis(scheduleConfig.getAfterDelay()),
+                timer = timerService.createIntervalTimer(toMillis(initialDelay, scheduleConfig),
+                        toMillis(scheduleConfig.getAfterDelay(), scheduleConfig),
                         new TimerConfig(jobSchedule, scheduleConfig.isPersistent()));
             } else {
-                timer = timerService.createSingleActionTimer(toMillis(initialDelay),
+                timer = timerService.createSingleActionTimer(toMillis(initialDelay, scheduleConfig),
                         new TimerConfig(jobSchedule, scheduleConfig.isPersistent()));
             }
         } else if (scheduleConfig.getScheduleExpression() != null) {
@@ -71,78 +122,467 @@ public class TimerSchedulerBean extends JobScheduler {
         }
 
         jobSchedule.setId(getTimerId(timer));
+        index(timer, jobSchedule);
+        getMetrics().scheduled(jobSchedule);
+        publish(jobSchedule.getId(), JobScheduleEvent.Type.SCHEDULED, 0, null);
         return jobSchedule;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method goes through all timers, and also brings the index of timers
+     * up to date.
+     */
     @Override
     public List<JobSchedule> getJobSchedules() {
         final List<JobSchedule> result = new ArrayList<JobSchedule>();
-        final Collection<Timer> timers = timerService.getTimers();
-        for (final Timer t : timers) {
+        final Collection<Timer> allTimers = timerService.getTimers();
+        final ConcurrentMap<String, IndexedTimer> found = new ConcurrentHashMap<String, IndexedTimer>();
+        for (final Timer t : allTimers) {
             Serializable info = t.getInfo();
             if (info instanceof JobSchedule) {
-                final JobSchedule jobSchedule = (JobSchedule) info;
-                if (jobSchedule.getId() == null) {
-                    jobSchedule.setId(getTimerId(t));
+                JobSchedule jobSchedule = (JobSchedule) info;
+                final String id = getTimerId(t);
+                final IndexedTimer indexed = timers.get(id);
+                if (indexed != null) {
+                    jobSchedule = indexed.jobSchedule;
+                    found.put(id, indexed);
+                } else {
+                    if (jobSchedule.getId() == null) {
+                        jobSchedule.setId(id);
+                    }
+                    found.put(id, new IndexedTimer(t, jobSchedule));
                 }
                 result.add(jobSchedule);
             }
         }
+        for (final IndexedTimer indexed : timers.values()) {
+            // the timer of a last timeout with a pending launch has already expired
+            if (indexed.launchPending && !found.containsKey(indexed.jobSchedule.getId())) {
+                found.put(indexed.jobSchedule.getId(), indexed);
+                result.add(indexed.jobSchedule);
+            }
+        }
+        timers.putAll(found);
+        for (final String id : timers.keySet()) {
+            if (!found.containsKey(id)) {
+                unindex(id, timers.get(id));
+            }
+        }
         Collections.sort(result, Collections.<JobSchedule>reverseOrder());
         return result;
     }
 
     @Override
     public boolean cancel(final String scheduleId) {
-        final Collection<Timer> timers = timerService.getTimers();
-        for (final Timer t : timers) {
-            if (scheduleId.equals(getTimerId(t))) {
-                t.cancel();
-                return true;
+        return cancel(scheduleId, lookup(scheduleId));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation looks up the job schedule ids missing from the index
+     * with a single pass over all timers.
+     */
+    @Override
+    public int cancelAll(final Collection<String> scheduleIds) {
+        int cancelled = 0;
+        for (final IndexedTimer indexed : lookupAll(scheduleIds)) {
+            if (cancel(indexed.jobSchedule.getId(), indexed)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> scheduleIds) {
+        cancelAll(scheduleIds);
+    }
+
+    private boolean cancel(final String scheduleId, final IndexedTimer indexed) {
+        if (indexed == null) {
+            return false;
+        }
+        try {
+            indexed.getTimer().cancel();
+        } catch (final NoSuchObjectLocalException e) {
+            // the pending launch of a last timeout is cancelled by removing its index entry
+            if (!indexed.launchPending) {
+                unindex(scheduleId, indexed);
+                return false;
             }
+        } finally {
+            timers.remove(scheduleId, indexed);
         }
-        return false;
+        getMetrics().cancelled(indexed.jobSchedule);
+        getAdmissionController().forget(scheduleId);
+        publish(scheduleId, JobScheduleEvent.Type.CANCELLED, 0, null);
+        return true;
     }
 
     @Override
     public JobSchedule getJobSchedule(final String scheduleId) {
-        final Collection<Timer> timers = timerService.getTimers();
-        for (final Timer e : timers) {
-            final JobSchedule js = (JobSchedule) e.getInfo();
-            if (scheduleId.equals(js.getId())) {
-                return js;
+        final IndexedTimer indexed = lookup(scheduleId);
+        if (indexed != null) {
+            try {
+                indexed.getTimer();
+                return indexed.jobSchedule;
+            } catch (final NoSuchObjectLocalException e) {
+                if (indexed.launchPending) {
+                    return indexed.jobSchedule;
+                }
+                unindex(scheduleId, indexed);
             }
         }
         return null;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation schedules the job schedule in the timeout of a non-persistent timer.
+     */
+    @Override
+    public CompletionStage<JobSchedule> scheduleAsync(final JobScheduleConfig scheduleConfig) {
+        return invokeAsync(() -> schedule(scheduleConfig));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation cancels the job schedule in the timeout of a non-persistent timer.
+     */
+    @Override
+    public CompletionStage<Boolean> cancelAsync(final String scheduleId) {
+        return invokeAsync(() -> cancel(scheduleId));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation gets an indexed job schedule in the calling thread, and
+     * looks up other job schedules among all timers in the timeout of a non-persistent timer.
+     */
+    @Override
+    public CompletionStage<JobSchedule> getJobScheduleAsync(final String scheduleId) {
+        if (timers.containsKey(scheduleId)) {
+            return CompletableFuture.completedFuture(getJobSchedule(scheduleId));
+        }
+        return invokeAsync(() -> getJobSchedule(scheduleId));
+    }
+
+    /**
+     * Runs an operation of this job scheduler in the timeout of a non-persistent
+     * single-action timer, which has access to the timer service, and completes the
+     * result with its outcome. An operation pending when this bean is destroyed is
+     * completed exceptionally.
+     *
+     * @param operation the operation to run
+     * @param <T> the type of the result
+     * @return a stage completed with the outcome of the operation
+     */
+    private <T> CompletionStage<T> invokeAsync(final Callable<T> operation) {
+        final AsyncOperation<T> pending = new AsyncOperation<T>(operation);
+        final long id = asyncOperationIds.incrementAndGet();
+        asyncOperations.put(id, pending);
+        try {
+            timerService.createSingleActionTimer(1, new TimerConfig(new AsyncOperationId(id), false));
+        } catch (final RuntimeException e) {
+            asyncOperations.remove(id);
+            pending.result.completeExceptionally(e);
+        }
+        return pending.result;
+    }
+
     @Override
     public String[] getFeatures() {
         return new String[]{PERSISTENT, CALENDAR};
     }
 
+    /**
+     * Unregisters the metrics MBean of this job scheduler, if registered, and
+     * completes the subscribers of job schedule events.
+     */
+    @PreDestroy
+    protected void destroy() {
+        unregisterMetricsMBean();
+        closeJobScheduleEvents();
+        for (final Long id : asyncOperations.keySet()) {
+            final AsyncOperation<?> pending = asyncOperations.remove(id);
+            if (pending != null) {
+                pending.result.completeExceptionally(new IllegalStateException("Job scheduler destroyed"));
+            }
+        }
+    }
+
     /**
      * Timeout method, which starts the job, or restarts the job execution, and
      * saves the new job execution id to {@link JobSchedule}.
+     * If the job schedule has a jitter window, or its firing is queued by the admission
+     * controller, the job is launched by a non-persistent single-action timer later.
+     * The timer is removed from the index after its last timeout. The timeout of a
+     * non-persistent timer also runs an asynchronous operation of this job scheduler.
      *
      * @param timer the current timer which has just expired
      */
     @SuppressWarnings("unused")
     @Timeout
     protected void timeout(final Timer timer) {
-        final JobSchedule jobSchedule = (JobSchedule) timer.getInfo();
+        if (timer.getInfo() instanceof AsyncOperationId) {
+            final AsyncOperation<?> pending = asyncOperations.remove(((AsyncOperationId) timer.getInfo()).id);
+            if (pending != null) {
+                pending.run();
+            }
+            return;
+        }
+        if (timer.getInfo() instanceof DeferredLaunch) {
+            launchDeferred((DeferredLaunch) timer.getInfo());
+            return;
+        }
+        final String id = getTimerId(timer);
+        IndexedTimer indexed = timers.get(id);
+        if (indexed == null) {
+            final JobSchedule info = (JobSchedule) timer.getInfo();
+            if (info.getId() == null) {
+                info.setId(id);
+            }
+            indexed = index(timer, info);
+        }
+        final JobSchedule jobSchedule = indexed.jobSchedule;
         final JobScheduleConfig scheduleConfig = jobSchedule.getJobScheduleConfig();
-        if (scheduleConfig.getJobExecutionId() > 0) {
-            jobSchedule.addJobExecutionIds(
-            JobScheduler.getJobOperator().restart(scheduleConfig.getJobExecutionId(), scheduleConfig.getJobParameters()));
-        } else {
-            jobSchedule.addJobExecutionIds(
-            JobScheduler.getJobOperator().start(scheduleConfig.getJobName(), scheduleConfig.getJobParameters()));
+        final SchedulerMetrics metrics = getMetrics();
+        final long period = toMillis(scheduleConfig.getInterval() > 0 ?
+                scheduleConfig.getInterval() : scheduleConfig.getAfterDelay(), scheduleConfig);
+        final long now = System.currentTimeMillis();
+        long lagNanos = -1;
+        if (!timer.isCalendarTimer() && period > 0) {
+            // the planned fire time of the current timeout is one period before the next one
+            long nextTimeout = Long.MAX_VALUE;
+            try {
+                nextTimeout = timer.getNextTimeout().getTime();
+                lagNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, now - (nextTimeout - period)));
+            } catch (final NoMoreTimeoutsException | NoSuchObjectLocalException e) {
+                // no backlog after the current timeout
+            }
+            if (indexed.misfire(scheduleConfig, nextTimeout <= now, metrics)) {
+                return;
+            }
+        }
+
+        final boolean last = isLastTimeout(timer, scheduleConfig);
+        final long jitter = scheduleConfig.getJitterOffset(id, TimeUnit.MILLISECONDS);
+        if (jitter > 0) {
+            final long planned = lagNanos < 0 ? now : now - TimeUnit.NANOSECONDS.toMillis(lagNanos);
+            if (last) {
+                indexed.launchPending = true;
+            }
+            timerService.createSingleActionTimer(Math.max(planned + jitter - now, 1),
+                    new TimerConfig(new DeferredLaunch(id, last, planned + jitter), false));
+            return;
+        }
+        metrics.fired(jobSchedule, lagNanos);
+        publish(id, JobScheduleEvent.Type.FIRED, 0, null);
+        if (launch(id, indexed, last) && last) {
+            done(id, indexed);
+        }
+    }
+
+    /**
+     * Launches a job schedule after its jitter offset, or after the retry interval of a
+     * queued firing, unless it has been cancelled since it fired.
+     *
+     * @param launch the deferred launch
+     */
+    private void launchDeferred(final DeferredLaunch launch) {
+        if (launch.plannedMillis == 0) {
+            getAdmissionController().dequeue(launch.scheduleId);
+        }
+        // the index entry of a last timeout is removed when its job schedule is cancelled
+        final IndexedTimer indexed = launch.last ? timers.get(launch.scheduleId) : lookup(launch.scheduleId);
+        if (indexed == null || indexed.jobSchedule.getStatus() != JobSchedule.Status.SCHEDULED) {
+            return;
+        }
+        indexed.launchPending = false;
+        if (launch.plannedMillis > 0) {
+            getMetrics().fired(indexed.jobSchedule,
+                    TimeUnit.MILLISECONDS.toNanos(Math.max(0, System.currentTimeMillis() - launch.plannedMillis)));
+            publish(launch.scheduleId, JobScheduleEvent.Type.FIRED, 0, null);
+        }
+        if (launch(launch.scheduleId, indexed, launch.last) && launch.last) {
+            done(launch.scheduleId, indexed);
+        }
+    }
+
+    /**
+     * Starts the job, or restarts the job execution, of a job schedule, and
+     * saves the new job execution id to {@link JobSchedule}, if the firing is admitted
+     * by the admission controller. Otherwise, the firing is handled by the admission policy.
+     *
+     * @param scheduleId the job schedule id
+     * @param indexed the indexed timer of the job schedule
+     * @param last whether the firing is for the last timeout of the job schedule
+     * @return true if the firing is launched or not admitted; false if it is queued
+     */
+    private boolean launch(final String scheduleId, final IndexedTimer indexed, final boolean last) {
+        final JobSchedule jobSchedule = indexed.jobSchedule;
+        final JobScheduleConfig scheduleConfig = jobSchedule.getJobScheduleConfig();
+        final SchedulerMetrics metrics = getMetrics();
+        final AdmissionController admission = getAdmissionController();
+        final AdmissionController.Permit permit = admission.tryAcquire(jobSchedule);
+        if (permit == null) {
+            final AdmissionConfig.Policy policy = admission.getConfig().getPolicy();
+            metrics.throttled(jobSchedule, policy);
+            publish(scheduleId, JobScheduleEvent.Type.THROTTLED, 0, null);
+            if (policy == AdmissionConfig.Policy.DROP) {
+                ScheduleExecutorLogger.LOGGER.droppedFiring(scheduleId);
+            } else if (policy == AdmissionConfig.Policy.QUEUE && admission.enqueue(scheduleId)) {
+                if (last) {
+                    indexed.launchPending = true;
+                }
+                timerService.createSingleActionTimer(
+                        Math.max(admission.getConfig().getRetryInterval(TimeUnit.MILLISECONDS), 1),
+                        new TimerConfig(new DeferredLaunch(scheduleId, last, 0), false));
+                return false;
+            }
+            return true;
+        }
+
+        final long start = System.nanoTime();
+        final long jobExecutionId;
+        try {
+            if (scheduleConfig.getJobExecutionId() > 0) {
+                jobExecutionId = JobScheduler.getJobOperator().restart(
+                        scheduleConfig.getJobExecutionId(), scheduleConfig.getJobParameters());
+            } else {
+                jobExecutionId = JobScheduler.getJobOperator().start(
+                        scheduleConfig.getJobName(), scheduleConfig.getJobParameters());
+            }
+        } catch (final RuntimeException e) {
+            permit.release();
+            metrics.failed(jobSchedule, e);
+            publish(scheduleId, JobScheduleEvent.Type.FAILED, 0, e);
+            throw e;
+        }
+        permit.started(jobExecutionId);
+        jobSchedule.addJobExecutionIds(jobExecutionId);
+        metrics.launched(jobSchedule, System.nanoTime() - start);
+        publish(scheduleId, JobScheduleEvent.Type.LAUNCHED, jobExecutionId, null);
+        return true;
+    }
+
+    /**
+     * Removes a job schedule from the index after its last timeout.
+     *
+     * @param scheduleId the job schedule id
+     * @param indexed the indexed timer of the job schedule
+     */
+    private void done(final String scheduleId, final IndexedTimer indexed) {
+        if (timers.remove(scheduleId, indexed)) {
+            getAdmissionController().forget(scheduleId);
+            publish(scheduleId, JobScheduleEvent.Type.DONE, 0, null);
         }
     }
 
-    private static long toMillis(final long t) {
-        return JobScheduler.timeUnit.toMillis(t);
+
+    /**
+     * Removes a job schedule whose timer no longer exists from the index, e.g., cancelled
+     * by another node sharing the same timer store, and completes the subscribers of its events.
+     *
+     * @param scheduleId the job schedule id
+     * @param indexed the indexed timer of the job schedule
+     */
+    private void unindex(final String scheduleId, final IndexedTimer indexed) {
+        if (indexed != null && timers.remove(scheduleId, indexed)) {
+            closeJobScheduleEvents(scheduleId);
+        }
+    }
+
+    /**
+     * Looks up a job schedule id in the index, and if not found, among all timers.
+     *
+     * @param scheduleId job schedule id
+     * @return the indexed timer, or null if not found
+     */
+    private IndexedTimer lookup(final String scheduleId) {
+        final IndexedTimer indexed = timers.get(scheduleId);
+        if (indexed != null) {
+            return indexed;
+        }
+        for (final Timer t : timerService.getTimers()) {
+            final Serializable info = t.getInfo();
+            if (info instanceof JobSchedule && scheduleId.equals(getTimerId(t))) {
+                final JobSchedule jobSchedule = (JobSchedule) info;
+                if (jobSchedule.getId() == null) {
+                    jobSchedule.setId(scheduleId);
+                }
+                return index(t, jobSchedule);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Looks up job schedule ids in the index, and those not found, among all timers.
+     *
+     * @param scheduleIds job schedule ids
+     * @return the indexed timers found
+     */
+    private List<IndexedTimer> lookupAll(final Collection<String> scheduleIds) {
+        final List<IndexedTimer> result = new ArrayList<IndexedTimer>(scheduleIds.size());
+        final Set<String> missing = new HashSet<String>();
+        for (final String scheduleId : scheduleIds) {
+            final IndexedTimer indexed = timers.get(scheduleId);
+            if (indexed != null) {
+                result.add(indexed);
+            } else {
+                missing.add(scheduleId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (final Timer t : timerService.getTimers()) {
+                final Serializable info = t.getInfo();
+                if (info instanceof JobSchedule) {
+                    final String scheduleId = getTimerId(t);
+                    if (missing.remove(scheduleId)) {
+                        final JobSchedule jobSchedule = (JobSchedule) info;
+                        if (jobSchedule.getId() == null) {
+                            jobSchedule.setId(scheduleId);
+                        }
+                        result.add(index(t, jobSchedule));
+                        if (missing.isEmpty()) {
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private IndexedTimer index(final Timer timer, final JobSchedule jobSchedule) {
+        final IndexedTimer indexed = new IndexedTimer(timer, jobSchedule);
+        final IndexedTimer existing = timers.putIfAbsent(jobSchedule.getId(), indexed);
+        return existing != null ? existing : indexed;
+    }
+
+    private static boolean isLastTimeout(final Timer timer, final JobScheduleConfig scheduleConfig) {
+        if (timer.isCalendarTimer()) {
+            try {
+                timer.getNextTimeout();
+                return false;
+            } catch (final NoMoreTimeoutsException e) {
+                return true;
+            } catch (final NoSuchObjectLocalException e) {
+                return true;
+            }
+        }
+        return scheduleConfig.getInterval() <= 0 && scheduleConfig.getAfterDelay() <= 0;
+    }
+
+    private static long toMillis(final long t, final JobScheduleConfig scheduleConfig) {
+        return scheduleConfig.getTimeUnit().toMillis(t);
     }
 
     /**
@@ -165,4 +605,142 @@ public class TimerSchedulerBean extends JobScheduler {
         final int end = s.indexOf(' ', start);
         return end > 0 ? s.substring(start, end) : s.substring(start);
     }
+
+    /**
+     * A timer in the index, with its job schedule. A persistent timer is kept as
+     * its {@code TimerHandle}, which stays valid across transactions and restarts.
+     */
+    private static final class IndexedTimer {
+        private final TimerHandle handle;
+        private final Timer timer;
+        private final JobSchedule jobSchedule;
+
+        /**
+         * Number of missed timeouts fired in the current backlog, or -1 if not in a backlog.
+         */
+        private int catchUpFirings = -1;
+
+        /**
+         * Whether the launch of the last timeout is deferred, which keeps this entry in
+         * the index after its timer has expired, until the launch or a cancellation.
+         */
+        private volatile boolean launchPending;
+
+        IndexedTimer(final Timer timer, final JobSchedule jobSchedule) {
+            this.jobSchedule = jobSchedule;
+            if (timer.isPersistent()) {
+                this.handle = timer.getHandle();
+                this.timer = null;
+            } else {
+                this.handle = null;
+                this.timer = timer;
+            }
+        }
+
+        /**
+         * Applies the misfire policy of the job schedule to the current timeout of
+         * an interval timer. The timeout is missed if the next timeout is also due.
+         * The count of catch-up firings is not persisted, so a backlog of a persistent
+         * timer redelivered after a restart starts a new count.
+         *
+         * @param scheduleConfig the job schedule config
+         * @param missed whether the current timeout is missed
+         * @param metrics the scheduler metrics to record a skipped timeout
+         * @return true if the current timeout is skipped; false otherwise
+         */
+        synchronized boolean misfire(final JobScheduleConfig scheduleConfig, final boolean missed,
+                                     final SchedulerMetrics metrics) {
+            if (!missed && catchUpFirings < 0) {
+                return false;
+            }
+            final MisfirePolicy policy = scheduleConfig.getMisfirePolicy();
+            final boolean skip;
+            if (missed) {
+                if (catchUpFirings < 0) {
+                    catchUpFirings = 0;
+                }
+                // the timeout that ends the backlog also counts against the max number of catch-up firings
+                if (policy == MisfirePolicy.FIRE_ALL && catchUpFirings < scheduleConfig.getMaxCatchUpFirings() - 1) {
+                    catchUpFirings++;
+                    skip = false;
+                } else {
+                    skip = true;
+                }
+            } else {
+                catchUpFirings = -1;
+                skip = policy == MisfirePolicy.SKIP;
+            }
+            if (skip) {
+                metrics.misfired(jobSchedule, policy, 1);
+            }
+            return skip;
+        }
+
+        Timer getTimer() {
+            return handle != null ? handle.getTimer() : timer;
+        }
+    }
+
+    /**
+     * The info of a non-persistent single-action timer that launches a job schedule
+     * after its jitter offset, or retries a queued firing. A launch pending when the
+     * application stops is lost.
+     */
+    private static final class DeferredLaunch implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String scheduleId;
+
+        /**
+         * Whether the launch is for the last timeout of the job schedule.
+         */
+        private final boolean last;
+
+        /**
+         * The planned launch time of a jittered firing, or 0 for a queued firing,
+         * which has already been recorded as fired.
+         */
+        private final long plannedMillis;
+
+        DeferredLaunch(final String scheduleId, final boolean last, final long plannedMillis) {
+            this.scheduleId = scheduleId;
+            this.last = last;
+            this.plannedMillis = plannedMillis;
+        }
+    }
+
+    /**
+     * The info of a non-persistent single-action timer that runs an asynchronous operation,
+     * which is kept in memory by this bean. An operation pending when the application
+     * stops is lost.
+     */
+    private static final class AsyncOperationId implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final long id;
+
+        AsyncOperationId(final long id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * An asynchronous operation, with the result to complete with its outcome.
+     */
+    private static final class AsyncOperation<T> {
+        private final Callable<T> operation;
+        private final CompletableFuture<T> result = new CompletableFuture<T>();
+
+        AsyncOperation(final Callable<T> operation) {
+            this.operation = operation;
+        }
+
+        void run() {
+            try {
+                result.complete(operation.call());
+            } catch (final Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
 }
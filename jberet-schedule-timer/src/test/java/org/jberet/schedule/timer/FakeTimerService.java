@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule.timer;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.ejb.NoMoreTimeoutsException;
+import javax.ejb.NoSuchObjectLocalException;
+import javax.ejb.ScheduleExpression;
+import javax.ejb.Timer;
+import javax.ejb.TimerConfig;
+import javax.ejb.TimerHandle;
+import javax.ejb.TimerService;
+
+/**
+ * An in-memory {@code TimerService} whose timers never expire by themselves. Tests
+ * expire a timer with {@link #expire(TimerSchedulerBean, Timer)}, which invokes the
+ * timeout method of the bean, and removes a single-action timer afterwards.
+ */
+final class FakeTimerService implements TimerService {
+    /**
+     * Number of calls to {@link #getTimers()}.
+     */
+    final AtomicInteger getTimersCalls = new AtomicInteger();
+
+    private final Map<String, FakeTimer> timers = new LinkedHashMap<String, FakeTimer>();
+
+    private int nextId;
+
+    /**
+     * Expires a timer, and removes it if it has no more timeouts.
+     *
+     * @param bean the bean to invoke the timeout method of
+     * @param timer the timer
+     */
+    void expire(final TimerSchedulerBean bean, final Timer timer) {
+        bean.timeout(timer);
+        final FakeTimer fakeTimer = (FakeTimer) timer;
+        if (fakeTimer.intervalDuration <= 0 && !fakeTimer.calendarTimer) {
+            remove(fakeTimer);
+        }
+    }
+
+    /**
+     * Gets the timers of a type of info.
+     *
+     * @param infoType the type of timer info
+     * @return the timers with info of the type
+     */
+    synchronized <T> Collection<Timer> getTimers(final Class<T> infoType) {
+        final Collection<Timer> result = new ArrayList<Timer>();
+        for (final FakeTimer timer : timers.values()) {
+            if (infoType.isInstance(timer.info)) {
+                result.add(timer);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Timer createTimer(final long duration, final Serializable info) {
+        return createSingleActionTimer(duration, new TimerConfig(info, true));
+    }
+
+    @Override
+    public Timer createSingleActionTimer(final long duration, final TimerConfig timerConfig) {
+        return add(new FakeTimer(this, timerConfig, duration, 0, false));
+    }
+
+    @Override
+    public Timer createTimer(final long initialDuration, final long intervalDuration, final Serializable info) {
+        return createIntervalTimer(initialDuration, intervalDuration, new TimerConfig(info, true));
+    }
+
+    @Override
+    public Timer createIntervalTimer(final long initialDuration, final long intervalDuration,
+                                     final TimerConfig timerConfig) {
+        return add(new FakeTimer(this, timerConfig, initialDuration, intervalDuration, false));
+    }
+
+    @Override
+    public Timer createTimer(final Date expiration, final Serializable info) {
+        return createTimer(expiration.getTime() - System.currentTimeMillis(), info);
+    }
+
+    @Override
+    public Timer createSingleActionTimer(final Date expiration, final TimerConfig timerConfig) {
+        return createSingleActionTimer(expiration.getTime() - System.currentTimeMillis(), timerConfig);
+    }
+
+    @Override
+    public Timer createTimer(final Date initialExpiration, final long intervalDuration, final Serializable info) {
+        return createTimer(initialExpiration.getTime() - System.currentTimeMillis(), intervalDuration, info);
+    }
+
+    @Override
+    public Timer createIntervalTimer(final Date initialExpiration, final long intervalDuration,
+                                     final TimerConfig timerConfig) {
+        return createIntervalTimer(initialExpiration.getTime() - System.currentTimeMillis(),
+                intervalDuration, timerConfig);
+    }
+
+    @Override
+    public Timer createCalendarTimer(final ScheduleExpression schedule) {
+        return createCalendarTimer(schedule, new TimerConfig(null, true));
+    }
+
+    @Override
+    public Timer createCalendarTimer(final ScheduleExpression schedule, final TimerConfig timerConfig) {
+        return add(new FakeTimer(this, timerConfig, 60000, 0, true));
+    }
+
+    @Override
+    public synchronized Collection<Timer> getTimers() {
+        getTimersCalls.incrementAndGet();
+        return new ArrayList<Timer>(timers.values());
+    }
+
+    @Override
+    public Collection<Timer> getAllTimers() {
+        return getTimers();
+    }
+
+    synchronized FakeTimer get(final String id) {
+        return timers.get(id);
+    }
+
+    synchronized void remove(final FakeTimer timer) {
+        timers.remove(timer.id);
+    }
+
+    private synchronized Timer add(final FakeTimer timer) {
+        timer.id = String.valueOf(++nextId);
+        timers.put(timer.id, timer);
+        return timer;
+    }
+
+    /**
+     * A timer of {@link FakeTimerService}, whose string form contains its id, as that
+     * of WildFly timers.
+     */
+    static final class FakeTimer implements Timer {
+        private final FakeTimerService timerService;
+        private final Serializable info;
+        private final boolean persistent;
+        private final boolean calendarTimer;
+        private final long intervalDuration;
+        private final long nextTimeout;
+        private String id;
+
+        FakeTimer(final FakeTimerService timerService, final TimerConfig timerConfig,
+                  final long initialDuration, final long intervalDuration, final boolean calendarTimer) {
+            this.timerService = timerService;
+            this.info = timerConfig.getInfo();
+            this.persistent = timerConfig.isPersistent();
+            this.calendarTimer = calendarTimer;
+            this.intervalDuration = intervalDuration;
+            this.nextTimeout = System.currentTimeMillis() + initialDuration;
+        }
+
+        @Override
+        public void cancel() {
+            check();
+            timerService.remove(this);
+        }
+
+        @Override
+        public long getTimeRemaining() {
+            return getNextTimeout().getTime() - System.currentTimeMillis();
+        }
+
+        @Override
+        public Date getNextTimeout() {
+            check();
+            if (intervalDuration > 0) {
+                // the timeout being delivered is the only one due
+                return new Date(Math.max(nextTimeout, System.currentTimeMillis() + intervalDuration));
+            }
+            if (calendarTimer) {
+                return new Date(nextTimeout);
+            }
+            throw new NoMoreTimeoutsException();
+        }
+
+        @Override
+        public ScheduleExpression getSchedule() {
+            check();
+            return null;
+        }
+
+        @Override
+        public boolean isPersistent() {
+            check();
+            return persistent;
+        }
+
+        @Override
+        public boolean isCalendarTimer() {
+            check();
+            return calendarTimer;
+        }
+
+        @Override
+        public Serializable getInfo() {
+            check();
+            return info;
+        }
+
+        @Override
+        public TimerHandle getHandle() {
+            check();
+            final String timerId = id;
+            final FakeTimerService service = timerService;
+            return new TimerHandle() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Timer getTimer() {
+                    final FakeTimer timer = service.get(timerId);
+                    if (timer == null) {
+                        throw new NoSuchObjectLocalException(timerId);
+                    }
+                    return timer;
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            return "[id=" + id + " timedObjectId=test.test.TimerSchedulerBean auto-timer?:false persistent?:" +
+                    persistent + " info=" + info + "]";
+        }
+
+        private void check() {
+            if (timerService.get(id) != this) {
+                throw new NoSuchObjectLocalException(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule.timer;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.runtime.JobExecution;
+import jakarta.batch.runtime.JobInstance;
+import jakarta.batch.runtime.StepExecution;
+
+/**
+ * A {@code JobOperator} that does not run any job, registered as a service provider
+ * for the tests of this module. The names of started jobs are added to {@link #started}.
+ */
+public class StubJobOperator implements JobOperator {
+    /**
+     * Names of the jobs started or restarted, in launch order.
+     */
+    static final List<String> started = new CopyOnWriteArrayList<String>();
+
+    private static final AtomicLong executionIds = new AtomicLong();
+
+    @Override
+    public long start(final String jobXMLName, final Properties jobParameters) {
+        started.add(jobXMLName);
+        return executionIds.incrementAndGet();
+    }
+
+    @Override
+    public long restart(final long executionId, final Properties restartParameters) {
+        started.add(String.valueOf(executionId));
+        return executionIds.incrementAndGet();
+    }
+
+    @Override
+    public JobExecution getJobExecution(final long executionId) {
+        return null;
+    }
+
+    @Override
+    public Set<String> getJobNames() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public int getJobInstanceCount(final String jobName) {
+        return 0;
+    }
+
+    @Override
+    public List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Long> getRunningExecutions(final String jobName) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Properties getParameters(final long executionId) {
+        return null;
+    }
+
+    @Override
+    public void stop(final long executionId) {
+    }
+
+    @Override
+    public void abandon(final long executionId) {
+    }
+
+    @Override
+    public JobInstance getJobInstance(final long executionId) {
+        return null;
+    }
+
+    @Override
+    public List<JobExecution> getJobExecutions(final JobInstance instance) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<StepExecution> getStepExecutions(final long jobExecutionId) {
+        return Collections.emptyList();
+    }
+}
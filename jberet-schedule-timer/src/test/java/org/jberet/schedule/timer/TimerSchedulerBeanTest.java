@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.schedule.timer;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import javax.ejb.Timer;
+import javax.ejb.TimerConfig;
+
+import org.jberet.schedule.Jitter;
+import org.jberet.schedule.JobSchedule;
+import org.jberet.schedule.JobScheduleConfig;
+import org.jberet.schedule.JobScheduleConfigBuilder;
+import org.jberet.schedule.JobScheduleEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link TimerSchedulerBean} with an in-memory timer service.
+ */
+public class TimerSchedulerBeanTest {
+    private final FakeTimerService timerService = new FakeTimerService();
+
+    private TimerSchedulerBean bean;
+
+    @Before
+    public void setUp() throws Exception {
+        StubJobOperator.started.clear();
+        bean = newBean(timerService);
+    }
+
+    @After
+    public void tearDown() {
+        bean.destroy();
+    }
+
+    @Test
+    public void scheduleIndexesTimer() {
+        final JobSchedule jobSchedule = bean.schedule(newConfig(false));
+        assertNotNull(jobSchedule.getId());
+        final int scans = timerService.getTimersCalls.get();
+
+        assertSame(jobSchedule, bean.getJobSchedule(jobSchedule.getId()));
+        assertTrue(bean.cancel(jobSchedule.getId()));
+        assertEquals(scans, timerService.getTimersCalls.get());
+
+        // a cancelled job schedule is looked up among all timers, and not found
+        assertNull(bean.getJobSchedule(jobSchedule.getId()));
+        assertFalse(bean.cancel(jobSchedule.getId()));
+        assertEquals(scans + 2, timerService.getTimersCalls.get());
+    }
+
+    @Test
+    public void buildIndexFromExistingTimers() throws Exception {
+        final Timer timer = timerService.createIntervalTimer(60000, 60000,
+                new TimerConfig(new JobSchedule(null, newConfig(true)), true));
+        final TimerSchedulerBean restarted = newBean(timerService);
+        try {
+            final String id = idOf(timer);
+            final int scans = timerService.getTimersCalls.get();
+            final JobSchedule jobSchedule = restarted.getJobSchedule(id);
+            assertNotNull(jobSchedule);
+            assertEquals(id, jobSchedule.getId());
+            assertEquals(scans, timerService.getTimersCalls.get());
+        } finally {
+            restarted.destroy();
+        }
+    }
+
+    @Test
+    public void timerCreatedByOtherNode() {
+        final Timer timer = timerService.createIntervalTimer(60000, 60000,
+                new TimerConfig(new JobSchedule(null, newConfig(true)), true));
+        final String id = idOf(timer);
+        final int scans = timerService.getTimersCalls.get();
+
+        final JobSchedule jobSchedule = bean.getJobSchedule(id);
+        assertNotNull(jobSchedule);
+        assertEquals(scans + 1, timerService.getTimersCalls.get());
+        assertSame(jobSchedule, bean.getJobSchedule(id));
+        assertEquals(scans + 1, timerService.getTimersCalls.get());
+    }
+
+    @Test
+    public void cancelAllScansOnce() {
+        final JobSchedule indexed = bean.schedule(newConfig(false));
+        final String other1 = idOf(timerService.createIntervalTimer(60000, 60000,
+                new TimerConfig(new JobSchedule(null, newConfig(true)), true)));
+        final String other2 = idOf(timerService.createIntervalTimer(60000, 60000,
+                new TimerConfig(new JobSchedule(null, newConfig(true)), true)));
+        final int scans = timerService.getTimersCalls.get();
+
+        assertEquals(3, bean.cancelAll(Arrays.asList(indexed.getId(), other1, other2, "unknown")));
+        assertEquals(scans + 1, timerService.getTimersCalls.get());
+        assertTrue(timerService.getTimers().isEmpty());
+    }
+
+    @Test
+    public void persistentTimerCancelledElsewhere() {
+        final JobSchedule jobSchedule = bean.schedule(newConfig(true));
+        final FakeTimerService.FakeTimer timer = timerService.get(jobSchedule.getId());
+        timerService.remove(timer);
+
+        // the handle no longer resolves, so the entry is dropped
+        assertNull(bean.getJobSchedule(jobSchedule.getId()));
+        assertFalse(bean.cancel(jobSchedule.getId()));
+    }
+
+    @Test
+    public void lastTimeoutRemovesEntry() {
+        final JobSchedule jobSchedule = bean.schedule(JobScheduleConfigBuilder.newInstance().jobName("job")
+                .initialDelay(1).timeUnit(TimeUnit.MINUTES).build());
+        timerService.expire(bean, timerService.get(jobSchedule.getId()));
+
+        assertEquals(Collections.singletonList("job"), StubJobOperator.started);
+        assertEquals(1, jobSchedule.getJobExecutionIds().size());
+        final int scans = timerService.getTimersCalls.get();
+        assertNull(bean.getJobSchedule(jobSchedule.getId()));
+        assertEquals(scans + 1, timerService.getTimersCalls.get());
+    }
+
+    @Test
+    public void timeoutRecordsJobExecutionIds() {
+        final JobSchedule jobSchedule = bean.schedule(newConfig(false));
+        final Timer timer = timerService.get(jobSchedule.getId());
+        timerService.expire(bean, timer);
+        timerService.expire(bean, timer);
+
+        assertEquals(2, StubJobOperator.started.size());
+        assertEquals(2, bean.getJobSchedule(jobSchedule.getId()).getJobExecutionIds().size());
+    }
+
+    @Test
+    public void getJobSchedulesRefreshesIndex() {
+        final JobSchedule jobSchedule = bean.schedule(newConfig(true));
+        final JobSchedule removed = bean.schedule(newConfig(false));
+        timerService.remove(timerService.get(removed.getId()));
+
+        assertEquals(Collections.singletonList(jobSchedule), bean.getJobSchedules());
+        final int scans = timerService.getTimersCalls.get();
+        assertSame(jobSchedule, bean.getJobSchedule(jobSchedule.getId()));
+        assertNull(bean.getJobSchedule(removed.getId()));
+        assertEquals(scans + 1, timerService.getTimersCalls.get());
+    }
+
+    @Test
+    public void cancelDuringJitter() {
+        final JobSchedule jobSchedule = bean.schedule(newJitteredConfig());
+        timerService.expire(bean, timerService.get(jobSchedule.getId()));
+        assertTrue(StubJobOperator.started.isEmpty());
+
+        // the launch of the last timeout is pending, after its timer has expired
+        assertSame(jobSchedule, bean.getJobSchedule(jobSchedule.getId()));
+        assertTrue(bean.cancel(jobSchedule.getId()));
+        timerService.expire(bean, otherTimer());
+        assertTrue(StubJobOperator.started.isEmpty());
+        assertNull(bean.getJobSchedule(jobSchedule.getId()));
+    }
+
+    @Test
+    public void jitteredLaunchAfterRefresh() {
+        final JobSchedule jobSchedule = bean.schedule(newJitteredConfig());
+        timerService.expire(bean, timerService.get(jobSchedule.getId()));
+        assertEquals(Collections.singletonList(jobSchedule), bean.getJobSchedules());
+
+        timerService.expire(bean, otherTimer());
+        assertEquals(Collections.singletonList("job"), StubJobOperator.started);
+        assertEquals(1, jobSchedule.getJobExecutionIds().size());
+        assertTrue(bean.getJobSchedules().isEmpty());
+    }
+
+    @Test
+    public void asyncOperationInTimeout() throws Exception {
+        final CompletableFuture<JobSchedule> scheduled = bean.scheduleAsync(newConfig(false)).toCompletableFuture();
+        assertFalse(scheduled.isDone());
+        timerService.expire(bean, otherTimer());
+        final JobSchedule jobSchedule = scheduled.get(5, TimeUnit.SECONDS);
+        assertSame(jobSchedule, bean.getJobSchedule(jobSchedule.getId()));
+
+        final CompletableFuture<Boolean> cancelled = bean.cancelAsync(jobSchedule.getId()).toCompletableFuture();
+        timerService.expire(bean, otherTimer());
+        assertTrue(cancelled.get(5, TimeUnit.SECONDS));
+
+        // an operation pending when the bean is destroyed does not run
+        final CompletableFuture<JobSchedule> pending = bean.scheduleAsync(newConfig(false)).toCompletableFuture();
+        bean.destroy();
+        assertTrue(pending.isCompletedExceptionally());
+        assertTrue(timerService.getTimers(JobSchedule.class).isEmpty());
+        for (final Method method : TimerSchedulerBean.class.getMethods()) {
+            assertFalse(method.getName(), method.getName().equals("invokeAsync"));
+        }
+    }
+
+    @Test
+    public void eventsCompletedWhenTimerRemoved() throws Exception {
+        final JobSchedule jobSchedule = bean.schedule(newConfig(true));
+        final CountDownLatch completed = new CountDownLatch(1);
+        bean.getJobScheduleEvents(jobSchedule.getId()).subscribe(new Flow.Subscriber<JobScheduleEvent>() {
+            @Override
+            public void onSubscribe(final Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(final JobScheduleEvent item) {
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        // the timer is cancelled by another node
+        timerService.remove(timerService.get(jobSchedule.getId()));
+        assertNull(bean.getJobSchedule(jobSchedule.getId()));
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+    }
+
+    static TimerSchedulerBean newBean(final FakeTimerService timerService) throws Exception {
+        final TimerSchedulerBean bean = new TimerSchedulerBean();
+        final Field field = TimerSchedulerBean.class.getDeclaredField("timerService");
+        field.setAccessible(true);
+        field.set(bean, timerService);
+        bean.buildIndex();
+        return bean;
+    }
+
+    static JobScheduleConfig newConfig(final boolean persistent) {
+        return JobScheduleConfigBuilder.newInstance().jobName("job")
+                .initialDelay(1).interval(1).timeUnit(TimeUnit.MINUTES).persistent(persistent).build();
+    }
+
+    private static JobScheduleConfig newJitteredConfig() {
+        return JobScheduleConfigBuilder.newInstance().jobName("job").initialDelay(1).timeUnit(TimeUnit.MINUTES)
+                .jitter(1, TimeUnit.HOURS, Jitter.HASH).build();
+    }
+
+    /**
+     * Gets the only timer that is not for a job schedule, i.e., a deferred launch or
+     * an asynchronous operation.
+     */
+    private Timer otherTimer() {
+        final Collection<Timer> all = timerService.getTimers();
+        all.removeAll(timerService.getTimers(JobSchedule.class));
+        assertEquals(1, all.size());
+        return all.iterator().next();
+    }
+
+    private static String idOf(final Timer timer) {
+        final String s = timer.toString();
+        return s.substring(s.indexOf("id=") + 3, s.indexOf(' '));
+    }
+}